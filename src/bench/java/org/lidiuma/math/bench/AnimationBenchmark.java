@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.bench;
+
+import org.lidiuma.math.animation.AnimationClip;
+import org.lidiuma.math.animation.Channel;
+import org.lidiuma.math.animation.Interpolation;
+import org.lidiuma.math.animation.Track;
+import org.lidiuma.math.rotation.QuaternionF32;
+import org.lidiuma.math.rotation.Radians;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.openjdk.jmh.annotations.*;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/// Samples a clip frame by frame, comparing the cached cursor of monotonic playback with a cursor reset every frame,
+/// which makes every track binary search its keyframes.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnimationBenchmark {
+
+    private static final int KEYS = 240;
+    private static final float FRAME = 1f / 60f;
+
+    @Param({"64", "1024"})
+    private int bones;
+
+    @Param({"LINEAR", "CUBIC"})
+    private Interpolation interpolation;
+
+    private AnimationClip clip;
+    private AnimationClip.Cursor cursor;
+    private float[] translations;
+    private float[] rotations;
+    private float[] scales;
+    private float time;
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(42);
+        final float[] times = new float[KEYS];
+        for (int key = 0; key < KEYS; key++) times[key] = key / 30f;
+        final var tracks = new Track[bones * 2];
+        for (int bone = 0; bone < bones; bone++) {
+            final float[] positions = new float[KEYS * 3];
+            final float[] quaternions = new float[KEYS * 4];
+            for (int key = 0; key < KEYS; key++) {
+                for (int i = 0; i < 3; i++) positions[key * 3 + i] = (float) random.nextDouble(-1, 1);
+                final var axis = new Vector3F32((float) random.nextDouble(-1, 1), (float) random.nextDouble(-1, 1), 1f);
+                final var q = QuaternionF32.fromAxisAngle(axis, Radians.radians(random.nextDouble(-Math.PI, Math.PI)));
+                quaternions[key * 4] = q.x();
+                quaternions[key * 4 + 1] = q.y();
+                quaternions[key * 4 + 2] = q.z();
+                quaternions[key * 4 + 3] = q.w();
+            }
+            tracks[bone * 2] = new Track(bone, Channel.TRANSLATION, interpolation, times, positions);
+            tracks[bone * 2 + 1] = new Track(bone, Channel.ROTATION, interpolation, times, quaternions);
+        }
+        clip = new AnimationClip(tracks);
+        cursor = clip.cursor();
+        translations = new float[bones * 3];
+        rotations = new float[bones * 4];
+        scales = new float[bones * 3];
+    }
+
+    private void advance() {
+        time += FRAME;
+        if (time > clip.duration()) {
+            time = 0;
+            cursor.reset();
+        }
+    }
+
+    @Benchmark
+    public float[] cursor() {
+        advance();
+        clip.sampleAll(time, cursor, translations, rotations, scales);
+        return rotations;
+    }
+
+    @Benchmark
+    public float[] binarySearch() {
+        advance();
+        cursor.reset();
+        clip.sampleAll(time, cursor, translations, rotations, scales);
+        return rotations;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.bench;
+
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.rotation.Radians;
+import org.lidiuma.math.shape.FrustumF32;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.openjdk.jmh.annotations.*;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+
+/// Measures the bulk culling of {@link FrustumF32} over off-heap cuboids and spheres.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrustumCullingBenchmark {
+
+    private static final float WORLD = 1000f;
+
+    @Param({"500000"})
+    private int instances;
+
+    private Arena arena;
+    private MemorySegment cuboids;
+    private MemorySegment spheres;
+    private long[] visibility;
+    private FrustumF32 frustum;
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(42);
+        arena = Arena.ofConfined();
+        cuboids = arena.allocate(JAVA_FLOAT, (long) instances * FrustumF32.CUBOID_STRIDE);
+        spheres = arena.allocate(JAVA_FLOAT, (long) instances * FrustumF32.SPHERE_STRIDE);
+        for (int i = 0; i < instances; i++) {
+            final float x = (float) random.nextDouble(-WORLD, WORLD);
+            final float y = (float) random.nextDouble(-WORLD, WORLD);
+            final float z = (float) random.nextDouble(-WORLD, WORLD);
+            final float size = (float) random.nextDouble(0.5, 5);
+            cuboids.setAtIndex(JAVA_FLOAT, i * 6L, x);
+            cuboids.setAtIndex(JAVA_FLOAT, i * 6L + 1, y);
+            cuboids.setAtIndex(JAVA_FLOAT, i * 6L + 2, z);
+            cuboids.setAtIndex(JAVA_FLOAT, i * 6L + 3, x + size);
+            cuboids.setAtIndex(JAVA_FLOAT, i * 6L + 4, y + size);
+            cuboids.setAtIndex(JAVA_FLOAT, i * 6L + 5, z + size);
+            spheres.setAtIndex(JAVA_FLOAT, i * 4L, x);
+            spheres.setAtIndex(JAVA_FLOAT, i * 4L + 1, y);
+            spheres.setAtIndex(JAVA_FLOAT, i * 4L + 2, z);
+            spheres.setAtIndex(JAVA_FLOAT, i * 4L + 3, size);
+        }
+        visibility = new long[(instances + 63) / 64];
+        final var projection = Matrix4F32.fromProjection(0.1f, WORLD, Radians.degrees(70), 16f / 9f);
+        final var view = Matrix4F32.fromLookAt(new Vector3F32(0f, 0f, 0f), new Vector3F32(1f, 0f, 1f), new Vector3F32(0f, 1f, 0f));
+        frustum = FrustumF32.fromMatrix(projection.mul(view));
+    }
+
+    @TearDown
+    public void tearDown() {
+        arena.close();
+    }
+
+    @Benchmark
+    public long cullCuboids() {
+        return frustum.cullCuboids(cuboids, visibility);
+    }
+
+    @Benchmark
+    public long cullSpheres() {
+        return frustum.cullSpheres(spheres, visibility);
+    }
+}
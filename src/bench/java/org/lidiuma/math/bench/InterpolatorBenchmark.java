@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.bench;
+
+import org.lidiuma.math.interpolation.Easing;
+import org.lidiuma.math.interpolation.FloatInterpolator;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/// Tweens a batch of vectors with an elastic easing, comparing the boxing {@link Function} overload,
+/// the primitive {@link FloatInterpolator} one, and the same curve baked in a lookup table.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterpolatorBenchmark {
+
+    private static final int COUNT = 4096;
+
+    private final Function<Float, Float> boxed = alpha -> Easing.ELASTIC_OUT.apply(alpha.floatValue());
+    private final FloatInterpolator baked = FloatInterpolator.bake(Easing.ELASTIC_OUT, 256);
+    private Vector3F32[] from;
+    private Vector3F32[] to;
+    private Vector3F32[] out;
+
+    @Setup
+    public void setup() {
+        from = new Vector3F32[COUNT];
+        to = new Vector3F32[COUNT];
+        out = new Vector3F32[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            from[i] = new Vector3F32((float) i, 0f, 0f);
+            to[i] = new Vector3F32(0f, (float) i, 1f);
+        }
+    }
+
+    @Benchmark
+    public Vector3F32[] function() {
+        for (int i = 0; i < COUNT; i++) {
+            final Float alpha = (float) i / COUNT;
+            out[i] = from[i].interpolate(to[i], alpha, boxed);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public Vector3F32[] primitive() {
+        for (int i = 0; i < COUNT; i++) out[i] = from[i].interpolate(to[i], (float) i / COUNT, Easing.ELASTIC_OUT);
+        return out;
+    }
+
+    @Benchmark
+    public Vector3F32[] baked() {
+        for (int i = 0; i < COUNT; i++) out[i] = from[i].interpolate(to[i], (float) i / COUNT, baked);
+        return out;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.bench;
+
+import org.lidiuma.math.spatial.KdTree3F64;
+import org.openjdk.jmh.annotations.*;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/// Measures the sequential and parallel construction of {@link KdTree3F64}, and the throughput of its queries.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KdTreeBenchmark {
+
+    private static final double WORLD = 1000;
+    private static final int QUERIES = 1024;
+
+    @Param({"1000000"})
+    private int points;
+
+    @Param({"8"})
+    private int k;
+
+    @Param({"10"})
+    private double radius;
+
+    private double[] positions;
+    private double[] queries;
+    private KdTree3F64 tree;
+    private int[] indices;
+    private double[] distances2;
+    private int[] within;
+    private double[] withinDistances2;
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(42);
+        positions = new double[points * 3];
+        for (int i = 0; i < positions.length; i++) positions[i] = random.nextDouble(-WORLD, WORLD);
+        queries = new double[QUERIES * 3];
+        for (int i = 0; i < queries.length; i++) queries[i] = random.nextDouble(-WORLD, WORLD);
+        tree = KdTree3F64.build(positions, ForkJoinPool.commonPool());
+        indices = new int[k];
+        distances2 = new double[k];
+        within = new int[256];
+        withinDistances2 = new double[256];
+    }
+
+    @Benchmark
+    public KdTree3F64 buildSequential() {
+        return KdTree3F64.build(positions);
+    }
+
+    @Benchmark
+    public KdTree3F64 buildParallel() {
+        return KdTree3F64.build(positions, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public int nearest() {
+        int found = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            found += tree.nearest(queries[i * 3], queries[i * 3 + 1], queries[i * 3 + 2], indices, distances2);
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int radius() {
+        int found = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            found += tree.radius(queries[i * 3], queries[i * 3 + 1], queries[i * 3 + 2], radius, within, withinDistances2);
+        }
+        return found;
+    }
+}
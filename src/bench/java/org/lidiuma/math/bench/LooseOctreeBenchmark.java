@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.bench;
+
+import org.lidiuma.math.shape.Sphere;
+import org.lidiuma.math.spatial.LooseOctreeF32;
+import org.lidiuma.math.spatial.SpatialVisitor;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.openjdk.jmh.annotations.*;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/// Compares radius queries of {@link LooseOctreeF32} against a linear scan over the same points.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LooseOctreeBenchmark {
+
+    private static final float WORLD = 1000f;
+    private static final int QUERIES = 64;
+
+    @Param({"1000000"})
+    private int points;
+
+    @Param({"10"})
+    private float radius;
+
+    private float[] positions;
+    private LooseOctreeF32 octree;
+    private Vector3F32[] centers;
+    private SpatialVisitor counter;
+    private int hits;
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(42);
+        positions = new float[points * 3];
+        octree = new LooseOctreeF32(new Vector3F32(0f, 0f, 0f), WORLD, 10);
+        for (int i = 0; i < points; i++) {
+            final var point = new Vector3F32((float) random.nextDouble(-WORLD, WORLD), (float) random.nextDouble(-WORLD, WORLD), (float) random.nextDouble(-WORLD, WORLD));
+            positions[i * 3] = point.x();
+            positions[i * 3 + 1] = point.y();
+            positions[i * 3 + 2] = point.z();
+            octree.insert(i, point);
+        }
+        centers = new Vector3F32[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            centers[i] = new Vector3F32((float) random.nextDouble(-WORLD, WORLD), (float) random.nextDouble(-WORLD, WORLD), (float) random.nextDouble(-WORLD, WORLD));
+        }
+        counter = _ -> {
+            hits++;
+            return true;
+        };
+    }
+
+    @Benchmark
+    public int queryOctree() {
+        hits = 0;
+        for (final var center : centers) {
+            octree.query(new Sphere<>(center, radius), counter);
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int queryLinear() {
+        int found = 0;
+        final float radius2 = radius * radius;
+        for (final var center : centers) {
+            for (int i = 0; i < points; i++) {
+                final float dx = positions[i * 3] - center.x();
+                final float dy = positions[i * 3 + 1] - center.y();
+                final float dz = positions[i * 3 + 2] - center.z();
+                if (dx * dx + dy * dy + dz * dz <= radius2) found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public LooseOctreeF32 moveAll() {
+        for (int i = 0; i < points; i++) {
+            final var point = new Vector3F32(positions[i * 3] + 0.1f, positions[i * 3 + 1], positions[i * 3 + 2]);
+            octree.move(i, point);
+        }
+        return octree;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.bench;
+
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.rotation.Quaternion;
+import org.lidiuma.math.rotation.Radians;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F32Buffer;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import org.openjdk.jmh.annotations.*;
+import java.lang.foreign.Arena;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/// Compares transforming a mesh one vertex at a time against the batch entry points of {@link Matrix4F32}.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Matrix4BatchBenchmark {
+
+    @Param({"100000"})
+    private int vertices;
+
+    private Arena arena;
+    private Matrix4F32 matrix;
+    private Vector3F32[] records;
+    private Vector3F32[] recordsOut;
+    private float[] packed;
+    private float[] packedOut;
+    private Vector3F32Buffer buffer;
+    private Vector3F32Buffer bufferOut;
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(42);
+        arena = Arena.ofConfined();
+        matrix = Matrix4F32.fromTRS(
+                new Vector3F32(1f, 2f, 3f),
+                Quaternion.fromAxisAngle(new Vector3F64(0d, 1d, 0d), Radians.degrees(30)),
+                new Vector3F32(2f, 2f, 2f)
+        );
+        records = new Vector3F32[vertices];
+        recordsOut = new Vector3F32[vertices];
+        packed = new float[vertices * 3];
+        packedOut = new float[vertices * 3];
+        buffer = Vector3F32Buffer.allocate(arena, vertices);
+        bufferOut = Vector3F32Buffer.allocate(arena, vertices);
+        for (int i = 0; i < vertices; i++) {
+            final var vertex = new Vector3F32((float) random.nextDouble(-100, 100), (float) random.nextDouble(-100, 100), (float) random.nextDouble(-100, 100));
+            records[i] = vertex;
+            packed[i * 3] = vertex.x();
+            packed[i * 3 + 1] = vertex.y();
+            packed[i * 3 + 2] = vertex.z();
+            buffer.set(i, vertex);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        arena.close();
+    }
+
+    @Benchmark
+    public Vector3F32[] transformEach() {
+        for (int i = 0; i < vertices; i++) {
+            recordsOut[i] = matrix.transform(records[i]);
+        }
+        return recordsOut;
+    }
+
+    @Benchmark
+    public float[] transformAllPacked() {
+        matrix.transformAll(packed, 0, 3, packedOut, 0, 3, vertices);
+        return packedOut;
+    }
+
+    @Benchmark
+    public Vector3F32Buffer transformAllBuffer() {
+        matrix.transformAll(buffer, bufferOut, 0, vertices);
+        return bufferOut;
+    }
+}
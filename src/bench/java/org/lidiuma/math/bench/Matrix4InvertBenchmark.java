@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.bench;
+
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.rotation.Quaternion;
+import org.lidiuma.math.rotation.Radians;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/// Compares the general {@link Matrix4F32#invert()} against the rigid, affine, and classified inverses.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Matrix4InvertBenchmark {
+
+    private Matrix4F32 view;
+    private Matrix4F32 world;
+
+    @Setup
+    public void setup() {
+        view = Matrix4F32.fromLookAt(new Vector3F32(4f, 3f, 8f), new Vector3F32(0f, 1f, 0f), new Vector3F32(0f, 1f, 0f));
+        world = Matrix4F32.fromTRS(
+                new Vector3F32(1f, 2f, 3f),
+                Quaternion.fromAxisAngle(new Vector3F64(0d, 1d, 0d), Radians.degrees(30)),
+                new Vector3F32(2f, 1f, 3f)
+        );
+    }
+
+    @Benchmark
+    public Matrix4F32 invertView() {
+        return view.invert();
+    }
+
+    @Benchmark
+    public Matrix4F32 invertRigidView() {
+        return view.invertRigid();
+    }
+
+    @Benchmark
+    public Matrix4F32 invertClassifiedView() {
+        return view.invertClassified();
+    }
+
+    @Benchmark
+    public Matrix4F32 invertWorld() {
+        return world.invert();
+    }
+
+    @Benchmark
+    public Matrix4F32 invertAffineWorld() {
+        return world.invertAffine();
+    }
+
+    @Benchmark
+    public Matrix4F32 invertClassifiedWorld() {
+        return world.invertClassified();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.bench;
+
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.rotation.Quaternion;
+import org.lidiuma.math.rotation.Radians;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import org.openjdk.jmh.annotations.*;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/// Compares packing a bone palette one matrix at a time against the bulk {@link Matrix4F32} copies.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Matrix4PackingBenchmark {
+
+    @Param({"4096"})
+    private int matrices;
+
+    private Arena arena;
+    private Matrix4F32[] palette;
+    private Matrix4F32[] unpacked;
+    private MemorySegment segment;
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(42);
+        arena = Arena.ofConfined();
+        palette = new Matrix4F32[matrices];
+        unpacked = new Matrix4F32[matrices];
+        for (int i = 0; i < matrices; i++) {
+            final var translation = new Vector3F32((float) random.nextDouble(-10, 10), (float) random.nextDouble(-10, 10), (float) random.nextDouble(-10, 10));
+            final var rotation = Quaternion.fromAxisAngle(new Vector3F64(0d, 1d, 0d), Radians.radians(random.nextDouble(-Math.PI, Math.PI)));
+            palette[i] = Matrix4F32.fromTR(translation, rotation);
+        }
+        segment = arena.allocate((long) matrices * Matrix4F32.SIZE * Float.BYTES);
+    }
+
+    @TearDown
+    public void tearDown() {
+        arena.close();
+    }
+
+    @Benchmark
+    public MemorySegment packEach() {
+        for (int i = 0; i < matrices; i++) {
+            palette[i].toMemorySegment(segment, i);
+        }
+        return segment;
+    }
+
+    @Benchmark
+    public MemorySegment packBulk() {
+        Matrix4F32.toMemorySegment(palette, 0, matrices, segment, 0);
+        return segment;
+    }
+
+    @Benchmark
+    public Matrix4F32[] unpackEach() {
+        for (int i = 0; i < matrices; i++) {
+            unpacked[i] = Matrix4F32.fromMemorySegment(segment, i);
+        }
+        return unpacked;
+    }
+
+    @Benchmark
+    public Matrix4F32[] unpackBulk() {
+        Matrix4F32.fromMemorySegment(segment, 0, unpacked, 0, matrices);
+        return unpacked;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.bench;
+
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.openjdk.jmh.annotations.*;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/// Compares the boxed generic scalar methods of {@link Vector3F32} against their primitive counterparts,
+/// over a loop of entities similar to a physics tick.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveScalarBenchmark {
+
+    @Param({"100000"})
+    private int entities;
+
+    private Vector3F32[] positions;
+    private Vector3F32[] velocities;
+    private float delta;
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(42);
+        positions = new Vector3F32[entities];
+        velocities = new Vector3F32[entities];
+        for (int i = 0; i < entities; i++) {
+            positions[i] = new Vector3F32((float) random.nextDouble(-100, 100), (float) random.nextDouble(-100, 100), (float) random.nextDouble(-100, 100));
+            velocities[i] = new Vector3F32((float) random.nextDouble(-1, 1), (float) random.nextDouble(-1, 1), (float) random.nextDouble(-1, 1));
+        }
+        delta = 1f / 60f;
+    }
+
+    @Benchmark
+    public float tickGeneric() {
+        float energy = 0;
+        for (int i = 0; i < entities; i++) {
+            final var velocity = velocities[i];
+            final var position = positions[i].add(velocity.mul(delta)).clamp(-100f, 100f);
+            energy += velocity.dot(velocity) + position.length2();
+        }
+        return energy;
+    }
+
+    @Benchmark
+    public float tickPrimitive() {
+        float energy = 0;
+        for (int i = 0; i < entities; i++) {
+            final var velocity = velocities[i];
+            final var position = positions[i].add(velocity.mulF(delta)).clampF(-100f, 100f);
+            energy += velocity.dotF(velocity) + position.length2F();
+        }
+        return energy;
+    }
+
+    @Benchmark
+    public float distanceGeneric() {
+        float total = 0;
+        for (int i = 1; i < entities; i++) {
+            total += positions[i].distance2(positions[i - 1]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public float distancePrimitive() {
+        float total = 0;
+        for (int i = 1; i < entities; i++) {
+            total += positions[i].distance2F(positions[i - 1]);
+        }
+        return total;
+    }
+}
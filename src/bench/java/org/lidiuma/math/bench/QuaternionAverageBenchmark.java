@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.bench;
+
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.rotation.Quaternion;
+import org.lidiuma.math.rotation.Radians;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import org.openjdk.jmh.annotations.*;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/// Compares the eigenvector {@link Quaternion#average(Quaternion[], double[])} with {@link Quaternion#weightedSlerp(Quaternion[], double[])},
+/// and measures {@link Matrix4F32#average(Matrix4F32[])}, which now uses the former.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuaternionAverageBenchmark {
+
+    @Param({"4", "64"})
+    private int count;
+
+    private Quaternion[] quat;
+    private double[] weights;
+    private Matrix4F32[] matrices;
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(42);
+        quat = new Quaternion[count];
+        weights = new double[count];
+        matrices = new Matrix4F32[count];
+        for (int i = 0; i < count; i++) {
+            final var axis = new Vector3F64(random.nextDouble(-1, 1), random.nextDouble(-1, 1), random.nextDouble(-1, 1));
+            quat[i] = Quaternion.fromAxisAngle(axis, Radians.radians(random.nextDouble(-1, 1)));
+            weights[i] = 1d / count;
+            final var translation = new Vector3F32((float) random.nextDouble(-10, 10), (float) random.nextDouble(-10, 10), (float) random.nextDouble(-10, 10));
+            matrices[i] = Matrix4F32.fromTRS(translation, quat[i].asF32(), new Vector3F32(1f, 1f, 1f));
+        }
+    }
+
+    @Benchmark
+    public Quaternion weightedSlerp() {
+        return Quaternion.weightedSlerp(quat, weights);
+    }
+
+    @Benchmark
+    public Quaternion average() {
+        return Quaternion.average(quat, weights);
+    }
+
+    @Benchmark
+    public Matrix4F32 matrixAverage() {
+        return matrices[0].average(matrices);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.bench;
+
+import org.lidiuma.math.rotation.Quaternion;
+import org.lidiuma.math.rotation.QuaternionBatch;
+import org.openjdk.jmh.annotations.*;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/// Compares the bulk quaternion interpolations of {@link QuaternionBatch} with calling {@link Quaternion#slerp(Quaternion, double)} per element.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuaternionBatchBenchmark {
+
+    @Param({"256", "65536"})
+    private int count;
+
+    private Quaternion[] from;
+    private Quaternion[] to;
+    private Quaternion[] out;
+    private float[] fromF32;
+    private float[] toF32;
+    private float[] dstF32;
+    private double[] fromF64;
+    private double[] toF64;
+    private double[] dstF64;
+    private float alpha;
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(42);
+        from = new Quaternion[count];
+        to = new Quaternion[count];
+        out = new Quaternion[count];
+        fromF32 = new float[count * 4];
+        toF32 = new float[count * 4];
+        dstF32 = new float[count * 4];
+        fromF64 = new double[count * 4];
+        toF64 = new double[count * 4];
+        dstF64 = new double[count * 4];
+        for (int i = 0; i < count; i++) {
+            from[i] = randomQuaternion(random);
+            to[i] = randomQuaternion(random);
+            pack(from[i], i, fromF32, fromF64);
+            pack(to[i], i, toF32, toF64);
+        }
+        alpha = 0.3f;
+    }
+
+    private static Quaternion randomQuaternion(SplittableRandom random) {
+        return new Quaternion(random.nextDouble(-1, 1), random.nextDouble(-1, 1), random.nextDouble(-1, 1), random.nextDouble(-1, 1)).normalize();
+    }
+
+    private static void pack(Quaternion q, int i, float[] f32, double[] f64) {
+        f32[i * 4] = (float) q.x(); f32[i * 4 + 1] = (float) q.y(); f32[i * 4 + 2] = (float) q.z(); f32[i * 4 + 3] = (float) q.w();
+        f64[i * 4] = q.x(); f64[i * 4 + 1] = q.y(); f64[i * 4 + 2] = q.z(); f64[i * 4 + 3] = q.w();
+    }
+
+    @Benchmark
+    public Quaternion[] scalarSlerp() {
+        for (int i = 0; i < count; i++) out[i] = from[i].slerp(to[i], alpha);
+        return out;
+    }
+
+    @Benchmark
+    public float[] slerpF32() {
+        QuaternionBatch.slerp(fromF32, toF32, alpha, dstF32, count);
+        return dstF32;
+    }
+
+    @Benchmark
+    public float[] fastSlerpF32() {
+        QuaternionBatch.fastSlerp(fromF32, toF32, alpha, dstF32, count);
+        return dstF32;
+    }
+
+    @Benchmark
+    public float[] nlerpF32() {
+        QuaternionBatch.nlerp(fromF32, toF32, alpha, dstF32, count);
+        return dstF32;
+    }
+
+    @Benchmark
+    public double[] slerpF64() {
+        QuaternionBatch.slerp(fromF64, toF64, alpha, dstF64, count);
+        return dstF64;
+    }
+
+    @Benchmark
+    public double[] fastSlerpF64() {
+        QuaternionBatch.fastSlerp(fromF64, toF64, alpha, dstF64, count);
+        return dstF64;
+    }
+}
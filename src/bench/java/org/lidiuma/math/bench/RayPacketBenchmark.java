@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.bench;
+
+import org.lidiuma.math.shape.Cuboid;
+import org.lidiuma.math.shape.Ray3F32;
+import org.lidiuma.math.shape.RayPacket3F32;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.openjdk.jmh.annotations.*;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/// Compares testing rays one by one against a cuboid with testing them in packets.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RayPacketBenchmark {
+
+    private static final int RAYS = 1024;
+
+    @Param({"4", "8", "16", "64"})
+    private int packetSize;
+
+    private Ray3F32[] rays;
+    private RayPacket3F32[] packets;
+    private Cuboid<Float, Vector3F32> cuboid;
+    private float[] distances;
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(42);
+        rays = new Ray3F32[RAYS];
+        for (int i = 0; i < RAYS; i++) {
+            final var origin = new Vector3F32((float) random.nextDouble(-10, 10), (float) random.nextDouble(-10, 10), (float) random.nextDouble(-10, 10));
+            final var direction = new Vector3F32((float) random.nextDouble(-1, 1), (float) random.nextDouble(-1, 1), (float) random.nextDouble(-1, 1));
+            rays[i] = new Ray3F32(origin, direction);
+        }
+        packets = new RayPacket3F32[RAYS / packetSize];
+        for (int i = 0; i < packets.length; i++) {
+            packets[i] = new RayPacket3F32(packetSize);
+            for (int lane = 0; lane < packetSize; lane++) packets[i].set(lane, rays[i * packetSize + lane]);
+        }
+        cuboid = new Cuboid<>(new Vector3F32(-1f, -1f, -1f), 2f, 2f, 2f);
+        distances = new float[packetSize];
+    }
+
+    @Benchmark
+    public int single() {
+        int hits = 0;
+        for (final var ray : rays) {
+            if (ray.intersect(cuboid, 100f) != Float.POSITIVE_INFINITY) hits++;
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int packet() {
+        int hits = 0;
+        for (final var packet : packets) {
+            hits += Long.bitCount(packet.intersect(cuboid, 100f, distances));
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.bench;
+
+import org.lidiuma.math.matrix.Matrix4;
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.rotation.DualQuaternionF32;
+import org.lidiuma.math.rotation.QuaternionF32;
+import org.lidiuma.math.rotation.Radians;
+import org.lidiuma.math.skinning.DualQuaternionSkinning;
+import org.lidiuma.math.skinning.Skeleton;
+import org.lidiuma.math.skinning.Skinning;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.openjdk.jmh.annotations.*;
+import java.lang.foreign.MemorySegment;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/// Measures the {@link Skeleton} palettes of a 64 bones chain, and the {@link Skinning} and {@link DualQuaternionSkinning} of its mesh,
+/// sequentially and in the common pool.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkinningBenchmark {
+
+    private static final int BONES = 64;
+
+    @Param({"4096", "262144"})
+    private int count;
+
+    private Skeleton skeleton;
+    private float[] translations;
+    private float[] rotations;
+    private float[] scales;
+    private Matrix4F32[] world;
+    private MemorySegment palette;
+    private MemorySegment dualPalette;
+    private MemorySegment joints;
+    private MemorySegment weights;
+    private MemorySegment positions;
+    private MemorySegment normals;
+    private MemorySegment outPositions;
+    private MemorySegment outNormals;
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(42);
+        final int[] parents = new int[BONES];
+        final var inverseBind = new Matrix4F32[BONES];
+        translations = new float[BONES * 3];
+        rotations = new float[BONES * 4];
+        scales = new float[BONES * 3];
+        for (int bone = 0; bone < BONES; bone++) {
+            parents[bone] = bone - 1;
+            inverseBind[bone] = Matrix4F32.fromTranslation(new Vector3F32(0f, (float) -bone, 0f));
+            final var rotation = QuaternionF32.fromAxisAngle(new Vector3F32(0f, 0f, 1f), Radians.radians(random.nextDouble(-0.2, 0.2)));
+            translations[bone * 3 + 1] = 1f;
+            rotations[bone * 4] = rotation.x();
+            rotations[bone * 4 + 1] = rotation.y();
+            rotations[bone * 4 + 2] = rotation.z();
+            rotations[bone * 4 + 3] = rotation.w();
+            scales[bone * 3] = scales[bone * 3 + 1] = scales[bone * 3 + 2] = 1f;
+        }
+        skeleton = new Skeleton(parents, inverseBind);
+        world = new Matrix4F32[BONES];
+        palette = MemorySegment.ofArray(new float[BONES * Matrix4.SIZE]);
+        skeleton.palette(translations, rotations, scales, world, palette, 0);
+        dualPalette = MemorySegment.ofArray(new float[BONES * DualQuaternionF32.SIZE]);
+        skeleton.dualPalette(world, dualPalette, 0);
+
+        final int[] jointData = new int[count * Skinning.INFLUENCES];
+        final float[] weightData = new float[count * Skinning.INFLUENCES];
+        final float[] positionData = new float[count * 3];
+        final float[] normalData = new float[count * 3];
+        for (int i = 0; i < count; i++) {
+            float total = 0;
+            for (int k = 0; k < Skinning.INFLUENCES; k++) {
+                jointData[i * 4 + k] = random.nextInt(BONES);
+                weightData[i * 4 + k] = (float) random.nextDouble();
+                total += weightData[i * 4 + k];
+            }
+            for (int k = 0; k < Skinning.INFLUENCES; k++) weightData[i * 4 + k] /= total;
+            positionData[i * 3] = (float) random.nextDouble(-1, 1);
+            positionData[i * 3 + 1] = (float) random.nextDouble(0, BONES);
+            positionData[i * 3 + 2] = (float) random.nextDouble(-1, 1);
+            normalData[i * 3] = 1f;
+        }
+        joints = MemorySegment.ofArray(jointData);
+        weights = MemorySegment.ofArray(weightData);
+        positions = MemorySegment.ofArray(positionData);
+        normals = MemorySegment.ofArray(normalData);
+        outPositions = MemorySegment.ofArray(new float[count * 3]);
+        outNormals = MemorySegment.ofArray(new float[count * 3]);
+    }
+
+    @Benchmark
+    public MemorySegment palette() {
+        skeleton.palette(translations, rotations, scales, world, palette, 0);
+        return palette;
+    }
+
+    @Benchmark
+    public MemorySegment skin() {
+        Skinning.skin(palette, joints, weights, positions, normals, outPositions, outNormals, 0, count);
+        return outPositions;
+    }
+
+    @Benchmark
+    public MemorySegment skinAll() {
+        Skinning.skinAll(palette, joints, weights, positions, normals, outPositions, outNormals, count);
+        return outPositions;
+    }
+
+    @Benchmark
+    public MemorySegment dualPalette() {
+        skeleton.dualPalette(translations, rotations, scales, world, dualPalette, 0);
+        return dualPalette;
+    }
+
+    @Benchmark
+    public MemorySegment dualSkin() {
+        DualQuaternionSkinning.skin(dualPalette, joints, weights, positions, normals, outPositions, outNormals, 0, count);
+        return outPositions;
+    }
+
+    @Benchmark
+    public MemorySegment dualSkinAll() {
+        DualQuaternionSkinning.skinAll(dualPalette, joints, weights, positions, normals, outPositions, outNormals, count);
+        return outPositions;
+    }
+}
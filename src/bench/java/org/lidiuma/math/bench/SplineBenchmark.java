@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.bench;
+
+import org.lidiuma.math.curve.Spline3F32;
+import org.lidiuma.math.curve.SplineType;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F32Buffer;
+import org.openjdk.jmh.annotations.*;
+import java.lang.foreign.Arena;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/// Measures the parametric and constant speed evaluation of a {@link Spline3F32}, its nearest point queries and the batch sampling into a buffer.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SplineBenchmark {
+
+    private static final int POINTS = 64;
+    private static final int SAMPLES = 4096;
+
+    @Param({"CATMULL_ROM", "B_SPLINE"})
+    private SplineType type;
+
+    private Arena arena;
+    private Spline3F32 spline;
+    private Vector3F32Buffer buffer;
+    private Vector3F32 query;
+    private float u;
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(42);
+        final var points = new Vector3F32[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            points[i] = new Vector3F32((float) i, (float) random.nextDouble(-4, 4), (float) random.nextDouble(-4, 4));
+        }
+        spline = Spline3F32.of(type, points);
+        arena = Arena.ofConfined();
+        buffer = Vector3F32Buffer.allocate(arena, SAMPLES);
+        query = new Vector3F32(POINTS / 2f, 1f, -1f);
+    }
+
+    @TearDown
+    public void tearDown() {
+        arena.close();
+    }
+
+    private float advance() {
+        u += 1f / SAMPLES;
+        if (u > 1) u = 0;
+        return u;
+    }
+
+    @Benchmark
+    public Vector3F32 at() {
+        return spline.at(advance());
+    }
+
+    @Benchmark
+    public Vector3F32 atDistance() {
+        return spline.atDistance(advance() * spline.length());
+    }
+
+    @Benchmark
+    public float nearest() {
+        return spline.nearest(query);
+    }
+
+    @Benchmark
+    public Vector3F32Buffer sample() {
+        spline.sample(buffer, 0, SAMPLES);
+        return buffer;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.bench;
+
+import org.lidiuma.math.rotation.Radians;
+import org.lidiuma.math.vector.v2.Vector2F32;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/// Measures the arithmetic methods of {@link Vector2F32}.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Vector2F32Benchmark {
+
+    private Vector2F32 a;
+    private Vector2F32 b;
+    private float scalar;
+    private float min;
+    private float max;
+    private float alpha;
+    private Radians angle;
+
+    @Setup
+    public void setup() {
+        a = new Vector2F32(1.5f, -2.25f);
+        b = new Vector2F32(-0.5f, 4.125f);
+        scalar = 1.75f;
+        min = -1f;
+        max = 2f;
+        alpha = 0.25f;
+        angle = Radians.degrees(30);
+    }
+
+    @Benchmark
+    public Float sum() {
+        return a.sum();
+    }
+
+    @Benchmark
+    public Vector2F32 add() {
+        return a.add(b);
+    }
+
+    @Benchmark
+    public Vector2F32 sub() {
+        return a.sub(b);
+    }
+
+    @Benchmark
+    public Vector2F32 mul() {
+        return a.mul(b);
+    }
+
+    @Benchmark
+    public Vector2F32 mulScalar() {
+        return a.mul(scalar);
+    }
+
+    @Benchmark
+    public Vector2F32 div() {
+        return a.div(b);
+    }
+
+    @Benchmark
+    public Vector2F32 abs() {
+        return a.abs();
+    }
+
+    @Benchmark
+    public Vector2F32 max() {
+        return a.max(b);
+    }
+
+    @Benchmark
+    public Vector2F32 min() {
+        return a.min(b);
+    }
+
+    @Benchmark
+    public Vector2F32 clamp() {
+        return a.clamp(min, max);
+    }
+
+    @Benchmark
+    public Float dot() {
+        return a.dot(b);
+    }
+
+    @Benchmark
+    public Float length2() {
+        return a.length2();
+    }
+
+    @Benchmark
+    public Float distance2() {
+        return a.distance2(b);
+    }
+
+    @Benchmark
+    public Float length() {
+        return a.length();
+    }
+
+    @Benchmark
+    public Float distance() {
+        return a.distance(b);
+    }
+
+    @Benchmark
+    public Vector2F32 normalize() {
+        return a.normalize();
+    }
+
+    @Benchmark
+    public Vector2F32 lerp() {
+        return a.lerp(b, alpha);
+    }
+
+    @Benchmark
+    public Vector2F32 limit() {
+        return a.limit(scalar);
+    }
+
+    @Benchmark
+    public Vector2F32 withLength() {
+        return a.withLength(scalar);
+    }
+
+    @Benchmark
+    public Vector2F32 ceil() {
+        return a.ceil();
+    }
+
+    @Benchmark
+    public Vector2F32 floor() {
+        return a.floor();
+    }
+
+    @Benchmark
+    public Float cross() {
+        return a.cross(b);
+    }
+
+    @Benchmark
+    public Vector2F32 rotate() {
+        return a.rotate(angle);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.bench;
+
+import org.lidiuma.math.vector.v2.Vector2I32;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/// Measures the arithmetic methods of {@link Vector2I32}.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Vector2I32Benchmark {
+
+    private Vector2I32 a;
+    private Vector2I32 b;
+    private int scalar;
+    private int min;
+    private int max;
+
+    @Setup
+    public void setup() {
+        a = new Vector2I32(7, -3);
+        b = new Vector2I32(2, 5);
+        scalar = 3;
+        min = -2;
+        max = 6;
+    }
+
+    @Benchmark
+    public Integer sum() {
+        return a.sum();
+    }
+
+    @Benchmark
+    public Vector2I32 add() {
+        return a.add(b);
+    }
+
+    @Benchmark
+    public Vector2I32 sub() {
+        return a.sub(b);
+    }
+
+    @Benchmark
+    public Vector2I32 mul() {
+        return a.mul(b);
+    }
+
+    @Benchmark
+    public Vector2I32 mulScalar() {
+        return a.mul(scalar);
+    }
+
+    @Benchmark
+    public Vector2I32 div() {
+        return a.div(b);
+    }
+
+    @Benchmark
+    public Vector2I32 abs() {
+        return a.abs();
+    }
+
+    @Benchmark
+    public Vector2I32 max() {
+        return a.max(b);
+    }
+
+    @Benchmark
+    public Vector2I32 min() {
+        return a.min(b);
+    }
+
+    @Benchmark
+    public Vector2I32 clamp() {
+        return a.clamp(min, max);
+    }
+
+    @Benchmark
+    public Integer dot() {
+        return a.dot(b);
+    }
+
+    @Benchmark
+    public Integer length2() {
+        return a.length2();
+    }
+
+    @Benchmark
+    public Integer distance2() {
+        return a.distance2(b);
+    }
+
+    @Benchmark
+    public Integer cross() {
+        return a.cross(b);
+    }
+}
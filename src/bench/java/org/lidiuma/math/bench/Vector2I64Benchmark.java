@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.bench;
+
+import org.lidiuma.math.vector.v2.Vector2I64;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/// Measures the arithmetic methods of {@link Vector2I64}.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Vector2I64Benchmark {
+
+    private Vector2I64 a;
+    private Vector2I64 b;
+    private long scalar;
+    private long min;
+    private long max;
+
+    @Setup
+    public void setup() {
+        a = new Vector2I64(7L, -3L);
+        b = new Vector2I64(2L, 5L);
+        scalar = 3L;
+        min = -2L;
+        max = 6L;
+    }
+
+    @Benchmark
+    public Long sum() {
+        return a.sum();
+    }
+
+    @Benchmark
+    public Vector2I64 add() {
+        return a.add(b);
+    }
+
+    @Benchmark
+    public Vector2I64 sub() {
+        return a.sub(b);
+    }
+
+    @Benchmark
+    public Vector2I64 mul() {
+        return a.mul(b);
+    }
+
+    @Benchmark
+    public Vector2I64 mulScalar() {
+        return a.mul(scalar);
+    }
+
+    @Benchmark
+    public Vector2I64 div() {
+        return a.div(b);
+    }
+
+    @Benchmark
+    public Vector2I64 abs() {
+        return a.abs();
+    }
+
+    @Benchmark
+    public Vector2I64 max() {
+        return a.max(b);
+    }
+
+    @Benchmark
+    public Vector2I64 min() {
+        return a.min(b);
+    }
+
+    @Benchmark
+    public Vector2I64 clamp() {
+        return a.clamp(min, max);
+    }
+
+    @Benchmark
+    public Long dot() {
+        return a.dot(b);
+    }
+
+    @Benchmark
+    public Long length2() {
+        return a.length2();
+    }
+
+    @Benchmark
+    public Long distance2() {
+        return a.distance2(b);
+    }
+
+    @Benchmark
+    public Long cross() {
+        return a.cross(b);
+    }
+}
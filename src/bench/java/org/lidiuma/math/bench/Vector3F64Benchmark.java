@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.bench;
+
+import org.lidiuma.math.rotation.Radians;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/// Measures the arithmetic methods of {@link Vector3F64}.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Vector3F64Benchmark {
+
+    private Vector3F64 a;
+    private Vector3F64 b;
+    private double scalar;
+    private double min;
+    private double max;
+    private double alpha;
+    private Radians angle;
+
+    @Setup
+    public void setup() {
+        a = new Vector3F64(1.5d, -2.25d, 3.75d);
+        b = new Vector3F64(-0.5d, 4.125d, 2d);
+        scalar = 1.75d;
+        min = -1d;
+        max = 2d;
+        alpha = 0.25d;
+        angle = Radians.degrees(30);
+    }
+
+    @Benchmark
+    public Double sum() {
+        return a.sum();
+    }
+
+    @Benchmark
+    public Vector3F64 add() {
+        return a.add(b);
+    }
+
+    @Benchmark
+    public Vector3F64 sub() {
+        return a.sub(b);
+    }
+
+    @Benchmark
+    public Vector3F64 mul() {
+        return a.mul(b);
+    }
+
+    @Benchmark
+    public Vector3F64 mulScalar() {
+        return a.mul(scalar);
+    }
+
+    @Benchmark
+    public Vector3F64 div() {
+        return a.div(b);
+    }
+
+    @Benchmark
+    public Vector3F64 abs() {
+        return a.abs();
+    }
+
+    @Benchmark
+    public Vector3F64 max() {
+        return a.max(b);
+    }
+
+    @Benchmark
+    public Vector3F64 min() {
+        return a.min(b);
+    }
+
+    @Benchmark
+    public Vector3F64 clamp() {
+        return a.clamp(min, max);
+    }
+
+    @Benchmark
+    public Double dot() {
+        return a.dot(b);
+    }
+
+    @Benchmark
+    public Double length2() {
+        return a.length2();
+    }
+
+    @Benchmark
+    public Double distance2() {
+        return a.distance2(b);
+    }
+
+    @Benchmark
+    public Double length() {
+        return a.length();
+    }
+
+    @Benchmark
+    public Double distance() {
+        return a.distance(b);
+    }
+
+    @Benchmark
+    public Vector3F64 normalize() {
+        return a.normalize();
+    }
+
+    @Benchmark
+    public Vector3F64 lerp() {
+        return a.lerp(b, alpha);
+    }
+
+    @Benchmark
+    public Vector3F64 limit() {
+        return a.limit(scalar);
+    }
+
+    @Benchmark
+    public Vector3F64 withLength() {
+        return a.withLength(scalar);
+    }
+
+    @Benchmark
+    public Vector3F64 ceil() {
+        return a.ceil();
+    }
+
+    @Benchmark
+    public Vector3F64 floor() {
+        return a.floor();
+    }
+
+    @Benchmark
+    public Vector3F64 cross() {
+        return a.cross(b);
+    }
+
+    @Benchmark
+    public Vector3F64 rotate() {
+        return a.rotate(b, angle);
+    }
+}
@@ -16,13 +16,16 @@
 
 package org.lidiuma.math;
 
+import rife.bld.BuildCommand;
 import rife.bld.NamedFile;
 import rife.bld.Project;
 import rife.bld.operations.CompileOperation;
 import rife.bld.operations.JarOperation;
 import rife.bld.operations.JavadocOperation;
 import rife.bld.operations.RunOperation;
+import rife.bld.operations.TestOperation;
 import rife.bld.publish.*;
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -40,6 +43,14 @@ import static rife.bld.dependencies.Scope.*;
 public final class MathBuild extends Project {
 
     private static final String JAVA_VERSION_NAME = "java-version.txt";
+    private static final String BENCH_NAME = "bench";
+    /// Disables the Valhalla value flattening and scalarization, used as the identity baseline for the benchmarks.
+    private static final List<String> NO_FLATTENING_OPTIONS = List.of(
+            "-XX:-UseFieldFlattening",
+            "-XX:-UseArrayFlattening",
+            "-XX:-InlineTypePassFieldsAsArgs",
+            "-XX:-InlineTypeReturnedAsFields"
+    );
     private final String groupId;
 
     public MathBuild() throws IOException {
@@ -64,6 +75,12 @@ public final class MathBuild extends Project {
                 .include(module("org.junit.platform", "junit-platform-console-standalone", junitVersion))
                 .include(module("org.junit.platform", "junit-platform-launcher", junitVersion));
 
+        // JMH is not modular, so it's added to the classpath and only used by the `bench` command.
+        final var jmhVersion = version(1, 37);
+        scope(test)
+                .include(dependency("org.openjdk.jmh", "jmh-core", jmhVersion))
+                .include(dependency("org.openjdk.jmh", "jmh-generator-annprocess", jmhVersion));
+
         configureMavenPublishing();
         addAttributesToJar(jarOperation());
         addAttributesToJar(jarSourcesOperation());
@@ -159,6 +176,15 @@ public final class MathBuild extends Project {
         return operation;
     }
 
+    @Override
+    public TestOperation<?, ?> testOperation() {
+        final var operation = super.testOperation();
+        operation.javaOptions().add("--enable-preview");
+        // Resolves the Vector API, so that the SIMD paths are tested against the scalar ones.
+        operation.javaOptions().add("--add-modules=jdk.incubator.vector");
+        return operation;
+    }
+
     private void addCompilationOptions(ArrayList<String> options) {
         options.add("--source=26");
         options.add("--enable-preview");
@@ -185,6 +211,80 @@ public final class MathBuild extends Project {
         return operation;
     }
 
+    private File srcBenchJavaDirectory() {
+        return new File(new File(srcDirectory(), BENCH_NAME), "java");
+    }
+
+    private File buildBenchDirectory() {
+        return new File(buildDirectory(), BENCH_NAME);
+    }
+
+    /// The benchmarks run on the classpath, so the whole library ends up in the unnamed module.
+    private List<String> benchClasspath() {
+        final var classpath = new ArrayList<String>();
+        classpath.addAll(testClasspath());
+        classpath.addAll(testModulePath());
+        classpath.add(buildMainDirectory().getAbsolutePath());
+        return classpath;
+    }
+
+    private List<String> benchJvmOptions(boolean flattening) {
+        final var options = new ArrayList<String>();
+        options.add("--enable-preview");
+        options.add("--add-modules=jdk.incubator.vector");
+        options.add("--add-exports=java.base/jdk.internal.value=ALL-UNNAMED");
+        options.add("--add-exports=java.base/jdk.internal.vm.annotation=ALL-UNNAMED");
+        if (!flattening) options.addAll(NO_FLATTENING_OPTIONS);
+        return options;
+    }
+
+    private void runBenchmarks(List<String> classpath, boolean flattening) throws Exception {
+
+        final String flavour = flattening ? "valhalla" : "identity";
+        final var result = new File(buildBenchDirectory(), "result-" + flavour + ".json");
+
+        final var operation = new RunOperation()
+                .workDirectory(workDirectory())
+                .javaTool(javaTool())
+                .mainClass("org.openjdk.jmh.Main")
+                .classpath(classpath);
+        operation.javaOptions().addAll(benchJvmOptions(flattening));
+        // The forked JVMs are the ones being measured, so they need the flags too.
+        operation.runOptions().addAll(List.of(
+                "-prof", "gc",
+                "-rf", "json",
+                "-rff", result.getAbsolutePath(),
+                "-jvmArgsAppend", String.join(" ", benchJvmOptions(flattening))
+        ));
+        operation.execute();
+    }
+
+    /// Compiles the `src/bench/java` source set and runs it with JMH, reporting `ops/s` and the bytes allocated per operation.\
+    /// The benchmarks are run twice, once with the Valhalla flattening and once without it, to measure how much allocation it removes.
+    /// @apiNote The preview flags are required by both runs, since the library is compiled with `--enable-preview`.
+    @BuildCommand(summary = "Runs the JMH benchmarks with and without value flattening")
+    public void bench() throws Exception {
+
+        compile();
+
+        final var classpath = benchClasspath();
+        final var operation = new CompileOperation()
+                .buildMainDirectory(buildBenchDirectory())
+                .compileMainClasspath(classpath)
+                .mainSourceDirectories(srcBenchJavaDirectory());
+        final var options = operation.compileOptions();
+        options.add("--target=26");
+        options.add("--source=26");
+        options.add("--enable-preview");
+        options.add("--add-modules=jdk.incubator.vector");
+        options.add("-proc:full"); // Since Java 23 annotation processing must be requested, JMH generates the harness with it.
+        operation.execute();
+
+        classpath.add(buildBenchDirectory().getAbsolutePath());
+        runBenchmarks(classpath, true);
+        runBenchmarks(classpath, false);
+    }
+
     void main(String[] args) {
         start(args);
     }
@@ -19,8 +19,15 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked // Makes the whole codebase non-null by default.
 module lidiuma.math {
     requires org.jspecify;
+    requires static jdk.incubator.vector; // Optional, enables the SIMD code paths when resolved.
+    exports org.lidiuma.math.animation;
+    exports org.lidiuma.math.curve;
+    exports org.lidiuma.math.interpolation;
     exports org.lidiuma.math.rotation;
     exports org.lidiuma.math.matrix;
+    exports org.lidiuma.math.parallel;
+    exports org.lidiuma.math.scene;
+    exports org.lidiuma.math.skinning;
 
     exports org.lidiuma.math.point;
     exports org.lidiuma.math.point.p1;
@@ -29,6 +36,7 @@ module lidiuma.math {
     exports org.lidiuma.math.point.p4;
 
     exports org.lidiuma.math.shape;
+    exports org.lidiuma.math.spatial;
 
     exports org.lidiuma.math.vector;
     exports org.lidiuma.math.vector.v1;
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math;
+
+/// Decides if the SIMD code paths, built on the incubating Vector API, can be used.
+public value class SimdUtil {
+
+    /// True when the `jdk.incubator.vector` module is resolved (e.g. `--add-modules=jdk.incubator.vector`),
+    /// and the SIMD paths were not disabled with `-Dlidiuma.math.simd=false`.
+    /// @implNote The value is computed once at class-init, so the JIT can fold the branches away.
+    public static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && !"false".equals(System.getProperty("lidiuma.math.simd"));
+
+    private SimdUtil() {}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.animation;
+
+import org.lidiuma.math.rotation.Quaternion;
+import org.lidiuma.math.scene.TransformHierarchy;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import java.util.Arrays;
+import java.util.Objects;
+
+/// Set of {@link Track} animating the bones of a skeleton.\
+/// {@link #sampleAll(float, Cursor, float[], float[], float[])} writes every track straight into the packed bone-local TRS buffers
+/// used by {@link org.lidiuma.math.skinning.Skeleton#palette(float[], float[], float[], org.lidiuma.math.matrix.Matrix4F32[], java.lang.foreign.MemorySegment, long)}.
+/// @apiNote The clip is immutable and can be sampled by any number of threads, each with its own {@link Cursor}.
+public final class AnimationClip {
+
+    private final Track[] tracks;
+    private final float duration;
+    private final int bones;
+
+    /// @apiNote The array is copied.
+    public AnimationClip(Track... tracks) {
+        this.tracks = tracks.clone();
+        float duration = 0;
+        int bones = 0;
+        for (final var track : this.tracks) {
+            duration = Math.max(duration, track.duration());
+            bones = Math.max(bones, track.bone() + 1);
+        }
+        this.duration = duration;
+        this.bones = bones;
+    }
+
+    /// The keyframe interval of every track of a clip, cached by the previous sample.
+    /// @apiNote The cursor is mutable and not thread-safe, each consumer of the clip needs its own.
+    public static final class Cursor {
+
+        /// The clip that created the cursor, the only one it can sample.
+        private final AnimationClip clip;
+        private final int[] keys;
+
+        private Cursor(AnimationClip clip) {
+            this.clip = clip;
+            keys = new int[clip.tracks.length];
+        }
+
+        /// Forgets the cached intervals, e.g. when the playback restarts.
+        public void reset() {
+            Arrays.fill(keys, 0);
+        }
+    }
+
+    /// @return a new cursor for this clip, starting from the first keyframes.
+    public Cursor cursor() {
+        return new Cursor(this);
+    }
+
+    public int size() {
+        return tracks.length;
+    }
+
+    public Track track(int index) {
+        return tracks[Objects.checkIndex(index, size())];
+    }
+
+    /// @return The time of the last keyframe of all the tracks.
+    public float duration() {
+        return duration;
+    }
+
+    /// @return The number of bones the buffers must hold, the highest animated bone plus one.
+    public int bones() {
+        return bones;
+    }
+
+    private void checkCursor(Cursor cursor) {
+        if (cursor.clip != this) throw new IllegalArgumentException("The cursor was not created by this clip.");
+    }
+
+    /// Samples every track at the time, writing each value in the buffer of its channel at its bone.\
+    /// The bones and channels without a track keep their values, e.g. the bind pose.
+    /// @param translations the bone translations, packed as `x, y, z`.
+    /// @param rotations the bone rotations, packed as `x, y, z, w`.
+    /// @param scales the bone scales, packed as `x, y, z`.
+    /// @throws IllegalArgumentException if the cursor was not created by this clip.
+    /// @throws IndexOutOfBoundsException if a buffer is shorter than the animated bones.
+    public void sampleAll(float time, Cursor cursor, float[] translations, float[] rotations, float[] scales) {
+        checkCursor(cursor);
+        final int[] keys = cursor.keys;
+        for (int i = 0; i < tracks.length; i++) {
+            final var track = tracks[i];
+            final int key = keys[i] = track.seek(time, keys[i]);
+            final var channel = track.channel();
+            final float[] out = switch (channel) {
+                case TRANSLATION -> translations;
+                case ROTATION -> rotations;
+                case SCALE -> scales;
+            };
+            track.sample(time, key, out, track.bone() * channel.components());
+        }
+    }
+
+    /// Samples every track at the time, setting each value to the node of the same index of its bone.
+    /// @throws IllegalArgumentException if the cursor was not created by this clip.
+    /// @throws IndexOutOfBoundsException if the hierarchy has fewer nodes than the animated bones.
+    /// @see #sampleAll(float, Cursor, float[], float[], float[])
+    public void sampleAll(float time, Cursor cursor, TransformHierarchy hierarchy) {
+        checkCursor(cursor);
+        final int[] keys = cursor.keys;
+        final float[] out = new float[4];
+        for (int i = 0; i < tracks.length; i++) {
+            final var track = tracks[i];
+            final int key = keys[i] = track.seek(time, keys[i]);
+            track.sample(time, key, out, 0);
+            final int node = track.bone();
+            switch (track.channel()) {
+                case TRANSLATION -> hierarchy.setTranslation(node, new Vector3F32(out[0], out[1], out[2]));
+                case ROTATION -> hierarchy.setRotation(node, new Quaternion(out[0], out[1], out[2], out[3]));
+                case SCALE -> hierarchy.setScale(node, new Vector3F32(out[0], out[1], out[2]));
+            }
+        }
+    }
+}
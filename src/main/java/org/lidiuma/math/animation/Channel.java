@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.animation;
+
+/// The bone-local property animated by a {@link Track}.
+public enum Channel {
+
+    /// A `Vector3F32` translation, packed as `x, y, z`.
+    TRANSLATION(3),
+    /// A `QuaternionF32` rotation, packed as `x, y, z, w`.
+    ROTATION(4),
+    /// A `Vector3F32` scale, packed as `x, y, z`.
+    SCALE(3);
+
+    private final int components;
+
+    Channel(int components) {
+        this.components = components;
+    }
+
+    /// @return The number of floats of each keyframe value.
+    public int components() {
+        return components;
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.animation;
+
+/// How a {@link Track} is sampled between two keyframes.
+public enum Interpolation {
+
+    /// Holds the value of the previous keyframe.
+    STEP,
+    /// Linear interpolation of vectors, like `Vector3F32#lerp`, and spherical interpolation of rotations, like `QuaternionF32#slerp`.
+    LINEAR,
+    /// Cubic Hermite interpolation, with Catmull-Rom tangents computed from the neighbouring keyframes.\
+    /// The rotations are interpolated component-wise, sign-aligned, then normalized.
+    CUBIC
+}
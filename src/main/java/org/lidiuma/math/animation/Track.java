@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.animation;
+
+import org.lidiuma.math.rotation.QuaternionF32;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import java.util.Arrays;
+import java.util.Objects;
+
+/// Keyframes of a single bone {@link Channel}, stored as flat primitive arrays.\
+/// The `times` are strictly increasing, and the `values` hold {@link Channel#components()} floats per keyframe.
+/// Before the first keyframe and after the last one, the track holds their values.
+///
+/// Sampling is split in two steps, {@link #seek(float, int)} finds the keyframe interval of a time,
+/// and {@link #sample(float, int, float[], int)} interpolates inside it.
+/// The seek starts from the interval of the previous sample, so monotonic playback does not search at all,
+/// and only jumps fall back to a binary search. {@link TrackCursor} and {@link AnimationClip.Cursor} keep that interval per consumer.
+/// @apiNote The track is immutable and can be sampled by any number of threads, each with its own cursor.
+public final class Track {
+
+    private final int bone;
+    private final Channel channel;
+    private final Interpolation interpolation;
+    private final float[] times;
+    private final float[] values;
+
+    /// @param bone the index of the animated bone.
+    /// @param times the strictly increasing keyframe times.
+    /// @param values the keyframe values, packed with {@link Channel#components()} floats each.
+    /// @throws IllegalArgumentException if there are no keyframes, the times are not strictly increasing,
+    /// or the values do not match the keyframes.
+    /// @apiNote The arrays are copied.
+    public Track(int bone, Channel channel, Interpolation interpolation, float[] times, float[] values) {
+        if (bone < 0) throw new IllegalArgumentException("The bone cannot be negative.");
+        if (times.length == 0) throw new IllegalArgumentException("The track has no keyframes.");
+        if (values.length != times.length * channel.components()) throw new IllegalArgumentException("The values do not match the number of keyframes.");
+        for (int key = 1; key < times.length; key++) {
+            if (!(times[key] > times[key - 1])) throw new IllegalArgumentException("The time of keyframe " + key + " does not come after the previous one.");
+        }
+        this.bone = bone;
+        this.channel = channel;
+        this.interpolation = interpolation;
+        this.times = times.clone();
+        this.values = values.clone();
+    }
+
+    public int bone() {
+        return bone;
+    }
+
+    public Channel channel() {
+        return channel;
+    }
+
+    public Interpolation interpolation() {
+        return interpolation;
+    }
+
+    /// @return The number of keyframes.
+    public int keys() {
+        return times.length;
+    }
+
+    public float time(int key) {
+        return times[Objects.checkIndex(key, keys())];
+    }
+
+    /// @return The time of the last keyframe.
+    public float duration() {
+        return times[times.length - 1];
+    }
+
+    /// Finds the keyframe interval `[key, key + 1]` containing the time, clamped to the first and last intervals.
+    /// @param hint the interval returned by the previous seek, checked first together with the next one.
+    /// @return The first keyframe of the interval, `0` if the track has a single keyframe.
+    public int seek(float time, int hint) {
+        final int last = times.length - 1;
+        if (last == 0 || time <= times[0]) return 0;
+        if (time >= times[last]) return last - 1;
+        final int key = Math.clamp(hint, 0, last - 1);
+        if (time >= times[key]) {
+            if (time < times[key + 1]) return key;
+            // The common case of playback, the time moved to the next interval.
+            if (key + 2 <= last && time < times[key + 2]) return key + 1;
+        }
+        final int found = Arrays.binarySearch(times, time);
+        return Math.min(found >= 0 ? found : -found - 2, last - 1);
+    }
+
+    /// Samples the track at the time, inside the interval found by {@link #seek(float, int)}.
+    /// @param out receives {@link Channel#components()} floats from `offset`.
+    public void sample(float time, int key, float[] out, int offset) {
+        final int components = channel.components();
+        Objects.checkFromIndexSize(offset, components, out.length);
+        final int last = times.length - 1;
+        if (last == 0 || time <= times[0]) {
+            System.arraycopy(values, 0, out, offset, components);
+            return;
+        }
+        if (time >= times[last]) {
+            System.arraycopy(values, last * components, out, offset, components);
+            return;
+        }
+        Objects.checkIndex(key, last);
+        final float t0 = times[key], t1 = times[key + 1];
+        final float alpha = (time - t0) / (t1 - t0);
+        switch (interpolation) {
+            case STEP -> System.arraycopy(values, key * components, out, offset, components);
+            case LINEAR -> {
+                if (channel == Channel.ROTATION) slerp(key, alpha, out, offset);
+                else lerp(key, alpha, out, offset);
+            }
+            case CUBIC -> cubic(key, alpha, out, offset);
+        }
+    }
+
+    /// @return The sampled translation or scale.
+    /// @throws IllegalStateException if the track animates the rotation.
+    public Vector3F32 vector(float time, int key) {
+        if (channel == Channel.ROTATION) throw new IllegalStateException("The track animates a rotation, not a vector.");
+        final float[] out = new float[3];
+        sample(time, key, out, 0);
+        return new Vector3F32(out[0], out[1], out[2]);
+    }
+
+    /// @return The sampled rotation.
+    /// @throws IllegalStateException if the track does not animate the rotation.
+    public QuaternionF32 rotation(float time, int key) {
+        if (channel != Channel.ROTATION) throw new IllegalStateException("The track animates a vector, not a rotation.");
+        final float[] out = new float[4];
+        sample(time, key, out, 0);
+        return new QuaternionF32(out[0], out[1], out[2], out[3]);
+    }
+
+    private void lerp(int key, float alpha, float[] out, int offset) {
+        final int a = key * 3, b = a + 3;
+        for (int i = 0; i < 3; i++) out[offset + i] = values[a + i] + (values[b + i] - values[a + i]) * alpha;
+    }
+
+    private QuaternionF32 quaternion(int key) {
+        final int q = key * 4;
+        return new QuaternionF32(values[q], values[q + 1], values[q + 2], values[q + 3]);
+    }
+
+    private void slerp(int key, float alpha, float[] out, int offset) {
+        final var q = quaternion(key).slerp(quaternion(key + 1), alpha);
+        out[offset] = q.x();
+        out[offset + 1] = q.y();
+        out[offset + 2] = q.z();
+        out[offset + 3] = q.w();
+    }
+
+    /// @return `1` or `-1`, so that the keyframe `b` is in the same hemisphere of `a`, only used by the rotations.
+    private float hemisphere(int a, int b) {
+        float dot = 0;
+        for (int i = 0; i < 4; i++) dot += values[a * 4 + i] * values[b * 4 + i];
+        return dot < 0 ? -1f : 1f;
+    }
+
+    private void cubic(int key, float alpha, float[] out, int offset) {
+        final int components = channel.components();
+        final int last = times.length - 1;
+        // At the ends, the missing neighbour is replaced by the key itself, making the tangent one-sided.
+        final int prev = Math.max(key - 1, 0), next = Math.min(key + 2, last);
+        final float t0 = times[key], t1 = times[key + 1];
+        final float dt = t1 - t0;
+        final float dtIn = t1 - times[prev], dtOut = times[next] - t0;
+
+        final boolean rotation = channel == Channel.ROTATION;
+        final float s1 = rotation ? hemisphere(key, key + 1) : 1f;
+        final float sPrev = rotation ? hemisphere(key, prev) : 1f;
+        final float sNext = rotation ? s1 * hemisphere(key + 1, next) : 1f;
+
+        final float u = alpha, u2 = u * u, u3 = u2 * u;
+        final float h00 = 2 * u3 - 3 * u2 + 1;
+        final float h10 = u3 - 2 * u2 + u;
+        final float h01 = -2 * u3 + 3 * u2;
+        final float h11 = u3 - u2;
+        float length2 = 0;
+        for (int i = 0; i < components; i++) {
+            final float p0 = values[key * components + i];
+            final float p1 = values[(key + 1) * components + i] * s1;
+            final float m0 = (p1 - values[prev * components + i] * sPrev) / dtIn * dt;
+            final float m1 = (values[next * components + i] * sNext - p0) / dtOut * dt;
+            final float value = h00 * p0 + h10 * m0 + h01 * p1 + h11 * m1;
+            out[offset + i] = value;
+            length2 += value * value;
+        }
+        if (!rotation) return;
+        final float scale = 1f / (float) Math.sqrt(length2);
+        for (int i = 0; i < components; i++) out[offset + i] *= scale;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.animation;
+
+import org.lidiuma.math.rotation.QuaternionF32;
+import org.lidiuma.math.vector.v3.Vector3F32;
+
+/// Samples a single {@link Track}, caching the keyframe interval of the last sample.\
+/// Monotonic playback finds the next interval in constant time, while jumps fall back to a binary search.
+/// @apiNote The cursor is mutable and not thread-safe, each consumer of the track needs its own.
+public final class TrackCursor {
+
+    private final Track track;
+    private int key;
+
+    public TrackCursor(Track track) {
+        this.track = track;
+    }
+
+    public Track track() {
+        return track;
+    }
+
+    /// Forgets the cached interval, e.g. when the playback restarts.
+    public void reset() {
+        key = 0;
+    }
+
+    /// @see Track#sample(float, int, float[], int)
+    public void sample(float time, float[] out, int offset) {
+        key = track.seek(time, key);
+        track.sample(time, key, out, offset);
+    }
+
+    /// @see Track#vector(float, int)
+    public Vector3F32 vector(float time) {
+        key = track.seek(time, key);
+        return track.vector(time, key);
+    }
+
+    /// @see Track#rotation(float, int)
+    public QuaternionF32 rotation(float time) {
+        key = track.seek(time, key);
+        return track.rotation(time, key);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.curve;
+
+import org.lidiuma.math.vector.v3.Vector3F64;
+import org.lidiuma.math.vector.v3.Vector3F64Buffer;
+
+/// Cubic spline of {@link Vector3F64} control values, with a cached arc-length table.\
+/// The curve is parameterized by `u` in `[0, 1]` over all the segments, while the distance methods
+/// reparameterize it by arc length, so the points move at constant speed without integrating again.
+/// @apiNote The spline is immutable and can be shared by any number of threads.
+/// @see SplineType
+public final class Spline3F64 {
+
+    private static final int DIMENSION = 3;
+    private final SplineF64 spline;
+
+    private Spline3F64(SplineF64 spline) {
+        this.spline = spline;
+    }
+
+    /// @param control the control values, whose meaning depends on the type.
+    /// @param resolution the arc-length table steps of each segment, more steps give a more precise reparameterization.
+    /// @throws IllegalArgumentException if the control values do not form whole segments, or the resolution is less than 1.
+    public static Spline3F64 of(SplineType type, Vector3F64[] control, int resolution) {
+        final double[] packed = new double[control.length * DIMENSION];
+        for (int i = 0; i < control.length; i++) {
+            packed[i * DIMENSION] = control[i].x();
+            packed[i * DIMENSION + 1] = control[i].y();
+            packed[i * DIMENSION + 2] = control[i].z();
+        }
+        return new Spline3F64(new SplineF64(type, DIMENSION, packed, resolution));
+    }
+
+    /// @see #of(SplineType, Vector3F64[], int)
+    public static Spline3F64 of(SplineType type, Vector3F64... control) {
+        return of(type, control, SplineType.DEFAULT_RESOLUTION);
+    }
+
+    /// @see SplineType#CATMULL_ROM
+    public static Spline3F64 catmullRom(Vector3F64... points) {
+        return of(SplineType.CATMULL_ROM, points);
+    }
+
+    /// @see SplineType#BEZIER
+    public static Spline3F64 bezier(Vector3F64... points) {
+        return of(SplineType.BEZIER, points);
+    }
+
+    /// @see SplineType#B_SPLINE
+    public static Spline3F64 bSpline(Vector3F64... points) {
+        return of(SplineType.B_SPLINE, points);
+    }
+
+    /// @param tangents the tangent at each point.
+    /// @throws IllegalArgumentException if the arrays have different lengths, or there are less than 2 points.
+    /// @see SplineType#HERMITE
+    public static Spline3F64 hermite(Vector3F64[] points, Vector3F64[] tangents) {
+        if (points.length != tangents.length) throw new IllegalArgumentException("The points and tangents arrays do not have the same length.");
+        final var control = new Vector3F64[points.length * 2];
+        for (int i = 0; i < points.length; i++) {
+            control[i * 2] = points[i];
+            control[i * 2 + 1] = tangents[i];
+        }
+        return of(SplineType.HERMITE, control);
+    }
+
+    public SplineType type() {
+        return spline.type;
+    }
+
+    public int segments() {
+        return spline.segments();
+    }
+
+    /// @return The arc length of the whole curve.
+    public double length() {
+        return spline.length();
+    }
+
+    /// @return The point at the parameter clamped to `[0, 1]`.
+    public Vector3F64 at(double u) {
+        final double[] out = new double[DIMENSION];
+        spline.evaluate(u, 0, out);
+        return new Vector3F64(out[0], out[1], out[2]);
+    }
+
+    /// @return The derivative of the curve with respect to `u`, at the parameter clamped to `[0, 1]`.
+    public Vector3F64 tangent(double u) {
+        final double[] out = new double[DIMENSION];
+        spline.evaluate(u, 1, out);
+        return new Vector3F64(out[0], out[1], out[2]);
+    }
+
+    /// @return The point at the arc length clamped to `[0, length]`, moving at constant speed.
+    public Vector3F64 atDistance(double distance) {
+        return at(parameterAt(distance));
+    }
+
+    /// @return The parameter at the arc length clamped to `[0, length]`, interpolated from the table.
+    public double parameterAt(double distance) {
+        return spline.parameterAt(distance);
+    }
+
+    /// @return The arc length from the start to the parameter clamped to `[0, 1]`, interpolated from the table.
+    public double distanceAt(double u) {
+        return spline.distanceAt(u);
+    }
+
+    /// Finds the curve point nearest to the given one, starting from the closest table step and refining it with Newton's method.
+    /// @return The parameter of the nearest point, use {@link #at(double)} for its position and {@link #distanceAt(double)} for its arc length.
+    public double nearest(Vector3F64 point) {
+        return spline.nearest(new double[]{point.x(), point.y(), point.z()});
+    }
+
+    /// Writes `count` points evenly spaced by arc length, from the start to the end of the curve, e.g. for path rendering.
+    /// @throws IndexOutOfBoundsException if the buffer cannot hold `count` vectors from `index`.
+    public void sample(Vector3F64Buffer dst, long index, int count) {
+        spline.sample(dst, index, count);
+    }
+}
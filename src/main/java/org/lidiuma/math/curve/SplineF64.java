@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.curve;
+
+import org.lidiuma.math.vector.VectorBuffer;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.Objects;
+
+/// Dimension-independent kernel of the double precision splines, the control values are packed with `dimension` doubles each.\
+/// The curve is parameterized by `u` in `[0, 1]` over all the segments, each one covering an equal range.
+///
+/// The constructor precomputes the arc-length table, `resolution` steps per segment,
+/// each one integrated with a 3-point Gauss-Legendre quadrature of the speed,
+/// together with the position at every step, used as the starting guess of the nearest point queries.
+final class SplineF64 {
+
+    /// The nodes and weights of the 3-point Gauss-Legendre quadrature over `[-1, 1]`.
+    private static final double GAUSS_NODE = Math.sqrt(3 / 5d);
+    private static final double GAUSS_OUTER = 5 / 9d, GAUSS_CENTER = 8 / 9d;
+    /// The most Newton iterations refining the nearest point, each one roughly doubles the correct digits,
+    /// but across the joint of two segments the curvature jumps, and they only gain a few bits each.
+    private static final int NEAREST_ITERATIONS = 32;
+
+    final SplineType type;
+    final int dimension;
+    private final double[] control;
+    private final int segments;
+    private final int steps;
+    /// The arc length at the start of each step, plus the total length.
+    private final double[] lengths;
+    /// The position at the start of each step, plus the end of the curve.
+    private final double[] samples;
+
+    SplineF64(SplineType type, int dimension, double[] control, int resolution) {
+        if (resolution < 1) throw new IllegalArgumentException("The resolution must be at least 1.");
+        this.type = type;
+        this.dimension = dimension;
+        this.control = control;
+        this.segments = type.segments(control.length / dimension);
+        this.steps = segments * resolution;
+        this.lengths = new double[steps + 1];
+        this.samples = new double[(steps + 1) * dimension];
+        final double[] point = new double[dimension];
+        for (int step = 0; step <= steps; step++) {
+            final double u = (double) step / steps;
+            evaluate(u, 0, point);
+            System.arraycopy(point, 0, samples, step * dimension, dimension);
+            if (step == steps) break;
+            final double half = .5 / steps, center = u + half;
+            final double integral = GAUSS_OUTER * speed(center - GAUSS_NODE * half, point)
+                    + GAUSS_CENTER * speed(center, point)
+                    + GAUSS_OUTER * speed(center + GAUSS_NODE * half, point);
+            lengths[step + 1] = lengths[step] + integral * half;
+        }
+    }
+
+    int segments() {
+        return segments;
+    }
+
+    double length() {
+        return lengths[steps];
+    }
+
+    private double speed(double u, double[] scratch) {
+        evaluate(u, 1, scratch);
+        double length2 = 0;
+        for (int a = 0; a < dimension; a++) length2 += scratch[a] * scratch[a];
+        return Math.sqrt(length2);
+    }
+
+    /// Writes in `out` the position, or a derivative with respect to `u`, at the parameter clamped to `[0, 1]`.
+    void evaluate(double u, int derivative, double[] out) {
+        final double scaled = Math.clamp(u, 0d, 1d) * segments;
+        final int segment = Math.min((int) scaled, segments - 1);
+        final double[] weights = new double[SplineType.ORDER];
+        type.weights(scaled - segment, derivative, weights);
+        // The chain rule of `scaled = u * segments`, once per derivative order.
+        final double scale = derivative == 0 ? 1 : derivative == 1 ? segments : (double) segments * segments;
+        final int first = segment * type.stride() * dimension;
+        for (int a = 0; a < dimension; a++) {
+            double value = 0;
+            for (int j = 0; j < SplineType.ORDER; j++) value += weights[j] * control[first + j * dimension + a];
+            out[a] = value * scale;
+        }
+    }
+
+    /// @return The parameter at the arc length clamped to `[0, length]`, interpolated from the table.
+    double parameterAt(double distance) {
+        if (distance <= 0) return 0;
+        if (distance >= lengths[steps]) return 1;
+        final int found = Arrays.binarySearch(lengths, distance);
+        if (found >= 0) return (double) found / steps;
+        final int step = -found - 2;
+        final double fraction = (distance - lengths[step]) / (lengths[step + 1] - lengths[step]);
+        return (step + fraction) / steps;
+    }
+
+    /// @return The arc length from the start to the parameter clamped to `[0, 1]`, interpolated from the table.
+    double distanceAt(double u) {
+        final double scaled = Math.clamp(u, 0d, 1d) * steps;
+        final int step = Math.min((int) scaled, steps - 1);
+        return lengths[step] + (lengths[step + 1] - lengths[step]) * (scaled - step);
+    }
+
+    /// @return The parameter of the curve point nearest to `point`.
+    double nearest(double[] point) {
+        int best = 0;
+        double bestDistance2 = Double.POSITIVE_INFINITY;
+        for (int step = 0; step <= steps; step++) {
+            double distance2 = 0;
+            for (int a = 0; a < dimension; a++) {
+                final double d = samples[step * dimension + a] - point[a];
+                distance2 += d * d;
+            }
+            if (distance2 < bestDistance2) {
+                bestDistance2 = distance2;
+                best = step;
+            }
+        }
+        // Newton's method on `(f(u) - p) · f'(u) = 0`, kept between the steps around the closest sample.
+        final double min = (double) Math.max(best - 1, 0) / steps, max = (double) Math.min(best + 1, steps) / steps;
+        final double[] position = new double[dimension], first = new double[dimension], second = new double[dimension];
+        double u = (double) best / steps;
+        for (int i = 0; i < NEAREST_ITERATIONS; i++) {
+            evaluate(u, 0, position);
+            evaluate(u, 1, first);
+            evaluate(u, 2, second);
+            double g = 0, dg = 0;
+            for (int a = 0; a < dimension; a++) {
+                final double d = position[a] - point[a];
+                g += d * first[a];
+                dg += first[a] * first[a] + d * second[a];
+            }
+            if (dg <= 0) break;
+            final double next = Math.clamp(u - g / dg, min, max);
+            final boolean converged = Math.abs(next - u) <= Math.ulp(u);
+            u = next;
+            if (converged) break;
+        }
+        return u;
+    }
+
+    /// Writes `count` points evenly spaced by arc length, from the start to the end of the curve.
+    void sample(VectorBuffer<?, ?, ?> dst, long index, int count) {
+        if (count < 0) throw new IllegalArgumentException("The count cannot be negative.");
+        Objects.checkFromIndexSize(index, count, dst.capacity());
+        final double[] point = new double[dimension];
+        final double length = length();
+        for (int i = 0; i < count; i++) {
+            final double distance = count == 1 ? 0 : length * i / (count - 1);
+            evaluate(parameterAt(distance), 0, point);
+            for (int a = 0; a < dimension; a++) dst.lane(a).setAtIndex(ValueLayout.JAVA_DOUBLE, index + i, point[a]);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.curve;
+
+/// The cubic bases of the splines, each segment is `[u³, u², u, 1] * basis * [c0, c1, c2, c3]`
+/// of four consecutive control values, with `u` in `[0, 1]`.
+public enum SplineType {
+
+    /// Passes through every control point except the first and last, which only shape the tangents.\
+    /// Each segment uses 4 consecutive points, so `n` points make `n - 3` segments.
+    CATMULL_ROM(1, new double[]{
+            -.5, 1.5, -1.5, .5,
+            1, -2.5, 2, -.5,
+            -.5, 0, .5, 0,
+            0, 1, 0, 0
+    }),
+    /// Cubic Bézier, the segments share their end points, so `3k + 1` points make `k` segments.
+    BEZIER(3, new double[]{
+            -1, 3, -3, 1,
+            3, -6, 3, 0,
+            -3, 3, 0, 0,
+            1, 0, 0, 0
+    }),
+    /// Cubic Hermite, the controls alternate a point and its tangent, so `k + 1` point and tangent pairs make `k` segments.
+    HERMITE(2, new double[]{
+            2, 1, -2, 1,
+            -3, -2, 3, -1,
+            0, 1, 0, 0,
+            1, 0, 0, 0
+    }),
+    /// Uniform cubic B-spline, smoother than {@link #CATMULL_ROM} but it does not pass through the control points.\
+    /// Each segment uses 4 consecutive points, so `n` points make `n - 3` segments.
+    B_SPLINE(1, new double[]{
+            -1 / 6d, 3 / 6d, -3 / 6d, 1 / 6d,
+            3 / 6d, -6 / 6d, 3 / 6d, 0,
+            -3 / 6d, 0, 3 / 6d, 0,
+            1 / 6d, 4 / 6d, 1 / 6d, 0
+    });
+
+    /// Number of control values of each segment.
+    public static final int ORDER = 4;
+    /// Arc-length table steps of each segment, used when the splines are created without a resolution.
+    public static final int DEFAULT_RESOLUTION = 16;
+
+    private final int stride;
+    private final double[] basis;
+
+    SplineType(int stride, double[] basis) {
+        this.stride = stride;
+        this.basis = basis;
+    }
+
+    /// @return The number of control values between the first value of a segment and the one of the next.
+    public int stride() {
+        return stride;
+    }
+
+    /// @return The number of segments made by the control values.
+    /// @throws IllegalArgumentException if the control values do not form whole segments.
+    public int segments(int controls) {
+        if (controls < ORDER || (controls - ORDER) % stride != 0) {
+            throw new IllegalArgumentException("The " + controls + " control values do not form whole " + this + " segments.");
+        }
+        return (controls - ORDER) / stride + 1;
+    }
+
+    /// Writes in `out` the weights of the four control values of a segment.
+    /// @param derivative `0` for the position, `1` for the first derivative and `2` for the second, with respect to `u`.
+    void weights(double u, int derivative, double[] out) {
+        final double u2 = u * u;
+        final double p0, p1, p2, p3;
+        switch (derivative) {
+            case 0 -> { p0 = u2 * u; p1 = u2; p2 = u; p3 = 1; }
+            case 1 -> { p0 = 3 * u2; p1 = 2 * u; p2 = 1; p3 = 0; }
+            default -> { p0 = 6 * u; p1 = 2; p2 = 0; p3 = 0; }
+        }
+        for (int j = 0; j < ORDER; j++) {
+            out[j] = p0 * basis[j] + p1 * basis[4 + j] + p2 * basis[8 + j] + p3 * basis[12 + j];
+        }
+    }
+
+    /// @see #weights(double, int, double[])
+    void weights(float u, int derivative, float[] out) {
+        final float u2 = u * u;
+        final float p0, p1, p2, p3;
+        switch (derivative) {
+            case 0 -> { p0 = u2 * u; p1 = u2; p2 = u; p3 = 1; }
+            case 1 -> { p0 = 3 * u2; p1 = 2 * u; p2 = 1; p3 = 0; }
+            default -> { p0 = 6 * u; p1 = 2; p2 = 0; p3 = 0; }
+        }
+        for (int j = 0; j < ORDER; j++) {
+            out[j] = (float) (p0 * basis[j] + p1 * basis[4 + j] + p2 * basis[8 + j] + p3 * basis[12 + j]);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.interpolation;
+
+/// Maps an interpolation factor in `[0, 1]` to an eased one, usually `0` at `0` and `1` at `1`.\
+/// The primitive counterpart of `Function<Double, Double>`, so that tweening loops do not box on every call.
+/// @see Easing
+@FunctionalInterface
+public interface DoubleInterpolator {
+
+    double apply(double alpha);
+
+    /// Precomputes the curve in a lookup table, useful for the expensive ones, e.g. {@link Easing#ELASTIC_OUT}.
+    /// @param samples the number of evenly spaced samples, the baked curve linearly interpolates between them.
+    /// @return The baked curve, with the factor clamped to `[0, 1]`.
+    /// @throws IllegalArgumentException if there are less than 2 samples.
+    static DoubleInterpolator bake(DoubleInterpolator curve, int samples) {
+        if (samples < 2) throw new IllegalArgumentException("The table needs at least 2 samples.");
+        final int last = samples - 1;
+        final double[] table = new double[samples];
+        for (int i = 0; i < samples; i++) table[i] = curve.apply((double) i / last);
+        return alpha -> {
+            final double scaled = Math.clamp(alpha, 0d, 1d) * last;
+            final int i = Math.min((int) scaled, last - 1);
+            return table[i] + (table[i + 1] - table[i]) * (scaled - i);
+        };
+    }
+
+    /// @return `alpha^power`, accelerating from zero velocity.
+    static DoubleInterpolator powIn(double power) {
+        return alpha -> Math.pow(alpha, power);
+    }
+
+    /// @return The mirror of {@link #powIn(double)}, decelerating to zero velocity.
+    static DoubleInterpolator powOut(double power) {
+        return alpha -> 1 - Math.pow(1 - alpha, power);
+    }
+
+    /// @return {@link #powIn(double)} for the first half, and {@link #powOut(double)} for the second.
+    static DoubleInterpolator powInOut(double power) {
+        return alpha -> alpha < .5
+                ? Math.pow(alpha * 2, power) * .5
+                : 1 - Math.pow(2 - alpha * 2, power) * .5;
+    }
+}
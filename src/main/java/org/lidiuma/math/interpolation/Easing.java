@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.interpolation;
+
+/// Standard easing curves, usable both as {@link FloatInterpolator} and {@link DoubleInterpolator}.\
+/// Every curve maps `0` to `0` and `1` to `1`, the elastic and bounce ones may leave `[0, 1]` in between.
+/// The `IN` curves accelerate from zero velocity, the `OUT` ones decelerate to it, and the `IN_OUT` ones do both.
+/// @apiNote The single precision curves are computed in `double` and then narrowed.\
+/// For arbitrary exponents use {@link FloatInterpolator#powIn(float)} and its siblings.
+public enum Easing implements FloatInterpolator, DoubleInterpolator {
+
+    LINEAR {
+        @Override
+        public double apply(double alpha) {
+            return alpha;
+        }
+    },
+    /// `3t² - 2t³`, with zero velocity at both ends.
+    SMOOTHSTEP {
+        @Override
+        public double apply(double alpha) {
+            return alpha * alpha * (3 - 2 * alpha);
+        }
+    },
+    /// `6t⁵ - 15t⁴ + 10t³`, with zero velocity and acceleration at both ends.
+    SMOOTHERSTEP {
+        @Override
+        public double apply(double alpha) {
+            return alpha * alpha * alpha * (alpha * (alpha * 6 - 15) + 10);
+        }
+    },
+    QUAD_IN {
+        @Override
+        public double apply(double alpha) {
+            return powIn(alpha, 2);
+        }
+    },
+    QUAD_OUT {
+        @Override
+        public double apply(double alpha) {
+            return powOut(alpha, 2);
+        }
+    },
+    QUAD_IN_OUT {
+        @Override
+        public double apply(double alpha) {
+            return powInOut(alpha, 2);
+        }
+    },
+    CUBIC_IN {
+        @Override
+        public double apply(double alpha) {
+            return powIn(alpha, 3);
+        }
+    },
+    CUBIC_OUT {
+        @Override
+        public double apply(double alpha) {
+            return powOut(alpha, 3);
+        }
+    },
+    CUBIC_IN_OUT {
+        @Override
+        public double apply(double alpha) {
+            return powInOut(alpha, 3);
+        }
+    },
+    QUART_IN {
+        @Override
+        public double apply(double alpha) {
+            return powIn(alpha, 4);
+        }
+    },
+    QUART_OUT {
+        @Override
+        public double apply(double alpha) {
+            return powOut(alpha, 4);
+        }
+    },
+    QUART_IN_OUT {
+        @Override
+        public double apply(double alpha) {
+            return powInOut(alpha, 4);
+        }
+    },
+    QUINT_IN {
+        @Override
+        public double apply(double alpha) {
+            return powIn(alpha, 5);
+        }
+    },
+    QUINT_OUT {
+        @Override
+        public double apply(double alpha) {
+            return powOut(alpha, 5);
+        }
+    },
+    QUINT_IN_OUT {
+        @Override
+        public double apply(double alpha) {
+            return powInOut(alpha, 5);
+        }
+    },
+    /// Written with the sine, since `cos(π / 2)` is not exactly zero and would miss `1` at the end.
+    SINE_IN {
+        @Override
+        public double apply(double alpha) {
+            return 1 - Math.sin((1 - alpha) * Math.PI * .5);
+        }
+    },
+    SINE_OUT {
+        @Override
+        public double apply(double alpha) {
+            return Math.sin(alpha * Math.PI * .5);
+        }
+    },
+    SINE_IN_OUT {
+        @Override
+        public double apply(double alpha) {
+            return (1 - Math.cos(alpha * Math.PI)) * .5;
+        }
+    },
+    /// Exponential in base 2, clamped to exactly `0` and `1` at the ends.
+    EXP_IN {
+        @Override
+        public double apply(double alpha) {
+            return alpha <= 0 ? 0 : Math.pow(2, 10 * alpha - 10);
+        }
+    },
+    EXP_OUT {
+        @Override
+        public double apply(double alpha) {
+            return alpha >= 1 ? 1 : 1 - Math.pow(2, -10 * alpha);
+        }
+    },
+    EXP_IN_OUT {
+        @Override
+        public double apply(double alpha) {
+            if (alpha <= 0) return 0;
+            if (alpha >= 1) return 1;
+            return alpha < .5
+                    ? Math.pow(2, 20 * alpha - 10) * .5
+                    : (2 - Math.pow(2, -20 * alpha + 10)) * .5;
+        }
+    },
+    /// Oscillates below zero with a growing amplitude before reaching `1`, like a stretched spring.
+    ELASTIC_IN {
+        @Override
+        public double apply(double alpha) {
+            if (alpha <= 0) return 0;
+            if (alpha >= 1) return 1;
+            return -Math.pow(2, 10 * alpha - 10) * Math.sin((alpha * 10 - 10.75) * ELASTIC_PERIOD);
+        }
+    },
+    /// Overshoots `1` and oscillates around it with a decaying amplitude, like a released spring.
+    ELASTIC_OUT {
+        @Override
+        public double apply(double alpha) {
+            if (alpha <= 0) return 0;
+            if (alpha >= 1) return 1;
+            return Math.pow(2, -10 * alpha) * Math.sin((alpha * 10 - .75) * ELASTIC_PERIOD) + 1;
+        }
+    },
+    ELASTIC_IN_OUT {
+        @Override
+        public double apply(double alpha) {
+            if (alpha <= 0) return 0;
+            if (alpha >= 1) return 1;
+            final double sin = Math.sin((20 * alpha - 11.125) * ELASTIC_IN_OUT_PERIOD);
+            return alpha < .5
+                    ? -Math.pow(2, 20 * alpha - 10) * sin * .5
+                    : Math.pow(2, -20 * alpha + 10) * sin * .5 + 1;
+        }
+    },
+    BOUNCE_IN {
+        @Override
+        public double apply(double alpha) {
+            return 1 - bounceOut(1 - alpha);
+        }
+    },
+    /// Bounces on `1` with decaying heights, like a dropped ball.
+    BOUNCE_OUT {
+        @Override
+        public double apply(double alpha) {
+            return bounceOut(alpha);
+        }
+    },
+    BOUNCE_IN_OUT {
+        @Override
+        public double apply(double alpha) {
+            return alpha < .5
+                    ? (1 - bounceOut(1 - 2 * alpha)) * .5
+                    : (1 + bounceOut(2 * alpha - 1)) * .5;
+        }
+    };
+
+    /// The angular frequencies of the elastic oscillations.
+    private static final double ELASTIC_PERIOD = 2 * Math.PI / 3;
+    private static final double ELASTIC_IN_OUT_PERIOD = 2 * Math.PI / 4.5;
+    /// The parabola height and the bounces end of {@link #bounceOut(double)}.
+    private static final double BOUNCE_HEIGHT = 7.5625, BOUNCE_WIDTH = 2.75;
+
+    @Override
+    public abstract double apply(double alpha);
+
+    @Override
+    public float apply(float alpha) {
+        return (float) apply((double) alpha);
+    }
+
+    private static double powIn(double alpha, int power) {
+        double result = alpha;
+        for (int i = 1; i < power; i++) result *= alpha;
+        return result;
+    }
+
+    private static double powOut(double alpha, int power) {
+        return 1 - powIn(1 - alpha, power);
+    }
+
+    private static double powInOut(double alpha, int power) {
+        return alpha < .5
+                ? powIn(alpha * 2, power) * .5
+                : 1 - powIn(2 - alpha * 2, power) * .5;
+    }
+
+    /// Four parabolas, each one shorter and lower than the previous.
+    private static double bounceOut(double alpha) {
+        if (alpha < 1 / BOUNCE_WIDTH) return BOUNCE_HEIGHT * alpha * alpha;
+        if (alpha < 2 / BOUNCE_WIDTH) {
+            final double t = alpha - 1.5 / BOUNCE_WIDTH;
+            return BOUNCE_HEIGHT * t * t + .75;
+        }
+        if (alpha < 2.5 / BOUNCE_WIDTH) {
+            final double t = alpha - 2.25 / BOUNCE_WIDTH;
+            return BOUNCE_HEIGHT * t * t + .9375;
+        }
+        final double t = alpha - 2.625 / BOUNCE_WIDTH;
+        return BOUNCE_HEIGHT * t * t + .984375;
+    }
+}
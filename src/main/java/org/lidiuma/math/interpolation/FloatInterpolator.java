@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.interpolation;
+
+/// Maps an interpolation factor in `[0, 1]` to an eased one, usually `0` at `0` and `1` at `1`.\
+/// The primitive counterpart of `Function<Float, Float>`, so that tweening loops do not box on every call.
+/// @see Easing
+@FunctionalInterface
+public interface FloatInterpolator {
+
+    float apply(float alpha);
+
+    /// Precomputes the curve in a lookup table, useful for the expensive ones, e.g. {@link Easing#ELASTIC_OUT}.
+    /// @param samples the number of evenly spaced samples, the baked curve linearly interpolates between them.
+    /// @return The baked curve, with the factor clamped to `[0, 1]`.
+    /// @throws IllegalArgumentException if there are less than 2 samples.
+    static FloatInterpolator bake(FloatInterpolator curve, int samples) {
+        if (samples < 2) throw new IllegalArgumentException("The table needs at least 2 samples.");
+        final int last = samples - 1;
+        final float[] table = new float[samples];
+        for (int i = 0; i < samples; i++) table[i] = curve.apply((float) i / last);
+        return alpha -> {
+            final float scaled = Math.clamp(alpha, 0f, 1f) * last;
+            final int i = Math.min((int) scaled, last - 1);
+            return table[i] + (table[i + 1] - table[i]) * (scaled - i);
+        };
+    }
+
+    /// @return `alpha^power`, accelerating from zero velocity.
+    static FloatInterpolator powIn(float power) {
+        return alpha -> (float) Math.pow(alpha, power);
+    }
+
+    /// @return The mirror of {@link #powIn(float)}, decelerating to zero velocity.
+    static FloatInterpolator powOut(float power) {
+        return alpha -> 1f - (float) Math.pow(1f - alpha, power);
+    }
+
+    /// @return {@link #powIn(float)} for the first half, and {@link #powOut(float)} for the second.
+    static FloatInterpolator powInOut(float power) {
+        return alpha -> alpha < .5f
+                ? (float) Math.pow(alpha * 2f, power) * .5f
+                : 1f - (float) Math.pow(2f - alpha * 2f, power) * .5f;
+    }
+}
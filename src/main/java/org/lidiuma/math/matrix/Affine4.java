@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.matrix;
+
+import org.lidiuma.math.rotation.Quaternion;
+import org.lidiuma.math.vector.v3.Vector3;
+
+/// Immutable 3D affine transformation always using post-multiplication, like {@link Matrix4}.\
+/// Only the top 3 rows are stored, the last row is always the constant `[0, 0, 0, 1]`,
+/// making the multiplication 36 multiply-adds instead of 64, and each instance 12 components instead of 16.
+/// @param <A> is the affine implementation.
+/// @param <N> is the numerical type used for the matrix. (e.g., {@link Float}, {@link Double})
+/// @param <V> is the vector type transformed by the matrix.
+/// @param <M> is the {@link Matrix4} with the same numerical type.
+public interface Affine4<A extends Affine4<A, N, V, M>, N, V extends Vector3<V, N>, M extends Matrix4<M, N, V>> {
+
+    int SIZE = 12;
+
+    /// Post-Multiples `this` affine with the `other` affine.\
+    /// Results in `A := AB`.
+    /// @apiNote Order is important! `this * other != other * this`
+    A mul(A other);
+
+    /// Pre-Multiples the `other` affine with `this` affine.\
+    /// Results in `A := BA`.
+    /// @apiNote Order is important! `other * this != this * other`
+    A preMul(A other);
+
+    /// @return the determinant of the 3x3 part, which is also the determinant of the whole matrix.
+    N determinant();
+
+    /// @return true if the affine matrix is a singular matrix.
+    boolean isSingular();
+
+    /// Inverts this affine given that the determinant is != 0.
+    /// @throws ArithmeticException if the matrix cannot be inverted because it is singular.
+    A invert() throws ArithmeticException;
+
+    /// Inverts this affine assuming the 3x3 part is a pure rotation, so its inverse is the transpose.
+    /// @apiNote The result is wrong if the matrix has any scale or shear, use {@link #invert()} in that case.
+    A invertRigid();
+
+    /// @return the translation part of this affine.
+    V translation();
+
+    /// @return the rotation part of this affine.
+    Quaternion rotation();
+
+    /// @return the scale components along each axis.
+    V scale();
+
+    /// Transforms a 3D position vector.
+    V transform(V vector);
+
+    /// Rotates a 3D direction vector using the 3×3 part of this affine, ignoring the translation.
+    V rotate(V vector);
+
+    /// @return a new affine with the translation applied.
+    A translate(V translation);
+
+    /// @return a new affine with the given rotation applied.
+    A rotate(Quaternion rotation);
+
+    /// @return a new affine with the given scale applied.
+    A scale(V scale);
+
+    /// @return this affine as a {@link Matrix4}, with `[0, 0, 0, 1]` as the last row.
+    M asMatrix4();
+}
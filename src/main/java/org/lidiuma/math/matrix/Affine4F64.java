@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.matrix;
+
+import org.lidiuma.math.rotation.Quaternion;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import jdk.internal.vm.annotation.LooselyConsistentValue;
+import static org.lidiuma.math.FloatingUtil.EPSILON;
+
+/// @see Affine4
+@SuppressWarnings("unused")
+@LooselyConsistentValue
+public value record Affine4F64(
+        double m00, double m01, double m02, double m03,
+        double m10, double m11, double m12, double m13,
+        double m20, double m21, double m22, double m23
+) implements Affine4<Affine4F64, Double, Vector3F64, Matrix4F64> {
+
+    public static Affine4F64 identity() {
+        return new Affine4F64(
+                1d, 0d, 0d, 0d,
+                0d, 1d, 0d, 0d,
+                0d, 0d, 1d, 0d
+        );
+    }
+
+    /// Creates an affine from the top 3 rows of the matrix.
+    /// @throws IllegalArgumentException if the last row of the matrix is not `[0, 0, 0, 1]`, since the conversion would be lossy.
+    public static Affine4F64 fromMatrix4(Matrix4F64 matrix) {
+        if (matrix.m30() != 0 || matrix.m31() != 0 || matrix.m32() != 0 || matrix.m33() != 1) {
+            throw new IllegalArgumentException("The matrix is not affine, its last row is not [0, 0, 0, 1].");
+        }
+        return new Affine4F64(
+                matrix.m00(), matrix.m01(), matrix.m02(), matrix.m03(),
+                matrix.m10(), matrix.m11(), matrix.m12(), matrix.m13(),
+                matrix.m20(), matrix.m21(), matrix.m22(), matrix.m23()
+        );
+    }
+
+    /// Creates a transformation from a translation and rotation.
+    /// @apiNote The rotation quaternion is normalized internally.
+    public static Affine4F64 fromTR(Vector3F64 translation, Quaternion rotation) {
+        return fromTRS(translation, rotation, new Vector3F64(1d, 1d, 1d));
+    }
+
+    /// Creates a transformation from translation, rotation, and scale, equal to {@link Matrix4F64#fromTRS}.
+    /// @apiNote The rotation quaternion is normalized internally.
+    public static Affine4F64 fromTRS(Vector3F64 translation, Quaternion rotation, Vector3F64 scale) {
+
+        final var rot = rotation.normalize();
+
+        final double xs = rot.x() * 2d, ys = rot.y() * 2d, zs = rot.z() * 2d;
+        final double wx = rot.w() * xs, wy = rot.w() * ys, wz = rot.w() * zs;
+        final double xx = rot.x() * xs, xy = rot.x() * ys, xz = rot.x() * zs;
+        final double yy = rot.y() * ys, yz = rot.y() * zs, zz = rot.z() * zs;
+
+        // The scale multiplies the columns, since it's applied before the rotation.
+        final double sx = scale.x(), sy = scale.y(), sz = scale.z();
+        return new Affine4F64(
+                (1d - (yy + zz)) * sx, (xy - wz) * sy       , (xz + wy) * sz       , translation.x(),
+                (xy + wz) * sx       , (1d - (xx + zz)) * sy, (yz - wx) * sz       , translation.y(),
+                (xz - wy) * sx       , (yz + wx) * sy       , (1d - (xx + yy)) * sz, translation.z()
+        );
+    }
+
+    /// @return a pure rotation affine from the quaternion.
+    public static Affine4F64 fromRotation(Quaternion quaternion) {
+        return fromTR(new Vector3F64(0d, 0d, 0d), quaternion);
+    }
+
+    /// @return a pure translation affine.
+    public static Affine4F64 fromTranslation(Vector3F64 translation) {
+        return new Affine4F64(
+                1d, 0d, 0d, translation.x(),
+                0d, 1d, 0d, translation.y(),
+                0d, 0d, 1d, translation.z()
+        );
+    }
+
+    /// @return a pure scaling affine.
+    public static Affine4F64 fromScale(Vector3F64 scale) {
+        return new Affine4F64(
+                scale.x(), 0d, 0d, 0d,
+                0d, scale.y(), 0d, 0d,
+                0d, 0d, scale.z(), 0d
+        );
+    }
+
+    /// @return The total number of bytes required to store this affine.
+    public long byteSize() {
+        return (long) SIZE * Double.BYTES;
+    }
+
+    @Override
+    public Affine4F64 mul(Affine4F64 other) {
+        final double n00 = m00 * other.m00 + m01 * other.m10 + m02 * other.m20;
+        final double n01 = m00 * other.m01 + m01 * other.m11 + m02 * other.m21;
+        final double n02 = m00 * other.m02 + m01 * other.m12 + m02 * other.m22;
+        final double n03 = m00 * other.m03 + m01 * other.m13 + m02 * other.m23 + m03;
+
+        final double n10 = m10 * other.m00 + m11 * other.m10 + m12 * other.m20;
+        final double n11 = m10 * other.m01 + m11 * other.m11 + m12 * other.m21;
+        final double n12 = m10 * other.m02 + m11 * other.m12 + m12 * other.m22;
+        final double n13 = m10 * other.m03 + m11 * other.m13 + m12 * other.m23 + m13;
+
+        final double n20 = m20 * other.m00 + m21 * other.m10 + m22 * other.m20;
+        final double n21 = m20 * other.m01 + m21 * other.m11 + m22 * other.m21;
+        final double n22 = m20 * other.m02 + m21 * other.m12 + m22 * other.m22;
+        final double n23 = m20 * other.m03 + m21 * other.m13 + m22 * other.m23 + m23;
+        return new Affine4F64(
+                n00, n01, n02, n03,
+                n10, n11, n12, n13,
+                n20, n21, n22, n23
+        );
+    }
+
+    @Override
+    public Affine4F64 preMul(Affine4F64 other) {
+        return other.mul(this);
+    }
+
+    @Override
+    public Double determinant() {
+        return m00 * (m11 * m22 - m12 * m21)
+             - m01 * (m10 * m22 - m12 * m20)
+             + m02 * (m10 * m21 - m11 * m20);
+    }
+
+    @Override
+    public boolean isSingular() {
+        return Math.abs(determinant()) < EPSILON;
+    }
+
+    @Override
+    public Affine4F64 invert() {
+
+        final double c00 = m11 * m22 - m12 * m21;
+        final double c01 = m12 * m20 - m10 * m22;
+        final double c02 = m10 * m21 - m11 * m20;
+
+        final double det = m00 * c00 + m01 * c01 + m02 * c02;
+        if (Math.abs(det) < EPSILON) throw new ArithmeticException("The matrix cannot be inverted since singular.");
+        final double invDet = 1d / det;
+
+        // The inverse of the 3x3 part is its adjugate divided by the determinant.
+        final double n00 = c00 * invDet;
+        final double n01 = (m02 * m21 - m01 * m22) * invDet;
+        final double n02 = (m01 * m12 - m02 * m11) * invDet;
+        final double n10 = c01 * invDet;
+        final double n11 = (m00 * m22 - m02 * m20) * invDet;
+        final double n12 = (m02 * m10 - m00 * m12) * invDet;
+        final double n20 = c02 * invDet;
+        final double n21 = (m01 * m20 - m00 * m21) * invDet;
+        final double n22 = (m00 * m11 - m01 * m10) * invDet;
+
+        // Then the translation is rotated back and negated.
+        final double n03 = -(n00 * m03 + n01 * m13 + n02 * m23);
+        final double n13 = -(n10 * m03 + n11 * m13 + n12 * m23);
+        final double n23 = -(n20 * m03 + n21 * m13 + n22 * m23);
+        return new Affine4F64(
+                n00, n01, n02, n03,
+                n10, n11, n12, n13,
+                n20, n21, n22, n23
+        );
+    }
+
+    @Override
+    public Affine4F64 invertRigid() {
+        final double n03 = -(m00 * m03 + m10 * m13 + m20 * m23);
+        final double n13 = -(m01 * m03 + m11 * m13 + m21 * m23);
+        final double n23 = -(m02 * m03 + m12 * m13 + m22 * m23);
+        return new Affine4F64(
+                m00, m10, m20, n03,
+                m01, m11, m21, n13,
+                m02, m12, m22, n23
+        );
+    }
+
+    @Override
+    public Vector3F64 translation() {
+        return new Vector3F64(m03, m13, m23);
+    }
+
+    @Override
+    public Quaternion rotation() {
+        return asMatrix4().rotation();
+    }
+
+    @Override
+    public Vector3F64 scale() {
+        return asMatrix4().scale();
+    }
+
+    @Override
+    public Vector3F64 transform(Vector3F64 vector) {
+        final double x = vector.x() * m00 + vector.y() * m01 + vector.z() * m02 + m03;
+        final double y = vector.x() * m10 + vector.y() * m11 + vector.z() * m12 + m13;
+        final double z = vector.x() * m20 + vector.y() * m21 + vector.z() * m22 + m23;
+        return new Vector3F64(x, y, z);
+    }
+
+    @Override
+    public Vector3F64 rotate(Vector3F64 vector) {
+        final double x = vector.x() * m00 + vector.y() * m01 + vector.z() * m02;
+        final double y = vector.x() * m10 + vector.y() * m11 + vector.z() * m12;
+        final double z = vector.x() * m20 + vector.y() * m21 + vector.z() * m22;
+        return new Vector3F64(x, y, z);
+    }
+
+    @Override
+    public Affine4F64 translate(Vector3F64 translation) {
+        return mul(fromTranslation(translation));
+    }
+
+    @Override
+    public Affine4F64 rotate(Quaternion rotation) {
+        return mul(fromRotation(rotation));
+    }
+
+    @Override
+    public Affine4F64 scale(Vector3F64 scale) {
+        return mul(fromScale(scale));
+    }
+
+    @Override
+    public Matrix4F64 asMatrix4() {
+        return new Matrix4F64(
+                m00, m01, m02, m03,
+                m10, m11, m12, m13,
+                m20, m21, m22, m23,
+                0d, 0d, 0d, 1d
+        );
+    }
+
+    public Affine4F32 asF32() {
+        return new Affine4F32(
+                (float) m00, (float) m01, (float) m02, (float) m03,
+                (float) m10, (float) m11, (float) m12, (float) m13,
+                (float) m20, (float) m21, (float) m22, (float) m23
+        );
+    }
+}
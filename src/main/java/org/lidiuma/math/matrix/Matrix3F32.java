@@ -17,6 +17,7 @@
 package org.lidiuma.math.matrix;
 
 import org.lidiuma.math.rotation.Quaternion;
+import org.lidiuma.math.rotation.QuaternionF32;
 import org.lidiuma.math.rotation.Radians;
 import org.lidiuma.math.vector.v2.Vector2F32;
 import org.lidiuma.math.vector.v3.Vector3F32;
@@ -24,6 +25,7 @@ import jdk.internal.vm.annotation.LooselyConsistentValue;
 import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
 import java.lang.foreign.ValueLayout;
+import java.util.Objects;
 import static org.lidiuma.math.FloatingUtil.EPSILON;
 
 /// @see Matrix3
@@ -35,6 +37,9 @@ public value record Matrix3F32(
         float m20, float m21, float m22
 ) implements Matrix3<Matrix3F32, Float, Vector2F32, Vector3F32> {
 
+    /// Number of matrices packed at once by the bulk copies, so that the scratch array stays small.
+    private static final int BULK_CHUNK = 64;
+
     public static Matrix3F32 identity() {
         return new Matrix3F32(
                 1f, 0f, 0f,
@@ -71,6 +76,51 @@ public value record Matrix3F32(
         );
     }
 
+    /// Copies `count` matrices of `src`, starting at `from`, into the given {@link MemorySegment} starting at the specified logical index,
+    /// with the same result of calling {@link #toMemorySegment(MemorySegment, long)} on each of them.
+    /// @param index the logical index in units of {@link #byteSize()} where copying begins.
+    /// @apiNote The copying is issued using the [column-major](https://en.wikipedia.org/wiki/Row-_and_column-major_order) order.
+    /// @implNote The matrices are packed into a scratch array in chunks, each chunk is then issued with a single {@link MemorySegment#copy}.
+    public static void toMemorySegment(Matrix3F32[] src, int from, int count, MemorySegment dst, long index) {
+        Objects.checkFromIndexSize(from, count, src.length);
+        final float[] scratch = new float[Math.min(count, BULK_CHUNK) * SIZE];
+        for (int done = 0; done < count; ) {
+            final int chunk = Math.min(count - done, BULK_CHUNK);
+            for (int i = 0; i < chunk; i++) {
+                final var m = src[from + done + i];
+                final int base = i * SIZE;
+                scratch[base + M00] = m.m00(); scratch[base + M01] = m.m01(); scratch[base + M02] = m.m02();
+                scratch[base + M10] = m.m10(); scratch[base + M11] = m.m11(); scratch[base + M12] = m.m12();
+                scratch[base + M20] = m.m20(); scratch[base + M21] = m.m21(); scratch[base + M22] = m.m22();
+            }
+            MemorySegment.copy(scratch, 0, dst, ValueLayout.JAVA_FLOAT, (index + done) * SIZE * Float.BYTES, chunk * SIZE);
+            done += chunk;
+        }
+    }
+
+    /// Reads `count` matrices from the given {@link MemorySegment} starting at the specified logical index, into `dst` starting at `from`,
+    /// with the same result of calling {@link #fromMemorySegment(MemorySegment, long)} for each of them.
+    /// @param index the logical index in units of {@link #byteSize()} where copying begins.
+    /// @apiNote The memory segment must be stored in [column-major](https://en.wikipedia.org/wiki/Row-_and_column-major_order) order.
+    /// @implNote Each chunk of matrices is issued with a single {@link MemorySegment#copy} into a scratch array, which is then unpacked.
+    public static void fromMemorySegment(MemorySegment src, long index, Matrix3F32[] dst, int from, int count) {
+        Objects.checkFromIndexSize(from, count, dst.length);
+        final float[] scratch = new float[Math.min(count, BULK_CHUNK) * SIZE];
+        for (int done = 0; done < count; ) {
+            final int chunk = Math.min(count - done, BULK_CHUNK);
+            MemorySegment.copy(src, ValueLayout.JAVA_FLOAT, (index + done) * SIZE * Float.BYTES, scratch, 0, chunk * SIZE);
+            for (int i = 0; i < chunk; i++) {
+                final int base = i * SIZE;
+                dst[from + done + i] = new Matrix3F32(
+                        scratch[base + M00], scratch[base + M01], scratch[base + M02],
+                        scratch[base + M10], scratch[base + M11], scratch[base + M12],
+                        scratch[base + M20], scratch[base + M21], scratch[base + M22]
+                );
+            }
+            done += chunk;
+        }
+    }
+
     /// @return creates an identity matrix having the 3rd column set to the translation vector.
     public static Matrix3F32 fromTranslation(Vector2F32 translation) {
         final float x = translation.x();
@@ -113,6 +163,23 @@ public value record Matrix3F32(
         );
     }
 
+    /// Single precision version of {@link #fromRotation(Quaternion)}, which never widens to `double`.
+    public static Matrix3F32 fromRotation(QuaternionF32 rotation) {
+
+        final var rot = rotation.normalize();
+
+        final float xs = rot.x() * 2f, ys = rot.y() * 2f, zs = rot.z() * 2f;
+        final float wx = rot.w() * xs, wy = rot.w() * ys, wz = rot.w() * zs;
+        final float xx = rot.x() * xs, xy = rot.x() * ys, xz = rot.x() * zs;
+        final float yy = rot.y() * ys, yz = rot.y() * zs, zz = rot.z() * zs;
+
+        return new Matrix3F32(
+                1f - (yy + zz), xy - wz       , xz + wy,
+                xy + wz       , 1f - (xx + zz), yz - wx,
+                xz - wy       , yz + wx       , 1f - (xx + yy)
+        );
+    }
+
     /// @return a new pure scaling matrix.
     public static Matrix3F32 fromScale(Vector2F32 scale) {
         final float x = scale.x();
@@ -153,6 +220,16 @@ public value record Matrix3F32(
         return fromTranslation(translation).mul(rotScl);
     }
 
+    /// Single precision version of {@link #fromTRS(Vector2F32, Quaternion, Vector2F32)}.
+    /// @return The transformation matrix.
+    /// @apiNote The rotation quaternion is normalized internally.
+    public static Matrix3F32 fromTRS(Vector2F32 translation, QuaternionF32 rotation, Vector2F32 scale) {
+        final var rot = fromRotation(rotation);
+        final var scl = fromScale(scale);
+        final var rotScl = rot.mul(scl);
+        return fromTranslation(translation).mul(rotScl);
+    }
+
     /// Creates a new matrix using the top-left 3x3 of the matrix4.
     public static Matrix3F32 fromMatrix4(Matrix4F32 matrix) {
         return new Matrix3F32(
@@ -298,6 +375,11 @@ public value record Matrix3F32(
         return mul(fromRotation(quaternion));
     }
 
+    /// @see #rotate(Quaternion)
+    public Matrix3F32 rotate(QuaternionF32 quaternion) {
+        return mul(fromRotation(quaternion));
+    }
+
     @Override
     public Vector3F32 unrotate(Vector3F32 vector) {
         return transpose().transform(vector);
@@ -24,6 +24,7 @@ import jdk.internal.vm.annotation.LooselyConsistentValue;
 import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
 import java.lang.foreign.ValueLayout;
+import java.util.Objects;
 import static org.lidiuma.math.FloatingUtil.EPSILON;
 
 /// @see Matrix3
@@ -34,6 +35,9 @@ public value record Matrix3F64(
         double m20, double m21, double m22
 ) implements Matrix3<Matrix3F64, Double, Vector2F64, Vector3F64> {
 
+    /// Number of matrices packed at once by the bulk copies, so that the scratch array stays small.
+    private static final int BULK_CHUNK = 64;
+
     public static Matrix3F64 identity() {
         return new Matrix3F64(
                 1d, 0d, 0d,
@@ -70,6 +74,51 @@ public value record Matrix3F64(
         );
     }
 
+    /// Copies `count` matrices of `src`, starting at `from`, into the given {@link MemorySegment} starting at the specified logical index,
+    /// with the same result of calling {@link #toMemorySegment(MemorySegment, long)} on each of them.
+    /// @param index the logical index in units of {@link #byteSize()} where copying begins.
+    /// @apiNote The copying is issued using the [column-major](https://en.wikipedia.org/wiki/Row-_and_column-major_order) order.
+    /// @implNote The matrices are packed into a scratch array in chunks, each chunk is then issued with a single {@link MemorySegment#copy}.
+    public static void toMemorySegment(Matrix3F64[] src, int from, int count, MemorySegment dst, long index) {
+        Objects.checkFromIndexSize(from, count, src.length);
+        final double[] scratch = new double[Math.min(count, BULK_CHUNK) * SIZE];
+        for (int done = 0; done < count; ) {
+            final int chunk = Math.min(count - done, BULK_CHUNK);
+            for (int i = 0; i < chunk; i++) {
+                final var m = src[from + done + i];
+                final int base = i * SIZE;
+                scratch[base + M00] = m.m00(); scratch[base + M01] = m.m01(); scratch[base + M02] = m.m02();
+                scratch[base + M10] = m.m10(); scratch[base + M11] = m.m11(); scratch[base + M12] = m.m12();
+                scratch[base + M20] = m.m20(); scratch[base + M21] = m.m21(); scratch[base + M22] = m.m22();
+            }
+            MemorySegment.copy(scratch, 0, dst, ValueLayout.JAVA_DOUBLE, (index + done) * SIZE * Double.BYTES, chunk * SIZE);
+            done += chunk;
+        }
+    }
+
+    /// Reads `count` matrices from the given {@link MemorySegment} starting at the specified logical index, into `dst` starting at `from`,
+    /// with the same result of calling {@link #fromMemorySegment(MemorySegment, long)} for each of them.
+    /// @param index the logical index in units of {@link #byteSize()} where copying begins.
+    /// @apiNote The memory segment must be stored in [column-major](https://en.wikipedia.org/wiki/Row-_and_column-major_order) order.
+    /// @implNote Each chunk of matrices is issued with a single {@link MemorySegment#copy} into a scratch array, which is then unpacked.
+    public static void fromMemorySegment(MemorySegment src, long index, Matrix3F64[] dst, int from, int count) {
+        Objects.checkFromIndexSize(from, count, dst.length);
+        final double[] scratch = new double[Math.min(count, BULK_CHUNK) * SIZE];
+        for (int done = 0; done < count; ) {
+            final int chunk = Math.min(count - done, BULK_CHUNK);
+            MemorySegment.copy(src, ValueLayout.JAVA_DOUBLE, (index + done) * SIZE * Double.BYTES, scratch, 0, chunk * SIZE);
+            for (int i = 0; i < chunk; i++) {
+                final int base = i * SIZE;
+                dst[from + done + i] = new Matrix3F64(
+                        scratch[base + M00], scratch[base + M01], scratch[base + M02],
+                        scratch[base + M10], scratch[base + M11], scratch[base + M12],
+                        scratch[base + M20], scratch[base + M21], scratch[base + M22]
+                );
+            }
+            done += chunk;
+        }
+    }
+
     /// @return creates an identity matrix having the 3rd column set to the translation vector.
     public static Matrix3F64 fromTranslation(Vector2F64 translation) {
         final double x = translation.x();
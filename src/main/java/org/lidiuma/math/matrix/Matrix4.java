@@ -22,6 +22,8 @@ import org.lidiuma.math.vector.v3.Vector3;
 
 /// Immutable Matrix4x4 always using post-multiplication.
 /// Internal indexing is row-major, while external raw output is column-major.
+///
+/// The multiplication, inversion, and vector transformations use SIMD when {@link org.lidiuma.math.SimdUtil#AVAILABLE} is true.
 @SuppressWarnings("unused")
 public interface Matrix4<M extends Matrix4<M, N, V>, N, V extends Vector3<V, N>> extends Matrix<M, N> {
 
@@ -63,6 +65,24 @@ public interface Matrix4<M extends Matrix4<M, N, V>, N, V extends Vector3<V, N>>
     /// @return a new matrix representing the average transform of the input matrices.
     M average(M[] matrices, N[] weights);
 
+    /// Inverts this matrix assuming it is a rotation plus a translation, using the transposed rotation.
+    /// @throws IllegalArgumentException if the matrix is not {@link TransformKind#RIGID}.
+    M invertRigid() throws IllegalArgumentException;
+
+    /// Inverts this matrix assuming the last row is `[0, 0, 0, 1]`, inverting only the 3x3 part.
+    /// @throws IllegalArgumentException if the matrix is {@link TransformKind#GENERAL}.
+    /// @throws ArithmeticException if the matrix cannot be inverted because it is singular.
+    M invertAffine() throws IllegalArgumentException, ArithmeticException;
+
+    /// @return the most restrictive kind of this matrix.
+    /// @apiNote The last row must be exactly `[0, 0, 0, 1]` for the matrix to be affine,
+    /// while the rotation of a rigid matrix may carry the rounding errors of its construction.
+    TransformKind classify();
+
+    /// Inverts this matrix using the cheapest inverse that is valid for its {@link #classify()} kind.
+    /// @throws ArithmeticException if the matrix cannot be inverted because it is singular.
+    M invertClassified() throws ArithmeticException;
+
     /// @return the translation part of this matrix.
     V translation();
 
@@ -75,8 +95,6 @@ public interface Matrix4<M extends Matrix4<M, N, V>, N, V extends Vector3<V, N>>
     /// @return the 3x3 part of this matrix as a matrix3.
     Matrix3<?, N, ?, V> asMatrix3();
 
-    // TODO Consider SIMD versions of mulVec(), project(), and rotateVec()?
-
     /// Transforms a 3D position vector using the affine part of this matrix.
     /// @return the transformed vector.
     V transform(V vector);
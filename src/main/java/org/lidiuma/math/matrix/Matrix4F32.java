@@ -16,14 +16,18 @@
 
 package org.lidiuma.math.matrix;
 
+import org.lidiuma.math.SimdUtil;
 import org.lidiuma.math.rotation.Quaternion;
+import org.lidiuma.math.rotation.QuaternionF32;
 import org.lidiuma.math.rotation.Radians;
 import org.lidiuma.math.vector.v2.Vector2F32;
 import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F32Buffer;
 import jdk.internal.vm.annotation.LooselyConsistentValue;
 import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
 import java.lang.foreign.ValueLayout;
+import java.util.Objects;
 import static org.lidiuma.math.FloatingUtil.EPSILON;
 
 /// @see Matrix4
@@ -42,6 +46,11 @@ public value record Matrix4F32(
     public static final int M20 = 2, M21 = 6, M22 = 10, M23 = 14;
     public static final int M30 = 3, M31 = 7, M32 = 11, M33 = 15;
 
+    /// Tolerance of the rotation check of {@link #classify()}, accepting the rounding errors of a rotation built in `float`.
+    private static final float CLASSIFY_EPSILON = 1e-5f;
+    /// Number of matrices packed at once by the bulk copies, so that the scratch array stays small.
+    private static final int BULK_CHUNK = 64;
+
     public static Matrix4F32 identity() {
         return new Matrix4F32(
                 1f, 0f, 0f, 0f,
@@ -89,6 +98,53 @@ public value record Matrix4F32(
         );
     }
 
+    /// Copies `count` matrices of `src`, starting at `from`, into the given {@link MemorySegment} starting at the specified logical index,
+    /// with the same result of calling {@link #toMemorySegment(MemorySegment, long)} on each of them.
+    /// @param index the logical index in units of {@link #byteSize()} where copying begins.
+    /// @apiNote The copying is issued using the [column-major](https://en.wikipedia.org/wiki/Row-_and_column-major_order) order.
+    /// @implNote The matrices are packed into a scratch array in chunks, each chunk is then issued with a single {@link MemorySegment#copy}.
+    public static void toMemorySegment(Matrix4F32[] src, int from, int count, MemorySegment dst, long index) {
+        Objects.checkFromIndexSize(from, count, src.length);
+        final float[] scratch = new float[Math.min(count, BULK_CHUNK) * SIZE];
+        for (int done = 0; done < count; ) {
+            final int chunk = Math.min(count - done, BULK_CHUNK);
+            for (int i = 0; i < chunk; i++) {
+                final var m = src[from + done + i];
+                final int base = i * SIZE;
+                scratch[base + M00] = m.m00(); scratch[base + M01] = m.m01(); scratch[base + M02] = m.m02(); scratch[base + M03] = m.m03();
+                scratch[base + M10] = m.m10(); scratch[base + M11] = m.m11(); scratch[base + M12] = m.m12(); scratch[base + M13] = m.m13();
+                scratch[base + M20] = m.m20(); scratch[base + M21] = m.m21(); scratch[base + M22] = m.m22(); scratch[base + M23] = m.m23();
+                scratch[base + M30] = m.m30(); scratch[base + M31] = m.m31(); scratch[base + M32] = m.m32(); scratch[base + M33] = m.m33();
+            }
+            MemorySegment.copy(scratch, 0, dst, ValueLayout.JAVA_FLOAT, (index + done) * SIZE * Float.BYTES, chunk * SIZE);
+            done += chunk;
+        }
+    }
+
+    /// Reads `count` matrices from the given {@link MemorySegment} starting at the specified logical index, into `dst` starting at `from`,
+    /// with the same result of calling {@link #fromMemorySegment(MemorySegment, long)} for each of them.
+    /// @param index the logical index in units of {@link #byteSize()} where copying begins.
+    /// @apiNote The memory segment must be stored in [column-major](https://en.wikipedia.org/wiki/Row-_and_column-major_order) order.
+    /// @implNote Each chunk of matrices is issued with a single {@link MemorySegment#copy} into a scratch array, which is then unpacked.
+    public static void fromMemorySegment(MemorySegment src, long index, Matrix4F32[] dst, int from, int count) {
+        Objects.checkFromIndexSize(from, count, dst.length);
+        final float[] scratch = new float[Math.min(count, BULK_CHUNK) * SIZE];
+        for (int done = 0; done < count; ) {
+            final int chunk = Math.min(count - done, BULK_CHUNK);
+            MemorySegment.copy(src, ValueLayout.JAVA_FLOAT, (index + done) * SIZE * Float.BYTES, scratch, 0, chunk * SIZE);
+            for (int i = 0; i < chunk; i++) {
+                final int base = i * SIZE;
+                dst[from + done + i] = new Matrix4F32(
+                        scratch[base + M00], scratch[base + M01], scratch[base + M02], scratch[base + M03],
+                        scratch[base + M10], scratch[base + M11], scratch[base + M12], scratch[base + M13],
+                        scratch[base + M20], scratch[base + M21], scratch[base + M22], scratch[base + M23],
+                        scratch[base + M30], scratch[base + M31], scratch[base + M32], scratch[base + M33]
+                );
+            }
+            done += chunk;
+        }
+    }
+
     /// Creates a transformation matrix from a translation and rotation.
     /// @return The transformation matrix.
     /// @apiNote The rotation quaternion is normalized internally.
@@ -113,10 +169,30 @@ public value record Matrix4F32(
         );
     }
 
+    /// Single precision version of {@link #fromTR(Vector3F32, Quaternion)}, which never widens to `double`.
+    /// @return The transformation matrix.
+    /// @apiNote The rotation quaternion is normalized internally.
+    public static Matrix4F32 fromTR(Vector3F32 translation, QuaternionF32 rotation) {
+
+        final var rot = rotation.normalize();
+
+        final float xs = rot.x() * 2f, ys = rot.y() * 2f, zs = rot.z() * 2f;
+        final float wx = rot.w() * xs, wy = rot.w() * ys, wz = rot.w() * zs;
+        final float xx = rot.x() * xs, xy = rot.x() * ys, xz = rot.x() * zs;
+        final float yy = rot.y() * ys, yz = rot.y() * zs, zz = rot.z() * zs;
+
+        return new Matrix4F32(
+                1f - (yy + zz), xy - wz       , xz + wy       , translation.x(),
+                xy + wz       , 1f - (xx + zz), yz - wx       , translation.y(),
+                xz - wy       , yz + wx       , 1f - (xx + yy), translation.z(),
+                0f            , 0f            , 0f            , 1f
+        );
+    }
+
     /// @return a new rotation matrix around the given axis.
     public static Matrix4F32 fromAxisAngle(Vector3F32 axis, Radians angle) {
         if (angle.value() == 0) return identity();
-        final var quat = Quaternion.fromAxisAngle(axis.asF64(), angle);
+        final var quat = QuaternionF32.fromAxisAngle(axis, angle);
         return fromRotation(quat);
     }
 
@@ -125,15 +201,20 @@ public value record Matrix4F32(
         return fromTR(new Vector3F32(0f, 0f, 0f), quaternion);
     }
 
+    /// @return a pure rotation matrix from the quaternion.
+    public static Matrix4F32 fromRotation(QuaternionF32 quaternion) {
+        return fromTR(new Vector3F32(0f, 0f, 0f), quaternion);
+    }
+
     /// @return a new rotation matrix that aligns `v1` direction with `v2` direction.
     public static Matrix4F32 fromRotationBetween(Vector3F32 v1, Vector3F32 v2) {
-        final var quat = Quaternion.fromRotationBetween(v1.asF64(), v2.asF64());
+        final var quat = QuaternionF32.fromRotationBetween(v1, v2);
         return fromRotation(quat);
     }
 
     /// @return a new rotation matrix from the given Euler angles.
     public static Matrix4F32 fromEulerAngles(Radians yaw, Radians pitch, Radians roll) {
-        final var quat = Quaternion.fromEulerAngles(yaw, pitch, roll);
+        final var quat = QuaternionF32.fromEulerAngles(yaw, pitch, roll);
         return fromRotation(quat);
     }
 
@@ -144,6 +225,13 @@ public value record Matrix4F32(
         return fromTR(translation, rotation).scale(scale);
     }
 
+    /// Single precision version of {@link #fromTRS(Vector3F32, Quaternion, Vector3F32)}.
+    /// @return The transformation matrix.
+    /// @apiNote The rotation quaternion is normalized internally.
+    public static Matrix4F32 fromTRS(Vector3F32 translation, QuaternionF32 rotation, Vector3F32 scale) {
+        return fromTR(translation, rotation).scale(scale);
+    }
+
     /// Creates a matrix from three axes and a translation vector.
     /// @return a matrix representing the given axes and translation.
     /// @apiNote
@@ -312,7 +400,7 @@ public value record Matrix4F32(
     public static Matrix4F32 fromLookAt(Vector3F32 position, Vector3F32 target, Vector3F32 up) {
         final var direction = target.sub(position);
         final Matrix4F32 rotation = fromLookRotation(direction, up);
-        final Matrix4F32 translation = fromTranslation(position.mul(-1f));
+        final Matrix4F32 translation = fromTranslation(position.mulF(-1f));
         return rotation.mul(translation);
     }
 
@@ -320,7 +408,7 @@ public value record Matrix4F32(
         final var f = forward.normalize();     // forward
         final var r = f.cross(up).normalize(); // right
         final var u = r.cross(f).normalize();  // true Up
-        return fromAxes(r, u, f.mul(-1f), position);
+        return fromAxes(r, u, f.mulF(-1f), position);
     }
 
     /// Creates a new Matrix from the 3x3 matrix, with the missing elements copied from the identity matrix.
@@ -370,6 +458,12 @@ public value record Matrix4F32(
 
     @Override
     public Matrix4F32 mul(Matrix4F32 other) {
+        if (SimdUtil.AVAILABLE) return Matrix4F32Simd.mul(this, other);
+        return scalarMul(other);
+    }
+
+    /// Scalar version of {@link #mul(Matrix4F32)}, used when SIMD is not available and as its reference.
+    Matrix4F32 scalarMul(Matrix4F32 other) {
         final float n00 = m00 * other.m00 + m01 * other.m10 + m02 * other.m20 + m03 * other.m30;
         final float n01 = m00 * other.m01 + m01 * other.m11 + m02 * other.m21 + m03 * other.m31;
         final float n02 = m00 * other.m02 + m01 * other.m12 + m02 * other.m22 + m03 * other.m32;
@@ -432,6 +526,12 @@ public value record Matrix4F32(
 
     @Override
     public Matrix4F32 invert() {
+        if (SimdUtil.AVAILABLE) return Matrix4F32Simd.invert(this);
+        return scalarInvert();
+    }
+
+    /// Scalar version of {@link #invert()}, used when SIMD is not available and as its reference.
+    Matrix4F32 scalarInvert() {
 
         final float det = determinant();
         if (Math.abs(det) < EPSILON) throw new ArithmeticException("The matrix cannot be inverted since singular.");
@@ -463,6 +563,58 @@ public value record Matrix4F32(
         );
     }
 
+    @Override
+    public Matrix4F32 invertRigid() {
+        if (classify() != TransformKind.RIGID) {
+            throw new IllegalArgumentException("The matrix is not rigid, use invertAffine() or invert().");
+        }
+        return affine().invertRigid().asMatrix4();
+    }
+
+    @Override
+    public Matrix4F32 invertAffine() {
+        if (classify() == TransformKind.GENERAL) {
+            throw new IllegalArgumentException("The matrix is not affine, use invert().");
+        }
+        return affine().invert().asMatrix4();
+    }
+
+    @Override
+    public TransformKind classify() {
+        // The affine inverses drop the last row, so it must be exact, like in `Affine4F32.fromMatrix4`.
+        if (m30 != 0 || m31 != 0 || m32 != 0 || m33 != 1) {
+            return TransformKind.GENERAL;
+        }
+        // The rows of a rotation are unit vectors, orthogonal to each other.
+        final float len0 = m00 * m00 + m01 * m01 + m02 * m02;
+        final float len1 = m10 * m10 + m11 * m11 + m12 * m12;
+        final float len2 = m20 * m20 + m21 * m21 + m22 * m22;
+        final float dot01 = m00 * m10 + m01 * m11 + m02 * m12;
+        final float dot02 = m00 * m20 + m01 * m21 + m02 * m22;
+        final float dot12 = m10 * m20 + m11 * m21 + m12 * m22;
+        final boolean unit = Math.abs(len0 - 1) <= CLASSIFY_EPSILON && Math.abs(len1 - 1) <= CLASSIFY_EPSILON && Math.abs(len2 - 1) <= CLASSIFY_EPSILON;
+        final boolean orthogonal = Math.abs(dot01) <= CLASSIFY_EPSILON && Math.abs(dot02) <= CLASSIFY_EPSILON && Math.abs(dot12) <= CLASSIFY_EPSILON;
+        return unit && orthogonal ? TransformKind.RIGID : TransformKind.AFFINE;
+    }
+
+    @Override
+    public Matrix4F32 invertClassified() {
+        return switch (classify()) {
+            case RIGID -> affine().invertRigid().asMatrix4();
+            case AFFINE -> affine().invert().asMatrix4();
+            case GENERAL -> invert();
+        };
+    }
+
+    /// @return the top 3 rows as an affine, without checking the last row.
+    private Affine4F32 affine() {
+        return new Affine4F32(
+                m00, m01, m02, m03,
+                m10, m11, m12, m13,
+                m20, m21, m22, m23
+        );
+    }
+
     @Override
     public Matrix4F32 lerp(Matrix4F32 other, Float alpha) {
         final float invAlpha = 1f - alpha;
@@ -501,44 +653,51 @@ public value record Matrix4F32(
         return fromTRS(translation, rotation, scaling);
     }
 
+    /// @implNote The rotations are averaged with {@link QuaternionF32#average(QuaternionF32[])}, so the result does not depend on the order of the matrices.
     @Override
     public Matrix4F32 average(Matrix4F32[] matrices) {
 
         final float weight = 1f / matrices.length;
 
-        var scale = matrices[0].scale().mul(weight);
-        var rot = matrices[0].rotation().pow(weight);
-        var tran = matrices[0].translation().mul(weight);
+        var scale = matrices[0].scale().mulF(weight);
+        var tran = matrices[0].translation().mulF(weight);
+        final var rotations = new QuaternionF32[matrices.length];
+        rotations[0] = matrices[0].rotationF32();
 
         for (int i = 1; i < matrices.length; i++) {
 
             final var matrix = matrices[i];
 
-            scale = scale.add(matrix.scale().mul(weight));
-            rot = rot.mul(matrix.rotation().pow(weight));
-            tran = tran.add(matrix.translation().mul(weight));
+            scale = scale.add(matrix.scale().mulF(weight));
+            rotations[i] = matrix.rotationF32();
+            tran = tran.add(matrix.translation().mulF(weight));
         }
-        return fromTRS(tran, rot, scale); // The rotations gets normalized internally.
+        return fromTRS(tran, QuaternionF32.average(rotations), scale);
     }
 
+    /// @implNote The rotations are averaged with {@link QuaternionF32#average(QuaternionF32[], float[])}, so the result does not depend on the order of the matrices.
     @Override
     public Matrix4F32 average(Matrix4F32[] matrices, Float[] weights) {
 
         if (matrices.length != weights.length) throw new IllegalArgumentException("The matrices and weights must have the same length.");
 
-        var scale = matrices[0].scale().mul(weights[0]);
-        var rot = matrices[0].rotation().pow(weights[0]);
-        var tran = matrices[0].translation().mul(weights[0]);
+        var scale = matrices[0].scale().mulF(weights[0]);
+        var tran = matrices[0].translation().mulF(weights[0]);
+        final var rotations = new QuaternionF32[matrices.length];
+        final float[] rotationWeights = new float[matrices.length];
+        rotations[0] = matrices[0].rotationF32();
+        rotationWeights[0] = weights[0];
 
         for (int i = 1; i < matrices.length; i++) {
 
             final var matrix = matrices[i];
 
-            scale = scale.add(matrix.scale().mul(weights[i]));
-            rot = rot.mul(matrix.rotation().pow(weights[i]));
-            tran = tran.add(matrix.translation().mul(weights[i]));
+            scale = scale.add(matrix.scale().mulF(weights[i]));
+            rotations[i] = matrix.rotationF32();
+            rotationWeights[i] = weights[i];
+            tran = tran.add(matrix.translation().mulF(weights[i]));
         }
-        return fromTRS(tran, rot, scale); // The rotations gets normalized internally.
+        return fromTRS(tran, QuaternionF32.average(rotations, rotationWeights), scale);
     }
 
     @Override
@@ -551,6 +710,11 @@ public value record Matrix4F32(
         return Quaternion.fromMatrix4(asF64());
     }
 
+    /// Single precision version of {@link #rotation()}, which does not widen the matrix to `double`.
+    public QuaternionF32 rotationF32() {
+        return QuaternionF32.fromMatrix4(this);
+    }
+
     @Override
     public Vector3F32 scale() {
         final float x = (float) Math.sqrt(m00 * m00 + m01 * m01 + m02 * m02);
@@ -602,6 +766,12 @@ public value record Matrix4F32(
         return segment;
     }
 
+    /// @return this matrix as an {@link Affine4F32}.
+    /// @throws IllegalArgumentException if the last row is not `[0, 0, 0, 1]`, since the conversion would be lossy.
+    public Affine4F32 asAffine() {
+        return Affine4F32.fromMatrix4(this);
+    }
+
     @Override
     public Matrix3F32 asMatrix3() {
         return Matrix3F32.fromMatrix4(this);
@@ -609,6 +779,12 @@ public value record Matrix4F32(
 
     @Override
     public Vector3F32 transform(Vector3F32 vector) {
+        if (SimdUtil.AVAILABLE) return Matrix4F32Simd.transform(this, vector);
+        return scalarTransform(vector);
+    }
+
+    /// Scalar version of {@link #transform(Vector3F32)}, used when SIMD is not available and as its reference.
+    Vector3F32 scalarTransform(Vector3F32 vector) {
         return asMatrix3()
                 .transform(vector)
                 .add(new Vector3F32(m03, m13, m23));
@@ -629,6 +805,11 @@ public value record Matrix4F32(
         return mul(fromRotation(rotation));
     }
 
+    /// @see #rotate(Quaternion)
+    public Matrix4F32 rotate(QuaternionF32 rotation) {
+        return mul(fromRotation(rotation));
+    }
+
     @Override
     public Matrix4F32 rotateBetween(Vector3F32 v1, Vector3F32 v2) {
         return mul(fromRotationBetween(v1, v2));
@@ -646,12 +827,24 @@ public value record Matrix4F32(
 
     @Override
     public Vector3F32 project(Vector3F32 vector) {
+        if (SimdUtil.AVAILABLE) return Matrix4F32Simd.project(this, vector);
+        return scalarProject(vector);
+    }
+
+    /// Scalar version of {@link #project(Vector3F32)}, used when SIMD is not available and as its reference.
+    Vector3F32 scalarProject(Vector3F32 vector) {
         final float invW = 1f / (vector.x() * m30() + vector.y() * m31() + vector.z() * m32() + m33());
-        return transform(vector).mul(invW);
+        return scalarTransform(vector).mulF(invW);
     }
 
     @Override
     public Vector3F32 rotate(Vector3F32 vector) {
+        if (SimdUtil.AVAILABLE) return Matrix4F32Simd.rotate(this, vector);
+        return scalarRotate(vector);
+    }
+
+    /// Scalar version of {@link #rotate(Vector3F32)}, used when SIMD is not available and as its reference.
+    Vector3F32 scalarRotate(Vector3F32 vector) {
         return asMatrix3().transform(vector);
     }
 
@@ -673,6 +866,118 @@ public value record Matrix4F32(
         out[2] = m20; out[5] = m21; out[8] = m22; out[11] = m23;
     }
 
+    /* ===== Batch ===== */
+
+    /// Transforms `count` packed positions like {@link #transform(Vector3F32)}, without creating any vector.\
+    /// The `i`-th position is read as `x, y, z` from `src` at the float index `srcOffset + i * srcStride`,
+    /// and written to `dst` at the float index `dstOffset + i * dstStride`.
+    /// @apiNote `src` and `dst` can be the same memory, to transform in place.
+    /// @throws IllegalArgumentException if a stride is less than 3, or the count is negative.
+    public void transformAll(MemorySegment src, long srcOffset, long srcStride,
+                             MemorySegment dst, long dstOffset, long dstStride, long count) {
+        batch(src, srcOffset, srcStride, dst, dstOffset, dstStride, count, true, false);
+    }
+
+    /// Projects `count` packed positions like {@link #project(Vector3F32)}, with the same layout of
+    /// {@link #transformAll(MemorySegment, long, long, MemorySegment, long, long, long)}.
+    public void projectAll(MemorySegment src, long srcOffset, long srcStride,
+                           MemorySegment dst, long dstOffset, long dstStride, long count) {
+        batch(src, srcOffset, srcStride, dst, dstOffset, dstStride, count, true, true);
+    }
+
+    /// Rotates `count` packed directions like {@link #rotate(Vector3F32)}, with the same layout of
+    /// {@link #transformAll(MemorySegment, long, long, MemorySegment, long, long, long)}.
+    public void rotateAll(MemorySegment src, long srcOffset, long srcStride,
+                          MemorySegment dst, long dstOffset, long dstStride, long count) {
+        batch(src, srcOffset, srcStride, dst, dstOffset, dstStride, count, false, false);
+    }
+
+    /// @see #transformAll(MemorySegment, long, long, MemorySegment, long, long, long)
+    public void transformAll(float[] src, int srcOffset, int srcStride, float[] dst, int dstOffset, int dstStride, int count) {
+        transformAll(MemorySegment.ofArray(src), srcOffset, srcStride, MemorySegment.ofArray(dst), dstOffset, dstStride, count);
+    }
+
+    /// @see #projectAll(MemorySegment, long, long, MemorySegment, long, long, long)
+    public void projectAll(float[] src, int srcOffset, int srcStride, float[] dst, int dstOffset, int dstStride, int count) {
+        projectAll(MemorySegment.ofArray(src), srcOffset, srcStride, MemorySegment.ofArray(dst), dstOffset, dstStride, count);
+    }
+
+    /// @see #rotateAll(MemorySegment, long, long, MemorySegment, long, long, long)
+    public void rotateAll(float[] src, int srcOffset, int srcStride, float[] dst, int dstOffset, int dstStride, int count) {
+        rotateAll(MemorySegment.ofArray(src), srcOffset, srcStride, MemorySegment.ofArray(dst), dstOffset, dstStride, count);
+    }
+
+    /// Transforms the range `[from, from + count)` of `src` like {@link #transform(Vector3F32)}, writing it at the same indices of `dst`.
+    /// @apiNote `src` and `dst` can be the same buffer, to transform in place.
+    /// @implNote Uses SIMD when {@link SimdUtil#AVAILABLE} is true, transforming as many vectors per iteration as the preferred species holds.
+    public void transformAll(Vector3F32Buffer src, Vector3F32Buffer dst, long from, long count) {
+        batch(src, dst, from, count, true, false);
+    }
+
+    /// Projects the range `[from, from + count)` of `src` like {@link #project(Vector3F32)}, writing it at the same indices of `dst`.
+    /// @see #transformAll(Vector3F32Buffer, Vector3F32Buffer, long, long)
+    public void projectAll(Vector3F32Buffer src, Vector3F32Buffer dst, long from, long count) {
+        batch(src, dst, from, count, true, true);
+    }
+
+    /// Rotates the range `[from, from + count)` of `src` like {@link #rotate(Vector3F32)}, writing it at the same indices of `dst`.
+    /// @see #transformAll(Vector3F32Buffer, Vector3F32Buffer, long, long)
+    public void rotateAll(Vector3F32Buffer src, Vector3F32Buffer dst, long from, long count) {
+        batch(src, dst, from, count, false, false);
+    }
+
+    private void batch(MemorySegment src, long srcOffset, long srcStride,
+                       MemorySegment dst, long dstOffset, long dstStride,
+                       long count, boolean translate, boolean project) {
+        if (srcStride < 3 || dstStride < 3) throw new IllegalArgumentException("The stride must be of at least 3 components.");
+        if (count < 0) throw new IllegalArgumentException("The count cannot be negative.");
+        final var layout = ValueLayout.JAVA_FLOAT;
+        for (long i = 0; i < count; i++) {
+            final long s = srcOffset + i * srcStride;
+            final long d = dstOffset + i * dstStride;
+            // I read every component before writing, so that in-place transformations are safe.
+            final float x = src.getAtIndex(layout, s);
+            final float y = src.getAtIndex(layout, s + 1);
+            final float z = src.getAtIndex(layout, s + 2);
+            final float invW = project ? 1f / (x * m30 + y * m31 + z * m32 + m33) : 1f;
+            final float tx = translate ? m03 : 0f;
+            final float ty = translate ? m13 : 0f;
+            final float tz = translate ? m23 : 0f;
+            dst.setAtIndex(layout, d, (x * m00 + y * m01 + z * m02 + tx) * invW);
+            dst.setAtIndex(layout, d + 1, (x * m10 + y * m11 + z * m12 + ty) * invW);
+            dst.setAtIndex(layout, d + 2, (x * m20 + y * m21 + z * m22 + tz) * invW);
+        }
+    }
+
+    private void batch(Vector3F32Buffer src, Vector3F32Buffer dst, long from, long count, boolean translate, boolean project) {
+        Objects.checkFromIndexSize(from, count, src.capacity());
+        Objects.checkFromIndexSize(from, count, dst.capacity());
+        if (SimdUtil.AVAILABLE) {
+            Matrix4F32Simd.batch(this, src, dst, from, count, translate, project);
+            return;
+        }
+        scalarBatch(src, dst, from, from + count, translate, project);
+    }
+
+    /// Scalar version of the buffer batches, used when SIMD is not available and for the tail of the SIMD loop.
+    void scalarBatch(Vector3F32Buffer src, Vector3F32Buffer dst, long from, long end, boolean translate, boolean project) {
+        final var layout = ValueLayout.JAVA_FLOAT;
+        final var sx = src.x(); final var sy = src.y(); final var sz = src.z();
+        final var dx = dst.x(); final var dy = dst.y(); final var dz = dst.z();
+        for (long i = from; i < end; i++) {
+            final float x = sx.getAtIndex(layout, i);
+            final float y = sy.getAtIndex(layout, i);
+            final float z = sz.getAtIndex(layout, i);
+            final float invW = project ? 1f / (x * m30 + y * m31 + z * m32 + m33) : 1f;
+            final float tx = translate ? m03 : 0f;
+            final float ty = translate ? m13 : 0f;
+            final float tz = translate ? m23 : 0f;
+            dx.setAtIndex(layout, i, (x * m00 + y * m01 + z * m02 + tx) * invW);
+            dy.setAtIndex(layout, i, (x * m10 + y * m11 + z * m12 + ty) * invW);
+            dz.setAtIndex(layout, i, (x * m20 + y * m21 + z * m22 + tz) * invW);
+        }
+    }
+
     public Matrix4F64 asF64() {
         return new Matrix4F64(
                 m00, m01, m02, m03,
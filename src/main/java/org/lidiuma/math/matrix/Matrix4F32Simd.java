@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.matrix;
+
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F32Buffer;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+import java.nio.ByteOrder;
+import static org.lidiuma.math.FloatingUtil.EPSILON;
+
+/// SIMD version of the {@link Matrix4F32} hot paths, each matrix row or column fits in a single 128-bit vector.
+/// @implNote The class is only loaded when {@link org.lidiuma.math.SimdUtil#AVAILABLE} is true,
+/// the operations are issued in the same order of the scalar ones, so only {@link #invert(Matrix4F32)} can differ in the last bits.
+value class Matrix4F32Simd {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_128;
+    /// The batches use the widest species of the platform, e.g. 8 vectors per iteration on AVX2.
+    private static final VectorSpecies<Float> BATCH_SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    private Matrix4F32Simd() {}
+
+    private static Matrix4F32 fromRows(FloatVector row0, FloatVector row1, FloatVector row2, FloatVector row3) {
+        final float[] out = new float[Matrix4.SIZE];
+        row0.intoArray(out, 0);
+        row1.intoArray(out, 4);
+        row2.intoArray(out, 8);
+        row3.intoArray(out, 12);
+        return new Matrix4F32(
+                out[0],  out[1],  out[2],  out[3],
+                out[4],  out[5],  out[6],  out[7],
+                out[8],  out[9],  out[10], out[11],
+                out[12], out[13], out[14], out[15]
+        );
+    }
+
+    /// @return `a0 * v0 + a1 * v1 + a2 * v2 + a3 * v3`, evaluated left-to-right like the scalar code.
+    private static FloatVector combine(FloatVector v0, FloatVector v1, FloatVector v2, FloatVector v3,
+                                       float a0, float a1, float a2, float a3) {
+        return v0.mul(a0)
+                .add(v1.mul(a1))
+                .add(v2.mul(a2))
+                .add(v3.mul(a3));
+    }
+
+    static Matrix4F32 mul(Matrix4F32 a, Matrix4F32 b) {
+
+        // Each row of the result is the combination of the rows of `b`, weighted by the row of `a`.
+        final float[] rows = {
+                b.m00(), b.m01(), b.m02(), b.m03(),
+                b.m10(), b.m11(), b.m12(), b.m13(),
+                b.m20(), b.m21(), b.m22(), b.m23(),
+                b.m30(), b.m31(), b.m32(), b.m33()
+        };
+        final var b0 = FloatVector.fromArray(SPECIES, rows, 0);
+        final var b1 = FloatVector.fromArray(SPECIES, rows, 4);
+        final var b2 = FloatVector.fromArray(SPECIES, rows, 8);
+        final var b3 = FloatVector.fromArray(SPECIES, rows, 12);
+
+        final var n0 = combine(b0, b1, b2, b3, a.m00(), a.m01(), a.m02(), a.m03());
+        final var n1 = combine(b0, b1, b2, b3, a.m10(), a.m11(), a.m12(), a.m13());
+        final var n2 = combine(b0, b1, b2, b3, a.m20(), a.m21(), a.m22(), a.m23());
+        final var n3 = combine(b0, b1, b2, b3, a.m30(), a.m31(), a.m32(), a.m33());
+        return fromRows(n0, n1, n2, n3);
+    }
+
+    static Matrix4F32 invert(Matrix4F32 m) {
+
+        // The 2x2 minors of the top two rows (s) and the bottom two rows (c), the inverse is a combination of them.
+        final float s0 = m.m00() * m.m11() - m.m10() * m.m01();
+        final float s1 = m.m00() * m.m12() - m.m10() * m.m02();
+        final float s2 = m.m00() * m.m13() - m.m10() * m.m03();
+        final float s3 = m.m01() * m.m12() - m.m11() * m.m02();
+        final float s4 = m.m01() * m.m13() - m.m11() * m.m03();
+        final float s5 = m.m02() * m.m13() - m.m12() * m.m03();
+
+        final float c0 = m.m20() * m.m31() - m.m30() * m.m21();
+        final float c1 = m.m20() * m.m32() - m.m30() * m.m22();
+        final float c2 = m.m20() * m.m33() - m.m30() * m.m23();
+        final float c3 = m.m21() * m.m32() - m.m31() * m.m22();
+        final float c4 = m.m21() * m.m33() - m.m31() * m.m23();
+        final float c5 = m.m22() * m.m33() - m.m32() * m.m23();
+
+        final float det = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+        if (Math.abs(det) < EPSILON) throw new ArithmeticException("The matrix cannot be inverted since singular.");
+
+        final float invDet = 1f / det;
+
+        final float[] lanes = {
+                // The columns of the matrix, with the rows swapped in pairs.
+                m.m10(), m.m00(), m.m30(), m.m20(),
+                m.m11(), m.m01(), m.m31(), m.m21(),
+                m.m12(), m.m02(), m.m32(), m.m22(),
+                m.m13(), m.m03(), m.m33(), m.m23(),
+                // The minors, the first two lanes use the bottom ones, the last two the top ones.
+                c0, c0, s0, s0,
+                c1, c1, s1, s1,
+                c2, c2, s2, s2,
+                c3, c3, s3, s3,
+                c4, c4, s4, s4,
+                c5, c5, s5, s5,
+                // The alternating cofactor sign.
+                invDet, -invDet, invDet, -invDet
+        };
+        final var k0 = FloatVector.fromArray(SPECIES, lanes, 0);
+        final var k1 = FloatVector.fromArray(SPECIES, lanes, 4);
+        final var k2 = FloatVector.fromArray(SPECIES, lanes, 8);
+        final var k3 = FloatVector.fromArray(SPECIES, lanes, 12);
+        final var cs0 = FloatVector.fromArray(SPECIES, lanes, 16);
+        final var cs1 = FloatVector.fromArray(SPECIES, lanes, 20);
+        final var cs2 = FloatVector.fromArray(SPECIES, lanes, 24);
+        final var cs3 = FloatVector.fromArray(SPECIES, lanes, 28);
+        final var cs4 = FloatVector.fromArray(SPECIES, lanes, 32);
+        final var cs5 = FloatVector.fromArray(SPECIES, lanes, 36);
+        final var sign = FloatVector.fromArray(SPECIES, lanes, 40);
+
+        final var n0 = k1.mul(cs5).sub(k2.mul(cs4)).add(k3.mul(cs3)).mul(sign);
+        final var n1 = k0.mul(cs5).sub(k2.mul(cs2)).add(k3.mul(cs1)).mul(sign.neg());
+        final var n2 = k0.mul(cs4).sub(k1.mul(cs2)).add(k3.mul(cs0)).mul(sign);
+        final var n3 = k0.mul(cs3).sub(k1.mul(cs1)).add(k2.mul(cs0)).mul(sign.neg());
+        return fromRows(n0, n1, n2, n3);
+    }
+
+    /// @return `x * c0 + y * c1 + z * c2` using the columns of the matrix, plus the last column if `translate` is true.
+    /// The lanes are the `x, y, z, w` results.
+    private static FloatVector combineColumns(Matrix4F32 m, float x, float y, float z, boolean translate) {
+        final float[] columns = {
+                m.m00(), m.m10(), m.m20(), m.m30(),
+                m.m01(), m.m11(), m.m21(), m.m31(),
+                m.m02(), m.m12(), m.m22(), m.m32(),
+                m.m03(), m.m13(), m.m23(), m.m33()
+        };
+        final var c0 = FloatVector.fromArray(SPECIES, columns, 0);
+        final var c1 = FloatVector.fromArray(SPECIES, columns, 4);
+        final var c2 = FloatVector.fromArray(SPECIES, columns, 8);
+        final var result = c0.mul(x)
+                .add(c1.mul(y))
+                .add(c2.mul(z));
+        if (!translate) return result;
+        return result.add(FloatVector.fromArray(SPECIES, columns, 12));
+    }
+
+    static Vector3F32 transform(Matrix4F32 m, Vector3F32 vector) {
+        final var result = combineColumns(m, vector.x(), vector.y(), vector.z(), true);
+        return new Vector3F32(result.lane(0), result.lane(1), result.lane(2));
+    }
+
+    static Vector3F32 project(Matrix4F32 m, Vector3F32 vector) {
+        final var result = combineColumns(m, vector.x(), vector.y(), vector.z(), true);
+        final float invW = 1f / result.lane(3);
+        final var projected = result.mul(invW);
+        return new Vector3F32(projected.lane(0), projected.lane(1), projected.lane(2));
+    }
+
+    static Vector3F32 rotate(Matrix4F32 m, Vector3F32 vector) {
+        final var result = combineColumns(m, vector.x(), vector.y(), vector.z(), false);
+        return new Vector3F32(result.lane(0), result.lane(1), result.lane(2));
+    }
+
+    /// SIMD version of {@link Matrix4F32#scalarBatch(Vector3F32Buffer, Vector3F32Buffer, long, long, boolean, boolean)},
+    /// each lane holds a different vector, the remaining tail is handled by the scalar version.
+    static void batch(Matrix4F32 m, Vector3F32Buffer src, Vector3F32Buffer dst, long from, long count, boolean translate, boolean project) {
+        final var order = ByteOrder.nativeOrder();
+        final int step = BATCH_SPECIES.length();
+        final long end = from + count;
+        final long bound = from + (count - count % step);
+        final float tx = translate ? m.m03() : 0f;
+        final float ty = translate ? m.m13() : 0f;
+        final float tz = translate ? m.m23() : 0f;
+        final var one = FloatVector.broadcast(BATCH_SPECIES, 1f);
+        long i = from;
+        for (; i < bound; i += step) {
+            final long offset = i * Float.BYTES;
+            final var x = FloatVector.fromMemorySegment(BATCH_SPECIES, src.x(), offset, order);
+            final var y = FloatVector.fromMemorySegment(BATCH_SPECIES, src.y(), offset, order);
+            final var z = FloatVector.fromMemorySegment(BATCH_SPECIES, src.z(), offset, order);
+            var rx = x.mul(m.m00()).add(y.mul(m.m01())).add(z.mul(m.m02())).add(tx);
+            var ry = x.mul(m.m10()).add(y.mul(m.m11())).add(z.mul(m.m12())).add(ty);
+            var rz = x.mul(m.m20()).add(y.mul(m.m21())).add(z.mul(m.m22())).add(tz);
+            if (project) {
+                final var w = x.mul(m.m30()).add(y.mul(m.m31())).add(z.mul(m.m32())).add(m.m33());
+                final var invW = one.div(w);
+                rx = rx.mul(invW);
+                ry = ry.mul(invW);
+                rz = rz.mul(invW);
+            }
+            rx.intoMemorySegment(dst.x(), offset, order);
+            ry.intoMemorySegment(dst.y(), offset, order);
+            rz.intoMemorySegment(dst.z(), offset, order);
+        }
+        m.scalarBatch(src, dst, i, end, translate, project);
+    }
+}
@@ -16,14 +16,17 @@
 
 package org.lidiuma.math.matrix;
 
+import org.lidiuma.math.SimdUtil;
 import org.lidiuma.math.rotation.Quaternion;
 import org.lidiuma.math.rotation.Radians;
 import org.lidiuma.math.vector.v2.Vector2F32;
 import org.lidiuma.math.vector.v3.Vector3F64;
+import org.lidiuma.math.vector.v3.Vector3F64Buffer;
 import jdk.internal.vm.annotation.LooselyConsistentValue;
 import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
 import java.lang.foreign.ValueLayout;
+import java.util.Objects;
 import static org.lidiuma.math.FloatingUtil.EPSILON;
 
 /// @see Matrix4
@@ -42,6 +45,14 @@ public value record Matrix4F64(
     public static final int M20 = 2, M21 = 6, M22 = 10, M23 = 14;
     public static final int M30 = 3, M31 = 7, M32 = 11, M33 = 15;
 
+    /// Tolerance of the rotation check of {@link #classify()}, accepting the rounding errors of a rotation built in `double`.
+    private static final double CLASSIFY_EPSILON = 1e-9;
+    /// Number of matrices packed at once by the bulk copies, so that the scratch array stays small.
+    private static final int BULK_CHUNK = 64;
+    /// True when the single-matrix SIMD paths can be used, they need 256-bit vectors in hardware,
+    /// since on narrower platforms (e.g. NEON or SSE-only x86) the Vector API falls back to slower Java code.
+    private static final boolean SIMD = SimdUtil.AVAILABLE && Matrix4F64Simd.SUPPORTED;
+
     public static Matrix4F64 identity() {
         return new Matrix4F64(
                 1d, 0d, 0d, 0d,
@@ -89,6 +100,53 @@ public value record Matrix4F64(
         );
     }
 
+    /// Copies `count` matrices of `src`, starting at `from`, into the given {@link MemorySegment} starting at the specified logical index,
+    /// with the same result of calling {@link #toMemorySegment(MemorySegment, long)} on each of them.
+    /// @param index the logical index in units of {@link #byteSize()} where copying begins.
+    /// @apiNote The copying is issued using the [column-major](https://en.wikipedia.org/wiki/Row-_and_column-major_order) order.
+    /// @implNote The matrices are packed into a scratch array in chunks, each chunk is then issued with a single {@link MemorySegment#copy}.
+    public static void toMemorySegment(Matrix4F64[] src, int from, int count, MemorySegment dst, long index) {
+        Objects.checkFromIndexSize(from, count, src.length);
+        final double[] scratch = new double[Math.min(count, BULK_CHUNK) * SIZE];
+        for (int done = 0; done < count; ) {
+            final int chunk = Math.min(count - done, BULK_CHUNK);
+            for (int i = 0; i < chunk; i++) {
+                final var m = src[from + done + i];
+                final int base = i * SIZE;
+                scratch[base + M00] = m.m00(); scratch[base + M01] = m.m01(); scratch[base + M02] = m.m02(); scratch[base + M03] = m.m03();
+                scratch[base + M10] = m.m10(); scratch[base + M11] = m.m11(); scratch[base + M12] = m.m12(); scratch[base + M13] = m.m13();
+                scratch[base + M20] = m.m20(); scratch[base + M21] = m.m21(); scratch[base + M22] = m.m22(); scratch[base + M23] = m.m23();
+                scratch[base + M30] = m.m30(); scratch[base + M31] = m.m31(); scratch[base + M32] = m.m32(); scratch[base + M33] = m.m33();
+            }
+            MemorySegment.copy(scratch, 0, dst, ValueLayout.JAVA_DOUBLE, (index + done) * SIZE * Double.BYTES, chunk * SIZE);
+            done += chunk;
+        }
+    }
+
+    /// Reads `count` matrices from the given {@link MemorySegment} starting at the specified logical index, into `dst` starting at `from`,
+    /// with the same result of calling {@link #fromMemorySegment(MemorySegment, long)} for each of them.
+    /// @param index the logical index in units of {@link #byteSize()} where copying begins.
+    /// @apiNote The memory segment must be stored in [column-major](https://en.wikipedia.org/wiki/Row-_and_column-major_order) order.
+    /// @implNote Each chunk of matrices is issued with a single {@link MemorySegment#copy} into a scratch array, which is then unpacked.
+    public static void fromMemorySegment(MemorySegment src, long index, Matrix4F64[] dst, int from, int count) {
+        Objects.checkFromIndexSize(from, count, dst.length);
+        final double[] scratch = new double[Math.min(count, BULK_CHUNK) * SIZE];
+        for (int done = 0; done < count; ) {
+            final int chunk = Math.min(count - done, BULK_CHUNK);
+            MemorySegment.copy(src, ValueLayout.JAVA_DOUBLE, (index + done) * SIZE * Double.BYTES, scratch, 0, chunk * SIZE);
+            for (int i = 0; i < chunk; i++) {
+                final int base = i * SIZE;
+                dst[from + done + i] = new Matrix4F64(
+                        scratch[base + M00], scratch[base + M01], scratch[base + M02], scratch[base + M03],
+                        scratch[base + M10], scratch[base + M11], scratch[base + M12], scratch[base + M13],
+                        scratch[base + M20], scratch[base + M21], scratch[base + M22], scratch[base + M23],
+                        scratch[base + M30], scratch[base + M31], scratch[base + M32], scratch[base + M33]
+                );
+            }
+            done += chunk;
+        }
+    }
+
     /// Creates a transformation matrix from a translation and rotation.
     /// @return The transformation matrix.
     /// @apiNote The rotation quaternion is normalized internally.
@@ -312,7 +370,7 @@ public value record Matrix4F64(
     public static Matrix4F64 fromLookAt(Vector3F64 position, Vector3F64 target, Vector3F64 up) {
         final var direction = target.sub(position);
         final Matrix4F64 rotation = fromLookRotation(direction, up);
-        final Matrix4F64 translation = fromTranslation(position.mul(-1d));
+        final Matrix4F64 translation = fromTranslation(position.mulD(-1d));
         return rotation.mul(translation);
     }
 
@@ -320,7 +378,7 @@ public value record Matrix4F64(
         final var f = forward.normalize();     // forward
         final var r = f.cross(up).normalize(); // right
         final var u = r.cross(f).normalize();  // true Up
-        return fromAxes(r, u, f.mul(-1d), position);
+        return fromAxes(r, u, f.mulD(-1d), position);
     }
 
     /// Creates a view rotation matrix from a view direction and an up vector.
@@ -371,6 +429,12 @@ public value record Matrix4F64(
 
     @Override
     public Matrix4F64 mul(Matrix4F64 other) {
+        if (SIMD) return Matrix4F64Simd.mul(this, other);
+        return scalarMul(other);
+    }
+
+    /// Scalar version of {@link #mul(Matrix4F64)}, used when SIMD is not available and as its reference.
+    Matrix4F64 scalarMul(Matrix4F64 other) {
         final double n00 = m00 * other.m00 + m01 * other.m10 + m02 * other.m20 + m03 * other.m30;
         final double n01 = m00 * other.m01 + m01 * other.m11 + m02 * other.m21 + m03 * other.m31;
         final double n02 = m00 * other.m02 + m01 * other.m12 + m02 * other.m22 + m03 * other.m32;
@@ -433,6 +497,12 @@ public value record Matrix4F64(
 
     @Override
     public Matrix4F64 invert() {
+        if (SIMD) return Matrix4F64Simd.invert(this);
+        return scalarInvert();
+    }
+
+    /// Scalar version of {@link #invert()}, used when SIMD is not available and as its reference.
+    Matrix4F64 scalarInvert() {
 
         final double det = determinant();
         if (Math.abs(det) < EPSILON) throw new ArithmeticException("The matrix cannot be inverted since singular.");
@@ -464,6 +534,58 @@ public value record Matrix4F64(
         );
     }
 
+    @Override
+    public Matrix4F64 invertRigid() {
+        if (classify() != TransformKind.RIGID) {
+            throw new IllegalArgumentException("The matrix is not rigid, use invertAffine() or invert().");
+        }
+        return affine().invertRigid().asMatrix4();
+    }
+
+    @Override
+    public Matrix4F64 invertAffine() {
+        if (classify() == TransformKind.GENERAL) {
+            throw new IllegalArgumentException("The matrix is not affine, use invert().");
+        }
+        return affine().invert().asMatrix4();
+    }
+
+    @Override
+    public TransformKind classify() {
+        // The affine inverses drop the last row, so it must be exact, like in `Affine4F64.fromMatrix4`.
+        if (m30 != 0 || m31 != 0 || m32 != 0 || m33 != 1) {
+            return TransformKind.GENERAL;
+        }
+        // The rows of a rotation are unit vectors, orthogonal to each other.
+        final double len0 = m00 * m00 + m01 * m01 + m02 * m02;
+        final double len1 = m10 * m10 + m11 * m11 + m12 * m12;
+        final double len2 = m20 * m20 + m21 * m21 + m22 * m22;
+        final double dot01 = m00 * m10 + m01 * m11 + m02 * m12;
+        final double dot02 = m00 * m20 + m01 * m21 + m02 * m22;
+        final double dot12 = m10 * m20 + m11 * m21 + m12 * m22;
+        final boolean unit = Math.abs(len0 - 1) <= CLASSIFY_EPSILON && Math.abs(len1 - 1) <= CLASSIFY_EPSILON && Math.abs(len2 - 1) <= CLASSIFY_EPSILON;
+        final boolean orthogonal = Math.abs(dot01) <= CLASSIFY_EPSILON && Math.abs(dot02) <= CLASSIFY_EPSILON && Math.abs(dot12) <= CLASSIFY_EPSILON;
+        return unit && orthogonal ? TransformKind.RIGID : TransformKind.AFFINE;
+    }
+
+    @Override
+    public Matrix4F64 invertClassified() {
+        return switch (classify()) {
+            case RIGID -> affine().invertRigid().asMatrix4();
+            case AFFINE -> affine().invert().asMatrix4();
+            case GENERAL -> invert();
+        };
+    }
+
+    /// @return the top 3 rows as an affine, without checking the last row.
+    private Affine4F64 affine() {
+        return new Affine4F64(
+                m00, m01, m02, m03,
+                m10, m11, m12, m13,
+                m20, m21, m22, m23
+        );
+    }
+
     @Override
     public Matrix4F64 lerp(Matrix4F64 other, Double alpha) {
         final double invAlpha = 1d - alpha;
@@ -502,44 +624,51 @@ public value record Matrix4F64(
         return fromTRS(translation, rotation, scaling);
     }
 
+    /// @implNote The rotations are averaged with {@link Quaternion#average(Quaternion[])}, so the result does not depend on the order of the matrices.
     @Override
     public Matrix4F64 average(Matrix4F64[] matrices) {
 
         final double weight = 1d / matrices.length;
 
-        var scale = matrices[0].scale().mul(weight);
-        var rot = matrices[0].rotation().pow(weight);
-        var tran = matrices[0].translation().mul(weight);
+        var scale = matrices[0].scale().mulD(weight);
+        var tran = matrices[0].translation().mulD(weight);
+        final var rotations = new Quaternion[matrices.length];
+        rotations[0] = matrices[0].rotation();
 
         for (int i = 1; i < matrices.length; i++) {
 
             final var matrix = matrices[i];
 
-            scale = scale.add(matrix.scale().mul(weight));
-            rot = rot.mul(matrix.rotation().pow(weight));
-            tran = tran.add(matrix.translation().mul(weight));
+            scale = scale.add(matrix.scale().mulD(weight));
+            rotations[i] = matrix.rotation();
+            tran = tran.add(matrix.translation().mulD(weight));
         }
-        return fromTRS(tran, rot, scale); // The rotations gets normalized internally.
+        return fromTRS(tran, Quaternion.average(rotations), scale);
     }
 
+    /// @implNote The rotations are averaged with {@link Quaternion#average(Quaternion[], double[])}, so the result does not depend on the order of the matrices.
     @Override
     public Matrix4F64 average(Matrix4F64[] matrices, Double[] weights) {
 
         if (matrices.length != weights.length) throw new IllegalArgumentException("The matrices and weights must have the same length.");
 
-        var scale = matrices[0].scale().mul(weights[0]);
-        var rot = matrices[0].rotation().pow(weights[0]);
-        var tran = matrices[0].translation().mul(weights[0]);
+        var scale = matrices[0].scale().mulD(weights[0]);
+        var tran = matrices[0].translation().mulD(weights[0]);
+        final var rotations = new Quaternion[matrices.length];
+        final double[] rotationWeights = new double[matrices.length];
+        rotations[0] = matrices[0].rotation();
+        rotationWeights[0] = weights[0];
 
         for (int i = 1; i < matrices.length; i++) {
 
             final var matrix = matrices[i];
 
-            scale = scale.add(matrix.scale().mul(weights[i]));
-            rot = rot.mul(matrix.rotation().pow(weights[i]));
-            tran = tran.add(matrix.translation().mul(weights[i]));
+            scale = scale.add(matrix.scale().mulD(weights[i]));
+            rotations[i] = matrix.rotation();
+            rotationWeights[i] = weights[i];
+            tran = tran.add(matrix.translation().mulD(weights[i]));
         }
-        return fromTRS(tran, rot, scale); // The rotations gets normalized internally.
+        return fromTRS(tran, Quaternion.average(rotations, rotationWeights), scale);
     }
 
     @Override
@@ -603,6 +732,12 @@ public value record Matrix4F64(
         return segment;
     }
 
+    /// @return this matrix as an {@link Affine4F64}.
+    /// @throws IllegalArgumentException if the last row is not `[0, 0, 0, 1]`, since the conversion would be lossy.
+    public Affine4F64 asAffine() {
+        return Affine4F64.fromMatrix4(this);
+    }
+
     @Override
     public Matrix3F64 asMatrix3() {
         return Matrix3F64.fromMatrix4(this);
@@ -610,6 +745,12 @@ public value record Matrix4F64(
 
     @Override
     public Vector3F64 transform(Vector3F64 vector) {
+        if (SIMD) return Matrix4F64Simd.transform(this, vector);
+        return scalarTransform(vector);
+    }
+
+    /// Scalar version of {@link #transform(Vector3F64)}, used when SIMD is not available and as its reference.
+    Vector3F64 scalarTransform(Vector3F64 vector) {
         return asMatrix3()
                 .transform(vector)
                 .add(new Vector3F64(m03, m13, m23));
@@ -647,12 +788,24 @@ public value record Matrix4F64(
 
     @Override
     public Vector3F64 project(Vector3F64 vector) {
+        if (SIMD) return Matrix4F64Simd.project(this, vector);
+        return scalarProject(vector);
+    }
+
+    /// Scalar version of {@link #project(Vector3F64)}, used when SIMD is not available and as its reference.
+    Vector3F64 scalarProject(Vector3F64 vector) {
         final double invW = 1d / (vector.x() * m30() + vector.y() * m31() + vector.z() * m32() + m33());
-        return transform(vector).mul(invW);
+        return scalarTransform(vector).mulD(invW);
     }
 
     @Override
     public Vector3F64 rotate(Vector3F64 vector) {
+        if (SIMD) return Matrix4F64Simd.rotate(this, vector);
+        return scalarRotate(vector);
+    }
+
+    /// Scalar version of {@link #rotate(Vector3F64)}, used when SIMD is not available and as its reference.
+    Vector3F64 scalarRotate(Vector3F64 vector) {
         return asMatrix3().transform(vector);
     }
 
@@ -674,6 +827,118 @@ public value record Matrix4F64(
         out[2] = m20; out[5] = m21; out[8] = m22; out[11] = m23;
     }
 
+    /* ===== Batch ===== */
+
+    /// Transforms `count` packed positions like {@link #transform(Vector3F64)}, without creating any vector.\
+    /// The `i`-th position is read as `x, y, z` from `src` at the double index `srcOffset + i * srcStride`,
+    /// and written to `dst` at the double index `dstOffset + i * dstStride`.
+    /// @apiNote `src` and `dst` can be the same memory, to transform in place.
+    /// @throws IllegalArgumentException if a stride is less than 3, or the count is negative.
+    public void transformAll(MemorySegment src, long srcOffset, long srcStride,
+                             MemorySegment dst, long dstOffset, long dstStride, long count) {
+        batch(src, srcOffset, srcStride, dst, dstOffset, dstStride, count, true, false);
+    }
+
+    /// Projects `count` packed positions like {@link #project(Vector3F64)}, with the same layout of
+    /// {@link #transformAll(MemorySegment, long, long, MemorySegment, long, long, long)}.
+    public void projectAll(MemorySegment src, long srcOffset, long srcStride,
+                           MemorySegment dst, long dstOffset, long dstStride, long count) {
+        batch(src, srcOffset, srcStride, dst, dstOffset, dstStride, count, true, true);
+    }
+
+    /// Rotates `count` packed directions like {@link #rotate(Vector3F64)}, with the same layout of
+    /// {@link #transformAll(MemorySegment, long, long, MemorySegment, long, long, long)}.
+    public void rotateAll(MemorySegment src, long srcOffset, long srcStride,
+                          MemorySegment dst, long dstOffset, long dstStride, long count) {
+        batch(src, srcOffset, srcStride, dst, dstOffset, dstStride, count, false, false);
+    }
+
+    /// @see #transformAll(MemorySegment, long, long, MemorySegment, long, long, long)
+    public void transformAll(double[] src, int srcOffset, int srcStride, double[] dst, int dstOffset, int dstStride, int count) {
+        transformAll(MemorySegment.ofArray(src), srcOffset, srcStride, MemorySegment.ofArray(dst), dstOffset, dstStride, count);
+    }
+
+    /// @see #projectAll(MemorySegment, long, long, MemorySegment, long, long, long)
+    public void projectAll(double[] src, int srcOffset, int srcStride, double[] dst, int dstOffset, int dstStride, int count) {
+        projectAll(MemorySegment.ofArray(src), srcOffset, srcStride, MemorySegment.ofArray(dst), dstOffset, dstStride, count);
+    }
+
+    /// @see #rotateAll(MemorySegment, long, long, MemorySegment, long, long, long)
+    public void rotateAll(double[] src, int srcOffset, int srcStride, double[] dst, int dstOffset, int dstStride, int count) {
+        rotateAll(MemorySegment.ofArray(src), srcOffset, srcStride, MemorySegment.ofArray(dst), dstOffset, dstStride, count);
+    }
+
+    /// Transforms the range `[from, from + count)` of `src` like {@link #transform(Vector3F64)}, writing it at the same indices of `dst`.
+    /// @apiNote `src` and `dst` can be the same buffer, to transform in place.
+    /// @implNote Uses SIMD when {@link SimdUtil#AVAILABLE} is true, transforming as many vectors per iteration as the preferred species holds.
+    public void transformAll(Vector3F64Buffer src, Vector3F64Buffer dst, long from, long count) {
+        batch(src, dst, from, count, true, false);
+    }
+
+    /// Projects the range `[from, from + count)` of `src` like {@link #project(Vector3F64)}, writing it at the same indices of `dst`.
+    /// @see #transformAll(Vector3F64Buffer, Vector3F64Buffer, long, long)
+    public void projectAll(Vector3F64Buffer src, Vector3F64Buffer dst, long from, long count) {
+        batch(src, dst, from, count, true, true);
+    }
+
+    /// Rotates the range `[from, from + count)` of `src` like {@link #rotate(Vector3F64)}, writing it at the same indices of `dst`.
+    /// @see #transformAll(Vector3F64Buffer, Vector3F64Buffer, long, long)
+    public void rotateAll(Vector3F64Buffer src, Vector3F64Buffer dst, long from, long count) {
+        batch(src, dst, from, count, false, false);
+    }
+
+    private void batch(MemorySegment src, long srcOffset, long srcStride,
+                       MemorySegment dst, long dstOffset, long dstStride,
+                       long count, boolean translate, boolean project) {
+        if (srcStride < 3 || dstStride < 3) throw new IllegalArgumentException("The stride must be of at least 3 components.");
+        if (count < 0) throw new IllegalArgumentException("The count cannot be negative.");
+        final var layout = ValueLayout.JAVA_DOUBLE;
+        for (long i = 0; i < count; i++) {
+            final long s = srcOffset + i * srcStride;
+            final long d = dstOffset + i * dstStride;
+            // I read every component before writing, so that in-place transformations are safe.
+            final double x = src.getAtIndex(layout, s);
+            final double y = src.getAtIndex(layout, s + 1);
+            final double z = src.getAtIndex(layout, s + 2);
+            final double invW = project ? 1d / (x * m30 + y * m31 + z * m32 + m33) : 1d;
+            final double tx = translate ? m03 : 0d;
+            final double ty = translate ? m13 : 0d;
+            final double tz = translate ? m23 : 0d;
+            dst.setAtIndex(layout, d, (x * m00 + y * m01 + z * m02 + tx) * invW);
+            dst.setAtIndex(layout, d + 1, (x * m10 + y * m11 + z * m12 + ty) * invW);
+            dst.setAtIndex(layout, d + 2, (x * m20 + y * m21 + z * m22 + tz) * invW);
+        }
+    }
+
+    private void batch(Vector3F64Buffer src, Vector3F64Buffer dst, long from, long count, boolean translate, boolean project) {
+        Objects.checkFromIndexSize(from, count, src.capacity());
+        Objects.checkFromIndexSize(from, count, dst.capacity());
+        if (SimdUtil.AVAILABLE) {
+            Matrix4F64Simd.batch(this, src, dst, from, count, translate, project);
+            return;
+        }
+        scalarBatch(src, dst, from, from + count, translate, project);
+    }
+
+    /// Scalar version of the buffer batches, used when SIMD is not available and for the tail of the SIMD loop.
+    void scalarBatch(Vector3F64Buffer src, Vector3F64Buffer dst, long from, long end, boolean translate, boolean project) {
+        final var layout = ValueLayout.JAVA_DOUBLE;
+        final var sx = src.x(); final var sy = src.y(); final var sz = src.z();
+        final var dx = dst.x(); final var dy = dst.y(); final var dz = dst.z();
+        for (long i = from; i < end; i++) {
+            final double x = sx.getAtIndex(layout, i);
+            final double y = sy.getAtIndex(layout, i);
+            final double z = sz.getAtIndex(layout, i);
+            final double invW = project ? 1d / (x * m30 + y * m31 + z * m32 + m33) : 1d;
+            final double tx = translate ? m03 : 0d;
+            final double ty = translate ? m13 : 0d;
+            final double tz = translate ? m23 : 0d;
+            dx.setAtIndex(layout, i, (x * m00 + y * m01 + z * m02 + tx) * invW);
+            dy.setAtIndex(layout, i, (x * m10 + y * m11 + z * m12 + ty) * invW);
+            dz.setAtIndex(layout, i, (x * m20 + y * m21 + z * m22 + tz) * invW);
+        }
+    }
+
     public Matrix4F32 asF32() {
         return new Matrix4F32(
                 (float) m00, (float) m01, (float) m02, (float) m03,
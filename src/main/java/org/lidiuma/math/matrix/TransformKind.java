@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.matrix;
+
+/// Classification of a {@link Matrix4}, from the most to the least restrictive.
+/// Each kind decides the cheapest inverse that is still correct for the matrix.
+public enum TransformKind {
+
+    /// Rotation plus translation, the inverse is the transposed rotation with the translation rotated back.
+    RIGID,
+    /// The last row is `[0, 0, 0, 1]`, only the 3x3 part needs a real inversion.
+    AFFINE,
+    /// Any other matrix, like projections, requiring the full inversion.
+    GENERAL
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.parallel;
+
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.matrix.Matrix4F64;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/// Fork-join execution of bulk operations over large ranges.\
+/// The range is split in halves until it is below the threshold, with every split aligned to {@link #ALIGNMENT} elements,
+/// so that two tasks never write the same cache line of a `float` or `double` lane.
+/// Below the threshold the operation runs sequentially on the calling thread, without touching the pool.
+///
+/// The packed operations use `x, y, z` triples laid out contiguously, like {@link Matrix4F32#transformAll(float[], int, int, float[], int, int, int)},
+/// and give the same results of the sequential {@link Matrix4F32#transform} and {@link org.lidiuma.math.vector.v3.Vector3F32} arithmetic.
+/// The `MemorySegment` overloads over `double` data carry the `F64` suffix, since a segment does not tell its element type,
+/// while the array overloads are told apart by the array type.
+/// Any other ranged operation, like the ones of {@link org.lidiuma.math.vector.VectorBuffer}, can be run with {@link #forEach(long, RangeAction)}.
+public value class Parallel {
+
+    /// Number of elements of a range that are worth a task, below it the operation runs sequentially.
+    public static final long DEFAULT_THRESHOLD = 1 << 15;
+    /// Split points are multiples of this many elements.\
+    /// 16 packed `x, y, z` triples take 192 bytes of `float` or 384 of `double`, a whole number of 64 bytes cache lines,
+    /// and the same holds for the 16 elements of a single `float` or `double` lane.
+    public static final long ALIGNMENT = 16;
+    private static final long COMPONENTS = 3;
+
+    private Parallel() {}
+
+    /// An operation over the elements `[from, from + count)` of a range.
+    @FunctionalInterface
+    public interface RangeAction {
+        void run(long from, long count);
+    }
+
+    /// Runs the action over `[0, count)` in the common pool, using {@link #DEFAULT_THRESHOLD}.
+    public static void forEach(long count, RangeAction action) {
+        forEach(count, action, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /// Runs the action over `[0, count)`, splitting it into tasks of at most `threshold` elements executed by the pool.
+    /// @throws IllegalArgumentException if the count is negative, or the threshold is less than 1.
+    public static void forEach(long count, RangeAction action, ForkJoinPool pool, long threshold) {
+        if (count < 0) throw new IllegalArgumentException("The count cannot be negative.");
+        if (threshold < 1) throw new IllegalArgumentException("The threshold must be at least 1.");
+        if (count <= threshold) {
+            action.run(0, count);
+            return;
+        }
+        pool.invoke(new RangeTask(0, count, action, threshold));
+    }
+
+    /* ===== Float ===== */
+
+    /// Transforms the `count` packed positions of `src` into `dst`, like {@link Matrix4F32#transform}.
+    public static void transformAll(Matrix4F32 matrix, MemorySegment src, MemorySegment dst, long count) {
+        transformAll(matrix, src, dst, count, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /// @see #transformAll(Matrix4F32, MemorySegment, MemorySegment, long)
+    public static void transformAll(Matrix4F32 matrix, MemorySegment src, MemorySegment dst, long count, ForkJoinPool pool, long threshold) {
+        forEach(count, (from, size) -> matrix.transformAll(src, from * COMPONENTS, COMPONENTS, dst, from * COMPONENTS, COMPONENTS, size), pool, threshold);
+    }
+
+    /// Transforms every packed position of `src` into `dst`, like {@link Matrix4F32#transform}.
+    public static void transformAll(Matrix4F32 matrix, float[] src, float[] dst) {
+        transformAll(matrix, MemorySegment.ofArray(src), MemorySegment.ofArray(dst), src.length / COMPONENTS);
+    }
+
+    /// Normalizes the `count` packed vectors of `data` in place, like {@link org.lidiuma.math.vector.v3.Vector3F32#normalize()}.
+    public static void normalizeAll(MemorySegment data, long count) {
+        normalizeAll(data, count, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /// @see #normalizeAll(MemorySegment, long)
+    public static void normalizeAll(MemorySegment data, long count, ForkJoinPool pool, long threshold) {
+        forEach(count, (from, size) -> normalizeF32(data, from, size), pool, threshold);
+    }
+
+    /// Normalizes every packed vector of `data` in place.
+    public static void normalizeAll(float[] data) {
+        normalizeAll(MemorySegment.ofArray(data), data.length / COMPONENTS);
+    }
+
+    /// Linearly interpolates the `count` packed vectors of `data` in place towards the ones of `target`,
+    /// like {@link org.lidiuma.math.vector.v3.Vector3F32#lerpF}.
+    public static void lerpAll(MemorySegment data, MemorySegment target, float alpha, long count) {
+        lerpAll(data, target, alpha, count, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /// @see #lerpAll(MemorySegment, MemorySegment, float, long)
+    public static void lerpAll(MemorySegment data, MemorySegment target, float alpha, long count, ForkJoinPool pool, long threshold) {
+        forEach(count, (from, size) -> lerpF32(data, target, alpha, from, size), pool, threshold);
+    }
+
+    /// Linearly interpolates every packed vector of `data` in place towards the ones of `target`.
+    public static void lerpAll(float[] data, float[] target, float alpha) {
+        lerpAll(MemorySegment.ofArray(data), MemorySegment.ofArray(target), alpha, data.length / COMPONENTS);
+    }
+
+    private static void normalizeF32(MemorySegment data, long from, long count) {
+        final var layout = ValueLayout.JAVA_FLOAT;
+        for (long i = from * COMPONENTS, end = (from + count) * COMPONENTS; i < end; i += COMPONENTS) {
+            final float x = data.getAtIndex(layout, i);
+            final float y = data.getAtIndex(layout, i + 1);
+            final float z = data.getAtIndex(layout, i + 2);
+            final float len2 = x * x + y * y + z * z;
+            if (len2 == 0) continue;
+            final float scale = 1f / (float) Math.sqrt(len2);
+            data.setAtIndex(layout, i, x * scale);
+            data.setAtIndex(layout, i + 1, y * scale);
+            data.setAtIndex(layout, i + 2, z * scale);
+        }
+    }
+
+    private static void lerpF32(MemorySegment data, MemorySegment target, float alpha, long from, long count) {
+        final var layout = ValueLayout.JAVA_FLOAT;
+        // Every component is interpolated the same way, so I can walk the range as a flat lane.
+        for (long i = from * COMPONENTS, end = (from + count) * COMPONENTS; i < end; i++) {
+            final float value = data.getAtIndex(layout, i);
+            data.setAtIndex(layout, i, value + (target.getAtIndex(layout, i) - value) * alpha);
+        }
+    }
+
+    /* ===== Double ===== */
+
+    /// Transforms the `count` packed positions of `src` into `dst`, like {@link Matrix4F64#transform}.
+    public static void transformAllF64(Matrix4F64 matrix, MemorySegment src, MemorySegment dst, long count) {
+        transformAllF64(matrix, src, dst, count, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /// @see #transformAllF64(Matrix4F64, MemorySegment, MemorySegment, long)
+    public static void transformAllF64(Matrix4F64 matrix, MemorySegment src, MemorySegment dst, long count, ForkJoinPool pool, long threshold) {
+        forEach(count, (from, size) -> matrix.transformAll(src, from * COMPONENTS, COMPONENTS, dst, from * COMPONENTS, COMPONENTS, size), pool, threshold);
+    }
+
+    /// Transforms every packed position of `src` into `dst`, like {@link Matrix4F64#transform}.
+    public static void transformAll(Matrix4F64 matrix, double[] src, double[] dst) {
+        transformAllF64(matrix, MemorySegment.ofArray(src), MemorySegment.ofArray(dst), src.length / COMPONENTS);
+    }
+
+    /// Normalizes the `count` packed vectors of `data` in place, like {@link org.lidiuma.math.vector.v3.Vector3F64#normalize()}.
+    public static void normalizeAllF64(MemorySegment data, long count) {
+        normalizeAllF64(data, count, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /// @see #normalizeAllF64(MemorySegment, long)
+    public static void normalizeAllF64(MemorySegment data, long count, ForkJoinPool pool, long threshold) {
+        forEach(count, (from, size) -> normalizeF64(data, from, size), pool, threshold);
+    }
+
+    /// Normalizes every packed vector of `data` in place.
+    public static void normalizeAll(double[] data) {
+        normalizeAllF64(MemorySegment.ofArray(data), data.length / COMPONENTS);
+    }
+
+    /// Linearly interpolates the `count` packed vectors of `data` in place towards the ones of `target`,
+    /// like {@link org.lidiuma.math.vector.v3.Vector3F64#lerpD}.
+    public static void lerpAllF64(MemorySegment data, MemorySegment target, double alpha, long count) {
+        lerpAllF64(data, target, alpha, count, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /// @see #lerpAllF64(MemorySegment, MemorySegment, double, long)
+    public static void lerpAllF64(MemorySegment data, MemorySegment target, double alpha, long count, ForkJoinPool pool, long threshold) {
+        forEach(count, (from, size) -> lerpF64(data, target, alpha, from, size), pool, threshold);
+    }
+
+    /// Linearly interpolates every packed vector of `data` in place towards the ones of `target`.
+    public static void lerpAll(double[] data, double[] target, double alpha) {
+        lerpAllF64(MemorySegment.ofArray(data), MemorySegment.ofArray(target), alpha, data.length / COMPONENTS);
+    }
+
+    private static void normalizeF64(MemorySegment data, long from, long count) {
+        final var layout = ValueLayout.JAVA_DOUBLE;
+        for (long i = from * COMPONENTS, end = (from + count) * COMPONENTS; i < end; i += COMPONENTS) {
+            final double x = data.getAtIndex(layout, i);
+            final double y = data.getAtIndex(layout, i + 1);
+            final double z = data.getAtIndex(layout, i + 2);
+            final double len2 = x * x + y * y + z * z;
+            if (len2 == 0) continue;
+            final double scale = 1d / Math.sqrt(len2);
+            data.setAtIndex(layout, i, x * scale);
+            data.setAtIndex(layout, i + 1, y * scale);
+            data.setAtIndex(layout, i + 2, z * scale);
+        }
+    }
+
+    private static void lerpF64(MemorySegment data, MemorySegment target, double alpha, long from, long count) {
+        final var layout = ValueLayout.JAVA_DOUBLE;
+        for (long i = from * COMPONENTS, end = (from + count) * COMPONENTS; i < end; i++) {
+            final double value = data.getAtIndex(layout, i);
+            data.setAtIndex(layout, i, value + (target.getAtIndex(layout, i) - value) * alpha);
+        }
+    }
+
+    /// Splits its range in two aligned halves until the threshold is reached.
+    private static final class RangeTask extends RecursiveAction {
+
+        private final long from;
+        private final long count;
+        private final RangeAction action;
+        private final long threshold;
+
+        private RangeTask(long from, long count, RangeAction action, long threshold) {
+            this.from = from;
+            this.count = count;
+            this.action = action;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            final long half = (count / 2) & -ALIGNMENT;
+            if (count <= threshold || half == 0) {
+                action.run(from, count);
+                return;
+            }
+            invokeAll(
+                    new RangeTask(from, half, action, threshold),
+                    new RangeTask(from + half, count - half, action, threshold)
+            );
+        }
+    }
+}
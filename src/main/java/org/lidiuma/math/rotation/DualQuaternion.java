@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.rotation;
+
+import org.lidiuma.math.matrix.Matrix4F64;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import jdk.internal.vm.annotation.LooselyConsistentValue;
+import jdk.internal.vm.annotation.NullRestricted;
+
+/// Rigid transformation stored as `real + ε dual`, where `real` is the rotation
+/// and `dual` is half the translation multiplied by the rotation, `t * real / 2`.\
+/// Unlike matrices, blending dual quaternions keeps them rigid, so skinning and interpolation do not collapse the volume.
+/// @apiNote The operations expect unit dual quaternions, the ones created by the factories and {@link #normalize()}.\
+/// A dual quaternion cannot hold a scale, so {@link #fromMatrix4(Matrix4F64)} discards it.
+@LooselyConsistentValue
+public value record DualQuaternion(@NullRestricted Quaternion real, @NullRestricted Quaternion dual) {
+
+    /// @return a new dual quaternion representing no transformation.
+    public static DualQuaternion identity() {
+        return new DualQuaternion(Quaternion.identity(), new Quaternion(0, 0, 0, 0));
+    }
+
+    /// @return The dual quaternion rotating by `rotation` and then translating by `translation`.
+    /// @apiNote The rotation is normalized automatically.
+    public static DualQuaternion fromTR(Vector3F64 translation, Quaternion rotation) {
+        final var real = rotation.normalize();
+        final var dual = new Quaternion(translation.x(), translation.y(), translation.z(), 0).mul(real).mul(0.5);
+        return new DualQuaternion(real, dual);
+    }
+
+    /// @return The dual quaternion representing only the rotation.
+    public static DualQuaternion fromRotation(Quaternion rotation) {
+        return new DualQuaternion(rotation.normalize(), new Quaternion(0, 0, 0, 0));
+    }
+
+    /// @return The dual quaternion representing only the translation.
+    public static DualQuaternion fromTranslation(Vector3F64 translation) {
+        return new DualQuaternion(Quaternion.identity(), new Quaternion(translation.x() * .5, translation.y() * .5, translation.z() * .5, 0));
+    }
+
+    /// @return The rigid part of the matrix, its scale is discarded.
+    public static DualQuaternion fromMatrix4(Matrix4F64 matrix) {
+        // The scale multiplies the columns, while the rotation is read from the rows, so I divide it out of each column first.
+        final double sx = 1 / Math.sqrt(matrix.m00() * matrix.m00() + matrix.m10() * matrix.m10() + matrix.m20() * matrix.m20());
+        final double sy = 1 / Math.sqrt(matrix.m01() * matrix.m01() + matrix.m11() * matrix.m11() + matrix.m21() * matrix.m21());
+        final double sz = 1 / Math.sqrt(matrix.m02() * matrix.m02() + matrix.m12() * matrix.m12() + matrix.m22() * matrix.m22());
+        final var rotation = Quaternion.fromAxes(
+                new Vector3F64(matrix.m00() * sx, matrix.m01() * sy, matrix.m02() * sz),
+                new Vector3F64(matrix.m10() * sx, matrix.m11() * sy, matrix.m12() * sz),
+                new Vector3F64(matrix.m20() * sx, matrix.m21() * sy, matrix.m22() * sz)
+        );
+        return fromTR(matrix.translation(), rotation);
+    }
+
+    /// Dual linear blending (DLB) of the dual quaternions, normalized at the end.\
+    /// Each one is sign-aligned with the first, so that the blend follows the shortest path.
+    /// @param weights the weight of each dual quaternion, they do not need to sum up to 1.
+    /// @throws IllegalArgumentException if the arrays are empty or have different lengths.
+    public static DualQuaternion blend(DualQuaternion[] dq, double[] weights) {
+        if (dq.length == 0) throw new IllegalArgumentException("There are no dual quaternions to blend.");
+        if (dq.length != weights.length) throw new IllegalArgumentException("The dual quaternions and weights arrays do not have the same length.");
+        final var pivot = dq[0].real;
+        double rx = 0, ry = 0, rz = 0, rw = 0, dx = 0, dy = 0, dz = 0, dw = 0;
+        for (int i = 0; i < dq.length; i++) {
+            final var real = dq[i].real;
+            final var dual = dq[i].dual;
+            final double w = pivot.dot(real) < 0 ? -weights[i] : weights[i];
+            rx += real.x() * w; ry += real.y() * w; rz += real.z() * w; rw += real.w() * w;
+            dx += dual.x() * w; dy += dual.y() * w; dz += dual.z() * w; dw += dual.w() * w;
+        }
+        return new DualQuaternion(new Quaternion(rx, ry, rz, rw), new Quaternion(dx, dy, dz, dw)).normalize();
+    }
+
+    /// Dual linear blending of two dual quaternions, the rigid counterpart of a matrix lerp.
+    /// @param alpha the interpolation factor, `0` returns `this` and `1` returns `end`.
+    /// @see #blend(DualQuaternion[], double[])
+    public DualQuaternion blend(DualQuaternion end, double alpha) {
+        final double b = real.dot(end.real) < 0 ? -alpha : alpha;
+        final double a = 1 - alpha;
+        return new DualQuaternion(real.mul(a).add(end.real.mul(b)), dual.mul(a).add(end.dual.mul(b))).normalize();
+    }
+
+    /// @return The dual quaternion with a unit real part, and a dual part orthogonal to it.
+    public DualQuaternion normalize() {
+        final double length = real.length();
+        final var r = real.mul(1 / length);
+        final var d = dual.mul(1 / length);
+        return new DualQuaternion(r, d.add(r.mul(-r.dot(d))));
+    }
+
+    /// @return The dual quaternion conjugating both parts, which is the inverse of a unit dual quaternion.
+    public DualQuaternion conjugate() {
+        return new DualQuaternion(real.conjugate(), dual.conjugate());
+    }
+
+    /// @return The inverse transformation, `this * inverse` is the identity.
+    /// @apiNote Works with non unit dual quaternions too, the real part cannot be zero.
+    public DualQuaternion inverse() {
+        final double length2 = real.length2();
+        final var r = real.conjugate().mul(1 / length2);
+        return new DualQuaternion(r, r.mul(dual).mul(r).mul(-1));
+    }
+
+    /// Returns the product of `this` dual quaternion and `other`.
+    /// @return a new dual quaternion equal to `this * other`, applying `other` first and `this` after, like matrices.
+    /// @apiNote Order is important! `this * other != other * this`
+    public DualQuaternion mul(DualQuaternion other) {
+        return new DualQuaternion(real.mul(other.real), real.mul(other.dual).add(dual.mul(other.real)));
+    }
+
+    /// @return The rotation of the transformation.
+    public Quaternion rotation() {
+        return real;
+    }
+
+    /// @return The translation of the transformation, `2 * dual * conjugate(real)`.
+    public Vector3F64 translation() {
+        final double rx = real.x(), ry = real.y(), rz = real.z(), rw = real.w();
+        final double dx = dual.x(), dy = dual.y(), dz = dual.z(), dw = dual.w();
+        return new Vector3F64(
+                2 * (rw * dx - dw * rx + (ry * dz - rz * dy)),
+                2 * (rw * dy - dw * ry + (rz * dx - rx * dz)),
+                2 * (rw * dz - dw * rz + (rx * dy - ry * dx))
+        );
+    }
+
+    /// Transforms the point, rotating and then translating it.
+    /// @return a new transformed point.
+    public Vector3F64 transform(Vector3F64 point) {
+        final var rotated = rotate(point);
+        final var translation = translation();
+        return new Vector3F64(rotated.x() + translation.x(), rotated.y() + translation.y(), rotated.z() + translation.z());
+    }
+
+    /// Rotates the direction, ignoring the translation.
+    /// @return a new rotated direction.
+    public Vector3F64 rotate(Vector3F64 direction) {
+        final double qx = real.x(), qy = real.y(), qz = real.z(), qw = real.w();
+        final double vx = direction.x(), vy = direction.y(), vz = direction.z();
+        // `v + w t + q × t` with `t = 2 q × v`, without normalizing, since the real part is already unit.
+        final double tx = 2 * (qy * vz - qz * vy);
+        final double ty = 2 * (qz * vx - qx * vz);
+        final double tz = 2 * (qx * vy - qy * vx);
+        return new Vector3F64(
+                vx + qw * tx + (qy * tz - qz * ty),
+                vy + qw * ty + (qz * tx - qx * tz),
+                vz + qw * tz + (qx * ty - qy * tx)
+        );
+    }
+
+    /// @return The rigid transformation matrix.
+    public Matrix4F64 asMatrix4() {
+        return Matrix4F64.fromTR(translation(), real);
+    }
+
+    /// @return The single precision dual quaternion.
+    public DualQuaternionF32 asF32() {
+        return new DualQuaternionF32(real.asF32(), dual.asF32());
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.rotation;
+
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import jdk.internal.vm.annotation.LooselyConsistentValue;
+import jdk.internal.vm.annotation.NullRestricted;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/// Single precision version of {@link DualQuaternion}, with the same API.\
+/// Rigid transformation stored as `real + ε dual`, where `real` is the rotation
+/// and `dual` is half the translation multiplied by the rotation, `t * real / 2`.\
+/// Unlike matrices, blending dual quaternions keeps them rigid, so skinning and interpolation do not collapse the volume.
+/// @apiNote The operations expect unit dual quaternions, the ones created by the factories and {@link #normalize()}.\
+/// A dual quaternion cannot hold a scale, so {@link #fromMatrix4(Matrix4F32)} discards it.
+@LooselyConsistentValue
+public value record DualQuaternionF32(@NullRestricted QuaternionF32 real, @NullRestricted QuaternionF32 dual) {
+
+    /// Number of floats of a packed dual quaternion, `real` followed by `dual`, each as `x, y, z, w`.
+    public static final int SIZE = 8;
+
+    /// @return a new dual quaternion representing no transformation.
+    public static DualQuaternionF32 identity() {
+        return new DualQuaternionF32(QuaternionF32.identity(), new QuaternionF32(0, 0, 0, 0));
+    }
+
+    /// @return The dual quaternion rotating by `rotation` and then translating by `translation`.
+    /// @apiNote The rotation is normalized automatically.
+    public static DualQuaternionF32 fromTR(Vector3F32 translation, QuaternionF32 rotation) {
+        final var real = rotation.normalize();
+        final var dual = new QuaternionF32(translation.x(), translation.y(), translation.z(), 0).mul(real).mul(.5f);
+        return new DualQuaternionF32(real, dual);
+    }
+
+    /// @return The dual quaternion representing only the rotation.
+    public static DualQuaternionF32 fromRotation(QuaternionF32 rotation) {
+        return new DualQuaternionF32(rotation.normalize(), new QuaternionF32(0, 0, 0, 0));
+    }
+
+    /// @return The dual quaternion representing only the translation.
+    public static DualQuaternionF32 fromTranslation(Vector3F32 translation) {
+        return new DualQuaternionF32(QuaternionF32.identity(), new QuaternionF32(translation.x() * .5f, translation.y() * .5f, translation.z() * .5f, 0));
+    }
+
+    /// @return The rigid part of the matrix, its scale is discarded.
+    public static DualQuaternionF32 fromMatrix4(Matrix4F32 matrix) {
+        // The scale multiplies the columns, while the rotation is read from the rows, so I divide it out of each column first.
+        final float sx = 1f / (float) Math.sqrt(matrix.m00() * matrix.m00() + matrix.m10() * matrix.m10() + matrix.m20() * matrix.m20());
+        final float sy = 1f / (float) Math.sqrt(matrix.m01() * matrix.m01() + matrix.m11() * matrix.m11() + matrix.m21() * matrix.m21());
+        final float sz = 1f / (float) Math.sqrt(matrix.m02() * matrix.m02() + matrix.m12() * matrix.m12() + matrix.m22() * matrix.m22());
+        final var rotation = QuaternionF32.fromAxes(
+                new Vector3F32(matrix.m00() * sx, matrix.m01() * sy, matrix.m02() * sz),
+                new Vector3F32(matrix.m10() * sx, matrix.m11() * sy, matrix.m12() * sz),
+                new Vector3F32(matrix.m20() * sx, matrix.m21() * sy, matrix.m22() * sz)
+        );
+        return fromTR(matrix.translation(), rotation);
+    }
+
+    /// Dual linear blending (DLB) of the dual quaternions, normalized at the end.\
+    /// Each one is sign-aligned with the first, so that the blend follows the shortest path.
+    /// @param weights the weight of each dual quaternion, they do not need to sum up to 1.
+    /// @throws IllegalArgumentException if the arrays are empty or have different lengths.
+    public static DualQuaternionF32 blend(DualQuaternionF32[] dq, float[] weights) {
+        if (dq.length == 0) throw new IllegalArgumentException("There are no dual quaternions to blend.");
+        if (dq.length != weights.length) throw new IllegalArgumentException("The dual quaternions and weights arrays do not have the same length.");
+        final var pivot = dq[0].real;
+        float rx = 0, ry = 0, rz = 0, rw = 0, dx = 0, dy = 0, dz = 0, dw = 0;
+        for (int i = 0; i < dq.length; i++) {
+            final var real = dq[i].real;
+            final var dual = dq[i].dual;
+            final float w = pivot.dot(real) < 0 ? -weights[i] : weights[i];
+            rx += real.x() * w; ry += real.y() * w; rz += real.z() * w; rw += real.w() * w;
+            dx += dual.x() * w; dy += dual.y() * w; dz += dual.z() * w; dw += dual.w() * w;
+        }
+        return new DualQuaternionF32(new QuaternionF32(rx, ry, rz, rw), new QuaternionF32(dx, dy, dz, dw)).normalize();
+    }
+
+    /// Dual linear blending of two dual quaternions, the rigid counterpart of a matrix lerp.
+    /// @param alpha the interpolation factor, `0` returns `this` and `1` returns `end`.
+    /// @see #blend(DualQuaternionF32[], float[])
+    public DualQuaternionF32 blend(DualQuaternionF32 end, float alpha) {
+        final float b = real.dot(end.real) < 0 ? -alpha : alpha;
+        final float a = 1f - alpha;
+        return new DualQuaternionF32(real.mul(a).add(end.real.mul(b)), dual.mul(a).add(end.dual.mul(b))).normalize();
+    }
+
+    /// @return The dual quaternion with a unit real part, and a dual part orthogonal to it.
+    public DualQuaternionF32 normalize() {
+        final float length = real.length();
+        final var r = real.mul(1f / length);
+        final var d = dual.mul(1f / length);
+        return new DualQuaternionF32(r, d.add(r.mul(-r.dot(d))));
+    }
+
+    /// @return The dual quaternion conjugating both parts, which is the inverse of a unit dual quaternion.
+    public DualQuaternionF32 conjugate() {
+        return new DualQuaternionF32(real.conjugate(), dual.conjugate());
+    }
+
+    /// @return The inverse transformation, `this * inverse` is the identity.
+    /// @apiNote Works with non unit dual quaternions too, the real part cannot be zero.
+    public DualQuaternionF32 inverse() {
+        final float length2 = real.length2();
+        final var r = real.conjugate().mul(1f / length2);
+        return new DualQuaternionF32(r, r.mul(dual).mul(r).mul(-1f));
+    }
+
+    /// Returns the product of `this` dual quaternion and `other`.
+    /// @return a new dual quaternion equal to `this * other`, applying `other` first and `this` after, like matrices.
+    /// @apiNote Order is important! `this * other != other * this`
+    public DualQuaternionF32 mul(DualQuaternionF32 other) {
+        return new DualQuaternionF32(real.mul(other.real), real.mul(other.dual).add(dual.mul(other.real)));
+    }
+
+    /// @return The rotation of the transformation.
+    public QuaternionF32 rotation() {
+        return real;
+    }
+
+    /// @return The translation of the transformation, `2 * dual * conjugate(real)`.
+    public Vector3F32 translation() {
+        final float rx = real.x(), ry = real.y(), rz = real.z(), rw = real.w();
+        final float dx = dual.x(), dy = dual.y(), dz = dual.z(), dw = dual.w();
+        return new Vector3F32(
+                2f * (rw * dx - dw * rx + (ry * dz - rz * dy)),
+                2f * (rw * dy - dw * ry + (rz * dx - rx * dz)),
+                2f * (rw * dz - dw * rz + (rx * dy - ry * dx))
+        );
+    }
+
+    /// Transforms the point, rotating and then translating it.
+    /// @return a new transformed point.
+    public Vector3F32 transform(Vector3F32 point) {
+        final var rotated = rotate(point);
+        final var translation = translation();
+        return new Vector3F32(rotated.x() + translation.x(), rotated.y() + translation.y(), rotated.z() + translation.z());
+    }
+
+    /// Rotates the direction, ignoring the translation.
+    /// @return a new rotated direction.
+    public Vector3F32 rotate(Vector3F32 direction) {
+        final float qx = real.x(), qy = real.y(), qz = real.z(), qw = real.w();
+        final float vx = direction.x(), vy = direction.y(), vz = direction.z();
+        // Same expansion of QuaternionF32#rotate, without normalizing, since the real part is already unit.
+        final float tx = 2f * (qy * vz - qz * vy);
+        final float ty = 2f * (qz * vx - qx * vz);
+        final float tz = 2f * (qx * vy - qy * vx);
+        return new Vector3F32(
+                vx + qw * tx + (qy * tz - qz * ty),
+                vy + qw * ty + (qz * tx - qx * tz),
+                vz + qw * tz + (qx * ty - qy * tx)
+        );
+    }
+
+    /// @return The rigid transformation matrix.
+    public Matrix4F32 asMatrix4() {
+        return Matrix4F32.fromTR(translation(), real);
+    }
+
+    /// Writes the packed components at the logical index, in dual quaternions, half the floats of a {@link Matrix4F32#toMemorySegment(MemorySegment, long)}.
+    public void toMemorySegment(MemorySegment segment, long index) {
+        final long offset = index * SIZE;
+        final var layout = ValueLayout.JAVA_FLOAT;
+        segment.setAtIndex(layout, offset, real.x());
+        segment.setAtIndex(layout, offset + 1, real.y());
+        segment.setAtIndex(layout, offset + 2, real.z());
+        segment.setAtIndex(layout, offset + 3, real.w());
+        segment.setAtIndex(layout, offset + 4, dual.x());
+        segment.setAtIndex(layout, offset + 5, dual.y());
+        segment.setAtIndex(layout, offset + 6, dual.z());
+        segment.setAtIndex(layout, offset + 7, dual.w());
+    }
+
+    /// @return The double precision dual quaternion.
+    public DualQuaternion asF64() {
+        return new DualQuaternion(real.asF64(), dual.asF64());
+    }
+}
@@ -20,12 +20,17 @@ import org.lidiuma.math.matrix.Matrix3F64;
 import org.lidiuma.math.matrix.Matrix4F64;
 import org.lidiuma.math.vector.v3.Vector3F64;
 import org.lidiuma.math.vector.v4.Vector4F64;
+import org.jspecify.annotations.Nullable;
 import jdk.internal.vm.annotation.LooselyConsistentValue;
 import static org.lidiuma.math.FloatingUtil.EPSILON;
 
 @LooselyConsistentValue
 public value record Quaternion(double x, double y, double z, double w) {
 
+    /// The max squarings of the matrix of {@link #average(Quaternion[])}, each one doubles the power of the matrix,
+    /// so the cap is only reached when its two largest eigenvalues are within rounding of each other.
+    private static final int AVERAGE_SQUARINGS = 64;
+
     public Quaternion(Vector4F64 v4) {
         this(v4.x(), v4.y(), v4.z(), v4.w());
     }
@@ -96,11 +101,11 @@ public value record Quaternion(double x, double y, double z, double w) {
     ///          perpendicular to the vectors.
     public static Quaternion fromRotationBetween(Vector3F64 v1, Vector3F64 v2) {
 
-        final double dot = Math.clamp(v1.dot(v2), -1f, 1f);
+        final double dot = Math.clamp(v1.dotD(v2), -1f, 1f);
         final var cross = v1.cross(v2);
 
         // I check if the vectors are not parallel.
-        if (cross.length2() >= EPSILON) {
+        if (cross.length2D() >= EPSILON) {
             final Radians angle = Radians.radians(Math.acos(dot));
             return fromAxisAngle(cross, angle);
         }
@@ -156,6 +161,89 @@ public value record Quaternion(double x, double y, double z, double w) {
         return result.normalize();
     }
 
+    /// Averages multiple quaternions by the given weights, with the method of Markley et al.\
+    /// The average is the principal eigenvector of `Σ weight * q * qᵀ`, found by squaring the matrix until it converges
+    /// to the projection on the eigenvector, so unlike a power iteration there's no starting guess the result depends on.
+    /// Unlike {@link #weightedSlerp(Quaternion[], double[])} the rotation does not depend on the order, up to rounding, nor on the sign of the quaternions,
+    /// and no trigonometric function is needed, so each quaternion only costs a few multiplications.
+    /// @param quat the quaternions to average.
+    /// @param weights the weight used for each quaternion, the length must be the same as the quaternions array.
+    /// @return the normalized average quaternion, with the sign of the weighted sum of the quaternions flipped on the side of the first one.
+    /// @throws IllegalArgumentException if the arrays are empty or of different lengths, or if the weights do not have a positive sum.
+    /// @apiNote
+    /// - Both arrays are only read and not modified.
+    /// - The quaternions are normalized internally, and the weights do not need to sum to 1.
+    /// - When the largest eigenvalue is not unique, e.g. two rotations 180 degrees apart with the same weight,
+    ///   the average is not unique either, and any rotation between them can be returned.
+    public static Quaternion average(Quaternion[] quat, double[] weights) {
+        if (quat.length != weights.length) throw new IllegalArgumentException("The quaternion and weights arrays do not have the same length.");
+        return average(quat, weights, 0d);
+    }
+
+    /// Averages multiple quaternions, all with the same weight.
+    /// @see #average(Quaternion[], double[])
+    public static Quaternion average(Quaternion[] quat) {
+        return average(quat, null, 1d);
+    }
+
+    private static Quaternion average(Quaternion[] quat, double @Nullable [] weights, double weight) {
+
+        if (quat.length == 0) throw new IllegalArgumentException("Provided empty quaternion array.");
+
+        // The upper triangle of the symmetric matrix, and the weighted sum with every quaternion on the side of the first.
+        double xx = 0, xy = 0, xz = 0, xw = 0, yy = 0, yz = 0, yw = 0, zz = 0, zw = 0, ww = 0;
+        double sx = 0, sy = 0, sz = 0, sw = 0;
+        final var first = quat[0];
+        for (int i = 0; i < quat.length; i++) {
+            final var q = quat[i].normalize();
+            final double w = weights == null ? weight : weights[i];
+            final double x = q.x * w, y = q.y * w, z = q.z * w, s = q.w * w;
+            xx += x * q.x; xy += x * q.y; xz += x * q.z; xw += x * q.w;
+            yy += y * q.y; yz += y * q.z; yw += y * q.w;
+            zz += z * q.z; zw += z * q.w;
+            ww += s * q.w;
+            final double sign = q.dot(first) < 0 ? -1 : 1;
+            sx += x * sign; sy += y * sign; sz += z * sign; sw += s * sign;
+        }
+
+        // The trace is the sum of the weights, since the quaternions are unit.
+        final double trace = xx + yy + zz + ww;
+        if (!(trace > 0)) throw new IllegalArgumentException("The weights do not have a positive sum.");
+        double invTrace = 1 / trace;
+        xx *= invTrace; xy *= invTrace; xz *= invTrace; xw *= invTrace; yy *= invTrace;
+        yz *= invTrace; yw *= invTrace; zz *= invTrace; zw *= invTrace; ww *= invTrace;
+        // Each square doubles the power of the matrix and dividing by the trace keeps it bounded,
+        // until it's the projection on the principal eigenvector, whose rows are all multiples of it.
+        for (int i = 0; i < AVERAGE_SQUARINGS; i++) {
+            final double nxx = xx * xx + xy * xy + xz * xz + xw * xw;
+            final double nxy = xx * xy + xy * yy + xz * yz + xw * yw;
+            final double nxz = xx * xz + xy * yz + xz * zz + xw * zw;
+            final double nxw = xx * xw + xy * yw + xz * zw + xw * ww;
+            final double nyy = xy * xy + yy * yy + yz * yz + yw * yw;
+            final double nyz = xy * xz + yy * yz + yz * zz + yw * zw;
+            final double nyw = xy * xw + yy * yw + yz * zw + yw * ww;
+            final double nzz = xz * xz + yz * yz + zz * zz + zw * zw;
+            final double nzw = xz * xw + yz * yw + zz * zw + zw * ww;
+            final double nww = xw * xw + yw * yw + zw * zw + ww * ww;
+            // The squared eigenvalues sum to the trace of the square, which is 1 only once the matrix has a single one left.
+            final double square = nxx + nyy + nzz + nww;
+            invTrace = 1 / square;
+            xx = nxx * invTrace; xy = nxy * invTrace; xz = nxz * invTrace; xw = nxw * invTrace; yy = nyy * invTrace;
+            yz = nyz * invTrace; yw = nyw * invTrace; zz = nzz * invTrace; zw = nzw * invTrace; ww = nww * invTrace;
+            if (1 - square < 1e-14) break;
+        }
+
+        // The row with the largest diagonal is the most precise multiple of the eigenvector, since the diagonal holds its squared components.
+        final Quaternion result;
+        if (xx >= yy && xx >= zz && xx >= ww) result = new Quaternion(xx, xy, xz, xw);
+        else if (yy >= zz && yy >= ww) result = new Quaternion(xy, yy, yz, yw);
+        else if (zz >= ww) result = new Quaternion(xz, yz, zz, zw);
+        else result = new Quaternion(xw, yw, zw, ww);
+        // The eigenvector has no sign, I keep the one of the weighted sum.
+        final double side = result.x * sx + result.y * sy + result.z * sz + result.w * sw;
+        return (side < 0 ? new Quaternion(-result.x, -result.y, -result.z, -result.w) : result).normalize();
+    }
+
     /// Creates a quaternion representing a rotation from three orthogonal axes.
     ///
     /// The method computes the quaternion using the matrix trace to select the largest component first,
@@ -223,11 +311,16 @@ public value record Quaternion(double x, double y, double z, double w) {
         return new Vector4F64(x(), y(), z(), w());
     }
 
+    /// @return The single precision quaternion.
+    public QuaternionF32 asF32() {
+        return new QuaternionF32((float) x, (float) y, (float) z, (float) w);
+    }
+
     /**
      * @return the Euclidean length of this quaternion.
      */
     public double length() {
-        return v4().length();
+        return v4().lengthD();
     }
 
     /**
@@ -285,7 +378,7 @@ public value record Quaternion(double x, double y, double z, double w) {
      * @return the length of this quaternion without square root
      */
     public double length2() {
-        return v4().length2();
+        return v4().length2D();
     }
 
     /**
@@ -436,7 +529,7 @@ public value record Quaternion(double x, double y, double z, double w) {
      * @return the dot product of this and the other quaternion.
      */
     public double dot(Quaternion other) {
-        return v4().dot(other.v4());
+        return v4().dotD(other.v4());
     }
 
     /**
@@ -446,7 +539,7 @@ public value record Quaternion(double x, double y, double z, double w) {
      * @return this quaternion for chaining.
      */
     public Quaternion mul(double scalar) {
-        return new Quaternion(v4().mul(scalar));
+        return new Quaternion(v4().mulD(scalar));
     }
 
     /// Returns the axis-angle representation of this quaternion's rotation.
@@ -486,7 +579,7 @@ public value record Quaternion(double x, double y, double z, double w) {
     public SwingTwist swingTwist(Vector3F64 axis) {
 
         final var norm = axis.normalize();
-        final double dot = v4().asV3().dot(norm);
+        final double dot = v4().asV3().dotD(norm);
 
         var twist = new Quaternion(norm.x() * dot, norm.y() * dot, norm.z() * dot, w).normalize();
         if (dot < 0) twist = twist.mul(-1f);
@@ -503,7 +596,7 @@ public value record Quaternion(double x, double y, double z, double w) {
      */
     public Radians angleAround(Vector3F64 axis) {
 
-        final double dot = v4().asV3().dot(axis);
+        final double dot = v4().asV3().dotD(axis);
         final var qAxis = new Quaternion(axis.x() * dot, axis.y() * dot, axis.z() * dot, w);
         final double l2 = qAxis.length2();
 
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.rotation;
+
+import org.lidiuma.math.SimdUtil;
+import org.jspecify.annotations.Nullable;
+import java.lang.foreign.MemorySegment;
+import java.util.Objects;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+
+/// Bulk interpolation of packed quaternions, each one stored as `x, y, z, w` at index `i * 4`.\
+/// The quaternion `i` of `from` is interpolated towards the quaternion `i` of `to`, always through the shortest path,
+/// either with a shared alpha or with the alpha `i` of an array, and the result is written in `dst`, which can be one of the inputs.
+///
+/// Three interpolations are available:
+/// - {@link #slerp(float[], float[], float, float[], int)}, the exact spherical interpolation, like {@link Quaternion#slerp(Quaternion, double)}.
+/// - {@link #fastSlerp(float[], float[], float, float[], int)}, a normalized lerp with a corrected alpha,
+///   which stays within {@link #FAST_SLERP_ERROR} radians of the exact rotation without any trigonometric function.
+/// - {@link #nlerp(float[], float[], float, float[], int)}, the normalized lerp, the cheapest but not constant speed.
+///
+/// @apiNote The inputs must be unit quaternions, they are not normalized like in {@link Quaternion}.
+/// @implNote The `float[]` versions of the fast slerp and the nlerp use the SIMD paths when {@link SimdUtil#AVAILABLE} is true,
+/// processing one quaternion per lane, the results match the scalar ones exactly.
+public value class QuaternionBatch {
+
+    /// The max angle, in radians, between the rotations of {@link #fastSlerp(float[], float[], float, float[], int)} and the exact slerp.
+    public static final float FAST_SLERP_ERROR = 1e-3f;
+
+    static final int NLERP = 0;
+    static final int FAST_SLERP = 1;
+    static final int SLERP = 2;
+
+    /// Under this angle cosine distance the slerp falls back to the nlerp, like {@link Quaternion#slerp(Quaternion, double)}.
+    private static final float SLERP_EPSILON = 1e-4f;
+
+    private QuaternionBatch() {}
+
+    /* ===== float[] ===== */
+
+    public static void slerp(float[] from, float[] to, float alpha, float[] dst, int count) {
+        interpolate(from, to, null, alpha, dst, count, SLERP);
+    }
+
+    public static void slerp(float[] from, float[] to, float[] alphas, float[] dst, int count) {
+        interpolate(from, to, alphas, 0, dst, count, SLERP);
+    }
+
+    public static void fastSlerp(float[] from, float[] to, float alpha, float[] dst, int count) {
+        interpolate(from, to, null, alpha, dst, count, FAST_SLERP);
+    }
+
+    public static void fastSlerp(float[] from, float[] to, float[] alphas, float[] dst, int count) {
+        interpolate(from, to, alphas, 0, dst, count, FAST_SLERP);
+    }
+
+    public static void nlerp(float[] from, float[] to, float alpha, float[] dst, int count) {
+        interpolate(from, to, null, alpha, dst, count, NLERP);
+    }
+
+    public static void nlerp(float[] from, float[] to, float[] alphas, float[] dst, int count) {
+        interpolate(from, to, alphas, 0, dst, count, NLERP);
+    }
+
+    /* ===== MemorySegment ===== */
+
+    /// @apiNote The segments hold packed `float`s.
+    public static void slerp(MemorySegment from, MemorySegment to, float alpha, MemorySegment dst, long count) {
+        interpolate(from, to, null, alpha, dst, count, SLERP);
+    }
+
+    /// @apiNote The segments hold packed `float`s.
+    public static void slerp(MemorySegment from, MemorySegment to, MemorySegment alphas, MemorySegment dst, long count) {
+        interpolate(from, to, alphas, 0, dst, count, SLERP);
+    }
+
+    /// @apiNote The segments hold packed `float`s.
+    public static void fastSlerp(MemorySegment from, MemorySegment to, float alpha, MemorySegment dst, long count) {
+        interpolate(from, to, null, alpha, dst, count, FAST_SLERP);
+    }
+
+    /// @apiNote The segments hold packed `float`s.
+    public static void fastSlerp(MemorySegment from, MemorySegment to, MemorySegment alphas, MemorySegment dst, long count) {
+        interpolate(from, to, alphas, 0, dst, count, FAST_SLERP);
+    }
+
+    /// @apiNote The segments hold packed `float`s.
+    public static void nlerp(MemorySegment from, MemorySegment to, float alpha, MemorySegment dst, long count) {
+        interpolate(from, to, null, alpha, dst, count, NLERP);
+    }
+
+    /// @apiNote The segments hold packed `float`s.
+    public static void nlerp(MemorySegment from, MemorySegment to, MemorySegment alphas, MemorySegment dst, long count) {
+        interpolate(from, to, alphas, 0, dst, count, NLERP);
+    }
+
+    /* ===== double[] ===== */
+
+    public static void slerp(double[] from, double[] to, double alpha, double[] dst, int count) {
+        interpolate(from, to, null, alpha, dst, count, SLERP);
+    }
+
+    public static void slerp(double[] from, double[] to, double[] alphas, double[] dst, int count) {
+        interpolate(from, to, alphas, 0, dst, count, SLERP);
+    }
+
+    public static void fastSlerp(double[] from, double[] to, double alpha, double[] dst, int count) {
+        interpolate(from, to, null, alpha, dst, count, FAST_SLERP);
+    }
+
+    public static void fastSlerp(double[] from, double[] to, double[] alphas, double[] dst, int count) {
+        interpolate(from, to, alphas, 0, dst, count, FAST_SLERP);
+    }
+
+    public static void nlerp(double[] from, double[] to, double alpha, double[] dst, int count) {
+        interpolate(from, to, null, alpha, dst, count, NLERP);
+    }
+
+    public static void nlerp(double[] from, double[] to, double[] alphas, double[] dst, int count) {
+        interpolate(from, to, alphas, 0, dst, count, NLERP);
+    }
+
+    /* ===== Kernels ===== */
+
+    private static void interpolate(float[] from, float[] to, float @Nullable [] alphas, float alpha, float[] dst, int count, int mode) {
+        Objects.checkFromIndexSize(0, count * 4, Math.min(Math.min(from.length, to.length), dst.length));
+        if (alphas != null) Objects.checkFromIndexSize(0, count, alphas.length);
+        int done = 0;
+        if (SimdUtil.AVAILABLE && mode != SLERP) done = QuaternionBatchSimd.interpolate(from, to, alphas, alpha, dst, count, mode);
+        for (int i = done; i < count; i++) {
+            final int q = i * 4;
+            interpolate(
+                    from[q], from[q + 1], from[q + 2], from[q + 3],
+                    to[q], to[q + 1], to[q + 2], to[q + 3],
+                    alphas == null ? alpha : alphas[i],
+                    mode, dst, q
+            );
+        }
+    }
+
+    private static void interpolate(MemorySegment from, MemorySegment to, @Nullable MemorySegment alphas, float alpha, MemorySegment dst, long count, int mode) {
+        final long floats = Math.min(Math.min(from.byteSize(), to.byteSize()), dst.byteSize()) / Float.BYTES;
+        Objects.checkFromIndexSize(0, count * 4, floats);
+        if (alphas != null) Objects.checkFromIndexSize(0, count, alphas.byteSize() / Float.BYTES);
+        final float[] result = new float[4];
+        for (long i = 0; i < count; i++) {
+            final long q = i * 4;
+            interpolate(
+                    from.getAtIndex(JAVA_FLOAT, q), from.getAtIndex(JAVA_FLOAT, q + 1), from.getAtIndex(JAVA_FLOAT, q + 2), from.getAtIndex(JAVA_FLOAT, q + 3),
+                    to.getAtIndex(JAVA_FLOAT, q), to.getAtIndex(JAVA_FLOAT, q + 1), to.getAtIndex(JAVA_FLOAT, q + 2), to.getAtIndex(JAVA_FLOAT, q + 3),
+                    alphas == null ? alpha : alphas.getAtIndex(JAVA_FLOAT, i),
+                    mode, result, 0
+            );
+            MemorySegment.copy(result, 0, dst, JAVA_FLOAT, q * Float.BYTES, 4);
+        }
+    }
+
+    private static void interpolate(float ax, float ay, float az, float aw,
+                                    float bx, float by, float bz, float bw,
+                                    float t, int mode, float[] dst, int offset) {
+        final float dot = ax * bx + ay * by + az * bz + aw * bw;
+        // I flip the target when needed, so that the interpolation goes through the shortest path.
+        final float sign = dot < 0 ? -1f : 1f;
+        bx *= sign; by *= sign; bz *= sign; bw *= sign;
+        final float d = Math.abs(dot);
+        float s0, s1;
+        if (mode == SLERP && 1 - d > SLERP_EPSILON) {
+            final float angle = (float) Math.acos(d);
+            final float invSin = 1f / (float) Math.sin(angle);
+            s0 = (float) Math.sin((1 - t) * angle) * invSin;
+            s1 = (float) Math.sin(t * angle) * invSin;
+            dst[offset] = s0 * ax + s1 * bx;
+            dst[offset + 1] = s0 * ay + s1 * by;
+            dst[offset + 2] = s0 * az + s1 * bz;
+            dst[offset + 3] = s0 * aw + s1 * bw;
+            return;
+        }
+        if (mode == FAST_SLERP) t = fastSlerpAlpha(t, d);
+        s0 = 1 - t;
+        s1 = t;
+        final float rx = s0 * ax + s1 * bx, ry = s0 * ay + s1 * by, rz = s0 * az + s1 * bz, rw = s0 * aw + s1 * bw;
+        final float invLength = 1f / (float) Math.sqrt(rx * rx + ry * ry + rz * rz + rw * rw);
+        dst[offset] = rx * invLength;
+        dst[offset + 1] = ry * invLength;
+        dst[offset + 2] = rz * invLength;
+        dst[offset + 3] = rw * invLength;
+    }
+
+    /// Corrects the alpha of the nlerp so that it moves at almost constant speed, like the slerp.
+    /// @param d the cosine of the angle between the quaternions, not negative.
+    /// @implNote The correction is a polynomial fitted on the slerp, see "Approximating slerp" by Arseny Kapoulkine.
+    static float fastSlerpAlpha(float t, float d) {
+        final float a = 1.0904f + d * (-3.2452f + d * (3.55645f - d * 1.43519f));
+        final float b = 0.848013f + d * (-1.06021f + d * 0.215638f);
+        final float h = t - 0.5f;
+        final float k = a * h * h + b;
+        return t + t * h * (t - 1) * k;
+    }
+
+    private static void interpolate(double[] from, double[] to, double @Nullable [] alphas, double alpha, double[] dst, int count, int mode) {
+        Objects.checkFromIndexSize(0, count * 4, Math.min(Math.min(from.length, to.length), dst.length));
+        if (alphas != null) Objects.checkFromIndexSize(0, count, alphas.length);
+        for (int i = 0; i < count; i++) {
+            final int q = i * 4;
+            final double ax = from[q], ay = from[q + 1], az = from[q + 2], aw = from[q + 3];
+            double bx = to[q], by = to[q + 1], bz = to[q + 2], bw = to[q + 3];
+            double t = alphas == null ? alpha : alphas[i];
+            final double dot = ax * bx + ay * by + az * bz + aw * bw;
+            final double sign = dot < 0 ? -1 : 1;
+            bx *= sign; by *= sign; bz *= sign; bw *= sign;
+            final double d = Math.abs(dot);
+            if (mode == SLERP && 1 - d > SLERP_EPSILON) {
+                final double angle = Math.acos(d);
+                final double invSin = 1 / Math.sin(angle);
+                final double s0 = Math.sin((1 - t) * angle) * invSin;
+                final double s1 = Math.sin(t * angle) * invSin;
+                dst[q] = s0 * ax + s1 * bx;
+                dst[q + 1] = s0 * ay + s1 * by;
+                dst[q + 2] = s0 * az + s1 * bz;
+                dst[q + 3] = s0 * aw + s1 * bw;
+                continue;
+            }
+            if (mode == FAST_SLERP) {
+                final double a = 1.0904 + d * (-3.2452 + d * (3.55645 - d * 1.43519));
+                final double b = 0.848013 + d * (-1.06021 + d * 0.215638);
+                final double h = t - 0.5;
+                t = t + t * h * (t - 1) * (a * h * h + b);
+            }
+            final double s0 = 1 - t;
+            final double rx = s0 * ax + t * bx, ry = s0 * ay + t * by, rz = s0 * az + t * bz, rw = s0 * aw + t * bw;
+            final double invLength = 1 / Math.sqrt(rx * rx + ry * ry + rz * rz + rw * rw);
+            dst[q] = rx * invLength;
+            dst[q + 1] = ry * invLength;
+            dst[q + 2] = rz * invLength;
+            dst[q + 3] = rw * invLength;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.rotation;
+
+import org.jspecify.annotations.Nullable;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/// SIMD version of the {@link QuaternionBatch} nlerp and fast slerp, each lane holds a whole quaternion,
+/// gathered from the packed `x, y, z, w` components.
+/// @implNote The class is only loaded when {@link org.lidiuma.math.SimdUtil#AVAILABLE} is true,
+/// the operations are issued in the same order of the scalar ones, so the results match exactly.
+value class QuaternionBatchSimd {
+
+    /// The widest species of the platform, e.g. 8 quaternions per iteration on AVX2.
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+    /// The offset of each lane quaternion from the first one of the iteration.
+    private static final int[] LANE_OFFSETS = new int[SPECIES.length()];
+
+    static {
+        for (int i = 0; i < LANE_OFFSETS.length; i++) LANE_OFFSETS[i] = i * 4;
+    }
+
+    private QuaternionBatchSimd() {}
+
+    /// @return The number of quaternions interpolated, the rest is left to the scalar tail.
+    static int interpolate(float[] from, float[] to, float @Nullable [] alphas, float alpha, float[] dst, int count, int mode) {
+        final int bound = SPECIES.loopBound(count);
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            final int q = i * 4;
+            final var ax = FloatVector.fromArray(SPECIES, from, q, LANE_OFFSETS, 0);
+            final var ay = FloatVector.fromArray(SPECIES, from, q + 1, LANE_OFFSETS, 0);
+            final var az = FloatVector.fromArray(SPECIES, from, q + 2, LANE_OFFSETS, 0);
+            final var aw = FloatVector.fromArray(SPECIES, from, q + 3, LANE_OFFSETS, 0);
+            var bx = FloatVector.fromArray(SPECIES, to, q, LANE_OFFSETS, 0);
+            var by = FloatVector.fromArray(SPECIES, to, q + 1, LANE_OFFSETS, 0);
+            var bz = FloatVector.fromArray(SPECIES, to, q + 2, LANE_OFFSETS, 0);
+            var bw = FloatVector.fromArray(SPECIES, to, q + 3, LANE_OFFSETS, 0);
+            var t = alphas == null ? FloatVector.broadcast(SPECIES, alpha) : FloatVector.fromArray(SPECIES, alphas, i);
+
+            final var dot = ax.mul(bx).add(ay.mul(by)).add(az.mul(bz)).add(aw.mul(bw));
+            final var sign = FloatVector.broadcast(SPECIES, 1f).blend(-1f, dot.compare(VectorOperators.LT, 0f));
+            bx = bx.mul(sign);
+            by = by.mul(sign);
+            bz = bz.mul(sign);
+            bw = bw.mul(sign);
+            if (mode == QuaternionBatch.FAST_SLERP) t = fastSlerpAlpha(t, dot.abs());
+
+            final var s0 = FloatVector.broadcast(SPECIES, 1f).sub(t);
+            final var rx = s0.mul(ax).add(t.mul(bx));
+            final var ry = s0.mul(ay).add(t.mul(by));
+            final var rz = s0.mul(az).add(t.mul(bz));
+            final var rw = s0.mul(aw).add(t.mul(bw));
+            final var length2 = rx.mul(rx).add(ry.mul(ry)).add(rz.mul(rz)).add(rw.mul(rw));
+            final var invLength = FloatVector.broadcast(SPECIES, 1f).div(length2.sqrt());
+            rx.mul(invLength).intoArray(dst, q, LANE_OFFSETS, 0);
+            ry.mul(invLength).intoArray(dst, q + 1, LANE_OFFSETS, 0);
+            rz.mul(invLength).intoArray(dst, q + 2, LANE_OFFSETS, 0);
+            rw.mul(invLength).intoArray(dst, q + 3, LANE_OFFSETS, 0);
+        }
+        return bound;
+    }
+
+    /// @see QuaternionBatch#fastSlerpAlpha(float, float)
+    private static FloatVector fastSlerpAlpha(FloatVector t, FloatVector d) {
+        final var a = d.mul(d.mul(FloatVector.broadcast(SPECIES, 3.55645f).sub(d.mul(1.43519f))).add(-3.2452f)).add(1.0904f);
+        final var b = d.mul(d.mul(0.215638f).add(-1.06021f)).add(0.848013f);
+        final var h = t.sub(0.5f);
+        final var k = a.mul(h).mul(h).add(b);
+        return t.add(t.mul(h).mul(t.sub(1f)).mul(k));
+    }
+}
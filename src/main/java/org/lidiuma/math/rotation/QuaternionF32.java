@@ -0,0 +1,588 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.rotation;
+
+import org.lidiuma.math.matrix.Matrix3F32;
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v4.Vector4F32;
+import org.jspecify.annotations.Nullable;
+import jdk.internal.vm.annotation.LooselyConsistentValue;
+import static org.lidiuma.math.FloatingUtil.EPSILON;
+
+/// Single precision version of {@link Quaternion}, with the same API.\
+/// The components and the vectors never widen to `double`, only the trigonometric functions are computed by {@link Math}.
+/// @see Quaternion
+@LooselyConsistentValue
+public value record QuaternionF32(float x, float y, float z, float w) {
+
+    /// The max squarings of the matrix of {@link #average(QuaternionF32[])}, each one doubles the power of the matrix,
+    /// so the cap is only reached when its two largest eigenvalues are within rounding of each other.
+    private static final int AVERAGE_SQUARINGS = 64;
+
+    public QuaternionF32(Vector4F32 v4) {
+        this(v4.x(), v4.y(), v4.z(), v4.w());
+    }
+
+    /// @return a new identity quaternion representing no rotation.
+    public static QuaternionF32 identity() {
+        return new QuaternionF32(0, 0, 0, 1);
+    }
+
+    /// Creates a quaternion from an axis and a rotation angle in radians.
+    /// @param axis the rotation axis.
+    /// @param angle the rotation angle in radians.
+    /// @return a new quaternion representing the rotation.
+    /// @apiNote The axis is normalized automatically.
+    public static QuaternionF32 fromAxisAngle(Vector3F32 axis, Radians angle) {
+        final float x = axis.x(), y = axis.y(), z = axis.z();
+        // I halve the angle before narrowing it, so that e.g. 180 degrees keeps a `w` close to 0 instead of the float error of PI.
+        final double half = angle.value() * .5;
+        final float sin = (float) Math.sin(half) / (float) Math.sqrt(x * x + y * y + z * z);
+        final float cos = (float) Math.cos(half);
+        return new QuaternionF32(x * sin, y * sin, z * sin, cos);
+    }
+
+    /// Creates a new quaternion from the given Euler angles in radians.
+    ///
+    /// @param yaw   rotation around the y-axis in radians.
+    /// @param pitch rotation around the x-axis in radians.
+    /// @param roll  rotation around the z-axis in radians.
+    /// @return a new quaternion representing the rotation.
+    /// @apiNote Euler angles are applied in y (yaw), x (pitch), z (roll) order.
+    public static QuaternionF32 fromEulerAngles(Radians yaw, Radians pitch, Radians roll) {
+
+        final double hr = roll.value() * 0.5;
+        final float shr = (float) Math.sin(hr);
+        final float chr = (float) Math.cos(hr);
+
+        final double hp = pitch.value() * 0.5;
+        final float shp = (float) Math.sin(hp);
+        final float chp = (float) Math.cos(hp);
+
+        final double hy = yaw.value() * 0.5;
+        final float shy = (float) Math.sin(hy);
+        final float chy = (float) Math.cos(hy);
+
+        final float chyShp = chy * shp;
+        final float shyChp = shy * chp;
+        final float chyChp = chy * chp;
+        final float shyShp = shy * shp;
+
+        final float newX = (chyShp * chr) + (shyChp * shr);
+        final float newY = (shyChp * chr) - (chyShp * shr);
+        final float newZ = (chyChp * shr) - (shyShp * chr);
+        final float newW = (chyChp * chr) + (shyShp * shr);
+        return new QuaternionF32(newX, newY, newZ, newW);
+    }
+
+    /// Creates a quaternion representing the rotation from one vector to another.
+    ///
+    /// @param v1 the starting normalized vector.
+    /// @param v2 the target normalized vector.
+    /// @return a new quaternion that rotates v1 onto v2.
+    /// @apiNote If the vectors are already parallel, the identity quaternion is returned.
+    ///          If the vectors are antiparallel, the rotation is 180° around any axis
+    ///          perpendicular to the vectors.
+    public static QuaternionF32 fromRotationBetween(Vector3F32 v1, Vector3F32 v2) {
+
+        final float dot = Math.clamp(v1.dotF(v2), -1f, 1f);
+        final var cross = v1.cross(v2);
+
+        // I check if the vectors are not parallel.
+        if (cross.length2F() >= EPSILON) {
+            final Radians angle = Radians.radians(Math.acos(dot));
+            return fromAxisAngle(cross, angle);
+        }
+
+        // When the vectors are parallel.
+        if (dot > 0f) return identity();
+        // In case the vectors are antiparallel, I need to rotate 180 degrees.
+        final Vector3F32 perpendicular = Math.abs(v1.x()) < 0.9f ?
+                new Vector3F32(1f, 0f, 0f) :
+                new Vector3F32(0f, 1f, 0f);
+        return fromAxisAngle(perpendicular.cross(v1), Radians.radians(Math.PI));
+    }
+
+    /// Spherical linearly interpolates multiple quaternions by the given weights.
+    /// @param quat the quaternions to interpolate.
+    /// @param weights the weight used for each quaternion, the length must be the same as the quaternions array.
+    /// @return the interpolated weighted quaternion.
+    /// @apiNote
+    /// - Both arrays are only read and not modified.
+    /// - Multiplication is performed left-to-right.
+    public static QuaternionF32 weightedSlerp(QuaternionF32[] quat, float[] weights) {
+
+        if (quat.length == 0) throw new IllegalArgumentException("Provided empty quaternion array.");
+        if (quat.length != weights.length) throw new IllegalArgumentException("The quaternion and weights arrays do not have the same length.");
+
+        QuaternionF32 result = quat[0].pow(weights[0]);
+
+        for (int i = 1; i < quat.length; i++) {
+            final QuaternionF32 exp = quat[i].pow(weights[i]);
+            result = result.mul(exp);
+        }
+        return result.normalize();
+    }
+
+    /// Spherical linearly interpolates multiple quaternions.
+    /// @param quat the quaternions to interpolate.
+    /// @return the interpolated weighted quaternion.
+    /// @apiNote
+    /// - The array is only read and not modified.
+    /// - All quaternions have the same weight `(1 / array length)`.
+    /// - Multiplication is performed left-to-right.
+    public static QuaternionF32 weightedSlerp(QuaternionF32[] quat) {
+
+        if (quat.length == 0) throw new IllegalArgumentException("Provided empty quaternion array.");
+
+        final float weight = 1f / quat.length;
+        QuaternionF32 result = quat[0].pow(weight);
+
+        for (int i = 1; i < quat.length; i++) {
+            final QuaternionF32 exp = quat[i].pow(weight);
+            result = result.mul(exp);
+        }
+        return result.normalize();
+    }
+
+    /// Averages multiple quaternions by the given weights, with the method of Markley et al.\
+    /// The average is the principal eigenvector of `Σ weight * q * qᵀ`, found by squaring the matrix until it converges
+    /// to the projection on the eigenvector, so unlike a power iteration there's no starting guess the result depends on.
+    /// Unlike {@link #weightedSlerp(QuaternionF32[], float[])} the rotation does not depend on the order, up to rounding, nor on the sign of the quaternions,
+    /// and no trigonometric function is needed, so each quaternion only costs a few multiplications.
+    /// @param quat the quaternions to average.
+    /// @param weights the weight used for each quaternion, the length must be the same as the quaternions array.
+    /// @return the normalized average quaternion, with the sign of the weighted sum of the quaternions flipped on the side of the first one.
+    /// @throws IllegalArgumentException if the arrays are empty or of different lengths, or if the weights do not have a positive sum.
+    /// @apiNote
+    /// - Both arrays are only read and not modified.
+    /// - The quaternions are normalized internally, and the weights do not need to sum to 1.
+    /// - When the largest eigenvalue is not unique, e.g. two rotations 180 degrees apart with the same weight,
+    ///   the average is not unique either, and any rotation between them can be returned.
+    public static QuaternionF32 average(QuaternionF32[] quat, float[] weights) {
+        if (quat.length != weights.length) throw new IllegalArgumentException("The quaternion and weights arrays do not have the same length.");
+        return average(quat, weights, 0f);
+    }
+
+    /// Averages multiple quaternions, all with the same weight.
+    /// @see #average(QuaternionF32[], float[])
+    public static QuaternionF32 average(QuaternionF32[] quat) {
+        return average(quat, null, 1f);
+    }
+
+    private static QuaternionF32 average(QuaternionF32[] quat, float @Nullable [] weights, float weight) {
+
+        if (quat.length == 0) throw new IllegalArgumentException("Provided empty quaternion array.");
+
+        // The upper triangle of the symmetric matrix, and the weighted sum with every quaternion on the side of the first.
+        float xx = 0, xy = 0, xz = 0, xw = 0, yy = 0, yz = 0, yw = 0, zz = 0, zw = 0, ww = 0;
+        float sx = 0, sy = 0, sz = 0, sw = 0;
+        final var first = quat[0];
+        for (int i = 0; i < quat.length; i++) {
+            final var q = quat[i].normalize();
+            final float w = weights == null ? weight : weights[i];
+            final float x = q.x * w, y = q.y * w, z = q.z * w, s = q.w * w;
+            xx += x * q.x; xy += x * q.y; xz += x * q.z; xw += x * q.w;
+            yy += y * q.y; yz += y * q.z; yw += y * q.w;
+            zz += z * q.z; zw += z * q.w;
+            ww += s * q.w;
+            final float sign = q.dot(first) < 0 ? -1 : 1;
+            sx += x * sign; sy += y * sign; sz += z * sign; sw += s * sign;
+        }
+
+        // The trace is the sum of the weights, since the quaternions are unit.
+        final float trace = xx + yy + zz + ww;
+        if (!(trace > 0)) throw new IllegalArgumentException("The weights do not have a positive sum.");
+        float invTrace = 1f / trace;
+        xx *= invTrace; xy *= invTrace; xz *= invTrace; xw *= invTrace; yy *= invTrace;
+        yz *= invTrace; yw *= invTrace; zz *= invTrace; zw *= invTrace; ww *= invTrace;
+        // Each square doubles the power of the matrix and dividing by the trace keeps it bounded,
+        // until it's the projection on the principal eigenvector, whose rows are all multiples of it.
+        for (int i = 0; i < AVERAGE_SQUARINGS; i++) {
+            final float nxx = xx * xx + xy * xy + xz * xz + xw * xw;
+            final float nxy = xx * xy + xy * yy + xz * yz + xw * yw;
+            final float nxz = xx * xz + xy * yz + xz * zz + xw * zw;
+            final float nxw = xx * xw + xy * yw + xz * zw + xw * ww;
+            final float nyy = xy * xy + yy * yy + yz * yz + yw * yw;
+            final float nyz = xy * xz + yy * yz + yz * zz + yw * zw;
+            final float nyw = xy * xw + yy * yw + yz * zw + yw * ww;
+            final float nzz = xz * xz + yz * yz + zz * zz + zw * zw;
+            final float nzw = xz * xw + yz * yw + zz * zw + zw * ww;
+            final float nww = xw * xw + yw * yw + zw * zw + ww * ww;
+            // The squared eigenvalues sum to the trace of the square, which is 1 only once the matrix has a single one left.
+            final float square = nxx + nyy + nzz + nww;
+            invTrace = 1f / square;
+            xx = nxx * invTrace; xy = nxy * invTrace; xz = nxz * invTrace; xw = nxw * invTrace; yy = nyy * invTrace;
+            yz = nyz * invTrace; yw = nyw * invTrace; zz = nzz * invTrace; zw = nzw * invTrace; ww = nww * invTrace;
+            if (1 - square < 1e-6f) break;
+        }
+
+        // The row with the largest diagonal is the most precise multiple of the eigenvector, since the diagonal holds its squared components.
+        final QuaternionF32 result;
+        if (xx >= yy && xx >= zz && xx >= ww) result = new QuaternionF32(xx, xy, xz, xw);
+        else if (yy >= zz && yy >= ww) result = new QuaternionF32(xy, yy, yz, yw);
+        else if (zz >= ww) result = new QuaternionF32(xz, yz, zz, zw);
+        else result = new QuaternionF32(xw, yw, zw, ww);
+        // The eigenvector has no sign, I keep the one of the weighted sum.
+        final float side = result.x * sx + result.y * sy + result.z * sz + result.w * sw;
+        return (side < 0 ? new QuaternionF32(-result.x, -result.y, -result.z, -result.w) : result).normalize();
+    }
+
+    /// Creates a quaternion representing a rotation from three orthogonal axes.
+    ///
+    /// The method computes the quaternion using the matrix trace to select the largest component first,
+    /// which ensures numerical stability and avoids division by very small numbers.
+    /// @return a quaternion representing the same rotation as the given axes.
+    /// @apiNote The axes are normalized internally.
+    public static QuaternionF32 fromAxes(Vector3F32 xAxis, Vector3F32 yAxis, Vector3F32 zAxis) {
+        final var x = xAxis.normalize();
+        final var y = yAxis.normalize();
+        final var z = zAxis.normalize();
+        return fromAxes(x.x(), x.y(), x.z(), y.x(), y.y(), y.z(), z.x(), z.y(), z.z());
+    }
+
+    /// @see #fromAxes(Vector3F32, Vector3F32, Vector3F32)
+    /// @apiNote The axes must be already normalized.
+    private static QuaternionF32 fromAxes(float xx, float xy, float xz,
+                                          float yx, float yy, float yz,
+                                          float zx, float zy, float zz) {
+
+        final float trace = xx + yy + zz;
+        final float qw, qx, qy, qz;
+
+        // We make the division safe by ensuring that s is always bigger or equal than 1.
+        if (trace >= 0f) {
+            final float s = (float) Math.sqrt(trace + 1f);
+            final float ss = .5f / s;
+            qw = .5f * s; // |w| >= .5
+            qx = (zy - yz) * ss;
+            qy = (xz - zx) * ss;
+            qz = (yx - xy) * ss;
+        } else if ((xx > yy) && (xx > zz)) {
+            final float s = (float) Math.sqrt(1f + xx - yy - zz);
+            final float ss = .5f / s;
+            qx = s * .5f; // |x| >= .5
+            qy = (yx + xy) * ss;
+            qz = (xz + zx) * ss;
+            qw = (zy - yz) * ss;
+        } else if (yy > zz) {
+            final float s = (float) Math.sqrt(1f + yy - xx - zz);
+            final float ss = .5f / s;
+            qy = s * .5f; // |y| >= .5
+            qx = (yx + xy) * ss;
+            qz = (zy + yz) * ss;
+            qw = (xz - zx) * ss;
+        } else {
+            final float s = (float) Math.sqrt(1f + zz - xx - yy);
+            final float ss = .5f / s;
+            qz = s * .5f; // |z| >= .5
+            qx = (xz + zx) * ss;
+            qy = (zy + yz) * ss;
+            qw = (yx - xy) * ss;
+        }
+        return new QuaternionF32(qx, qy, qz, qw);
+    }
+
+    /// @return A quaternion representing the rotation of the matrix.
+    public static QuaternionF32 fromMatrix4(Matrix4F32 matrix) {
+        return fromMatrix3(matrix.asMatrix3());
+    }
+
+    /// @return A quaternion representing the rotation of the matrix, whose rows are normalized to remove the scaling.
+    public static QuaternionF32 fromMatrix3(Matrix3F32 matrix) {
+        final var x = new Vector3F32(matrix.m00(), matrix.m01(), matrix.m02());
+        final var y = new Vector3F32(matrix.m10(), matrix.m11(), matrix.m12());
+        final var z = new Vector3F32(matrix.m20(), matrix.m21(), matrix.m22());
+        return fromAxes(x, y, z);
+    }
+
+    public Vector4F32 v4() {
+        return new Vector4F32(x, y, z, w);
+    }
+
+    /// @return The double precision quaternion.
+    public Quaternion asF64() {
+        return new Quaternion(x, y, z, w);
+    }
+
+    /// @return the Euclidean length of this quaternion.
+    public float length() {
+        return (float) Math.sqrt(length2());
+    }
+
+    /// @return the length of this quaternion without square root.
+    public float length2() {
+        return x * x + y * y + z * z + w * w;
+    }
+
+    /// Gets the pole of the gimbal lock, if any.
+    /// @return {@link GimbalPole#NORTH}, {@link GimbalPole#SOUTH}, or {@link GimbalPole#NONE}
+    public GimbalPole gimbalPole() {
+        final float t = y * x + z * w;
+        if (t > 0.499f) return GimbalPole.NORTH;
+        if (t < -0.499f) return GimbalPole.SOUTH;
+        return GimbalPole.NONE;
+    }
+
+    /// Returns the roll (rotation around the z-axis) in radians.
+    ///
+    /// @return the roll in radians, between -π and +π.
+    /// @apiNote The quaternion should be normalized for correct results.
+    public Radians roll() {
+        final GimbalPole pole = gimbalPole();
+        final double radians = switch (pole) {
+            case NORTH, SOUTH -> pole.sign * 2f * Math.atan2(y, w);
+            case NONE -> Math.atan2(2f * (w * z + y * x), 1f - 2f * (x * x + z * z));
+        };
+        return Radians.radians(radians);
+    }
+
+    /// Returns the pitch (rotation around the x-axis) in radians.
+    ///
+    /// @return the pitch in radians, between -(π/2) and +(π/2).
+    /// @apiNote The quaternion should be normalized for correct results.
+    public Radians pitch() {
+        final GimbalPole pole = gimbalPole();
+        final double radians = switch (pole) {
+            case NORTH, SOUTH -> pole.sign * Math.PI * 0.5;
+            case NONE -> Math.asin(Math.clamp(2f * (w * x - z * y), -1f, 1f));
+        };
+        return Radians.radians(radians);
+    }
+
+    /// Returns the yaw (rotation around the y-axis) in radians.
+    ///
+    /// @return the yaw in radians, between -π and +π.
+    /// @apiNote The quaternion should be normalized for correct results.
+    ///  When the quaternion is in a gimbal lock configuration, the yaw is set to zero by convention.
+    public Radians yaw() {
+        final double radians = switch (gimbalPole()) {
+            case NORTH, SOUTH -> 0.0;
+            case NONE -> Math.atan2(2f * (y * w + x * z), 1f - 2f * (y * y + x * x));
+        };
+        return Radians.radians(radians);
+    }
+
+    /// @return The quaternion with unit length.
+    public QuaternionF32 normalize() {
+        return mul(1f / length());
+    }
+
+    /// @return The conjugated quaternion
+    public QuaternionF32 conjugate() {
+        return new QuaternionF32(-x, -y, -z, w);
+    }
+
+    /// Rotates the given vector using this quaternion.
+    ///
+    /// @param v3 the vector to rotate
+    /// @return a new rotated vector.
+    /// @apiNote The quaternion is normalized internally.
+    public Vector3F32 rotate(Vector3F32 v3) {
+        final var norm = normalize();
+        final float qx = norm.x, qy = norm.y, qz = norm.z, qw = norm.w;
+        final float vx = v3.x(), vy = v3.y(), vz = v3.z();
+        // I expand `q * v * q^-1` as `v + w * t + q × t`, with `t = 2 * (q × v)`, which avoids the two full products.
+        final float tx = 2f * (qy * vz - qz * vy);
+        final float ty = 2f * (qz * vx - qx * vz);
+        final float tz = 2f * (qx * vy - qy * vx);
+        return new Vector3F32(
+                vx + qw * tx + (qy * tz - qz * ty),
+                vy + qw * ty + (qz * tx - qx * tz),
+                vz + qw * tz + (qx * ty - qy * tx)
+        );
+    }
+
+    /// Returns the Hamilton product of `this` quaternion and `other`.
+    ///
+    /// @param other the quaternion to multiply.
+    /// @return a new quaternion equal to `this * other`
+    /// @apiNote Order is important! `this * other != other * this`
+    public QuaternionF32 mul(QuaternionF32 other) {
+        final float newX = w * other.x + x * other.w + y * other.z - z * other.y;
+        final float newY = w * other.y + y * other.w + z * other.x - x * other.z;
+        final float newZ = w * other.z + z * other.w + x * other.y - y * other.x;
+        final float newW = w * other.w - x * other.x - y * other.y - z * other.z;
+        return new QuaternionF32(newX, newY, newZ, newW);
+    }
+
+    /// Returns the Hamilton product of `other` and `this` quaternion.
+    ///
+    /// @param other the quaternion to multiply.
+    /// @return a new quaternion equal to `other * this`
+    /// @apiNote Order is important! `other * this != this * other`
+    public QuaternionF32 preMul(QuaternionF32 other) {
+        return other.mul(this);
+    }
+
+    /// @return The component-wise sum of the quaternions.
+    public QuaternionF32 add(QuaternionF32 other) {
+        return new QuaternionF32(x + other.x, y + other.y, z + other.z, w + other.w);
+    }
+
+    /// @return If this quaternion is an identity Quaternion
+    public boolean isIdentity() {
+        return isIdentity(EPSILON);
+    }
+
+    /// @param tolerance allowed deviation from exact identity
+    /// @return true if this quaternion is approximately identity
+    public boolean isIdentity(float tolerance) {
+        return Math.abs(x) < tolerance
+                && Math.abs(y) < tolerance
+                && Math.abs(z) < tolerance
+                && Math.abs(w - 1f) < tolerance;
+    }
+
+    /// Spherical interpolation between this quaternion and the other quaternion.
+    /// @param end the other quaternion.
+    /// @param alpha value in the range of `[0,1]`.
+    /// @param epsilon threshold to switch between lerp and full slerp at small angles.
+    /// @return the interpolated quaternion.
+    /// @apiNote The quaternions are normalized internally.
+    public QuaternionF32 slerp(QuaternionF32 end, float alpha, float epsilon) {
+
+        final QuaternionF32 t = normalize();
+        final QuaternionF32 e = end.normalize();
+        final float dot = t.dot(e);
+        final float absDot = Math.abs(dot);
+
+        // Set the default values in case the angle is too small to calculate the slerp.
+        float scale0 = 1f - alpha;
+        float scale1 = alpha;
+
+        // To avoid numerical instability at low angles, I skip the lerp if the angle is small enough.
+        if ((1 - absDot) > epsilon) {
+
+            final float angle = (float) Math.acos(absDot);
+            final float invSinTheta = 1f / (float) Math.sin(angle);
+
+            scale0 = (float) Math.sin((1f - alpha) * angle) * invSinTheta;
+            scale1 = (float) Math.sin(alpha * angle) * invSinTheta;
+        }
+
+        if (dot < 0f) scale1 = -scale1;
+        return new QuaternionF32(
+                (scale0 * t.x) + (scale1 * e.x),
+                (scale0 * t.y) + (scale1 * e.y),
+                (scale0 * t.z) + (scale1 * e.z),
+                (scale0 * t.w) + (scale1 * e.w)
+        );
+    }
+
+    /// Spherical interpolation between this quaternion and the other quaternion.
+    /// @param end the other quaternion
+    /// @param alpha value in the range of [0,1]
+    /// @return the interpolated quaternion.
+    public QuaternionF32 slerp(QuaternionF32 end, float alpha) {
+        return slerp(end, alpha, 1e-4f);
+    }
+
+    /// Returns the power of `quaternion^alpha`.
+    /// @param alpha The exponent.
+    public QuaternionF32 pow(float alpha) {
+
+        final float norm = length();
+        final float normExp = (float) Math.pow(norm, alpha); // |q|^alpha
+        final float theta = (float) Math.acos(w / norm);
+        final float sinTheta = (float) Math.sin(theta);
+
+        // To avoid numerical instability at low angles, I approximate the coefficient.
+        final float coefficient = Math.abs(theta) < EPSILON ?
+                normExp * alpha / norm :
+                normExp * (float) Math.sin(alpha * theta) / (norm * sinTheta);
+
+        final var result = new QuaternionF32(
+                (x * coefficient),
+                (y * coefficient),
+                (z * coefficient),
+                (normExp * (float) Math.cos(alpha * theta))
+        );
+        return result.normalize(); // Fixes any possible discrepancies.
+    }
+
+    /// @return the dot product of this and the other quaternion (commutative).
+    public float dot(QuaternionF32 other) {
+        return x * other.x + y * other.y + z * other.z + w * other.w;
+    }
+
+    /// @return The quaternion with every component multiplied by the scalar.
+    public QuaternionF32 mul(float scalar) {
+        return new QuaternionF32(x * scalar, y * scalar, z * scalar, w * scalar);
+    }
+
+    /// Returns the axis-angle representation of this quaternion's rotation.
+    /// @return {@link AxisAngleF32} containing both the axis (as a unit vector) and the angle.
+    /// @apiNote The quaternion is normalized internally.
+    public AxisAngleF32 axisAngle() {
+
+        final QuaternionF32 quat = normalize();
+        final float sqrt = (float) Math.sqrt(1f - quat.w * quat.w);
+
+        // I avoid dividing by 0 if the sqrt is small enough.
+        final Vector3F32 newAxis = sqrt < EPSILON ?
+                new Vector3F32(quat.x, quat.y, quat.z).normalize() : // I re-normalize because without w the length might no longer be 1.
+                new Vector3F32(quat.x / sqrt, quat.y / sqrt, quat.z / sqrt);
+
+        return new AxisAngleF32(newAxis, angle());
+    }
+
+    /// @return the rotation angle of this quaternion in radians.
+    /// @apiNote The quaternion is normalized internally.
+    public Radians angle() {
+        final float wNorm = normalize().w();
+        return Radians.radians(2f * Math.acos(Math.clamp(wNorm, -1f, 1f)));
+    }
+
+    /// Gets the swing rotation and twist rotation for the specified axis.
+    /// - The twist rotation represents the rotation around the specified axis.
+    /// - The swing rotation represents the rotation of the specified axis itself, which is the rotation around an axis perpendicular to the specified axis.
+    ///
+    ///  The swing and twist rotation can be used to reconstruct the original quaternion; `this = swing * twist`.
+    ///
+    /// @param axis of which to get the swing and twist rotation.
+    /// @return the `swing` and `twist` pair.
+    /// @apiNote The axis is normalized internally.
+    public SwingTwistF32 swingTwist(Vector3F32 axis) {
+
+        final var norm = axis.normalize();
+        final float dot = x * norm.x() + y * norm.y() + z * norm.z();
+
+        var twist = new QuaternionF32(norm.x() * dot, norm.y() * dot, norm.z() * dot, w).normalize();
+        if (dot < 0) twist = twist.mul(-1f);
+
+        final var swing = twist.conjugate().preMul(normalize());
+        return new SwingTwistF32(swing, twist);
+    }
+
+    /// Get the angle in radians of the rotation around the specified axis.
+    /// @param axis the normalized axis for which to get the angle
+    /// @return the angle in radians of the rotation around the specified axis
+    public Radians angleAround(Vector3F32 axis) {
+
+        final float dot = x * axis.x() + y * axis.y() + z * axis.z();
+        final var qAxis = new QuaternionF32(axis.x() * dot, axis.y() * dot, axis.z() * dot, w);
+        final float l2 = qAxis.length2();
+
+        if (l2 < EPSILON * EPSILON) return Radians.radians(0.0);
+
+        final float fixedW = dot < 0 ? -w : w;
+        final float clamped = Math.clamp(fixedW / (float) Math.sqrt(l2), -1f, 1f);
+        return Radians.radians(2f * Math.acos(clamped));
+    }
+}
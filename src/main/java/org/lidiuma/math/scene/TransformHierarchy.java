@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.scene;
+
+import org.lidiuma.math.matrix.Affine4F32;
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.parallel.Parallel;
+import org.lidiuma.math.rotation.Quaternion;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import java.lang.foreign.MemorySegment;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/// Parent/child tree of transforms, stored as flat primitive arrays indexed by node.\
+/// Every node has a local translation, rotation, and scale, and a world transform equal to `parentWorld * local`.
+/// Nodes are always added after their parent, so the parent index is lower than the child index,
+/// and a single pass in index order is already a topological order.
+///
+/// Changing a local transform marks the node dirty, then {@link #update()} recomputes the world transform
+/// only of the dirty nodes and of their descendants.
+/// @apiNote The hierarchy is mutable and not thread-safe, only {@link #update(ForkJoinPool)} uses multiple threads internally.
+public final class TransformHierarchy {
+
+    /// Parent index of the root nodes.
+    public static final int ROOT = -1;
+    /// Number of nodes of a depth level that are worth a task, each node composes a whole transform,
+    /// far heavier than the {@link Parallel} operations.
+    public static final long DEFAULT_THRESHOLD = 1 << 10;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int size;
+    private int[] parent;
+    private int[] depth;
+    private float[] tx, ty, tz;
+    private double[] rx, ry, rz, rw;
+    private float[] sx, sy, sz;
+    private Affine4F32[] world;
+    /// The local transform changed since the last update.
+    private boolean[] dirty;
+    /// The world transform changed during the current update, so the children must be recomputed too.
+    private boolean[] changed;
+
+    /// Node indices sorted by depth, with the start of each level in `levelStart`, rebuilt lazily when nodes are added.
+    private int[] levelOrder = new int[0];
+    private int[] levelStart = new int[0];
+    private boolean levelsValid;
+
+    public TransformHierarchy() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TransformHierarchy(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("The capacity cannot be negative.");
+        parent = new int[capacity];
+        depth = new int[capacity];
+        tx = new float[capacity];
+        ty = new float[capacity];
+        tz = new float[capacity];
+        rx = new double[capacity];
+        ry = new double[capacity];
+        rz = new double[capacity];
+        rw = new double[capacity];
+        sx = new float[capacity];
+        sy = new float[capacity];
+        sz = new float[capacity];
+        world = new Affine4F32[capacity];
+        dirty = new boolean[capacity];
+        changed = new boolean[capacity];
+    }
+
+    /// @return The number of nodes.
+    public int size() {
+        return size;
+    }
+
+    /// Adds a node with the identity as local transform.
+    /// @param parent the parent index, or {@link #ROOT}.
+    /// @return The index of the new node.
+    /// @throws IndexOutOfBoundsException if the parent is not {@link #ROOT} nor an existing node.
+    public int add(int parent) {
+        return add(parent, new Vector3F32(0f, 0f, 0f), Quaternion.identity(), new Vector3F32(1f, 1f, 1f));
+    }
+
+    /// Adds a node with the provided local transform.
+    /// @param parent the parent index, or {@link #ROOT}.
+    /// @return The index of the new node.
+    /// @throws IndexOutOfBoundsException if the parent is not {@link #ROOT} nor an existing node.
+    public int add(int parent, Vector3F32 translation, Quaternion rotation, Vector3F32 scale) {
+        if (parent != ROOT) Objects.checkIndex(parent, size);
+        if (size == this.parent.length) grow();
+        final int node = size++;
+        this.parent[node] = parent;
+        depth[node] = parent == ROOT ? 0 : depth[parent] + 1;
+        world[node] = Affine4F32.identity();
+        levelsValid = false;
+        setLocal(node, translation, rotation, scale);
+        return node;
+    }
+
+    /// @return The parent index of the node, or {@link #ROOT}.
+    public int parent(int node) {
+        return parent[Objects.checkIndex(node, size)];
+    }
+
+    /// @return The number of ancestors of the node, `0` for a root.
+    public int depth(int node) {
+        return depth[Objects.checkIndex(node, size)];
+    }
+
+    /// @return true if the local transform of the node changed since the last update.
+    public boolean isDirty(int node) {
+        return dirty[Objects.checkIndex(node, size)];
+    }
+
+    public Vector3F32 translation(int node) {
+        Objects.checkIndex(node, size);
+        return new Vector3F32(tx[node], ty[node], tz[node]);
+    }
+
+    public Quaternion rotation(int node) {
+        Objects.checkIndex(node, size);
+        return new Quaternion(rx[node], ry[node], rz[node], rw[node]);
+    }
+
+    public Vector3F32 scale(int node) {
+        Objects.checkIndex(node, size);
+        return new Vector3F32(sx[node], sy[node], sz[node]);
+    }
+
+    public void setTranslation(int node, Vector3F32 translation) {
+        Objects.checkIndex(node, size);
+        tx[node] = translation.x();
+        ty[node] = translation.y();
+        tz[node] = translation.z();
+        dirty[node] = true;
+    }
+
+    /// @apiNote The rotation quaternion is normalized when the world transform is computed.
+    public void setRotation(int node, Quaternion rotation) {
+        Objects.checkIndex(node, size);
+        rx[node] = rotation.x();
+        ry[node] = rotation.y();
+        rz[node] = rotation.z();
+        rw[node] = rotation.w();
+        dirty[node] = true;
+    }
+
+    public void setScale(int node, Vector3F32 scale) {
+        Objects.checkIndex(node, size);
+        sx[node] = scale.x();
+        sy[node] = scale.y();
+        sz[node] = scale.z();
+        dirty[node] = true;
+    }
+
+    public void setLocal(int node, Vector3F32 translation, Quaternion rotation, Vector3F32 scale) {
+        setTranslation(node, translation);
+        setRotation(node, rotation);
+        setScale(node, scale);
+    }
+
+    /// @return The local transform of the node, equal to {@link Matrix4F32#fromTRS}.
+    public Affine4F32 local(int node) {
+        Objects.checkIndex(node, size);
+        return localUnchecked(node);
+    }
+
+    /// @return The world transform of the node, as of the last update.
+    public Affine4F32 world(int node) {
+        return world[Objects.checkIndex(node, size)];
+    }
+
+    /// @return The world transform of the node as a {@link Matrix4F32}, as of the last update.
+    public Matrix4F32 worldMatrix(int node) {
+        return world(node).asMatrix4();
+    }
+
+    /// Copies the world matrices of the nodes `[from, from + count)` into the given {@link MemorySegment},
+    /// starting at the specified logical index, like {@link Matrix4F32#toMemorySegment(MemorySegment, long)}.
+    public void worldToMemorySegment(int from, int count, MemorySegment segment, long index) {
+        Objects.checkFromIndexSize(from, count, size);
+        final var matrices = new Matrix4F32[count];
+        for (int i = 0; i < count; i++) matrices[i] = world[from + i].asMatrix4();
+        Matrix4F32.toMemorySegment(matrices, 0, count, segment, index);
+    }
+
+    /// Recomputes the world transform of every dirty node and of its descendants, in index order.
+    public void update() {
+        for (int node = 0; node < size; node++) updateNode(node);
+    }
+
+    /// Recomputes the world transforms like {@link #update()}, one depth level at a time,
+    /// with the nodes of each level split across the pool.
+    /// @apiNote Wide hierarchies benefit the most, deep chains have too few nodes per level to be worth the tasks.
+    public void update(ForkJoinPool pool) {
+        update(pool, DEFAULT_THRESHOLD);
+    }
+
+    /// @param threshold the number of nodes of a level under which it is updated by a single task.
+    /// @see #update(ForkJoinPool)
+    public void update(ForkJoinPool pool, long threshold) {
+        if (!levelsValid) rebuildLevels();
+        for (int level = 0; level + 1 < levelStart.length; level++) {
+            final int start = levelStart[level];
+            Parallel.forEach(levelStart[level + 1] - start, (from, count) -> {
+                for (long i = from, end = from + count; i < end; i++) updateNode(levelOrder[start + (int) i]);
+            }, pool, threshold);
+        }
+    }
+
+    private void updateNode(int node) {
+        final int p = parent[node];
+        final boolean parentChanged = p != ROOT && changed[p];
+        if (!dirty[node] && !parentChanged) {
+            changed[node] = false;
+            return;
+        }
+        final var local = localUnchecked(node);
+        world[node] = p == ROOT ? local : world[p].mul(local);
+        dirty[node] = false;
+        changed[node] = true;
+    }
+
+    private Affine4F32 localUnchecked(int node) {
+        final var translation = new Vector3F32(tx[node], ty[node], tz[node]);
+        final var rotation = new Quaternion(rx[node], ry[node], rz[node], rw[node]);
+        final var scale = new Vector3F32(sx[node], sy[node], sz[node]);
+        return Affine4F32.fromTRS(translation, rotation, scale);
+    }
+
+    /// Counting sort of the nodes by depth.
+    private void rebuildLevels() {
+        int maxDepth = -1;
+        for (int node = 0; node < size; node++) maxDepth = Math.max(maxDepth, depth[node]);
+        final int[] start = new int[maxDepth + 2];
+        for (int node = 0; node < size; node++) start[depth[node] + 1]++;
+        for (int level = 1; level < start.length; level++) start[level] += start[level - 1];
+        final int[] cursor = Arrays.copyOf(start, start.length);
+        final int[] order = new int[size];
+        for (int node = 0; node < size; node++) order[cursor[depth[node]]++] = node;
+        levelOrder = order;
+        levelStart = start;
+        levelsValid = true;
+    }
+
+    private void grow() {
+        final int capacity = Math.max(DEFAULT_CAPACITY, parent.length + (parent.length >> 1));
+        parent = Arrays.copyOf(parent, capacity);
+        depth = Arrays.copyOf(depth, capacity);
+        tx = Arrays.copyOf(tx, capacity);
+        ty = Arrays.copyOf(ty, capacity);
+        tz = Arrays.copyOf(tz, capacity);
+        rx = Arrays.copyOf(rx, capacity);
+        ry = Arrays.copyOf(ry, capacity);
+        rz = Arrays.copyOf(rz, capacity);
+        rw = Arrays.copyOf(rw, capacity);
+        sx = Arrays.copyOf(sx, capacity);
+        sy = Arrays.copyOf(sy, capacity);
+        sz = Arrays.copyOf(sz, capacity);
+        world = Arrays.copyOf(world, capacity);
+        dirty = Arrays.copyOf(dirty, capacity);
+        changed = Arrays.copyOf(changed, capacity);
+    }
+}
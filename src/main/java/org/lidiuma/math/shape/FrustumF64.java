@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.shape;
+
+import org.lidiuma.math.matrix.Matrix4F64;
+import org.lidiuma.math.point.p3.Point3;
+import org.lidiuma.math.vector.v4.Vector4F64;
+import jdk.internal.vm.annotation.LooselyConsistentValue;
+import jdk.internal.vm.annotation.NullRestricted;
+import java.lang.foreign.MemorySegment;
+import java.util.Objects;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+
+/// View frustum made of six planes, each stored as `(nx, ny, nz, d)` with a unit normal pointing inside,
+/// so a point `p` is inside the plane when `n · p + d >= 0`.
+/// @apiNote The tests are conservative, a cuboid crossing the frustum edge diagonally can be reported visible while it's not.
+@LooselyConsistentValue
+public value record FrustumF64(@NullRestricted Vector4F64 left,
+                               @NullRestricted Vector4F64 right,
+                               @NullRestricted Vector4F64 bottom,
+                               @NullRestricted Vector4F64 top,
+                               @NullRestricted Vector4F64 near,
+                               @NullRestricted Vector4F64 far) {
+
+    /// The number of planes.
+    public static final int PLANES = 6;
+    /// The doubles of each cuboid in the bulk culling: `minX, minY, minZ, maxX, maxY, maxZ`.
+    public static final int CUBOID_STRIDE = 6;
+    /// The doubles of each sphere in the bulk culling: `x, y, z, radius`.
+    public static final int SPHERE_STRIDE = 4;
+
+    /// Extracts the planes of a view-projection matrix, with clip space depth going from `-w` to `w`,
+    /// like the matrices of {@link Matrix4F64#fromProjection(double, double, org.lidiuma.math.rotation.Radians, double)}.
+    public static FrustumF64 fromMatrix(Matrix4F64 m) {
+        // Gribb-Hartmann: each plane is the last row plus or minus one of the others.
+        return new FrustumF64(
+                plane(m.m30() + m.m00(), m.m31() + m.m01(), m.m32() + m.m02(), m.m33() + m.m03()),
+                plane(m.m30() - m.m00(), m.m31() - m.m01(), m.m32() - m.m02(), m.m33() - m.m03()),
+                plane(m.m30() + m.m10(), m.m31() + m.m11(), m.m32() + m.m12(), m.m33() + m.m13()),
+                plane(m.m30() - m.m10(), m.m31() - m.m11(), m.m32() - m.m12(), m.m33() - m.m13()),
+                plane(m.m30() + m.m20(), m.m31() + m.m21(), m.m32() + m.m22(), m.m33() + m.m23()),
+                plane(m.m30() - m.m20(), m.m31() - m.m21(), m.m32() - m.m22(), m.m33() - m.m23())
+        );
+    }
+
+    private static Vector4F64 plane(double a, double b, double c, double d) {
+        final double invLength = 1 / Math.sqrt(a * a + b * b + c * c);
+        return new Vector4F64(a * invLength, b * invLength, c * invLength, d * invLength);
+    }
+
+    /// @return The plane at `index`, in the order `left, right, bottom, top, near, far`.
+    /// @throws IndexOutOfBoundsException if the index is not between `0` and {@link #PLANES}.
+    public Vector4F64 plane(int index) throws IndexOutOfBoundsException {
+        return switch (index) {
+            case 0 -> left;
+            case 1 -> right;
+            case 2 -> bottom;
+            case 3 -> top;
+            case 4 -> near;
+            case 5 -> far;
+            default -> throw new IndexOutOfBoundsException("There's no plane for index " + index + ".");
+        };
+    }
+
+    /* ===== Tests ===== */
+
+    public boolean contains(Point3.F64 point) {
+        final double x = point.x(), y = point.y(), z = point.z();
+        for (int i = 0; i < PLANES; i++) {
+            final var plane = plane(i);
+            if (plane.x() * x + plane.y() * y + plane.z() * z + plane.w() < 0) return false;
+        }
+        return true;
+    }
+
+    /// @return True if the sphere is, at least partially, inside the frustum.
+    public boolean intersects(Shape.Sphere<Double, ? extends Point3.F64> sphere) {
+        final var center = sphere.center();
+        return sphere(center.x(), center.y(), center.z(), sphere.radius()) >= 0;
+    }
+
+    /// @return True if the sphere is completely inside the frustum.
+    public boolean contains(Shape.Sphere<Double, ? extends Point3.F64> sphere) {
+        final var center = sphere.center();
+        return sphere(center.x(), center.y(), center.z(), -sphere.radius()) >= 0;
+    }
+
+    /// @return True if the cuboid, whose position is the minimum corner, is at least partially inside the frustum.
+    public boolean intersects(Shape.Cuboid<Double, ? extends Point3.F64> cuboid) {
+        final var pos = cuboid.pos();
+        final double ex = cuboid.width() * 0.5, ey = cuboid.height() * 0.5, ez = cuboid.length() * 0.5;
+        return cuboid(pos.x() + ex, pos.y() + ey, pos.z() + ez, ex, ey, ez) >= 0;
+    }
+
+    /// @return True if the cuboid, whose position is the minimum corner, is completely inside the frustum.
+    public boolean contains(Shape.Cuboid<Double, ? extends Point3.F64> cuboid) {
+        final var pos = cuboid.pos();
+        final double ex = cuboid.width() * 0.5, ey = cuboid.height() * 0.5, ez = cuboid.length() * 0.5;
+        return cuboid(pos.x() + ex, pos.y() + ey, pos.z() + ez, -ex, -ey, -ez) >= 0;
+    }
+
+    /// @return The minimum over the planes of the signed distance of the center, plus the radius.
+    private double sphere(double x, double y, double z, double radius) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < PLANES; i++) {
+            final var plane = plane(i);
+            min = Math.min(min, plane.x() * x + plane.y() * y + plane.z() * z + plane.w() + radius);
+        }
+        return min;
+    }
+
+    /// @return The minimum over the planes of the signed distance of the center, plus the extents projected on the normal.
+    /// @implNote Negative extents give the distance of the corner furthest inside, used for the containment.
+    private double cuboid(double x, double y, double z, double ex, double ey, double ez) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < PLANES; i++) {
+            final var plane = plane(i);
+            final double nx = plane.x(), ny = plane.y(), nz = plane.z();
+            final double extent = Math.abs(nx) * ex + Math.abs(ny) * ey + Math.abs(nz) * ez;
+            min = Math.min(min, nx * x + ny * y + nz * z + plane.w() + extent);
+        }
+        return min;
+    }
+
+    /* ===== Bulk ===== */
+
+    /// Culls the cuboids from `from` to `from + count`, packed in the segment as {@link #CUBOID_STRIDE} doubles each.
+    /// @param visibility the bitset receiving the result, the bit of cuboid `i` is `1L << i` of the word `i >> 6`,
+    /// like {@link java.util.BitSet#valueOf(long[])}.
+    /// @return The number of visible cuboids.
+    /// @apiNote The ranges culled concurrently must start at multiples of 64, so that they never share a word.
+    /// @throws IndexOutOfBoundsException if the range is outside the segment or the bitset.
+    public long cullCuboids(MemorySegment bounds, long from, long count, long[] visibility) {
+        Objects.checkFromIndexSize(from * CUBOID_STRIDE, count * CUBOID_STRIDE, bounds.byteSize() / Double.BYTES);
+        Objects.checkFromIndexSize(from, count, (long) visibility.length * Long.SIZE);
+        final double[] planes = planes();
+        long visible = 0;
+        for (long i = from; i < from + count; i++) {
+            final long base = i * CUBOID_STRIDE;
+            final double minX = bounds.getAtIndex(JAVA_DOUBLE, base), maxX = bounds.getAtIndex(JAVA_DOUBLE, base + 3);
+            final double minY = bounds.getAtIndex(JAVA_DOUBLE, base + 1), maxY = bounds.getAtIndex(JAVA_DOUBLE, base + 4);
+            final double minZ = bounds.getAtIndex(JAVA_DOUBLE, base + 2), maxZ = bounds.getAtIndex(JAVA_DOUBLE, base + 5);
+            final double x = (minX + maxX) * 0.5, y = (minY + maxY) * 0.5, z = (minZ + maxZ) * 0.5;
+            final double ex = (maxX - minX) * 0.5, ey = (maxY - minY) * 0.5, ez = (maxZ - minZ) * 0.5;
+            double min = Double.POSITIVE_INFINITY;
+            // I evaluate every plane without branching, the JIT can then keep the planes in registers.
+            for (int p = 0; p < PLANES * 4; p += 4) {
+                final double nx = planes[p], ny = planes[p + 1], nz = planes[p + 2];
+                final double extent = Math.abs(nx) * ex + Math.abs(ny) * ey + Math.abs(nz) * ez;
+                min = Math.min(min, nx * x + ny * y + nz * z + planes[p + 3] + extent);
+            }
+            visible += mark(visibility, i, min >= 0);
+        }
+        return visible;
+    }
+
+    /// @see #cullCuboids(MemorySegment, long, long, long[])
+    public long cullCuboids(MemorySegment bounds, long[] visibility) {
+        return cullCuboids(bounds, 0, bounds.byteSize() / Double.BYTES / CUBOID_STRIDE, visibility);
+    }
+
+    /// Culls the spheres from `from` to `from + count`, packed in the segment as {@link #SPHERE_STRIDE} doubles each.
+    /// @param visibility the bitset receiving the result, the bit of sphere `i` is `1L << i` of the word `i >> 6`.
+    /// @return The number of visible spheres.
+    /// @apiNote The ranges culled concurrently must start at multiples of 64, so that they never share a word.
+    /// @throws IndexOutOfBoundsException if the range is outside the segment or the bitset.
+    public long cullSpheres(MemorySegment spheres, long from, long count, long[] visibility) {
+        Objects.checkFromIndexSize(from * SPHERE_STRIDE, count * SPHERE_STRIDE, spheres.byteSize() / Double.BYTES);
+        Objects.checkFromIndexSize(from, count, (long) visibility.length * Long.SIZE);
+        final double[] planes = planes();
+        long visible = 0;
+        for (long i = from; i < from + count; i++) {
+            final long base = i * SPHERE_STRIDE;
+            final double x = spheres.getAtIndex(JAVA_DOUBLE, base);
+            final double y = spheres.getAtIndex(JAVA_DOUBLE, base + 1);
+            final double z = spheres.getAtIndex(JAVA_DOUBLE, base + 2);
+            final double radius = spheres.getAtIndex(JAVA_DOUBLE, base + 3);
+            double min = Double.POSITIVE_INFINITY;
+            for (int p = 0; p < PLANES * 4; p += 4) {
+                min = Math.min(min, planes[p] * x + planes[p + 1] * y + planes[p + 2] * z + planes[p + 3] + radius);
+            }
+            visible += mark(visibility, i, min >= 0);
+        }
+        return visible;
+    }
+
+    /// @see #cullSpheres(MemorySegment, long, long, long[])
+    public long cullSpheres(MemorySegment spheres, long[] visibility) {
+        return cullSpheres(spheres, 0, spheres.byteSize() / Double.BYTES / SPHERE_STRIDE, visibility);
+    }
+
+    /// @return The planes packed as `nx, ny, nz, d`.
+    private double[] planes() {
+        final double[] planes = new double[PLANES * 4];
+        for (int i = 0; i < PLANES; i++) {
+            final var plane = plane(i);
+            planes[i * 4] = plane.x();
+            planes[i * 4 + 1] = plane.y();
+            planes[i * 4 + 2] = plane.z();
+            planes[i * 4 + 3] = plane.w();
+        }
+        return planes;
+    }
+
+    private static int mark(long[] visibility, long index, boolean visible) {
+        final int word = (int) (index >>> 6);
+        final long bit = 1L << index;
+        visibility[word] = visible ? visibility[word] | bit : visibility[word] & ~bit;
+        return visible ? 1 : 0;
+    }
+}
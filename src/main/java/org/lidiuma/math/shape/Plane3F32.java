@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.shape;
+
+import org.lidiuma.math.point.p3.Point3;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F32Buffer;
+import org.lidiuma.math.vector.v4.Vector4F32;
+import jdk.internal.vm.annotation.LooselyConsistentValue;
+import jdk.internal.vm.annotation.NullRestricted;
+import java.lang.foreign.MemorySegment;
+import java.util.Objects;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static org.lidiuma.math.FloatingUtil.EPSILON;
+
+/// Plane made of the points `p` where `normal · p + distance = 0`.\
+/// The normal is expected to be unit, so the signed distances are real distances, positive in front of the plane.
+/// @param distance the signed distance of the origin from the plane.
+@LooselyConsistentValue
+public value record Plane3F32(@NullRestricted Vector3F32 normal, float distance) {
+
+    /// @return The plane passing through the three points, in counter-clockwise order when seen from the front.
+    /// @throws IllegalArgumentException if the points are collinear.
+    public static Plane3F32 fromPoints(Point3.F32 a, Point3.F32 b, Point3.F32 c) {
+        final float ax = a.x(), ay = a.y(), az = a.z();
+        final float e1x = b.x() - ax, e1y = b.y() - ay, e1z = b.z() - az;
+        final float e2x = c.x() - ax, e2y = c.y() - ay, e2z = c.z() - az;
+        final float nx = e1y * e2z - e1z * e2y, ny = e1z * e2x - e1x * e2z, nz = e1x * e2y - e1y * e2x;
+        final float length = (float) Math.sqrt(nx * nx + ny * ny + nz * nz);
+        if (length < EPSILON) throw new IllegalArgumentException("The points are collinear.");
+        final float invLength = 1f / length;
+        return fromPointNormal(ax, ay, az, nx * invLength, ny * invLength, nz * invLength);
+    }
+
+    /// @return The plane passing through the point, the normal is normalized.
+    public static Plane3F32 fromPointNormal(Point3.F32 point, Vector3F32 normal) {
+        final var unit = normal.normalize();
+        return fromPointNormal(point.x(), point.y(), point.z(), unit.x(), unit.y(), unit.z());
+    }
+
+    private static Plane3F32 fromPointNormal(float x, float y, float z, float nx, float ny, float nz) {
+        return new Plane3F32(new Vector3F32(nx, ny, nz), -(nx * x + ny * y + nz * z));
+    }
+
+    /// @return The plane of the coefficients `(a, b, c, d)` of `ax + by + cz + d = 0`, like the ones of {@link FrustumF32}.
+    public static Plane3F32 fromCoefficients(Vector4F32 coefficients) {
+        return new Plane3F32(new Vector3F32(coefficients.x(), coefficients.y(), coefficients.z()), coefficients.w());
+    }
+
+    /// @return The coefficients `(a, b, c, d)` of `ax + by + cz + d = 0`.
+    public Vector4F32 asCoefficients() {
+        return new Vector4F32(normal.x(), normal.y(), normal.z(), distance);
+    }
+
+    /// @return The same plane, facing the opposite side.
+    public Plane3F32 flip() {
+        return new Plane3F32(new Vector3F32(-normal.x(), -normal.y(), -normal.z()), -distance);
+    }
+
+    /// @return The distance of the point from the plane, positive in front of it.
+    public float signedDistance(Point3.F32 point) {
+        return signedDistance(point.x(), point.y(), point.z());
+    }
+
+    private float signedDistance(float x, float y, float z) {
+        return normal.x() * x + normal.y() * y + normal.z() * z + distance;
+    }
+
+    /// @return The nearest point of the plane.
+    public Vector3F32 project(Point3.F32 point) {
+        final float x = point.x(), y = point.y(), z = point.z();
+        final float signed = signedDistance(x, y, z);
+        return new Vector3F32(x - normal.x() * signed, y - normal.y() * signed, z - normal.z() * signed);
+    }
+
+    /* ===== Classification ===== */
+
+    /// @return The side of the point, {@link PlaneSide#ON} if it's within {@link org.lidiuma.math.FloatingUtil#EPSILON} of the plane.
+    public PlaneSide side(Point3.F32 point) {
+        return side(signedDistance(point), EPSILON);
+    }
+
+    /// @return The side of the sphere, {@link PlaneSide#ON} if it crosses the plane.
+    public PlaneSide side(Shape.Sphere<Float, ? extends Point3.F32> sphere) {
+        return side(signedDistance(sphere.center()), sphere.radius());
+    }
+
+    /// @return The side of the cuboid, whose position is the minimum corner, {@link PlaneSide#ON} if it crosses the plane.
+    public PlaneSide side(Shape.Cuboid<Float, ? extends Point3.F32> cuboid) {
+        final var pos = cuboid.pos();
+        final float ex = cuboid.width() * 0.5f, ey = cuboid.height() * 0.5f, ez = cuboid.length() * 0.5f;
+        // The extents projected on the normal give the radius of the cuboid along it.
+        final float radius = Math.abs(normal.x()) * ex + Math.abs(normal.y()) * ey + Math.abs(normal.z()) * ez;
+        return side(signedDistance(pos.x() + ex, pos.y() + ey, pos.z() + ez), radius);
+    }
+
+    private static PlaneSide side(float signedDistance, float radius) {
+        if (signedDistance > radius) return PlaneSide.FRONT;
+        if (signedDistance < -radius) return PlaneSide.BACK;
+        return PlaneSide.ON;
+    }
+
+    /* ===== Intersections ===== */
+
+    /// @return The distance at which the ray crosses the plane, from either side,
+    /// or {@link Float#POSITIVE_INFINITY} if it's parallel or does not reach it within `maxDistance`.
+    public float intersect(Ray3F32 ray, float maxDistance) {
+        final var origin = ray.origin();
+        final var direction = ray.direction();
+        final float denominator = normal.x() * direction.x() + normal.y() * direction.y() + normal.z() * direction.z();
+        if (Math.abs(denominator) < EPSILON) return Float.POSITIVE_INFINITY;
+        final float t = -signedDistance(origin.x(), origin.y(), origin.z()) / denominator;
+        return t >= 0 && t <= maxDistance ? t : Float.POSITIVE_INFINITY;
+    }
+
+    /// @return The fraction of the line, from `0` at its start to `1` at its end, where it crosses the plane,
+    /// or {@link Float#POSITIVE_INFINITY} if it does not cross it.
+    public float intersect(Shape.Line<? extends Point3.F32> line) {
+        final float start = signedDistance(line.start());
+        final float end = signedDistance(line.end());
+        // Both ends on the same side, or the line lying on the plane.
+        if ((start > 0 && end > 0) || (start < 0 && end < 0) || start == end) return Float.POSITIVE_INFINITY;
+        return start / (start - end);
+    }
+
+    /* ===== Bulk ===== */
+
+    /// Writes the signed distance of each point in the range of the buffer at the same index of `out`.
+    /// @throws IndexOutOfBoundsException if the range is outside the buffer or the output.
+    public void signedDistances(Vector3F32Buffer points, MemorySegment out, long from, long count) {
+        Objects.checkFromIndexSize(from, count, points.capacity());
+        Objects.checkFromIndexSize(from, count, out.byteSize() / Float.BYTES);
+        final float nx = normal.x(), ny = normal.y(), nz = normal.z(), d = distance;
+        final var x = points.x();
+        final var y = points.y();
+        final var z = points.z();
+        for (long i = from; i < from + count; i++) {
+            final float signed = nx * x.getAtIndex(JAVA_FLOAT, i) + ny * y.getAtIndex(JAVA_FLOAT, i) + nz * z.getAtIndex(JAVA_FLOAT, i) + d;
+            out.setAtIndex(JAVA_FLOAT, i, signed);
+        }
+    }
+
+    /// @see #signedDistances(Vector3F32Buffer, MemorySegment, long, long)
+    public void signedDistances(Vector3F32Buffer points, MemorySegment out) {
+        signedDistances(points, out, 0, points.capacity());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.shape;
+
+import org.lidiuma.math.point.p3.Point3;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import jdk.internal.vm.annotation.LooselyConsistentValue;
+import jdk.internal.vm.annotation.NullRestricted;
+import static org.lidiuma.math.FloatingUtil.EPSILON;
+
+/// Half-line starting at `origin` and going towards `direction`.\
+/// The distances returned by the intersections are measured in units of the direction length,
+/// so a ray built with {@link #between(Point3.F32, Point3.F32)} reaches its target at distance `1`.
+/// @param inverse the reciprocal of each direction component, precomputed for the slab test against the cuboids.
+@LooselyConsistentValue
+public value record Ray3F32(@NullRestricted Vector3F32 origin,
+                            @NullRestricted Vector3F32 direction,
+                            @NullRestricted Vector3F32 inverse) {
+
+    public Ray3F32(Vector3F32 origin, Vector3F32 direction) {
+        this(origin, direction, new Vector3F32(1f / direction.x(), 1f / direction.y(), 1f / direction.z()));
+    }
+
+    /// @return The ray from `from` to `to`, useful for line-of-sight checks with a max distance of `1`.
+    public static Ray3F32 between(Point3.F32 from, Point3.F32 to) {
+        final var origin = new Vector3F32(from.x(), from.y(), from.z());
+        return new Ray3F32(origin, new Vector3F32(to.x() - from.x(), to.y() - from.y(), to.z() - from.z()));
+    }
+
+    /// @return The ray from the start to the end of the line.
+    public static Ray3F32 fromLine(Shape.Line<? extends Point3.F32> line) {
+        return between(line.start(), line.end());
+    }
+
+    /// @return The point at `distance` along the ray.
+    public Vector3F32 at(float distance) {
+        return new Vector3F32(
+                origin.x() + direction.x() * distance,
+                origin.y() + direction.y() * distance,
+                origin.z() + direction.z() * distance
+        );
+    }
+
+    /* ===== Intersections ===== */
+
+    /// Slab test, the position of the cuboid is its minimum corner, and a ray running along a face hits it.
+    /// @return The distance at which the ray enters the cuboid, `0` if the origin is inside it,
+    /// or {@link Float#POSITIVE_INFINITY} if it misses it within `maxDistance`.
+    public float intersect(Shape.Cuboid<Float, ? extends Point3.F32> cuboid, float maxDistance) {
+        final var pos = cuboid.pos();
+        final float minX = pos.x(), minY = pos.y(), minZ = pos.z();
+        return cuboid(
+                origin.x(), origin.y(), origin.z(),
+                inverse.x(), inverse.y(), inverse.z(),
+                minX, minY, minZ,
+                minX + cuboid.width(), minY + cuboid.height(), minZ + cuboid.length(),
+                maxDistance
+        );
+    }
+
+    /// @return The distance at which the ray enters the sphere, `0` if the origin is inside it,
+    /// or {@link Float#POSITIVE_INFINITY} if it misses it within `maxDistance`.
+    public float intersect(Shape.Sphere<Float, ? extends Point3.F32> sphere, float maxDistance) {
+        final var center = sphere.center();
+        return sphere(
+                origin.x(), origin.y(), origin.z(),
+                direction.x(), direction.y(), direction.z(),
+                center.x(), center.y(), center.z(), sphere.radius(),
+                maxDistance
+        );
+    }
+
+    /// Möller–Trumbore intersection, both faces of the triangle are hit.\
+    /// The ray counts as parallel to the triangle when the sine of their angle, times the sine of the angle between the two edges,
+    /// is below {@link org.lidiuma.math.FloatingUtil#EPSILON}, which depends neither on the size of the triangle nor on the length of the direction.
+    /// @return The distance at which the ray hits the triangle, or {@link Float#POSITIVE_INFINITY} if it misses it within `maxDistance`.
+    public float intersect(Point3.F32 a, Point3.F32 b, Point3.F32 c, float maxDistance) {
+        final float ax = a.x(), ay = a.y(), az = a.z();
+        return triangle(
+                origin.x(), origin.y(), origin.z(),
+                direction.x(), direction.y(), direction.z(),
+                ax, ay, az,
+                b.x() - ax, b.y() - ay, b.z() - az,
+                c.x() - ax, c.y() - ay, c.z() - az,
+                maxDistance
+        );
+    }
+
+    /* ===== Kernels ===== */
+
+    static float cuboid(float ox, float oy, float oz, float ix, float iy, float iz,
+                        float minX, float minY, float minZ, float maxX, float maxY, float maxZ, float maxDistance) {
+        final float tx1 = (minX - ox) * ix, tx2 = (maxX - ox) * ix;
+        final float ty1 = (minY - oy) * iy, ty2 = (maxY - oy) * iy;
+        final float tz1 = (minZ - oz) * iz, tz2 = (maxZ - oz) * iz;
+        final float tMin = Math.max(Math.max(slabEntry(tx1, tx2), slabEntry(ty1, ty2)), Math.max(slabEntry(tz1, tz2), 0));
+        final float tMax = Math.min(Math.min(slabExit(tx1, tx2), slabExit(ty1, ty2)), Math.min(slabExit(tz1, tz2), maxDistance));
+        return tMin <= tMax ? tMin : Float.POSITIVE_INFINITY;
+    }
+
+    /// A ray parallel to an axis, with the origin on one of the slab planes, computes `0 * inf = NaN` there.
+    /// The ray then runs along a face, so the slab does not bound it and the entry is minus infinity.
+    static float slabEntry(float t1, float t2) {
+        final float t = Math.min(t1, t2);
+        return Float.isNaN(t) ? Float.NEGATIVE_INFINITY : t;
+    }
+
+    /// @see #slabEntry(float, float)
+    static float slabExit(float t1, float t2) {
+        final float t = Math.max(t1, t2);
+        return Float.isNaN(t) ? Float.POSITIVE_INFINITY : t;
+    }
+
+    static float sphere(float ox, float oy, float oz, float dx, float dy, float dz,
+                        float cx, float cy, float cz, float radius, float maxDistance) {
+        final float lx = ox - cx, ly = oy - cy, lz = oz - cz;
+        final float c = lx * lx + ly * ly + lz * lz - radius * radius;
+        if (c <= 0) return 0;
+        // The origin is outside, so the sphere is hit only if it's in front of the ray and the discriminant is not negative.
+        final float b = lx * dx + ly * dy + lz * dz;
+        if (b > 0) return Float.POSITIVE_INFINITY;
+        final float a = dx * dx + dy * dy + dz * dz;
+        final float discriminant = b * b - a * c;
+        if (discriminant < 0) return Float.POSITIVE_INFINITY;
+        final float t = (-b - (float) Math.sqrt(discriminant)) / a;
+        return t <= maxDistance ? t : Float.POSITIVE_INFINITY;
+    }
+
+    static float triangle(float ox, float oy, float oz, float dx, float dy, float dz,
+                          float ax, float ay, float az,
+                          float e1x, float e1y, float e1z,
+                          float e2x, float e2y, float e2z, float maxDistance) {
+        final float px = dy * e2z - dz * e2y, py = dz * e2x - dx * e2z, pz = dx * e2y - dy * e2x;
+        final float determinant = e1x * px + e1y * py + e1z * pz;
+        // The determinant scales with |d| |e1| |e2|, so the cutoff does too, otherwise small triangles would always be missed.
+        // The product is squared in double, since it overflows a float already with coordinates around 10^6.
+        final double scale2 = (double) (dx * dx + dy * dy + dz * dz) * (e1x * e1x + e1y * e1y + e1z * e1z) * (e2x * e2x + e2y * e2y + e2z * e2z);
+        if ((double) determinant * determinant < EPSILON * EPSILON * scale2) return Float.POSITIVE_INFINITY;
+        final float inverse = 1f / determinant;
+        final float sx = ox - ax, sy = oy - ay, sz = oz - az;
+        final float u = (sx * px + sy * py + sz * pz) * inverse;
+        if (u < 0 || u > 1) return Float.POSITIVE_INFINITY;
+        final float qx = sy * e1z - sz * e1y, qy = sz * e1x - sx * e1z, qz = sx * e1y - sy * e1x;
+        final float v = (dx * qx + dy * qy + dz * qz) * inverse;
+        if (v < 0 || u + v > 1) return Float.POSITIVE_INFINITY;
+        final float t = (e2x * qx + e2y * qy + e2z * qz) * inverse;
+        return t >= 0 && t <= maxDistance ? t : Float.POSITIVE_INFINITY;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.shape;
+
+import org.lidiuma.math.SimdUtil;
+import org.lidiuma.math.point.p3.Point3;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import java.util.Objects;
+
+/// Packet of up to 64 rays tested together against a single shape, e.g. the 4 or 8 rays of a picking cone or a line-of-sight fan.\
+/// The rays are stored in lanes, one array per component, so the cuboid test maps each ray to a SIMD lane.
+/// The results are a mask, with the bit `i` set when the ray `i` hits the shape.
+/// @apiNote The packet is mutable, a single packet can be refilled every tick.
+public final class RayPacket3F32 {
+
+    /// The maximum number of rays, one per bit of the hit mask.
+    public static final int MAX_SIZE = Long.SIZE;
+
+    final float[] ox, oy, oz;
+    final float[] dx, dy, dz;
+    final float[] ix, iy, iz;
+
+    /// Creates a packet of `size` rays, all with zero origin and direction.
+    /// @throws IllegalArgumentException if `size` is not between `1` and {@link #MAX_SIZE}.
+    public RayPacket3F32(int size) {
+        if (size < 1 || size > MAX_SIZE) throw new IllegalArgumentException("The packet size must be between 1 and " + MAX_SIZE + ".");
+        ox = new float[size]; oy = new float[size]; oz = new float[size];
+        dx = new float[size]; dy = new float[size]; dz = new float[size];
+        ix = new float[size]; iy = new float[size]; iz = new float[size];
+    }
+
+    /// @return The packet holding the given rays, in order.
+    public static RayPacket3F32 of(Ray3F32... rays) {
+        final var packet = new RayPacket3F32(rays.length);
+        for (int i = 0; i < rays.length; i++) packet.set(i, rays[i]);
+        return packet;
+    }
+
+    /// @return The number of rays.
+    public int size() {
+        return ox.length;
+    }
+
+    public Ray3F32 get(int lane) {
+        Objects.checkIndex(lane, size());
+        return new Ray3F32(
+                new Vector3F32(ox[lane], oy[lane], oz[lane]),
+                new Vector3F32(dx[lane], dy[lane], dz[lane]),
+                new Vector3F32(ix[lane], iy[lane], iz[lane])
+        );
+    }
+
+    public void set(int lane, Ray3F32 ray) {
+        Objects.checkIndex(lane, size());
+        final var origin = ray.origin();
+        final var direction = ray.direction();
+        final var inverse = ray.inverse();
+        ox[lane] = origin.x(); oy[lane] = origin.y(); oz[lane] = origin.z();
+        dx[lane] = direction.x(); dy[lane] = direction.y(); dz[lane] = direction.z();
+        ix[lane] = inverse.x(); iy[lane] = inverse.y(); iz[lane] = inverse.z();
+    }
+
+    /// Tests every ray against the cuboid, the position of the cuboid is its minimum corner.
+    /// @param outDistances receives the distance of each ray, as in {@link Ray3F32#intersect(Shape.Cuboid, float)}.
+    /// @return The mask of the rays that hit the cuboid within `maxDistance`.
+    public long intersect(Shape.Cuboid<Float, ? extends Point3.F32> cuboid, float maxDistance, float[] outDistances) {
+        Objects.checkFromIndexSize(0, size(), outDistances.length);
+        final var pos = cuboid.pos();
+        final float minX = pos.x(), minY = pos.y(), minZ = pos.z();
+        final float maxX = minX + cuboid.width(), maxY = minY + cuboid.height(), maxZ = minZ + cuboid.length();
+        if (SimdUtil.AVAILABLE) return RayPacket3F32Simd.cuboid(this, minX, minY, minZ, maxX, maxY, maxZ, maxDistance, outDistances);
+        return scalarCuboid(0, minX, minY, minZ, maxX, maxY, maxZ, maxDistance, outDistances);
+    }
+
+    /// Tests every ray against the sphere.
+    /// @param outDistances receives the distance of each ray, as in {@link Ray3F32#intersect(Shape.Sphere, float)}.
+    /// @return The mask of the rays that hit the sphere within `maxDistance`.
+    public long intersect(Shape.Sphere<Float, ? extends Point3.F32> sphere, float maxDistance, float[] outDistances) {
+        Objects.checkFromIndexSize(0, size(), outDistances.length);
+        final var center = sphere.center();
+        final float cx = center.x(), cy = center.y(), cz = center.z(), radius = sphere.radius();
+        long mask = 0;
+        for (int i = 0; i < size(); i++) {
+            final float t = Ray3F32.sphere(ox[i], oy[i], oz[i], dx[i], dy[i], dz[i], cx, cy, cz, radius, maxDistance);
+            outDistances[i] = t;
+            if (t != Float.POSITIVE_INFINITY) mask |= 1L << i;
+        }
+        return mask;
+    }
+
+    /// Tests every ray against the triangle, both faces are hit.
+    /// @param outDistances receives the distance of each ray, as in {@link Ray3F32#intersect(Point3.F32, Point3.F32, Point3.F32, float)}.
+    /// @return The mask of the rays that hit the triangle within `maxDistance`.
+    public long intersect(Point3.F32 a, Point3.F32 b, Point3.F32 c, float maxDistance, float[] outDistances) {
+        Objects.checkFromIndexSize(0, size(), outDistances.length);
+        final float ax = a.x(), ay = a.y(), az = a.z();
+        final float e1x = b.x() - ax, e1y = b.y() - ay, e1z = b.z() - az;
+        final float e2x = c.x() - ax, e2y = c.y() - ay, e2z = c.z() - az;
+        long mask = 0;
+        for (int i = 0; i < size(); i++) {
+            final float t = Ray3F32.triangle(ox[i], oy[i], oz[i], dx[i], dy[i], dz[i], ax, ay, az, e1x, e1y, e1z, e2x, e2y, e2z, maxDistance);
+            outDistances[i] = t;
+            if (t != Float.POSITIVE_INFINITY) mask |= 1L << i;
+        }
+        return mask;
+    }
+
+    /// Scalar cuboid test of the rays from `from`, used as the fallback and as the SIMD tail.
+    long scalarCuboid(int from, float minX, float minY, float minZ, float maxX, float maxY, float maxZ, float maxDistance, float[] outDistances) {
+        long mask = 0;
+        for (int i = from; i < size(); i++) {
+            final float t = Ray3F32.cuboid(ox[i], oy[i], oz[i], ix[i], iy[i], iz[i], minX, minY, minZ, maxX, maxY, maxZ, maxDistance);
+            outDistances[i] = t;
+            if (t != Float.POSITIVE_INFINITY) mask |= 1L << i;
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.shape;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/// SIMD version of the {@link RayPacket3F32} cuboid test, each ray of the packet is a lane.
+/// @implNote The class is only loaded when {@link org.lidiuma.math.SimdUtil#AVAILABLE} is true,
+/// the operations are the same of the scalar slab test, so the results match it exactly.
+value class RayPacket3F32Simd {
+
+    /// The widest species of the platform, e.g. 8 rays per iteration on AVX2.
+    private static final VectorSpecies<Float> PREFERRED = FloatVector.SPECIES_PREFERRED;
+
+    private RayPacket3F32Simd() {}
+
+    /// Picks the widest species that fits the packet, since a packet narrower than the platform species would skip the loop entirely.
+    /// @implNote The species are constants in each branch, so that the JIT can specialize the loop for each of them.
+    static long cuboid(RayPacket3F32 packet, float minX, float minY, float minZ, float maxX, float maxY, float maxZ,
+                       float maxDistance, float[] outDistances) {
+        final int size = packet.size();
+        if (size >= PREFERRED.length()) {
+            return cuboid(PREFERRED, packet, minX, minY, minZ, maxX, maxY, maxZ, maxDistance, outDistances);
+        }
+        // The preferred species is wider than these, so they are supported too.
+        if (size >= 8 && PREFERRED.length() > 8) {
+            return cuboid(FloatVector.SPECIES_256, packet, minX, minY, minZ, maxX, maxY, maxZ, maxDistance, outDistances);
+        }
+        if (size >= 4 && PREFERRED.length() > 4) {
+            return cuboid(FloatVector.SPECIES_128, packet, minX, minY, minZ, maxX, maxY, maxZ, maxDistance, outDistances);
+        }
+        return packet.scalarCuboid(0, minX, minY, minZ, maxX, maxY, maxZ, maxDistance, outDistances);
+    }
+
+    private static long cuboid(VectorSpecies<Float> species, RayPacket3F32 packet, float minX, float minY, float minZ,
+                               float maxX, float maxY, float maxZ, float maxDistance, float[] outDistances) {
+        final int bound = species.loopBound(packet.size());
+        long mask = 0;
+        for (int i = 0; i < bound; i += species.length()) {
+            final var tx1 = FloatVector.broadcast(species, minX).sub(FloatVector.fromArray(species, packet.ox, i)).mul(FloatVector.fromArray(species, packet.ix, i));
+            final var tx2 = FloatVector.broadcast(species, maxX).sub(FloatVector.fromArray(species, packet.ox, i)).mul(FloatVector.fromArray(species, packet.ix, i));
+            final var ty1 = FloatVector.broadcast(species, minY).sub(FloatVector.fromArray(species, packet.oy, i)).mul(FloatVector.fromArray(species, packet.iy, i));
+            final var ty2 = FloatVector.broadcast(species, maxY).sub(FloatVector.fromArray(species, packet.oy, i)).mul(FloatVector.fromArray(species, packet.iy, i));
+            final var tz1 = FloatVector.broadcast(species, minZ).sub(FloatVector.fromArray(species, packet.oz, i)).mul(FloatVector.fromArray(species, packet.iz, i));
+            final var tz2 = FloatVector.broadcast(species, maxZ).sub(FloatVector.fromArray(species, packet.oz, i)).mul(FloatVector.fromArray(species, packet.iz, i));
+            final var tMin = slabEntry(tx1, tx2).max(slabEntry(ty1, ty2)).max(slabEntry(tz1, tz2).max(0f));
+            final var tMax = slabExit(tx1, tx2).min(slabExit(ty1, ty2)).min(slabExit(tz1, tz2).min(maxDistance));
+            final VectorMask<Float> hit = tMin.compare(VectorOperators.LE, tMax);
+            tMin.blend(Float.POSITIVE_INFINITY, hit.not()).intoArray(outDistances, i);
+            mask |= hit.toLong() << i;
+        }
+        return mask | packet.scalarCuboid(bound, minX, minY, minZ, maxX, maxY, maxZ, maxDistance, outDistances);
+    }
+
+    /// @see Ray3F32#slabEntry(float, float)
+    private static FloatVector slabEntry(FloatVector t1, FloatVector t2) {
+        final var t = t1.min(t2);
+        return t.blend(Float.NEGATIVE_INFINITY, t.test(VectorOperators.IS_NAN));
+    }
+
+    /// @see Ray3F32#slabExit(float, float)
+    private static FloatVector slabExit(FloatVector t1, FloatVector t2) {
+        final var t = t1.max(t2);
+        return t.blend(Float.POSITIVE_INFINITY, t.test(VectorOperators.IS_NAN));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.skinning;
+
+import org.jspecify.annotations.Nullable;
+import org.lidiuma.math.parallel.Parallel;
+import org.lidiuma.math.rotation.DualQuaternionF32;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import static org.lidiuma.math.skinning.Skinning.COMPONENTS;
+import static org.lidiuma.math.skinning.Skinning.INFLUENCES;
+import static org.lidiuma.math.skinning.Skinning.checkStream;
+
+/// Dual quaternion skinning of packed vertex streams, using a palette written by {@link Skeleton#dualPalette}.\
+/// The streams are the same of {@link Skinning}, while the palette holds {@link DualQuaternionF32#SIZE} floats per bone,
+/// half the ones of a matrix palette.
+///
+/// The dual quaternions of a vertex are blended with dual linear blending, each one sign-aligned with the first,
+/// then normalized, so the skinned mesh keeps its volume around twisted joints.
+/// @apiNote Unused influences must have a zero weight, but still a valid joint, e.g. `0`.\
+/// The palette cannot hold a scale, so use {@link Skinning} for scaled bones.
+/// @see DualQuaternionF32#blend(DualQuaternionF32[], float[])
+public value class DualQuaternionSkinning {
+
+    private DualQuaternionSkinning() {}
+
+    /// Skins the positions of the vertices `[from, from + count)`.
+    /// @param palette the packed skinning dual quaternions.
+    /// @param joints the palette index of each influence, {@link Skinning#INFLUENCES} `int` per vertex.
+    /// @param weights the weight of each influence, {@link Skinning#INFLUENCES} `float` per vertex.
+    /// @throws IndexOutOfBoundsException if a stream is shorter than the range, or a joint is outside the palette.
+    public static void skin(MemorySegment palette, MemorySegment joints, MemorySegment weights,
+                            MemorySegment positions, MemorySegment outPositions, long from, long count) {
+        skinRange(palette, joints, weights, positions, null, outPositions, null, from, count);
+    }
+
+    /// Skins the positions and normals of the vertices `[from, from + count)`.
+    /// @see #skin(MemorySegment, MemorySegment, MemorySegment, MemorySegment, MemorySegment, long, long)
+    public static void skin(MemorySegment palette, MemorySegment joints, MemorySegment weights,
+                            MemorySegment positions, MemorySegment normals,
+                            MemorySegment outPositions, MemorySegment outNormals, long from, long count) {
+        skinRange(palette, joints, weights, positions, normals, outPositions, outNormals, from, count);
+    }
+
+    /// Skins the positions of the first `count` vertices in the common pool, using {@link Skinning#DEFAULT_THRESHOLD}.
+    public static void skinAll(MemorySegment palette, MemorySegment joints, MemorySegment weights,
+                               MemorySegment positions, MemorySegment outPositions, long count) {
+        skinAll(palette, joints, weights, positions, outPositions, count, ForkJoinPool.commonPool(), Skinning.DEFAULT_THRESHOLD);
+    }
+
+    /// @see #skinAll(MemorySegment, MemorySegment, MemorySegment, MemorySegment, MemorySegment, long)
+    public static void skinAll(MemorySegment palette, MemorySegment joints, MemorySegment weights,
+                               MemorySegment positions, MemorySegment outPositions, long count, ForkJoinPool pool, long threshold) {
+        Parallel.forEach(count, (from, size) -> skinRange(palette, joints, weights, positions, null, outPositions, null, from, size), pool, threshold);
+    }
+
+    /// Skins the positions and normals of the first `count` vertices in the common pool, using {@link Skinning#DEFAULT_THRESHOLD}.
+    public static void skinAll(MemorySegment palette, MemorySegment joints, MemorySegment weights,
+                               MemorySegment positions, MemorySegment normals,
+                               MemorySegment outPositions, MemorySegment outNormals, long count) {
+        skinAll(palette, joints, weights, positions, normals, outPositions, outNormals, count, ForkJoinPool.commonPool(), Skinning.DEFAULT_THRESHOLD);
+    }
+
+    /// @see #skinAll(MemorySegment, MemorySegment, MemorySegment, MemorySegment, MemorySegment, MemorySegment, MemorySegment, long)
+    public static void skinAll(MemorySegment palette, MemorySegment joints, MemorySegment weights,
+                               MemorySegment positions, MemorySegment normals,
+                               MemorySegment outPositions, MemorySegment outNormals, long count, ForkJoinPool pool, long threshold) {
+        Parallel.forEach(count, (from, size) -> skinRange(palette, joints, weights, positions, normals, outPositions, outNormals, from, size), pool, threshold);
+    }
+
+    private static void skinRange(MemorySegment palette, MemorySegment joints, MemorySegment weights,
+                                  MemorySegment positions, @Nullable MemorySegment normals,
+                                  MemorySegment outPositions, @Nullable MemorySegment outNormals, long from, long count) {
+        checkStream(joints, from, count, INFLUENCES);
+        checkStream(weights, from, count, INFLUENCES);
+        checkStream(positions, from, count, COMPONENTS);
+        checkStream(outPositions, from, count, COMPONENTS);
+        if (normals != null && outNormals != null) {
+            checkStream(normals, from, count, COMPONENTS);
+            checkStream(outNormals, from, count, COMPONENTS);
+        }
+        final var layout = ValueLayout.JAVA_FLOAT;
+        final float[] dq = new float[DualQuaternionF32.SIZE];
+        for (long vertex = from, end = from + count; vertex < end; vertex++) {
+            blend(palette, joints, weights, vertex, dq);
+            final float rx = dq[0], ry = dq[1], rz = dq[2], rw = dq[3];
+            final float dx = dq[4], dy = dq[5], dz = dq[6], dw = dq[7];
+            // The translation of DualQuaternionF32#translation, the point is rotated like DualQuaternionF32#rotate.
+            final float tx = 2f * (rw * dx - dw * rx + (ry * dz - rz * dy));
+            final float ty = 2f * (rw * dy - dw * ry + (rz * dx - rx * dz));
+            final float tz = 2f * (rw * dz - dw * rz + (rx * dy - ry * dx));
+
+            final long v = vertex * COMPONENTS;
+            final float x = positions.getAtIndex(layout, v);
+            final float y = positions.getAtIndex(layout, v + 1);
+            final float z = positions.getAtIndex(layout, v + 2);
+            final float px = 2f * (ry * z - rz * y);
+            final float py = 2f * (rz * x - rx * z);
+            final float pz = 2f * (rx * y - ry * x);
+            outPositions.setAtIndex(layout, v, x + rw * px + (ry * pz - rz * py) + tx);
+            outPositions.setAtIndex(layout, v + 1, y + rw * py + (rz * px - rx * pz) + ty);
+            outPositions.setAtIndex(layout, v + 2, z + rw * pz + (rx * py - ry * px) + tz);
+            if (normals == null || outNormals == null) continue;
+            final float nx = normals.getAtIndex(layout, v);
+            final float ny = normals.getAtIndex(layout, v + 1);
+            final float nz = normals.getAtIndex(layout, v + 2);
+            final float qx = 2f * (ry * nz - rz * ny);
+            final float qy = 2f * (rz * nx - rx * nz);
+            final float qz = 2f * (rx * ny - ry * nx);
+            Skinning.storeNormal(outNormals, v,
+                    nx + rw * qx + (ry * qz - rz * qy),
+                    ny + rw * qy + (rz * qx - rx * qz),
+                    nz + rw * qz + (rx * qy - ry * qx));
+        }
+    }
+
+    /// Writes in `out` the normalized dual linear blending of the palette dual quaternions influencing the vertex.
+    private static void blend(MemorySegment palette, MemorySegment joints, MemorySegment weights, long vertex, float[] out) {
+        final var layout = ValueLayout.JAVA_FLOAT;
+        final long i = vertex * INFLUENCES;
+        final long pivot = (long) joints.getAtIndex(ValueLayout.JAVA_INT, i) * DualQuaternionF32.SIZE;
+        final float px = palette.getAtIndex(layout, pivot);
+        final float py = palette.getAtIndex(layout, pivot + 1);
+        final float pz = palette.getAtIndex(layout, pivot + 2);
+        final float pw = palette.getAtIndex(layout, pivot + 3);
+        Arrays.fill(out, 0f);
+        for (int k = 0; k < INFLUENCES; k++) {
+            final long b = (long) joints.getAtIndex(ValueLayout.JAVA_INT, i + k) * DualQuaternionF32.SIZE;
+            final float rx = palette.getAtIndex(layout, b);
+            final float ry = palette.getAtIndex(layout, b + 1);
+            final float rz = palette.getAtIndex(layout, b + 2);
+            final float rw = palette.getAtIndex(layout, b + 3);
+            final float weight = weights.getAtIndex(layout, i + k);
+            // I flip the dual quaternions in the other hemisphere of the first, since `q` and `-q` are the same transformation.
+            final float w = px * rx + py * ry + pz * rz + pw * rw < 0 ? -weight : weight;
+            out[0] += rx * w;
+            out[1] += ry * w;
+            out[2] += rz * w;
+            out[3] += rw * w;
+            for (int e = 4; e < DualQuaternionF32.SIZE; e++) out[e] += palette.getAtIndex(layout, b + e) * w;
+        }
+        final float scale = 1f / (float) Math.sqrt(out[0] * out[0] + out[1] * out[1] + out[2] * out[2] + out[3] * out[3]);
+        for (int e = 0; e < DualQuaternionF32.SIZE; e++) out[e] *= scale;
+    }
+}
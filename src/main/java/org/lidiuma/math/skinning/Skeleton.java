@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.skinning;
+
+import org.lidiuma.math.matrix.Matrix4;
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.rotation.DualQuaternionF32;
+import org.lidiuma.math.rotation.QuaternionF32;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import java.lang.foreign.MemorySegment;
+import java.util.Objects;
+
+/// Bones of a skinned mesh, each one with a parent and an inverse bind matrix.\
+/// The bones are sorted so that every parent comes before its children, then a single pass in index order
+/// computes the world transforms, and from them the skinning matrices `world * inverseBind` of the palette.
+/// @apiNote The skeleton is immutable and can be shared by any number of threads and meshes.
+public final class Skeleton {
+
+    /// Parent index of the root bones.
+    public static final int ROOT = -1;
+
+    private final int[] parents;
+    private final Matrix4F32[] inverseBind;
+
+    /// @param parents the parent of each bone, or {@link #ROOT}.
+    /// @param inverseBind the inverse of the world transform of each bone in the bind pose.
+    /// @throws IllegalArgumentException if the arrays have different lengths, or a parent does not come before its child.
+    /// @apiNote The arrays are copied.
+    public Skeleton(int[] parents, Matrix4F32[] inverseBind) {
+        if (parents.length != inverseBind.length) throw new IllegalArgumentException("The parents and inverse bind arrays do not have the same length.");
+        for (int bone = 0; bone < parents.length; bone++) {
+            final int parent = parents[bone];
+            if (parent != ROOT && (parent < 0 || parent >= bone)) throw new IllegalArgumentException("The parent of bone " + bone + " does not come before it.");
+        }
+        this.parents = parents.clone();
+        this.inverseBind = inverseBind.clone();
+    }
+
+    /// @return The number of bones.
+    public int size() {
+        return parents.length;
+    }
+
+    /// @return The parent index of the bone, or {@link #ROOT}.
+    public int parent(int bone) {
+        return parents[Objects.checkIndex(bone, size())];
+    }
+
+    public Matrix4F32 inverseBind(int bone) {
+        return inverseBind[Objects.checkIndex(bone, size())];
+    }
+
+    /// Computes the world transform of every bone from the local transforms, and writes the skinning matrices in the palette.
+    /// @param translations the local translations, packed as `x, y, z`.
+    /// @param rotations the local rotations, packed as `x, y, z, w`, like the output of {@link org.lidiuma.math.rotation.QuaternionBatch}.
+    /// @param scales the local scales, packed as `x, y, z`.
+    /// @param world receives the world transform of each bone.
+    /// @param palette receives the skinning matrices, column-major like {@link Matrix4F32#toMemorySegment(MemorySegment, long)}.
+    /// @param index the logical index of the first palette matrix, in matrices.
+    /// @throws IndexOutOfBoundsException if an array is shorter than the bones it must hold.
+    public void palette(float[] translations, float[] rotations, float[] scales, Matrix4F32[] world, MemorySegment palette, long index) {
+        world(translations, rotations, scales, world);
+        palette(world, palette, index);
+    }
+
+    /// Writes the skinning matrices of already computed world transforms in the palette.
+    /// @see #palette(float[], float[], float[], Matrix4F32[], MemorySegment, long)
+    public void palette(Matrix4F32[] world, MemorySegment palette, long index) {
+        final int size = size();
+        Objects.checkFromIndexSize(0, size, world.length);
+        Objects.checkFromIndexSize(index * Matrix4.SIZE, (long) size * Matrix4.SIZE, palette.byteSize() / Float.BYTES);
+        for (int bone = 0; bone < size; bone++) {
+            world[bone].mul(inverseBind[bone]).toMemorySegment(palette, index + bone);
+        }
+    }
+
+    /// Computes the world transform of every bone from the local transforms, and writes the skinning dual quaternions in the palette,
+    /// used by {@link DualQuaternionSkinning}.
+    /// @param palette receives the skinning dual quaternions, packed like {@link DualQuaternionF32#toMemorySegment(MemorySegment, long)}.
+    /// @param index the logical index of the first palette dual quaternion, in dual quaternions.
+    /// @apiNote The scale of the skinning matrices is discarded, the world transforms keep it.
+    /// @see #palette(float[], float[], float[], Matrix4F32[], MemorySegment, long)
+    public void dualPalette(float[] translations, float[] rotations, float[] scales, Matrix4F32[] world, MemorySegment palette, long index) {
+        world(translations, rotations, scales, world);
+        dualPalette(world, palette, index);
+    }
+
+    /// Writes the skinning dual quaternions of already computed world transforms in the palette.
+    /// @see #dualPalette(float[], float[], float[], Matrix4F32[], MemorySegment, long)
+    public void dualPalette(Matrix4F32[] world, MemorySegment palette, long index) {
+        final int size = size();
+        Objects.checkFromIndexSize(0, size, world.length);
+        Objects.checkFromIndexSize(index * DualQuaternionF32.SIZE, (long) size * DualQuaternionF32.SIZE, palette.byteSize() / Float.BYTES);
+        for (int bone = 0; bone < size; bone++) {
+            DualQuaternionF32.fromMatrix4(world[bone].mul(inverseBind[bone])).toMemorySegment(palette, index + bone);
+        }
+    }
+
+    private void world(float[] translations, float[] rotations, float[] scales, Matrix4F32[] world) {
+        final int size = size();
+        Objects.checkFromIndexSize(0, size * 3, Math.min(translations.length, scales.length));
+        Objects.checkFromIndexSize(0, size * 4, rotations.length);
+        Objects.checkFromIndexSize(0, size, world.length);
+        for (int bone = 0; bone < size; bone++) {
+            final int t = bone * 3, r = bone * 4;
+            final var local = Matrix4F32.fromTRS(
+                    new Vector3F32(translations[t], translations[t + 1], translations[t + 2]),
+                    new QuaternionF32(rotations[r], rotations[r + 1], rotations[r + 2], rotations[r + 3]),
+                    new Vector3F32(scales[t], scales[t + 1], scales[t + 2])
+            );
+            final int parent = parents[bone];
+            world[bone] = parent == ROOT ? local : world[parent].mul(local);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.skinning;
+
+import org.jspecify.annotations.Nullable;
+import org.lidiuma.math.SimdUtil;
+import org.lidiuma.math.matrix.Matrix4;
+import org.lidiuma.math.parallel.Parallel;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/// Linear blend skinning of packed vertex streams, using a palette written by {@link Skeleton}.\
+/// Each vertex is influenced by {@link #INFLUENCES} bones, the `joints` hold their `int` palette indices
+/// and the `weights` their `float` weights, packed per vertex. Positions and normals are packed `x, y, z` triples.
+///
+/// The bone matrices of a vertex are blended component by component, then the position is transformed like
+/// {@link org.lidiuma.math.matrix.Matrix4F32#transform}, while the normal only by the linear part, and normalized.
+/// @apiNote Unused influences must have a zero weight, but still a valid joint, e.g. `0`.\
+/// The normals are not transformed by the inverse transpose, so they're only exact for bones with uniform scale.
+/// @implNote When {@link SimdUtil#AVAILABLE} is true the matrix columns are blended with 128-bit vectors,
+/// issuing the operations in the same order of the scalar code, so both paths give the same results.
+public value class Skinning {
+
+    /// Number of bones influencing each vertex.
+    public static final int INFLUENCES = 4;
+    /// Number of vertices of a range that are worth a task, skinning is heavier than the {@link Parallel} operations.
+    public static final long DEFAULT_THRESHOLD = 1 << 12;
+    static final int COMPONENTS = 3;
+
+    private Skinning() {}
+
+    /// Skins the positions of the vertices `[from, from + count)`.
+    /// @param palette the column-major skinning matrices.
+    /// @param joints the palette index of each influence, {@link #INFLUENCES} `int` per vertex.
+    /// @param weights the weight of each influence, {@link #INFLUENCES} `float` per vertex.
+    /// @throws IndexOutOfBoundsException if a stream is shorter than the range, or a joint is outside the palette.
+    public static void skin(MemorySegment palette, MemorySegment joints, MemorySegment weights,
+                            MemorySegment positions, MemorySegment outPositions, long from, long count) {
+        skinRange(palette, joints, weights, positions, null, outPositions, null, from, count);
+    }
+
+    /// Skins the positions and normals of the vertices `[from, from + count)`.
+    /// @see #skin(MemorySegment, MemorySegment, MemorySegment, MemorySegment, MemorySegment, long, long)
+    public static void skin(MemorySegment palette, MemorySegment joints, MemorySegment weights,
+                            MemorySegment positions, MemorySegment normals,
+                            MemorySegment outPositions, MemorySegment outNormals, long from, long count) {
+        skinRange(palette, joints, weights, positions, normals, outPositions, outNormals, from, count);
+    }
+
+    /// Skins the positions of the first `count` vertices in the common pool, using {@link #DEFAULT_THRESHOLD}.
+    public static void skinAll(MemorySegment palette, MemorySegment joints, MemorySegment weights,
+                               MemorySegment positions, MemorySegment outPositions, long count) {
+        skinAll(palette, joints, weights, positions, outPositions, count, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /// @see #skinAll(MemorySegment, MemorySegment, MemorySegment, MemorySegment, MemorySegment, long)
+    public static void skinAll(MemorySegment palette, MemorySegment joints, MemorySegment weights,
+                               MemorySegment positions, MemorySegment outPositions, long count, ForkJoinPool pool, long threshold) {
+        Parallel.forEach(count, (from, size) -> skinRange(palette, joints, weights, positions, null, outPositions, null, from, size), pool, threshold);
+    }
+
+    /// Skins the positions and normals of the first `count` vertices in the common pool, using {@link #DEFAULT_THRESHOLD}.
+    public static void skinAll(MemorySegment palette, MemorySegment joints, MemorySegment weights,
+                               MemorySegment positions, MemorySegment normals,
+                               MemorySegment outPositions, MemorySegment outNormals, long count) {
+        skinAll(palette, joints, weights, positions, normals, outPositions, outNormals, count, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /// @see #skinAll(MemorySegment, MemorySegment, MemorySegment, MemorySegment, MemorySegment, MemorySegment, MemorySegment, long)
+    public static void skinAll(MemorySegment palette, MemorySegment joints, MemorySegment weights,
+                               MemorySegment positions, MemorySegment normals,
+                               MemorySegment outPositions, MemorySegment outNormals, long count, ForkJoinPool pool, long threshold) {
+        Parallel.forEach(count, (from, size) -> skinRange(palette, joints, weights, positions, normals, outPositions, outNormals, from, size), pool, threshold);
+    }
+
+    static void checkStream(MemorySegment stream, long from, long count, int stride) {
+        // Integer and float have the same size, so a single check covers both kinds of stream.
+        Objects.checkFromIndexSize(from * stride, count * stride, stream.byteSize() / Float.BYTES);
+    }
+
+    private static void skinRange(MemorySegment palette, MemorySegment joints, MemorySegment weights,
+                                  MemorySegment positions, @Nullable MemorySegment normals,
+                                  MemorySegment outPositions, @Nullable MemorySegment outNormals, long from, long count) {
+        checkStream(joints, from, count, INFLUENCES);
+        checkStream(weights, from, count, INFLUENCES);
+        checkStream(positions, from, count, COMPONENTS);
+        checkStream(outPositions, from, count, COMPONENTS);
+        if (normals != null && outNormals != null) {
+            checkStream(normals, from, count, COMPONENTS);
+            checkStream(outNormals, from, count, COMPONENTS);
+        }
+        if (SimdUtil.AVAILABLE) SkinningSimd.skin(palette, joints, weights, positions, normals, outPositions, outNormals, from, count);
+        else scalarSkin(palette, joints, weights, positions, normals, outPositions, outNormals, from, count);
+    }
+
+    /// Scalar version of the skinning kernel, used when SIMD is not available and as its reference.
+    static void scalarSkin(MemorySegment palette, MemorySegment joints, MemorySegment weights,
+                           MemorySegment positions, @Nullable MemorySegment normals,
+                           MemorySegment outPositions, @Nullable MemorySegment outNormals, long from, long count) {
+        final var layout = ValueLayout.JAVA_FLOAT;
+        final float[] m = new float[Matrix4.SIZE];
+        for (long vertex = from, end = from + count; vertex < end; vertex++) {
+            blend(palette, joints, weights, vertex, m);
+            final long v = vertex * COMPONENTS;
+            final float x = positions.getAtIndex(layout, v);
+            final float y = positions.getAtIndex(layout, v + 1);
+            final float z = positions.getAtIndex(layout, v + 2);
+            outPositions.setAtIndex(layout, v, m[0] * x + m[4] * y + m[8] * z + m[12]);
+            outPositions.setAtIndex(layout, v + 1, m[1] * x + m[5] * y + m[9] * z + m[13]);
+            outPositions.setAtIndex(layout, v + 2, m[2] * x + m[6] * y + m[10] * z + m[14]);
+            if (normals == null || outNormals == null) continue;
+            final float nx = normals.getAtIndex(layout, v);
+            final float ny = normals.getAtIndex(layout, v + 1);
+            final float nz = normals.getAtIndex(layout, v + 2);
+            storeNormal(outNormals, v,
+                    m[0] * nx + m[4] * ny + m[8] * nz,
+                    m[1] * nx + m[5] * ny + m[9] * nz,
+                    m[2] * nx + m[6] * ny + m[10] * nz);
+        }
+    }
+
+    /// Writes in `out` the column-major weighted sum of the palette matrices influencing the vertex.
+    private static void blend(MemorySegment palette, MemorySegment joints, MemorySegment weights, long vertex, float[] out) {
+        final long i = vertex * INFLUENCES;
+        final long b0 = (long) joints.getAtIndex(ValueLayout.JAVA_INT, i) * Matrix4.SIZE;
+        final long b1 = (long) joints.getAtIndex(ValueLayout.JAVA_INT, i + 1) * Matrix4.SIZE;
+        final long b2 = (long) joints.getAtIndex(ValueLayout.JAVA_INT, i + 2) * Matrix4.SIZE;
+        final long b3 = (long) joints.getAtIndex(ValueLayout.JAVA_INT, i + 3) * Matrix4.SIZE;
+        final float w0 = weights.getAtIndex(ValueLayout.JAVA_FLOAT, i);
+        final float w1 = weights.getAtIndex(ValueLayout.JAVA_FLOAT, i + 1);
+        final float w2 = weights.getAtIndex(ValueLayout.JAVA_FLOAT, i + 2);
+        final float w3 = weights.getAtIndex(ValueLayout.JAVA_FLOAT, i + 3);
+        for (int e = 0; e < Matrix4.SIZE; e++) {
+            out[e] = palette.getAtIndex(ValueLayout.JAVA_FLOAT, b0 + e) * w0
+                    + palette.getAtIndex(ValueLayout.JAVA_FLOAT, b1 + e) * w1
+                    + palette.getAtIndex(ValueLayout.JAVA_FLOAT, b2 + e) * w2
+                    + palette.getAtIndex(ValueLayout.JAVA_FLOAT, b3 + e) * w3;
+        }
+    }
+
+    /// Normalizes and writes the normal, a zero normal is written as is.
+    static void storeNormal(MemorySegment out, long index, float x, float y, float z) {
+        final float len2 = x * x + y * y + z * z;
+        final float scale = len2 == 0 ? 1f : 1f / (float) Math.sqrt(len2);
+        out.setAtIndex(ValueLayout.JAVA_FLOAT, index, x * scale);
+        out.setAtIndex(ValueLayout.JAVA_FLOAT, index + 1, y * scale);
+        out.setAtIndex(ValueLayout.JAVA_FLOAT, index + 2, z * scale);
+    }
+}
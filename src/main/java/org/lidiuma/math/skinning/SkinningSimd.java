@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.skinning;
+
+import org.jspecify.annotations.Nullable;
+import org.lidiuma.math.matrix.Matrix4;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+/// SIMD version of the {@link Skinning} kernel, each column-major palette column fits in a single 128-bit vector.
+/// @implNote The class is only loaded when {@link org.lidiuma.math.SimdUtil#AVAILABLE} is true,
+/// the operations are issued in the same order of the scalar ones, so the results match exactly.
+value class SkinningSimd {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_128;
+    private static final long COLUMN_BYTES = 4L * Float.BYTES;
+    private static final long MATRIX_BYTES = (long) Matrix4.SIZE * Float.BYTES;
+
+    private SkinningSimd() {}
+
+    /// @return `m0 * w0 + m1 * w1 + m2 * w2 + m3 * w3` of the column at the byte offset, evaluated left-to-right like the scalar code.
+    private static FloatVector column(MemorySegment palette, long b0, long b1, long b2, long b3, long offset,
+                                      float w0, float w1, float w2, float w3, ByteOrder order) {
+        return FloatVector.fromMemorySegment(SPECIES, palette, b0 + offset, order).mul(w0)
+                .add(FloatVector.fromMemorySegment(SPECIES, palette, b1 + offset, order).mul(w1))
+                .add(FloatVector.fromMemorySegment(SPECIES, palette, b2 + offset, order).mul(w2))
+                .add(FloatVector.fromMemorySegment(SPECIES, palette, b3 + offset, order).mul(w3));
+    }
+
+    static void skin(MemorySegment palette, MemorySegment joints, MemorySegment weights,
+                     MemorySegment positions, @Nullable MemorySegment normals,
+                     MemorySegment outPositions, @Nullable MemorySegment outNormals, long from, long count) {
+        final var order = ByteOrder.nativeOrder();
+        final var layout = ValueLayout.JAVA_FLOAT;
+        for (long vertex = from, end = from + count; vertex < end; vertex++) {
+            final long i = vertex * Skinning.INFLUENCES;
+            final long b0 = joints.getAtIndex(ValueLayout.JAVA_INT, i) * MATRIX_BYTES;
+            final long b1 = joints.getAtIndex(ValueLayout.JAVA_INT, i + 1) * MATRIX_BYTES;
+            final long b2 = joints.getAtIndex(ValueLayout.JAVA_INT, i + 2) * MATRIX_BYTES;
+            final long b3 = joints.getAtIndex(ValueLayout.JAVA_INT, i + 3) * MATRIX_BYTES;
+            final float w0 = weights.getAtIndex(layout, i);
+            final float w1 = weights.getAtIndex(layout, i + 1);
+            final float w2 = weights.getAtIndex(layout, i + 2);
+            final float w3 = weights.getAtIndex(layout, i + 3);
+            final var c0 = column(palette, b0, b1, b2, b3, 0, w0, w1, w2, w3, order);
+            final var c1 = column(palette, b0, b1, b2, b3, COLUMN_BYTES, w0, w1, w2, w3, order);
+            final var c2 = column(palette, b0, b1, b2, b3, 2 * COLUMN_BYTES, w0, w1, w2, w3, order);
+            final var c3 = column(palette, b0, b1, b2, b3, 3 * COLUMN_BYTES, w0, w1, w2, w3, order);
+
+            final long v = vertex * Skinning.COMPONENTS;
+            final var p = c0.mul(positions.getAtIndex(layout, v))
+                    .add(c1.mul(positions.getAtIndex(layout, v + 1)))
+                    .add(c2.mul(positions.getAtIndex(layout, v + 2)))
+                    .add(c3);
+            outPositions.setAtIndex(layout, v, p.lane(0));
+            outPositions.setAtIndex(layout, v + 1, p.lane(1));
+            outPositions.setAtIndex(layout, v + 2, p.lane(2));
+            if (normals == null || outNormals == null) continue;
+            final var n = c0.mul(normals.getAtIndex(layout, v))
+                    .add(c1.mul(normals.getAtIndex(layout, v + 1)))
+                    .add(c2.mul(normals.getAtIndex(layout, v + 2)));
+            Skinning.storeNormal(outNormals, v, n.lane(0), n.lane(1), n.lane(2));
+        }
+    }
+}
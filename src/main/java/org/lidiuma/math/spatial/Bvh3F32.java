@@ -0,0 +1,446 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.spatial;
+
+import org.lidiuma.math.shape.Cuboid;
+import org.lidiuma.math.shape.Ray3F32;
+import org.lidiuma.math.shape.Sphere;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/// Bounding volume hierarchy over axis-aligned {@link Cuboid} bounds, built with the binned surface area heuristic.\
+/// A cuboid is interpreted with `pos` as its minimum corner, and `width`, `height`, `length` as its extent along `x`, `y`, `z`.
+///
+/// Nodes live in flat primitive arrays: 6 floats of bounds (`min` then `max`), and 2 ints each.
+/// An inner node stores the index of its left child (the right one follows it) and a count of `0`,
+/// while a leaf stores the first position of its items and their count.
+/// Children always have a higher index than their parent, which lets {@link #refit()} work in a single backward pass.
+/// @apiNote Moving items only requires {@link #set(int, Cuboid)} followed by {@link #refit()}, the topology is kept,
+/// so the tree quality slowly degrades when the items move far, in which case it should be built again.
+/// The queries are thread-safe as long as no item is moved concurrently.
+public final class Bvh3F32 {
+
+    private static final int BINS = 16;
+    private static final int MAX_LEAF_SIZE = 4;
+    /// Leaves are forced to split above this size, even if the heuristic would not.
+    private static final int FORCED_SPLIT_SIZE = 32;
+
+    private final float[] itemBounds;
+    /// Permutation of the item indices, each leaf owns a contiguous range of it.
+    private final int[] items;
+    private final float[] nodeBounds;
+    private final int[] nodeData;
+    private int nodeCount;
+    private int depth;
+
+    private Bvh3F32(float[] itemBounds) {
+        final int count = itemBounds.length / 6;
+        this.itemBounds = itemBounds;
+        this.items = new int[count];
+        for (int i = 0; i < count; i++) items[i] = i;
+        final int maxNodes = Math.max(1, 2 * count - 1);
+        this.nodeBounds = new float[maxNodes * 6];
+        this.nodeData = new int[maxNodes * 2];
+        if (count == 0) return;
+        nodeCount = 1;
+        build(0, 0, count, 1);
+    }
+
+    /// Builds a hierarchy over the provided bounds, the item index is the position in the list.
+    public static Bvh3F32 build(List<Cuboid<Float, Vector3F32>> bounds) {
+        final float[] itemBounds = new float[bounds.size() * 6];
+        for (int i = 0; i < bounds.size(); i++) write(itemBounds, i, bounds.get(i));
+        return new Bvh3F32(itemBounds);
+    }
+
+    /// @return The number of items.
+    public int size() {
+        return items.length;
+    }
+
+    /// @return The number of levels of the tree, `0` when empty.
+    public int depth() {
+        return depth;
+    }
+
+    /// @return The current bounds of the item.
+    public Cuboid<Float, Vector3F32> get(int item) {
+        Objects.checkIndex(item, items.length);
+        final int i = item * 6;
+        final var pos = new Vector3F32(itemBounds[i], itemBounds[i + 1], itemBounds[i + 2]);
+        return new Cuboid<>(pos, itemBounds[i + 3] - itemBounds[i], itemBounds[i + 4] - itemBounds[i + 1], itemBounds[i + 5] - itemBounds[i + 2]);
+    }
+
+    /// Moves the item, the change is visible to the queries only after {@link #refit()}.
+    public void set(int item, Cuboid<Float, Vector3F32> bounds) {
+        write(itemBounds, Objects.checkIndex(item, items.length), bounds);
+    }
+
+    /// Recomputes the bounds of every node bottom-up, after the items were moved with {@link #set(int, Cuboid)}.
+    public void refit() {
+        for (int node = nodeCount - 1; node >= 0; node--) {
+            final int b = node * 6;
+            final int first = nodeData[node * 2], count = nodeData[node * 2 + 1];
+            if (count > 0) {
+                leafBounds(node, first, count);
+                continue;
+            }
+            final int left = first * 6, right = (first + 1) * 6;
+            for (int axis = 0; axis < 3; axis++) {
+                nodeBounds[b + axis] = Math.min(nodeBounds[left + axis], nodeBounds[right + axis]);
+                nodeBounds[b + 3 + axis] = Math.max(nodeBounds[left + 3 + axis], nodeBounds[right + 3 + axis]);
+            }
+        }
+    }
+
+    /* ===== Queries ===== */
+
+    /// Visits every item whose bounds overlap the box.
+    public void overlaps(Cuboid<Float, Vector3F32> box, SpatialVisitor visitor) {
+        if (nodeCount == 0) return;
+        final float minX = box.pos().x(), minY = box.pos().y(), minZ = box.pos().z();
+        final float maxX = minX + box.width(), maxY = minY + box.height(), maxZ = minZ + box.length();
+        final int[] stack = new int[depth + 1];
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            final int node = stack[--top];
+            final int b = node * 6;
+            if (nodeBounds[b] > maxX || nodeBounds[b + 3] < minX
+                    || nodeBounds[b + 1] > maxY || nodeBounds[b + 4] < minY
+                    || nodeBounds[b + 2] > maxZ || nodeBounds[b + 5] < minZ) continue;
+            final int first = nodeData[node * 2], count = nodeData[node * 2 + 1];
+            if (count == 0) {
+                stack[top++] = first;
+                stack[top++] = first + 1;
+                continue;
+            }
+            for (int i = first; i < first + count; i++) {
+                final int item = items[i];
+                final int ib = item * 6;
+                if (itemBounds[ib] > maxX || itemBounds[ib + 3] < minX
+                        || itemBounds[ib + 1] > maxY || itemBounds[ib + 4] < minY
+                        || itemBounds[ib + 2] > maxZ || itemBounds[ib + 5] < minZ) continue;
+                if (!visitor.visit(item)) return;
+            }
+        }
+    }
+
+    /// Visits every item whose bounds overlap the sphere.
+    public void overlaps(Sphere<Float, Vector3F32> sphere, SpatialVisitor visitor) {
+        if (nodeCount == 0) return;
+        final float x = sphere.center().x(), y = sphere.center().y(), z = sphere.center().z();
+        final float radius2 = sphere.radius() * sphere.radius();
+        final int[] stack = new int[depth + 1];
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            final int node = stack[--top];
+            if (distance2(nodeBounds, node * 6, x, y, z) > radius2) continue;
+            final int first = nodeData[node * 2], count = nodeData[node * 2 + 1];
+            if (count == 0) {
+                stack[top++] = first;
+                stack[top++] = first + 1;
+                continue;
+            }
+            for (int i = first; i < first + count; i++) {
+                final int item = items[i];
+                if (distance2(itemBounds, item * 6, x, y, z) > radius2) continue;
+                if (!visitor.visit(item)) return;
+            }
+        }
+    }
+
+    /// Visits every item whose bounds are hit by the ray within `maxDistance`, nearer nodes are visited first.
+    /// @param direction the ray direction, the distance is measured in units of its length.
+    public void raycast(Vector3F32 origin, Vector3F32 direction, float maxDistance, SpatialVisitor visitor) {
+        raycast(new Ray3F32(origin, direction), maxDistance, visitor);
+    }
+
+    /// Visits every item whose bounds are hit by the ray within `maxDistance`, nearer nodes are visited first.
+    public void raycast(Ray3F32 ray, float maxDistance, SpatialVisitor visitor) {
+        if (nodeCount == 0) return;
+        final var origin = ray.origin();
+        final var inverse = ray.inverse();
+        final float ox = origin.x(), oy = origin.y(), oz = origin.z();
+        final float ix = inverse.x(), iy = inverse.y(), iz = inverse.z();
+        final int[] stack = new int[depth + 1];
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            final int node = stack[--top];
+            if (rayEntry(nodeBounds, node * 6, ox, oy, oz, ix, iy, iz, maxDistance) == Float.POSITIVE_INFINITY) continue;
+            final int first = nodeData[node * 2], count = nodeData[node * 2 + 1];
+            if (count == 0) {
+                top = pushOrdered(stack, top, first, ox, oy, oz, ix, iy, iz, maxDistance);
+                continue;
+            }
+            for (int i = first; i < first + count; i++) {
+                final int item = items[i];
+                if (rayEntry(itemBounds, item * 6, ox, oy, oz, ix, iy, iz, maxDistance) == Float.POSITIVE_INFINITY) continue;
+                if (!visitor.visit(item)) return;
+            }
+        }
+    }
+
+    /// @return The item whose bounds are hit first by the ray within `maxDistance`, or `-1` if none is hit.
+    /// @param direction the ray direction, the distance is measured in units of its length.
+    public int raycast(Vector3F32 origin, Vector3F32 direction, float maxDistance) {
+        return raycast(new Ray3F32(origin, direction), maxDistance);
+    }
+
+    /// @return The item whose bounds are hit first by the ray within `maxDistance`, or `-1` if none is hit.
+    public int raycast(Ray3F32 ray, float maxDistance) {
+        if (nodeCount == 0) return -1;
+        final var origin = ray.origin();
+        final var inverse = ray.inverse();
+        final float ox = origin.x(), oy = origin.y(), oz = origin.z();
+        final float ix = inverse.x(), iy = inverse.y(), iz = inverse.z();
+        final int[] stack = new int[depth + 1];
+        int top = 0;
+        stack[top++] = 0;
+        int best = -1;
+        float bestDistance = maxDistance;
+        while (top > 0) {
+            final int node = stack[--top];
+            if (rayEntry(nodeBounds, node * 6, ox, oy, oz, ix, iy, iz, bestDistance) == Float.POSITIVE_INFINITY) continue;
+            final int first = nodeData[node * 2], count = nodeData[node * 2 + 1];
+            if (count == 0) {
+                top = pushOrdered(stack, top, first, ox, oy, oz, ix, iy, iz, bestDistance);
+                continue;
+            }
+            for (int i = first; i < first + count; i++) {
+                final int item = items[i];
+                final float t = rayEntry(itemBounds, item * 6, ox, oy, oz, ix, iy, iz, bestDistance);
+                if (t < bestDistance || (t == bestDistance && best == -1)) {
+                    best = item;
+                    bestDistance = t;
+                }
+            }
+        }
+        return best;
+    }
+
+    /// @return The item whose bounds are the nearest to the point within `maxDistance`, or `-1` if there's none.
+    /// @apiNote A point inside the bounds of an item has distance `0` from it.
+    public int nearest(Vector3F32 point, float maxDistance) {
+        if (nodeCount == 0) return -1;
+        final float x = point.x(), y = point.y(), z = point.z();
+        final int[] stack = new int[depth + 1];
+        int top = 0;
+        stack[top++] = 0;
+        int best = -1;
+        float bestDistance2 = maxDistance * maxDistance;
+        while (top > 0) {
+            final int node = stack[--top];
+            if (distance2(nodeBounds, node * 6, x, y, z) > bestDistance2) continue;
+            final int first = nodeData[node * 2], count = nodeData[node * 2 + 1];
+            if (count == 0) {
+                // I push the farthest child first, so the nearest is popped first and shrinks the search radius sooner.
+                final float left = distance2(nodeBounds, first * 6, x, y, z);
+                final float right = distance2(nodeBounds, (first + 1) * 6, x, y, z);
+                stack[top++] = left < right ? first + 1 : first;
+                stack[top++] = left < right ? first : first + 1;
+                continue;
+            }
+            for (int i = first; i < first + count; i++) {
+                final int item = items[i];
+                final float d2 = distance2(itemBounds, item * 6, x, y, z);
+                if (d2 < bestDistance2 || (d2 == bestDistance2 && best == -1)) {
+                    best = item;
+                    bestDistance2 = d2;
+                }
+            }
+        }
+        return best;
+    }
+
+    /* ===== Build ===== */
+
+    private void build(int node, int first, int count, int level) {
+        depth = Math.max(depth, level);
+        leafBounds(node, first, count);
+        nodeData[node * 2] = first;
+        nodeData[node * 2 + 1] = count;
+        if (count <= MAX_LEAF_SIZE) return;
+
+        // The bins are placed along the longest axis of the centroids.
+        float cMinX = Float.POSITIVE_INFINITY, cMinY = Float.POSITIVE_INFINITY, cMinZ = Float.POSITIVE_INFINITY;
+        float cMaxX = Float.NEGATIVE_INFINITY, cMaxY = Float.NEGATIVE_INFINITY, cMaxZ = Float.NEGATIVE_INFINITY;
+        for (int i = first; i < first + count; i++) {
+            final int ib = items[i] * 6;
+            final float cx = (itemBounds[ib] + itemBounds[ib + 3]) * 0.5f;
+            final float cy = (itemBounds[ib + 1] + itemBounds[ib + 4]) * 0.5f;
+            final float cz = (itemBounds[ib + 2] + itemBounds[ib + 5]) * 0.5f;
+            cMinX = Math.min(cMinX, cx); cMaxX = Math.max(cMaxX, cx);
+            cMinY = Math.min(cMinY, cy); cMaxY = Math.max(cMaxY, cy);
+            cMinZ = Math.min(cMinZ, cz); cMaxZ = Math.max(cMaxZ, cz);
+        }
+        final float extentX = cMaxX - cMinX, extentY = cMaxY - cMinY, extentZ = cMaxZ - cMinZ;
+        final int axis = extentX >= extentY && extentX >= extentZ ? 0 : extentY >= extentZ ? 1 : 2;
+        final float cMin = axis == 0 ? cMinX : axis == 1 ? cMinY : cMinZ;
+        final float extent = axis == 0 ? extentX : axis == 1 ? extentY : extentZ;
+        // Every centroid is in the same spot, there's no way to split them.
+        if (extent <= 0) return;
+
+        final float[] binBounds = new float[BINS * 6];
+        final int[] binCount = new int[BINS];
+        for (int bin = 0; bin < BINS; bin++) empty(binBounds, bin * 6);
+        final float scale = BINS / extent;
+        for (int i = first; i < first + count; i++) {
+            final int ib = items[i] * 6;
+            final int bin = bin(ib, axis, cMin, scale);
+            binCount[bin]++;
+            grow(binBounds, bin * 6, itemBounds, ib);
+        }
+
+        // Sweeping from the right, then from the left, gives the cost of each split plane.
+        final float[] rightArea = new float[BINS];
+        final float[] sweep = new float[6];
+        empty(sweep, 0);
+        int rightCount = 0;
+        final int[] rightCounts = new int[BINS];
+        for (int bin = BINS - 1; bin > 0; bin--) {
+            grow(sweep, 0, binBounds, bin * 6);
+            rightCount += binCount[bin];
+            rightArea[bin] = area(sweep, 0);
+            rightCounts[bin] = rightCount;
+        }
+        empty(sweep, 0);
+        int leftCount = 0;
+        int bestSplit = -1;
+        float bestCost = Float.POSITIVE_INFINITY;
+        for (int split = 1; split < BINS; split++) {
+            grow(sweep, 0, binBounds, (split - 1) * 6);
+            leftCount += binCount[split - 1];
+            if (leftCount == 0 || rightCounts[split] == 0) continue;
+            final float cost = area(sweep, 0) * leftCount + rightArea[split] * rightCounts[split];
+            if (cost < bestCost) {
+                bestCost = cost;
+                bestSplit = split;
+            }
+        }
+        final float leafCost = area(nodeBounds, node * 6) * count;
+        if (bestSplit == -1 || (bestCost >= leafCost && count <= FORCED_SPLIT_SIZE)) return;
+
+        // Partitions the items in-place, the ones in the bins before the split go left.
+        int i = first, j = first + count - 1;
+        while (i <= j) {
+            if (bin(items[i] * 6, axis, cMin, scale) < bestSplit) {
+                i++;
+            } else {
+                final int swap = items[i];
+                items[i] = items[j];
+                items[j--] = swap;
+            }
+        }
+        final int left = nodeCount;
+        nodeCount += 2;
+        nodeData[node * 2] = left;
+        nodeData[node * 2 + 1] = 0;
+        build(left, first, i - first, level + 1);
+        build(left + 1, i, first + count - i, level + 1);
+    }
+
+    private int bin(int itemOffset, int axis, float cMin, float scale) {
+        final float centroid = (itemBounds[itemOffset + axis] + itemBounds[itemOffset + 3 + axis]) * 0.5f;
+        return Math.min(BINS - 1, (int) ((centroid - cMin) * scale));
+    }
+
+    private void leafBounds(int node, int first, int count) {
+        final int b = node * 6;
+        empty(nodeBounds, b);
+        for (int i = first; i < first + count; i++) grow(nodeBounds, b, itemBounds, items[i] * 6);
+    }
+
+    /* ===== Helpers ===== */
+
+    private static void write(float[] bounds, int item, Cuboid<Float, Vector3F32> cuboid) {
+        final int i = item * 6;
+        final var pos = cuboid.pos();
+        bounds[i] = pos.x();
+        bounds[i + 1] = pos.y();
+        bounds[i + 2] = pos.z();
+        bounds[i + 3] = pos.x() + cuboid.width();
+        bounds[i + 4] = pos.y() + cuboid.height();
+        bounds[i + 5] = pos.z() + cuboid.length();
+    }
+
+    private static void empty(float[] bounds, int offset) {
+        Arrays.fill(bounds, offset, offset + 3, Float.POSITIVE_INFINITY);
+        Arrays.fill(bounds, offset + 3, offset + 6, Float.NEGATIVE_INFINITY);
+    }
+
+    private static void grow(float[] bounds, int offset, float[] other, int otherOffset) {
+        for (int axis = 0; axis < 3; axis++) {
+            bounds[offset + axis] = Math.min(bounds[offset + axis], other[otherOffset + axis]);
+            bounds[offset + 3 + axis] = Math.max(bounds[offset + 3 + axis], other[otherOffset + 3 + axis]);
+        }
+    }
+
+    /// @return Half of the surface area, which is enough to compare costs.
+    private static float area(float[] bounds, int offset) {
+        final float x = bounds[offset + 3] - bounds[offset];
+        final float y = bounds[offset + 4] - bounds[offset + 1];
+        final float z = bounds[offset + 5] - bounds[offset + 2];
+        if (x < 0 || y < 0 || z < 0) return 0;
+        return x * y + y * z + z * x;
+    }
+
+    /// @return The squared distance between the point and the box, `0` if the point is inside.
+    private static float distance2(float[] bounds, int offset, float x, float y, float z) {
+        final float dx = Math.max(Math.max(bounds[offset] - x, 0), x - bounds[offset + 3]);
+        final float dy = Math.max(Math.max(bounds[offset + 1] - y, 0), y - bounds[offset + 4]);
+        final float dz = Math.max(Math.max(bounds[offset + 2] - z, 0), z - bounds[offset + 5]);
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /// Slab test between the ray and the box, the faces count as part of the box.
+    /// @return The distance at which the ray enters the box, or {@link Float#POSITIVE_INFINITY} if it misses it within `maxDistance`.
+    private static float rayEntry(float[] bounds, int offset, float ox, float oy, float oz, float ix, float iy, float iz, float maxDistance) {
+        final float tx1 = (bounds[offset] - ox) * ix, tx2 = (bounds[offset + 3] - ox) * ix;
+        final float ty1 = (bounds[offset + 1] - oy) * iy, ty2 = (bounds[offset + 4] - oy) * iy;
+        final float tz1 = (bounds[offset + 2] - oz) * iz, tz2 = (bounds[offset + 5] - oz) * iz;
+        final float tMin = Math.max(Math.max(slabEntry(tx1, tx2), slabEntry(ty1, ty2)), Math.max(slabEntry(tz1, tz2), 0));
+        final float tMax = Math.min(Math.min(slabExit(tx1, tx2), slabExit(ty1, ty2)), Math.min(slabExit(tz1, tz2), maxDistance));
+        return tMin <= tMax ? tMin : Float.POSITIVE_INFINITY;
+    }
+
+    /// A ray parallel to an axis, with the origin on one of the slab planes, computes `0 * inf = NaN` there.
+    /// The ray then runs along a face, so the slab does not bound it and the entry is minus infinity.
+    private static float slabEntry(float t1, float t2) {
+        final float t = Math.min(t1, t2);
+        return Float.isNaN(t) ? Float.NEGATIVE_INFINITY : t;
+    }
+
+    /// @see #slabEntry(float, float)
+    private static float slabExit(float t1, float t2) {
+        final float t = Math.max(t1, t2);
+        return Float.isNaN(t) ? Float.POSITIVE_INFINITY : t;
+    }
+
+    /// Pushes the two children of an inner node, the one entered later by the ray first, so the nearer is popped first.
+    private int pushOrdered(int[] stack, int top, int left, float ox, float oy, float oz, float ix, float iy, float iz, float maxDistance) {
+        final float tLeft = rayEntry(nodeBounds, left * 6, ox, oy, oz, ix, iy, iz, maxDistance);
+        final float tRight = rayEntry(nodeBounds, (left + 1) * 6, ox, oy, oz, ix, iy, iz, maxDistance);
+        stack[top++] = tLeft <= tRight ? left + 1 : left;
+        stack[top++] = tLeft <= tRight ? left : left + 1;
+        return top;
+    }
+}
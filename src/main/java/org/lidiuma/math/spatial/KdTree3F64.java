@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.spatial;
+
+import org.lidiuma.math.point.p3.Point3;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/// Immutable, array-backed KD-tree of 3D points, for nearest-neighbour and radius queries on large, static point sets.\
+/// The tree is implicit: the points are reordered so that the median of every range `[lo, hi)` sits at `(lo + hi) / 2`,
+/// with the smaller coordinates of its split axis on the left and the bigger ones on the right.
+/// The split axis is the one with the widest spread of each range.
+///
+/// Since nothing is modified after the construction, every query is lock-free and can run concurrently from any number of threads.
+/// The queries write into primitive arrays provided by the caller, and they never allocate.
+public final class KdTree3F64 {
+
+    /// Ranges smaller than this are split on the current thread during a parallel build.
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    /// The points in tree order, packed as `x, y, z`.
+    private final double[] points;
+    /// The original index of each point in tree order.
+    private final int[] indices;
+    /// The split axis of each median.
+    private final byte[] axes;
+
+    private KdTree3F64(double[] points, ForkJoinPool pool) {
+        if (points.length % 3 != 0) throw new IllegalArgumentException("The positions length is not a multiple of 3.");
+        final int count = points.length / 3;
+        this.points = points;
+        this.indices = new int[count];
+        this.axes = new byte[count];
+        for (int i = 0; i < count; i++) indices[i] = i;
+        final var task = new BuildTask(this, 0, count);
+        if (pool == null) task.compute();
+        else pool.invoke(task);
+    }
+
+    /// Builds the tree on the current thread.
+    /// @param positions the points packed as `x, y, z`, the index of a point is its position divided by 3.
+    /// @apiNote The array is copied, so it can be reused.
+    public static KdTree3F64 build(double[] positions) {
+        return new KdTree3F64(positions.clone(), null);
+    }
+
+    /// Builds the tree splitting the ranges in parallel on the pool.
+    /// @see #build(double[])
+    public static KdTree3F64 build(double[] positions, ForkJoinPool pool) {
+        return new KdTree3F64(positions.clone(), pool);
+    }
+
+    /// Builds the tree on the current thread, the index of a point is its position in the list.
+    public static KdTree3F64 build(List<? extends Point3.F64> points) {
+        return new KdTree3F64(pack(points), null);
+    }
+
+    /// Builds the tree splitting the ranges in parallel on the pool.
+    /// @see #build(List)
+    public static KdTree3F64 build(List<? extends Point3.F64> points, ForkJoinPool pool) {
+        return new KdTree3F64(pack(points), pool);
+    }
+
+    /// @return The number of points.
+    public int size() {
+        return indices.length;
+    }
+
+    /* ===== Nearest ===== */
+
+    /// Finds the `k` nearest points, with `k` being the length of `outIndices`.
+    /// @param outIndices receives the indices of the points, sorted from the nearest.
+    /// @param outDistances2 receives the squared distances, in the same order.
+    /// @return The number of points found, which is less than `k` only if the tree has less than `k` points.
+    /// @throws IllegalArgumentException if the output arrays do not have the same length.
+    public int nearest(double x, double y, double z, int[] outIndices, double[] outDistances2) {
+        if (outIndices.length != outDistances2.length) throw new IllegalArgumentException("The output arrays do not have the same length.");
+        if (outIndices.length == 0) return 0;
+        final int found = nearest(0, indices.length, x, y, z, outIndices, outDistances2, 0);
+        // The results form a max-heap, sorting it in place gives the ascending order.
+        for (int end = found - 1; end > 0; end--) {
+            swap(outIndices, outDistances2, 0, end);
+            siftDown(outIndices, outDistances2, 0, end);
+        }
+        return found;
+    }
+
+    /// @see #nearest(double, double, double, int[], double[])
+    public int nearest(Point3.F64 point, int[] outIndices, double[] outDistances2) {
+        return nearest(point.x(), point.y(), point.z(), outIndices, outDistances2);
+    }
+
+    /// @return The index of the nearest point, or `-1` if the tree is empty.
+    public int nearest(double x, double y, double z) {
+        final int slot = nearest(0, indices.length, x, y, z, -1);
+        return slot == -1 ? -1 : indices[slot];
+    }
+
+    /// @see #nearest(double, double, double)
+    public int nearest(Point3.F64 point) {
+        return nearest(point.x(), point.y(), point.z());
+    }
+
+    /// Single nearest descent, the best point is carried as its position in tree order, so it needs no output arrays.
+    /// @return The position of the nearest point in tree order, or `best` if none of the range is nearer.
+    private int nearest(int lo, int hi, double x, double y, double z, int best) {
+        if (lo >= hi) return best;
+        final int median = (lo + hi) >>> 1;
+        if (best == -1 || distance2(median, x, y, z) < distance2(best, x, y, z)) best = median;
+        final int axis = axes[median];
+        final double diff = (axis == 0 ? x : axis == 1 ? y : z) - points[median * 3 + axis];
+        if (diff < 0) {
+            best = nearest(lo, median, x, y, z, best);
+            if (diff * diff < distance2(best, x, y, z)) best = nearest(median + 1, hi, x, y, z, best);
+        } else {
+            best = nearest(median + 1, hi, x, y, z, best);
+            if (diff * diff < distance2(best, x, y, z)) best = nearest(lo, median, x, y, z, best);
+        }
+        return best;
+    }
+
+    private double distance2(int slot, double x, double y, double z) {
+        final int p = slot * 3;
+        final double dx = points[p] - x, dy = points[p + 1] - y, dz = points[p + 2] - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private int nearest(int lo, int hi, double x, double y, double z, int[] heap, double[] heapDistances2, int size) {
+        if (lo >= hi) return size;
+        final int median = (lo + hi) >>> 1;
+        final int p = median * 3;
+        final double dx = points[p] - x, dy = points[p + 1] - y, dz = points[p + 2] - z;
+        final double distance2 = dx * dx + dy * dy + dz * dz;
+        final int k = heap.length;
+        if (size < k) {
+            heap[size] = indices[median];
+            heapDistances2[size] = distance2;
+            siftUp(heap, heapDistances2, size++);
+        } else if (distance2 < heapDistances2[0]) {
+            heap[0] = indices[median];
+            heapDistances2[0] = distance2;
+            siftDown(heap, heapDistances2, 0, k);
+        }
+        final int axis = axes[median];
+        final double diff = (axis == 0 ? x : axis == 1 ? y : z) - points[p + axis];
+        // I search the side of the query first, the other one only if it can still hold nearer points.
+        if (diff < 0) {
+            size = nearest(lo, median, x, y, z, heap, heapDistances2, size);
+            if (size < k || diff * diff < heapDistances2[0]) size = nearest(median + 1, hi, x, y, z, heap, heapDistances2, size);
+        } else {
+            size = nearest(median + 1, hi, x, y, z, heap, heapDistances2, size);
+            if (size < k || diff * diff < heapDistances2[0]) size = nearest(lo, median, x, y, z, heap, heapDistances2, size);
+        }
+        return size;
+    }
+
+    /* ===== Radius ===== */
+
+    /// Finds every point within `radius`, in no particular order.
+    /// @param outIndices receives the indices of the points, up to its length.
+    /// @param outDistances2 receives the squared distances, in the same order.
+    /// @return The number of points within the radius, which can exceed the length of the arrays,
+    /// in which case only the first ones found are written.
+    /// @throws IllegalArgumentException if the output arrays do not have the same length.
+    public int radius(double x, double y, double z, double radius, int[] outIndices, double[] outDistances2) {
+        if (outIndices.length != outDistances2.length) throw new IllegalArgumentException("The output arrays do not have the same length.");
+        return radius(0, indices.length, x, y, z, radius * radius, outIndices, outDistances2, 0);
+    }
+
+    /// @see #radius(double, double, double, double, int[], double[])
+    public int radius(Point3.F64 point, double radius, int[] outIndices, double[] outDistances2) {
+        return radius(point.x(), point.y(), point.z(), radius, outIndices, outDistances2);
+    }
+
+    private int radius(int lo, int hi, double x, double y, double z, double radius2, int[] out, double[] outDistances2, int found) {
+        if (lo >= hi) return found;
+        final int median = (lo + hi) >>> 1;
+        final int p = median * 3;
+        final double dx = points[p] - x, dy = points[p + 1] - y, dz = points[p + 2] - z;
+        final double distance2 = dx * dx + dy * dy + dz * dz;
+        if (distance2 <= radius2) {
+            if (found < out.length) {
+                out[found] = indices[median];
+                outDistances2[found] = distance2;
+            }
+            found++;
+        }
+        final int axis = axes[median];
+        final double diff = (axis == 0 ? x : axis == 1 ? y : z) - points[p + axis];
+        if (diff <= 0 || diff * diff <= radius2) found = radius(lo, median, x, y, z, radius2, out, outDistances2, found);
+        if (diff >= 0 || diff * diff <= radius2) found = radius(median + 1, hi, x, y, z, radius2, out, outDistances2, found);
+        return found;
+    }
+
+    /* ===== Build ===== */
+
+    /// Places the median of the range and splits the two halves, in parallel when the range is big enough.
+    private static final class BuildTask extends RecursiveAction {
+
+        private final KdTree3F64 tree;
+        private final int lo;
+        private final int hi;
+
+        private BuildTask(KdTree3F64 tree, int lo, int hi) {
+            this.tree = tree;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            int lo = this.lo, hi = this.hi;
+            // I loop on the right half instead of recursing, so the depth only grows with the left halves.
+            while (hi - lo > 1) {
+                final int median = tree.split(lo, hi);
+                if (hi - lo > PARALLEL_THRESHOLD && inForkJoinPool()) {
+                    invokeAll(new BuildTask(tree, lo, median), new BuildTask(tree, median + 1, hi));
+                    return;
+                }
+                new BuildTask(tree, lo, median).compute();
+                lo = median + 1;
+            }
+        }
+    }
+
+    /// Chooses the axis of the widest spread and moves the median of the range in the middle.
+    /// @return The index of the median.
+    private int split(int lo, int hi) {
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY, minZ = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY, maxZ = Double.NEGATIVE_INFINITY;
+        for (int i = lo; i < hi; i++) {
+            final int p = i * 3;
+            minX = Math.min(minX, points[p]); maxX = Math.max(maxX, points[p]);
+            minY = Math.min(minY, points[p + 1]); maxY = Math.max(maxY, points[p + 1]);
+            minZ = Math.min(minZ, points[p + 2]); maxZ = Math.max(maxZ, points[p + 2]);
+        }
+        final double spreadX = maxX - minX, spreadY = maxY - minY, spreadZ = maxZ - minZ;
+        final int axis = spreadX >= spreadY && spreadX >= spreadZ ? 0 : spreadY >= spreadZ ? 1 : 2;
+        final int median = (lo + hi) >>> 1;
+        select(lo, hi - 1, median, axis);
+        axes[median] = (byte) axis;
+        return median;
+    }
+
+    /// Quickselect, with a median of three pivot, placing the `k`-th smallest coordinate of the axis at `k`.
+    private void select(int left, int right, int k, int axis) {
+        while (right > left) {
+            final int middle = (left + right) >>> 1;
+            if (coordinate(middle, axis) < coordinate(left, axis)) swap(middle, left);
+            if (coordinate(right, axis) < coordinate(left, axis)) swap(right, left);
+            if (coordinate(right, axis) < coordinate(middle, axis)) swap(right, middle);
+            final double pivot = coordinate(middle, axis);
+            int i = left, j = right;
+            while (i <= j) {
+                while (coordinate(i, axis) < pivot) i++;
+                while (coordinate(j, axis) > pivot) j--;
+                if (i <= j) swap(i++, j--);
+            }
+            if (k <= j) right = j;
+            else if (k >= i) left = i;
+            else return;
+        }
+    }
+
+    private double coordinate(int i, int axis) {
+        return points[i * 3 + axis];
+    }
+
+    private void swap(int a, int b) {
+        final int pa = a * 3, pb = b * 3;
+        for (int axis = 0; axis < 3; axis++) {
+            final double swap = points[pa + axis];
+            points[pa + axis] = points[pb + axis];
+            points[pb + axis] = swap;
+        }
+        final int swap = indices[a];
+        indices[a] = indices[b];
+        indices[b] = swap;
+    }
+
+    /* ===== Helpers ===== */
+
+    private static double[] pack(List<? extends Point3.F64> points) {
+        final double[] packed = new double[points.size() * 3];
+        for (int i = 0; i < points.size(); i++) {
+            final var point = points.get(i);
+            packed[i * 3] = point.x();
+            packed[i * 3 + 1] = point.y();
+            packed[i * 3 + 2] = point.z();
+        }
+        return packed;
+    }
+
+    private static void siftUp(int[] heap, double[] distances2, int i) {
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (distances2[parent] >= distances2[i]) return;
+            swap(heap, distances2, parent, i);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, double[] distances2, int i, int size) {
+        while (true) {
+            final int left = i * 2 + 1, right = left + 1;
+            int largest = i;
+            if (left < size && distances2[left] > distances2[largest]) largest = left;
+            if (right < size && distances2[right] > distances2[largest]) largest = right;
+            if (largest == i) return;
+            swap(heap, distances2, largest, i);
+            i = largest;
+        }
+    }
+
+    private static void swap(int[] heap, double[] distances2, int a, int b) {
+        final int index = heap[a];
+        heap[a] = heap[b];
+        heap[b] = index;
+        final double distance2 = distances2[a];
+        distances2[a] = distances2[b];
+        distances2[b] = distance2;
+    }
+}
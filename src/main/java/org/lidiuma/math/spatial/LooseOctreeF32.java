@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.spatial;
+
+import org.lidiuma.math.point.p3.Point3;
+import org.lidiuma.math.shape.Shape;
+import java.util.Arrays;
+
+/// Loose octree of spheres and points, each item is identified by a non-negative `int` chosen by the caller.\
+/// Every node covers a cell, but accepts items within twice its size, so an item is stored at the depth
+/// matching its radius and never straddles two nodes. Points, having radius `0`, descend as deep as the tree currently goes.
+/// Nodes are split once they hold more than {@link #SPLIT_THRESHOLD} items, and their children are released back to the pool once empty.
+///
+/// Nodes and items are stored in pooled primitive arrays, items of the same node form an intrusive linked list,
+/// making {@link #insert}, {@link #remove(int)} and {@link #move} `O(depth)`, which is `O(log n)` for well distributed items.
+/// The queries are recursive and report the items to a {@link SpatialVisitor}, so they do not allocate.
+/// @apiNote Items outside the root cell are kept in the root, and are always tested by the queries.
+/// The tree is not thread-safe, concurrent queries are fine as long as nothing is modified.
+public final class LooseOctreeF32 {
+
+    /// Items a node holds before it's split into children.
+    public static final int SPLIT_THRESHOLD = 16;
+    private static final int DIMENSIONS = 3;
+    private static final int CHILDREN = 1 << DIMENSIONS;
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int maxDepth;
+
+    private float[] nodeCenter;
+    private float[] nodeHalf;
+    private int[] nodeParent;
+    private int[] nodeDepth;
+    /// Index of the first of the children, which are always allocated together, or {@link #NONE}.
+    private int[] nodeChildren;
+    /// Head of the linked list of the items stored directly in the node, also the link of the free list for released children.
+    private int[] nodeHead;
+    private int[] nodeCount;
+    /// Number of items in the node and in all its descendants.
+    private int[] nodeSubtree;
+    private int nodeUsed;
+    private int freeChildren = NONE;
+
+    private float[] itemPosition;
+    private float[] itemRadius;
+    private int[] itemNode;
+    private int[] itemNext;
+    private int[] itemPrev;
+    private int size;
+
+    /// Creates an empty octree whose root cell is centered at `center` and extends `halfSize` along each axis.
+    /// @param maxDepth the maximum depth of the nodes, the root has depth `0`.
+    /// @throws IllegalArgumentException if the half size is not positive, or the max depth is negative.
+    public LooseOctreeF32(Point3.F32 center, float halfSize, int maxDepth) {
+        if (!(halfSize > 0)) throw new IllegalArgumentException("The half size must be positive.");
+        if (maxDepth < 0) throw new IllegalArgumentException("The max depth cannot be negative.");
+        this.maxDepth = maxDepth;
+        nodeCenter = new float[INITIAL_CAPACITY * DIMENSIONS];
+        nodeHalf = new float[INITIAL_CAPACITY];
+        nodeParent = new int[INITIAL_CAPACITY];
+        nodeDepth = new int[INITIAL_CAPACITY];
+        nodeChildren = new int[INITIAL_CAPACITY];
+        nodeHead = new int[INITIAL_CAPACITY];
+        nodeCount = new int[INITIAL_CAPACITY];
+        nodeSubtree = new int[INITIAL_CAPACITY];
+        itemPosition = new float[INITIAL_CAPACITY * DIMENSIONS];
+        itemRadius = new float[INITIAL_CAPACITY];
+        itemNode = new int[INITIAL_CAPACITY];
+        itemNext = new int[INITIAL_CAPACITY];
+        itemPrev = new int[INITIAL_CAPACITY];
+        Arrays.fill(itemNode, NONE);
+        nodeUsed = 1;
+        nodeCenter[0] = center.x();
+        nodeCenter[1] = center.y();
+        nodeCenter[2] = center.z();
+        initNode(0, halfSize, NONE, 0);
+    }
+
+    /// @return The number of items in the tree.
+    public int size() {
+        return size;
+    }
+
+    /// @return true if the item is in the tree.
+    public boolean contains(int item) {
+        return item >= 0 && item < itemNode.length && itemNode[item] != NONE;
+    }
+
+    /// Inserts a point, which is an item of radius `0`.
+    /// @throws IllegalArgumentException if the item is negative or already in the tree.
+    public void insert(int item, Point3.F32 point) {
+        insert(item, point.x(), point.y(), point.z(), 0f);
+    }
+
+    /// Inserts a sphere.
+    /// @throws IllegalArgumentException if the item is negative or already in the tree.
+    public void insert(int item, Shape.Sphere<Float, ? extends Point3.F32> sphere) {
+        final var center = sphere.center();
+        insert(item, center.x(), center.y(), center.z(), sphere.radius());
+    }
+
+    /// Removes the item, nothing happens if it is not in the tree.
+    public void remove(int item) {
+        if (!contains(item)) return;
+        final int node = itemNode[item];
+        unlink(item);
+        itemNode[item] = NONE;
+        size--;
+        for (int n = node; n != NONE; n = nodeParent[n]) {
+            nodeSubtree[n]--;
+            // Once the children are empty they go back to the pool.
+            if (nodeChildren[n] != NONE && nodeSubtree[n] == nodeCount[n]) releaseChildren(n);
+        }
+    }
+
+    /// Moves a point, inserting it if it is not in the tree.
+    public void move(int item, Point3.F32 point) {
+        move(item, point.x(), point.y(), point.z(), 0f);
+    }
+
+    /// Moves a sphere, inserting it if it is not in the tree.
+    public void move(int item, Shape.Sphere<Float, ? extends Point3.F32> sphere) {
+        final var center = sphere.center();
+        move(item, center.x(), center.y(), center.z(), sphere.radius());
+    }
+
+    /// Visits every item overlapping the sphere, which is every point within its radius.
+    public void query(Shape.Sphere<Float, ? extends Point3.F32> range, SpatialVisitor visitor) {
+        final var center = range.center();
+        querySphere(0, center.x(), center.y(), center.z(), range.radius(), visitor);
+    }
+
+    /// Visits every item overlapping the axis-aligned box between `min` and `max`.
+    public void query(Point3.F32 min, Point3.F32 max, SpatialVisitor visitor) {
+        queryBox(0, min.x(), min.y(), min.z(), max.x(), max.y(), max.z(), visitor);
+    }
+
+    private void insert(int item, float x, float y, float z, float radius) {
+        if (item < 0) throw new IllegalArgumentException("The item cannot be negative.");
+        if (item >= itemNode.length) growItems(item + 1);
+        if (itemNode[item] != NONE) throw new IllegalArgumentException("The item " + item + " is already in the tree.");
+        final int p = item * DIMENSIONS;
+        itemPosition[p] = x;
+        itemPosition[p + 1] = y;
+        itemPosition[p + 2] = z;
+        itemRadius[item] = radius;
+        size++;
+        place(item);
+    }
+
+    private void move(int item, float x, float y, float z, float radius) {
+        if (!contains(item)) {
+            insert(item, x, y, z, radius);
+            return;
+        }
+        final int node = itemNode[item];
+        final int p = item * DIMENSIONS;
+        final boolean settled = nodeChildren[node] == NONE || targetDepth(radius) == nodeDepth[node];
+        if (node != 0 && settled && radius <= nodeHalf[node] && insideCell(node, x, y, z)) {
+            // The item still fits the loose bounds of its node, so only its position changes.
+            itemPosition[p] = x;
+            itemPosition[p + 1] = y;
+            itemPosition[p + 2] = z;
+            itemRadius[item] = radius;
+            return;
+        }
+        remove(item);
+        insert(item, x, y, z, radius);
+    }
+
+    /// Links the item to the deepest existing node fitting it, splitting the node if it became too crowded.
+    private void place(int item) {
+        final int p = item * DIMENSIONS;
+        int node = 0;
+        if (insideCell(0, itemPosition[p], itemPosition[p + 1], itemPosition[p + 2])) {
+            final int target = targetDepth(itemRadius[item]);
+            while (nodeDepth[node] < target && nodeChildren[node] != NONE) node = nodeChildren[node] + childIndex(node, item);
+        }
+        link(item, node);
+        for (int n = node; n != NONE; n = nodeParent[n]) nodeSubtree[n]++;
+        if (nodeChildren[node] == NONE && nodeCount[node] > SPLIT_THRESHOLD && nodeDepth[node] < maxDepth) split(node);
+    }
+
+    /// Creates the children of the node and pushes down the items that fit them.
+    /// The items outside the cell, which only the root holds, stay in the node like {@link #place(int)} does.
+    private void split(int node) {
+        final int children = allocateChildren(node);
+        final int depth = nodeDepth[node];
+        int item = nodeHead[node];
+        while (item != NONE) {
+            final int next = itemNext[item];
+            final int p = item * DIMENSIONS;
+            if (targetDepth(itemRadius[item]) > depth && insideCell(node, itemPosition[p], itemPosition[p + 1], itemPosition[p + 2])) {
+                final int child = children + childIndex(node, item);
+                unlink(item);
+                link(item, child);
+                nodeSubtree[child]++;
+            }
+            item = next;
+        }
+    }
+
+    /// @return The deepest depth whose cells are at least as big as the radius.
+    private int targetDepth(float radius) {
+        float half = nodeHalf[0];
+        int depth = 0;
+        while (depth < maxDepth && half * 0.5f >= radius) {
+            half *= 0.5f;
+            depth++;
+        }
+        return depth;
+    }
+
+    private boolean insideCell(int node, float x, float y, float z) {
+        final int c = node * DIMENSIONS;
+        final float half = nodeHalf[node];
+        return Math.abs(x - nodeCenter[c]) <= half
+                && Math.abs(y - nodeCenter[c + 1]) <= half
+                && Math.abs(z - nodeCenter[c + 2]) <= half;
+    }
+
+    private int childIndex(int node, int item) {
+        final int c = node * DIMENSIONS, p = item * DIMENSIONS;
+        int index = 0;
+        for (int axis = 0; axis < DIMENSIONS; axis++) {
+            if (itemPosition[p + axis] >= nodeCenter[c + axis]) index |= 1 << axis;
+        }
+        return index;
+    }
+
+    private void link(int item, int node) {
+        final int head = nodeHead[node];
+        itemPrev[item] = NONE;
+        itemNext[item] = head;
+        if (head != NONE) itemPrev[head] = item;
+        nodeHead[node] = item;
+        nodeCount[node]++;
+        itemNode[item] = node;
+    }
+
+    private void unlink(int item) {
+        final int node = itemNode[item];
+        final int prev = itemPrev[item], next = itemNext[item];
+        if (prev != NONE) itemNext[prev] = next;
+        else nodeHead[node] = next;
+        if (next != NONE) itemPrev[next] = prev;
+        nodeCount[node]--;
+    }
+
+    private boolean querySphere(int node, float qx, float qy, float qz, float radius, SpatialVisitor visitor) {
+        // The root is always visited, since it also holds the items outside its cell.
+        final int c = node * DIMENSIONS;
+        if (node != 0) {
+            final float loose = nodeHalf[node] * 2f;
+            final float dx = Math.max(Math.abs(qx - nodeCenter[c]) - loose, 0);
+            final float dy = Math.max(Math.abs(qy - nodeCenter[c + 1]) - loose, 0);
+            final float dz = Math.max(Math.abs(qz - nodeCenter[c + 2]) - loose, 0);
+            final float distance2 = dx * dx + dy * dy + dz * dz;
+            if (distance2 > radius * radius) return true;
+        }
+        for (int item = nodeHead[node]; item != NONE; item = itemNext[item]) {
+            final int p = item * DIMENSIONS;
+            final float dx = itemPosition[p] - qx;
+            final float dy = itemPosition[p + 1] - qy;
+            final float dz = itemPosition[p + 2] - qz;
+            final float reach = radius + itemRadius[item];
+            if (dx * dx + dy * dy + dz * dz <= reach * reach && !visitor.visit(item)) return false;
+        }
+        final int children = nodeChildren[node];
+        if (children == NONE) return true;
+        for (int child = children; child < children + CHILDREN; child++) {
+            if (nodeSubtree[child] == 0) continue;
+            if (!querySphere(child, qx, qy, qz, radius, visitor)) return false;
+        }
+        return true;
+    }
+
+    private boolean queryBox(int node, float minX, float minY, float minZ, float maxX, float maxY, float maxZ, SpatialVisitor visitor) {
+        final int c = node * DIMENSIONS;
+        if (node != 0) {
+            final float loose = nodeHalf[node] * 2f;
+            if (nodeCenter[c] - loose > maxX || nodeCenter[c] + loose < minX
+                    || nodeCenter[c + 1] - loose > maxY || nodeCenter[c + 1] + loose < minY
+                    || nodeCenter[c + 2] - loose > maxZ || nodeCenter[c + 2] + loose < minZ) return true;
+        }
+        for (int item = nodeHead[node]; item != NONE; item = itemNext[item]) {
+            final int p = item * DIMENSIONS;
+            final float dx = Math.max(Math.max(minX - itemPosition[p], 0), itemPosition[p] - maxX);
+            final float dy = Math.max(Math.max(minY - itemPosition[p + 1], 0), itemPosition[p + 1] - maxY);
+            final float dz = Math.max(Math.max(minZ - itemPosition[p + 2], 0), itemPosition[p + 2] - maxZ);
+            final float radius = itemRadius[item];
+            if (dx * dx + dy * dy + dz * dz <= radius * radius && !visitor.visit(item)) return false;
+        }
+        final int children = nodeChildren[node];
+        if (children == NONE) return true;
+        for (int child = children; child < children + CHILDREN; child++) {
+            if (nodeSubtree[child] == 0) continue;
+            if (!queryBox(child, minX, minY, minZ, maxX, maxY, maxZ, visitor)) return false;
+        }
+        return true;
+    }
+
+    private void initNode(int node, float half, int parent, int depth) {
+        nodeHalf[node] = half;
+        nodeParent[node] = parent;
+        nodeDepth[node] = depth;
+        nodeChildren[node] = NONE;
+        nodeHead[node] = NONE;
+        nodeCount[node] = 0;
+        nodeSubtree[node] = 0;
+    }
+
+    /// @return The index of the first child, taken from the pool when possible.
+    private int allocateChildren(int node) {
+        final int children;
+        if (freeChildren != NONE) {
+            children = freeChildren;
+            freeChildren = nodeHead[children];
+        } else {
+            if (nodeUsed + CHILDREN > nodeHalf.length) growNodes(nodeUsed + CHILDREN);
+            children = nodeUsed;
+            nodeUsed += CHILDREN;
+        }
+        final float half = nodeHalf[node] * 0.5f;
+        final int c = node * DIMENSIONS;
+        for (int i = 0; i < CHILDREN; i++) {
+            final int child = children + i;
+            initNode(child, half, node, nodeDepth[node] + 1);
+            for (int axis = 0; axis < DIMENSIONS; axis++) {
+                final boolean positive = (i & (1 << axis)) != 0;
+                nodeCenter[child * DIMENSIONS + axis] = nodeCenter[c + axis] + (positive ? half : -half);
+            }
+        }
+        nodeChildren[node] = children;
+        return children;
+    }
+
+    /// Releases the children of the node, and theirs, back to the pool.
+    private void releaseChildren(int node) {
+        final int children = nodeChildren[node];
+        for (int child = children; child < children + CHILDREN; child++) {
+            if (nodeChildren[child] != NONE) releaseChildren(child);
+        }
+        nodeHead[children] = freeChildren;
+        freeChildren = children;
+        nodeChildren[node] = NONE;
+    }
+
+    private void growNodes(int minCapacity) {
+        final int capacity = Math.max(minCapacity, nodeHalf.length * 2);
+        nodeCenter = Arrays.copyOf(nodeCenter, capacity * DIMENSIONS);
+        nodeHalf = Arrays.copyOf(nodeHalf, capacity);
+        nodeParent = Arrays.copyOf(nodeParent, capacity);
+        nodeDepth = Arrays.copyOf(nodeDepth, capacity);
+        nodeChildren = Arrays.copyOf(nodeChildren, capacity);
+        nodeHead = Arrays.copyOf(nodeHead, capacity);
+        nodeCount = Arrays.copyOf(nodeCount, capacity);
+        nodeSubtree = Arrays.copyOf(nodeSubtree, capacity);
+    }
+
+    private void growItems(int minCapacity) {
+        final int oldCapacity = itemNode.length;
+        final int capacity = Math.max(minCapacity, oldCapacity * 2);
+        itemPosition = Arrays.copyOf(itemPosition, capacity * DIMENSIONS);
+        itemRadius = Arrays.copyOf(itemRadius, capacity);
+        itemNode = Arrays.copyOf(itemNode, capacity);
+        itemNext = Arrays.copyOf(itemNext, capacity);
+        itemPrev = Arrays.copyOf(itemPrev, capacity);
+        Arrays.fill(itemNode, oldCapacity, capacity, NONE);
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.spatial;
+
+import org.lidiuma.math.parallel.Parallel;
+import org.lidiuma.math.point.p3.Point3;
+import org.lidiuma.math.vector.v3.Vector3F32Buffer;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/// Uniform grid of cubic cells, hashed into a table, meant to be rebuilt every frame for fixed-radius neighbour queries.\
+/// The cell of a position is `floor(position / cellSize)`, like {@link org.lidiuma.math.vector.v3.Vector3F32#floor()} followed by
+/// {@link org.lidiuma.math.vector.v3.Vector3F32#asInt()} on the scaled position.
+///
+/// The rebuild is a counting sort of the particles by cell hash, so the particles of a cell end up in a contiguous range,
+/// together with a copy of their positions for a cache-friendly scan.
+/// Hash collisions are filtered by also comparing the cell coordinates, so a particle is never reported twice.
+/// @apiNote The queries are allocation-free and thread-safe between two rebuilds.
+public final class SpatialHashGrid3F32 {
+
+    private static final VarHandle INT_ARRAY = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final int MIN_TABLE_SIZE = 1 << 10;
+
+    private final float cellSize;
+    private final float invCellSize;
+
+    private int count;
+    private int mask;
+    /// Start of the range of each hash, the range ends at the start of the next one.
+    private int[] cellStart = new int[0];
+    private int[] cursor = new int[0];
+    private int[] particleHash = new int[0];
+    /// Cell coordinates, 3 per particle.
+    private int[] particleCell = new int[0];
+    /// Position of each particle in the sorted arrays, the inverse of `sorted`.
+    private int[] particleSlot = new int[0];
+    /// Particle indices sorted by hash, with their positions and cells in the same order.
+    private int[] sorted = new int[0];
+    private float[] sortedX = new float[0], sortedY = new float[0], sortedZ = new float[0];
+    private int[] sortedCell = new int[0];
+
+    /// @param cellSize the size of the cells, ideally the most common query radius.
+    /// @throws IllegalArgumentException if the cell size is not positive.
+    public SpatialHashGrid3F32(float cellSize) {
+        if (!(cellSize > 0)) throw new IllegalArgumentException("The cell size must be positive.");
+        this.cellSize = cellSize;
+        this.invCellSize = 1f / cellSize;
+    }
+
+    public float cellSize() {
+        return cellSize;
+    }
+
+    /// @return The number of particles of the last rebuild.
+    public int size() {
+        return count;
+    }
+
+    /// Rebuilds the grid with every position of the buffer, the particle index is the index in the buffer.
+    public void rebuild(Vector3F32Buffer positions) {
+        prepare(positions);
+        hash(positions, 0, count, false);
+        prefix();
+        scatter(positions, 0, count, false);
+    }
+
+    /// Rebuilds the grid like {@link #rebuild(Vector3F32Buffer)}, hashing and scattering the particles in parallel.
+    /// @apiNote The order of the particles inside a cell is not deterministic.
+    public void rebuild(Vector3F32Buffer positions, ForkJoinPool pool) {
+        prepare(positions);
+        Parallel.forEach(count, (from, size) -> hash(positions, (int) from, (int) (from + size), true), pool, Parallel.DEFAULT_THRESHOLD);
+        prefix();
+        Parallel.forEach(count, (from, size) -> scatter(positions, (int) from, (int) (from + size), true), pool, Parallel.DEFAULT_THRESHOLD);
+    }
+
+    /// Visits every other particle within `radius` of the provided one.
+    public void forEachNeighbour(int particle, float radius, SpatialVisitor visitor) {
+        final int slot = particleSlot[Objects.checkIndex(particle, count)];
+        forEach(sortedX[slot], sortedY[slot], sortedZ[slot], radius, particle, visitor);
+    }
+
+    /// Visits every particle within `radius` of the point.
+    public void forEachNeighbour(Point3.F32 point, float radius, SpatialVisitor visitor) {
+        forEach(point.x(), point.y(), point.z(), radius, -1, visitor);
+    }
+
+    private void forEach(float x, float y, float z, float radius, int exclude, SpatialVisitor visitor) {
+        final float radius2 = radius * radius;
+        final int minX = cell(x - radius), maxX = cell(x + radius);
+        final int minY = cell(y - radius), maxY = cell(y + radius);
+        final int minZ = cell(z - radius), maxZ = cell(z + radius);
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                for (int cz = minZ; cz <= maxZ; cz++) {
+                    final int hash = hash(cx, cy, cz);
+                    for (int slot = cellStart[hash], end = cellStart[hash + 1]; slot < end; slot++) {
+                        final int c = slot * 3;
+                        // Skips the particles of other cells sharing the same hash.
+                        if (sortedCell[c] != cx || sortedCell[c + 1] != cy || sortedCell[c + 2] != cz) continue;
+                        final int particle = sorted[slot];
+                        if (particle == exclude) continue;
+                        final float dx = sortedX[slot] - x, dy = sortedY[slot] - y, dz = sortedZ[slot] - z;
+                        if (dx * dx + dy * dy + dz * dz <= radius2 && !visitor.visit(particle)) return;
+                    }
+                }
+            }
+        }
+    }
+
+    private int cell(float coordinate) {
+        return (int) Math.floor(coordinate * invCellSize);
+    }
+
+    private int hash(int x, int y, int z) {
+        return ((x * 73856093) ^ (y * 19349663) ^ (z * 83492791)) & mask;
+    }
+
+    private void prepare(Vector3F32Buffer positions) {
+        if (positions.capacity() > Integer.MAX_VALUE / 3) throw new IllegalArgumentException("Too many particles for the grid.");
+        count = (int) positions.capacity();
+        final int tableSize = Math.max(MIN_TABLE_SIZE, Integer.highestOneBit(Math.max(1, count - 1)) << 1);
+        if (cellStart.length != tableSize + 1) {
+            cellStart = new int[tableSize + 1];
+            cursor = new int[tableSize + 1];
+        } else {
+            Arrays.fill(cellStart, 0);
+        }
+        mask = tableSize - 1;
+        if (particleHash.length < count) {
+            particleHash = new int[count];
+            particleCell = new int[count * 3];
+            particleSlot = new int[count];
+            sorted = new int[count];
+            sortedX = new float[count];
+            sortedY = new float[count];
+            sortedZ = new float[count];
+            sortedCell = new int[count * 3];
+        }
+    }
+
+    /// Computes the cell of each particle, counting the particles of each hash in the next slot of `cellStart`.
+    private void hash(Vector3F32Buffer positions, int from, int end, boolean concurrent) {
+        final var layout = ValueLayout.JAVA_FLOAT;
+        final var xs = positions.x();
+        final var ys = positions.y();
+        final var zs = positions.z();
+        for (int i = from; i < end; i++) {
+            final int cx = cell(xs.getAtIndex(layout, i));
+            final int cy = cell(ys.getAtIndex(layout, i));
+            final int cz = cell(zs.getAtIndex(layout, i));
+            particleCell[i * 3] = cx;
+            particleCell[i * 3 + 1] = cy;
+            particleCell[i * 3 + 2] = cz;
+            final int hash = hash(cx, cy, cz);
+            particleHash[i] = hash;
+            if (concurrent) INT_ARRAY.getAndAdd(cellStart, hash + 1, 1);
+            else cellStart[hash + 1]++;
+        }
+    }
+
+    /// Turns the counts into the start of each range.
+    private void prefix() {
+        for (int hash = 1; hash < cellStart.length; hash++) cellStart[hash] += cellStart[hash - 1];
+        System.arraycopy(cellStart, 0, cursor, 0, cellStart.length);
+    }
+
+    private void scatter(Vector3F32Buffer positions, int from, int end, boolean concurrent) {
+        final var layout = ValueLayout.JAVA_FLOAT;
+        final var xs = positions.x();
+        final var ys = positions.y();
+        final var zs = positions.z();
+        for (int i = from; i < end; i++) {
+            final int hash = particleHash[i];
+            final int slot = concurrent ? (int) INT_ARRAY.getAndAdd(cursor, hash, 1) : cursor[hash]++;
+            sorted[slot] = i;
+            particleSlot[i] = slot;
+            sortedX[slot] = xs.getAtIndex(layout, i);
+            sortedY[slot] = ys.getAtIndex(layout, i);
+            sortedZ[slot] = zs.getAtIndex(layout, i);
+            sortedCell[slot * 3] = particleCell[i * 3];
+            sortedCell[slot * 3 + 1] = particleCell[i * 3 + 1];
+            sortedCell[slot * 3 + 2] = particleCell[i * 3 + 2];
+        }
+    }
+}
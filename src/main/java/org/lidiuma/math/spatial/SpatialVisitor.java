@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.spatial;
+
+/// Callback of the spatial queries, invoked once for every item found.\
+/// Being a plain functional interface, a query does not allocate any iterator or result collection.
+@FunctionalInterface
+public interface SpatialVisitor {
+
+    /// @param index the index of the item, as provided when it was added to the spatial structure.
+    /// @return true to continue the query, false to stop it early.
+    boolean visit(int index);
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.vector;
+
+import java.lang.foreign.MemorySegment;
+
+/// Off-heap storage of many vectors, laid out as a structure of arrays.\
+/// Each component is kept in its own contiguous lane, so the `x` of every vector is adjacent in memory,
+/// followed by a separate lane for `y`, and so on.
+/// Bulk operations work over ranges of indices, in place, without creating any vector.
+/// @param <B> is the buffer implementation.
+/// @param <T> is the vector type stored by the buffer.
+/// @param <N> is the numerical type of the components. (e.g., {@link Float}, {@link Double})
+/// @apiNote The buffer does not own its memory, its lifetime is bound to the {@link java.lang.foreign.Arena} it was allocated from.
+public interface VectorBuffer<B extends VectorBuffer<B, T, N>, T extends Vector.Real<T, N>, N> {
+
+    /// @return The number of vectors the buffer holds.
+    long capacity();
+
+    /// @return The dimension of the stored vectors, which is also the number of lanes.
+    int dimension();
+
+    /// @return The vector at the provided index.
+    /// @throws IndexOutOfBoundsException if the index is not in `[0, capacity)`.
+    T get(long index) throws IndexOutOfBoundsException;
+
+    /// Stores the vector at the provided index.
+    /// @throws IndexOutOfBoundsException if the index is not in `[0, capacity)`.
+    void set(long index, T vector) throws IndexOutOfBoundsException;
+
+    /// @return The lane of the provided component, without copying.\
+    /// Example, for a 3D buffer, `0` returns the `x` lane, `1` the `y` lane, while `3` throws {@link IndexOutOfBoundsException}.
+    /// @apiNote The segment is a view of the buffer, it can be passed directly to native APIs.
+    MemorySegment lane(int component) throws IndexOutOfBoundsException;
+
+    /// Adds each vector of `other` to the vector of this buffer with the same index.
+    void add(B other, long from, long count);
+
+    /// Adds the vector to every vector of the range.
+    void add(T vector, long from, long count);
+
+    /// Multiplies every vector of the range by the scalar.
+    void mul(N scalar, long from, long count);
+
+    /// Linearly interpolates every vector of the range towards the vector of `target` with the same index.
+    void lerp(B target, N alpha, long from, long count);
+
+    /// Normalizes every vector of the range, zero vectors are left untouched.
+    void normalize(long from, long count);
+
+    /// Writes the dot product of each vector of the range with the vector of `other` with the same index.
+    /// @param out the output lane, written at the same indices of the range.
+    void dot(B other, MemorySegment out, long from, long count);
+
+    default void add(B other) {
+        add(other, 0, capacity());
+    }
+
+    default void add(T vector) {
+        add(vector, 0, capacity());
+    }
+
+    default void mul(N scalar) {
+        mul(scalar, 0, capacity());
+    }
+
+    default void lerp(B target, N alpha) {
+        lerp(target, alpha, 0, capacity());
+    }
+
+    default void normalize() {
+        normalize(0, capacity());
+    }
+
+    default void dot(B other, MemorySegment out) {
+        dot(other, out, 0, capacity());
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.lidiuma.math.vector.v1;
 
+import org.lidiuma.math.interpolation.FloatInterpolator;
 import org.lidiuma.math.point.p1.Point1;
 import org.lidiuma.math.vector.v2.Vector2F32;
 import jdk.internal.vm.annotation.LooselyConsistentValue;
@@ -48,12 +49,12 @@ public value record Vector1F32(@NullRestricted Float x
 
     @Override
     public Float length() {
-        return abs().x();
+        return lengthF();
     }
 
     @Override
     public Vector1F32 withLength(Float length) {
-        final float len = length();
+        final float len = lengthF();
         if (len == 0 || len == length) return this;
         return v1(x() * length / len);
     }
@@ -70,7 +71,7 @@ public value record Vector1F32(@NullRestricted Float x
 
     @Override
     public Vector1F32 limit2(Float limit2) {
-        final float len2 = length2();
+        final float len2 = length2F();
         if (len2 == 0 || len2 <= limit2) return this;
         return v1(x() * (float) Math.sqrt(limit2 / len2));
     }
@@ -82,14 +83,12 @@ public value record Vector1F32(@NullRestricted Float x
 
     @Override
     public Float distance(Vector1F32 vector) {
-        final float delta = x() - vector.x();
-        return Math.abs(delta);
+        return distanceF(vector);
     }
 
     @Override
     public Vector1F32 lerp(Vector1F32 target, Float alpha) {
-        final float invAlpha = 1 - alpha;
-        return v1(x() * invAlpha + target.x() * alpha);
+        return lerpF(target, alpha);
     }
 
     @Override
@@ -99,7 +98,7 @@ public value record Vector1F32(@NullRestricted Float x
 
     @Override
     public boolean isUnit(Float margin) {
-        return Math.abs(length2() - 1) < margin;
+        return Math.abs(length2F() - 1) < margin;
     }
 
     @Override
@@ -109,7 +108,7 @@ public value record Vector1F32(@NullRestricted Float x
 
     @Override
     public boolean isPerpendicular(Vector1F32 vector, Float epsilon) {
-        return Math.abs(dot(vector)) <= epsilon;
+        return Math.abs(dotF(vector)) <= epsilon;
     }
 
     @Override
@@ -135,7 +134,7 @@ public value record Vector1F32(@NullRestricted Float x
 
     @Override
     public Float sum() {
-        return x();
+        return sumF();
     }
 
     @Override
@@ -155,7 +154,7 @@ public value record Vector1F32(@NullRestricted Float x
 
     @Override
     public Vector1F32 mul(Float scalar) {
-        return v1(x() * scalar);
+        return mulF(scalar);
     }
 
     @Override
@@ -200,32 +199,86 @@ public value record Vector1F32(@NullRestricted Float x
 
     @Override
     public Float distance2(Vector1F32 vector) {
-        final float delta = x() - vector.x();
-        return delta * delta;
+        return distance2F(vector);
     }
 
     @Override
     public Float length2() {
-        return x() * x();
+        return length2F();
     }
 
     @Override
     public Float dot(Vector1F32 vector) {
-        return x() * vector.x();
+        return dotF(vector);
     }
 
     @Override
     public Vector1F32 clamp(Float min, Float max) {
-        return v1(Math.clamp(x(), min, max));
+        return clampF(min, max);
     }
 
     @Override
     public boolean hasSameDirection(Vector1F32 vector) {
-        return dot(vector) > 0;
+        return dotF(vector) > 0;
     }
 
     @Override
     public boolean hasOppositeDirection(Vector1F32 vector) {
-        return dot(vector) < 0;
+        return dotF(vector) < 0;
+    }
+
+    /* ===== Primitive ===== */
+
+    /// {@link #sum()} without boxing.
+    public float sumF() {
+        return x();
+    }
+
+    /// {@link #mul(Float)} without boxing.
+    public Vector1F32 mulF(float scalar) {
+        return v1(x() * scalar);
+    }
+
+    /// {@link #dot(Vector1F32)} without boxing.
+    public float dotF(Vector1F32 vector) {
+        return x() * vector.x();
+    }
+
+    /// {@link #length2()} without boxing.
+    public float length2F() {
+        return x() * x();
+    }
+
+    /// {@link #distance2(Vector1F32)} without boxing.
+    public float distance2F(Vector1F32 vector) {
+        final float delta = x() - vector.x();
+        return delta * delta;
+    }
+
+    /// {@link #clamp(Float, Float)} without boxing.
+    public Vector1F32 clampF(float min, float max) {
+        return v1(Math.clamp(x(), min, max));
+    }
+
+    /// {@link #length()} without boxing.
+    public float lengthF() {
+        return Math.abs(x());
+    }
+
+    /// {@link #distance(Vector1F32)} without boxing.
+    public float distanceF(Vector1F32 vector) {
+        final float delta = x() - vector.x();
+        return Math.abs(delta);
+    }
+
+    /// {@link #lerp(Vector1F32, Float)} without boxing.
+    public Vector1F32 lerpF(Vector1F32 target, float alpha) {
+        final float invAlpha = 1 - alpha;
+        return v1(x() * invAlpha + target.x() * alpha);
+    }
+
+    /// {@link #interpolate(Vector1F32, Float, Function)} without boxing.
+    public Vector1F32 interpolate(Vector1F32 target, float alpha, FloatInterpolator interpolator) {
+        return lerpF(target, interpolator.apply(alpha));
     }
 }
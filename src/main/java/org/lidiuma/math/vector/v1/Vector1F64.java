@@ -16,6 +16,7 @@
 
 package org.lidiuma.math.vector.v1;
 
+import org.lidiuma.math.interpolation.DoubleInterpolator;
 import org.lidiuma.math.point.p1.Point1;
 import org.lidiuma.math.vector.v2.Vector2F64;
 import jdk.internal.vm.annotation.LooselyConsistentValue;
@@ -48,12 +49,12 @@ public value record Vector1F64(@NullRestricted Double x
 
     @Override
     public Double length() {
-        return abs().x();
+        return lengthD();
     }
 
     @Override
     public Vector1F64 withLength(Double length) {
-        final double len = length();
+        final double len = lengthD();
         if (len == 0 || len == length) return this;
         return v1(x() * length / len);
     }
@@ -70,7 +71,7 @@ public value record Vector1F64(@NullRestricted Double x
 
     @Override
     public Vector1F64 limit2(Double limit2) {
-        final double len2 = length2();
+        final double len2 = length2D();
         if (len2 == 0 || len2 <= limit2) return this;
         return v1(x() * Math.sqrt(limit2 / len2));
     }
@@ -82,14 +83,12 @@ public value record Vector1F64(@NullRestricted Double x
 
     @Override
     public Double distance(Vector1F64 vector) {
-        final double delta = x() - vector.x();
-        return Math.abs(delta);
+        return distanceD(vector);
     }
 
     @Override
     public Vector1F64 lerp(Vector1F64 target, Double alpha) {
-        final double invAlpha = 1 - alpha;
-        return v1(x() * invAlpha + target.x() * alpha);
+        return lerpD(target, alpha);
     }
 
     @Override
@@ -99,7 +98,7 @@ public value record Vector1F64(@NullRestricted Double x
 
     @Override
     public boolean isUnit(Double margin) {
-        return Math.abs(length2() - 1) < margin;
+        return Math.abs(length2D() - 1) < margin;
     }
 
     @Override
@@ -109,7 +108,7 @@ public value record Vector1F64(@NullRestricted Double x
 
     @Override
     public boolean isPerpendicular(Vector1F64 vector, Double epsilon) {
-        return Math.abs(dot(vector)) <= epsilon;
+        return Math.abs(dotD(vector)) <= epsilon;
     }
 
     @Override
@@ -135,7 +134,7 @@ public value record Vector1F64(@NullRestricted Double x
 
     @Override
     public Double sum() {
-        return x();
+        return sumD();
     }
 
     @Override
@@ -155,7 +154,7 @@ public value record Vector1F64(@NullRestricted Double x
 
     @Override
     public Vector1F64 mul(Double scalar) {
-        return v1(x() * scalar);
+        return mulD(scalar);
     }
 
     @Override
@@ -200,32 +199,86 @@ public value record Vector1F64(@NullRestricted Double x
 
     @Override
     public Double distance2(Vector1F64 vector) {
-        final double delta = x() - vector.x();
-        return delta * delta;
+        return distance2D(vector);
     }
 
     @Override
     public Double length2() {
-        return x() * x();
+        return length2D();
     }
 
     @Override
     public Double dot(Vector1F64 vector) {
-        return x() * vector.x();
+        return dotD(vector);
     }
 
     @Override
     public Vector1F64 clamp(Double min, Double max) {
-        return v1(Math.clamp(x(), min, max));
+        return clampD(min, max);
     }
 
     @Override
     public boolean hasSameDirection(Vector1F64 vector) {
-        return dot(vector) > 0;
+        return dotD(vector) > 0;
     }
 
     @Override
     public boolean hasOppositeDirection(Vector1F64 vector) {
-        return dot(vector) < 0;
+        return dotD(vector) < 0;
+    }
+
+    /* ===== Primitive ===== */
+
+    /// {@link #sum()} without boxing.
+    public double sumD() {
+        return x();
+    }
+
+    /// {@link #mul(Double)} without boxing.
+    public Vector1F64 mulD(double scalar) {
+        return v1(x() * scalar);
+    }
+
+    /// {@link #dot(Vector1F64)} without boxing.
+    public double dotD(Vector1F64 vector) {
+        return x() * vector.x();
+    }
+
+    /// {@link #length2()} without boxing.
+    public double length2D() {
+        return x() * x();
+    }
+
+    /// {@link #distance2(Vector1F64)} without boxing.
+    public double distance2D(Vector1F64 vector) {
+        final double delta = x() - vector.x();
+        return delta * delta;
+    }
+
+    /// {@link #clamp(Double, Double)} without boxing.
+    public Vector1F64 clampD(double min, double max) {
+        return v1(Math.clamp(x(), min, max));
+    }
+
+    /// {@link #length()} without boxing.
+    public double lengthD() {
+        return Math.abs(x());
+    }
+
+    /// {@link #distance(Vector1F64)} without boxing.
+    public double distanceD(Vector1F64 vector) {
+        final double delta = x() - vector.x();
+        return Math.abs(delta);
+    }
+
+    /// {@link #lerp(Vector1F64, Double)} without boxing.
+    public Vector1F64 lerpD(Vector1F64 target, double alpha) {
+        final double invAlpha = 1 - alpha;
+        return v1(x() * invAlpha + target.x() * alpha);
+    }
+
+    /// {@link #interpolate(Vector1F64, Double, Function)} without boxing.
+    public Vector1F64 interpolate(Vector1F64 target, double alpha, DoubleInterpolator interpolator) {
+        return lerpD(target, interpolator.apply(alpha));
     }
 }
@@ -43,13 +43,12 @@ public value record Vector1I32(@NullRestricted Integer x
 
     @Override
     public Integer length() {
-        return abs().x();
+        return lengthI();
     }
 
     @Override
     public Integer distance(Vector1I32 vector) {
-        final var delta = x() - vector.x();
-        return Math.abs(delta);
+        return distanceI(vector);
     }
 
     @Override
@@ -60,7 +59,7 @@ public value record Vector1I32(@NullRestricted Integer x
 
     @Override
     public Integer sum() {
-        return x();
+        return sumI();
     }
 
     @Override
@@ -80,7 +79,7 @@ public value record Vector1I32(@NullRestricted Integer x
 
     @Override
     public Vector1I32 mul(Integer scalar) {
-        return v1(x() * scalar);
+        return mulI(scalar);
     }
 
     @Override
@@ -125,32 +124,75 @@ public value record Vector1I32(@NullRestricted Integer x
 
     @Override
     public Integer distance2(Vector1I32 vector) {
-        final var delta = x() - vector.x();
-        return delta * delta;
+        return distance2I(vector);
     }
 
     @Override
     public Integer length2() {
-        return x() * x();
+        return length2I();
     }
 
     @Override
     public Integer dot(Vector1I32 vector) {
-        return x() * vector.x();
+        return dotI(vector);
     }
 
     @Override
     public Vector1I32 clamp(Integer min, Integer max) {
-        return v1(Math.clamp(x(), min, max));
+        return clampI(min, max);
     }
 
     @Override
     public boolean hasSameDirection(Vector1I32 vector) {
-        return dot(vector) > 0;
+        return dotI(vector) > 0;
     }
 
     @Override
     public boolean hasOppositeDirection(Vector1I32 vector) {
-        return dot(vector) < 0;
+        return dotI(vector) < 0;
+    }
+
+    /* ===== Primitive ===== */
+
+    /// {@link #sum()} without boxing.
+    public int sumI() {
+        return x();
+    }
+
+    /// {@link #mul(Integer)} without boxing.
+    public Vector1I32 mulI(int scalar) {
+        return v1(x() * scalar);
+    }
+
+    /// {@link #dot(Vector1I32)} without boxing.
+    public int dotI(Vector1I32 vector) {
+        return x() * vector.x();
+    }
+
+    /// {@link #length2()} without boxing.
+    public int length2I() {
+        return x() * x();
+    }
+
+    /// {@link #distance2(Vector1I32)} without boxing.
+    public int distance2I(Vector1I32 vector) {
+        final int delta = x() - vector.x();
+        return delta * delta;
+    }
+
+    /// {@link #clamp(Integer, Integer)} without boxing.
+    public Vector1I32 clampI(int min, int max) {
+        return v1(Math.clamp(x(), min, max));
+    }
+
+    /// {@link #length()} without boxing.
+    public int lengthI() {
+        return Math.abs(x());
+    }
+
+    /// {@link #distance(Vector1I32)} without boxing.
+    public int distanceI(Vector1I32 vector) {
+        final var delta = x() - vector.x();
+        return Math.abs(delta);
     }
 }
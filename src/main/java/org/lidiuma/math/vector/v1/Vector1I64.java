@@ -42,13 +42,12 @@ public value record Vector1I64(@NullRestricted Long x
 
     @Override
     public Long length() {
-        return abs().x();
+        return lengthL();
     }
 
     @Override
     public Long distance(Vector1I64 vector) {
-        final var delta = x() - vector.x();
-        return Math.abs(delta);
+        return distanceL(vector);
     }
 
     @Override
@@ -59,7 +58,7 @@ public value record Vector1I64(@NullRestricted Long x
 
     @Override
     public Long sum() {
-        return x();
+        return sumL();
     }
 
     @Override
@@ -79,7 +78,7 @@ public value record Vector1I64(@NullRestricted Long x
 
     @Override
     public Vector1I64 mul(Long scalar) {
-        return v1(x() * scalar);
+        return mulL(scalar);
     }
 
     @Override
@@ -124,32 +123,75 @@ public value record Vector1I64(@NullRestricted Long x
 
     @Override
     public Long distance2(Vector1I64 vector) {
-        final var delta = x() - vector.x();
-        return delta * delta;
+        return distance2L(vector);
     }
 
     @Override
     public Long length2() {
-        return x() * x();
+        return length2L();
     }
 
     @Override
     public Long dot(Vector1I64 vector) {
-        return x() * vector.x();
+        return dotL(vector);
     }
 
     @Override
     public Vector1I64 clamp(Long min, Long max) {
-        return v1(Math.clamp(x(), min, max));
+        return clampL(min, max);
     }
 
     @Override
     public boolean hasSameDirection(Vector1I64 vector) {
-        return dot(vector) > 0;
+        return dotL(vector) > 0;
     }
 
     @Override
     public boolean hasOppositeDirection(Vector1I64 vector) {
-        return dot(vector) < 0;
+        return dotL(vector) < 0;
+    }
+
+    /* ===== Primitive ===== */
+
+    /// {@link #sum()} without boxing.
+    public long sumL() {
+        return x();
+    }
+
+    /// {@link #mul(Long)} without boxing.
+    public Vector1I64 mulL(long scalar) {
+        return v1(x() * scalar);
+    }
+
+    /// {@link #dot(Vector1I64)} without boxing.
+    public long dotL(Vector1I64 vector) {
+        return x() * vector.x();
+    }
+
+    /// {@link #length2()} without boxing.
+    public long length2L() {
+        return x() * x();
+    }
+
+    /// {@link #distance2(Vector1I64)} without boxing.
+    public long distance2L(Vector1I64 vector) {
+        final long delta = x() - vector.x();
+        return delta * delta;
+    }
+
+    /// {@link #clamp(Long, Long)} without boxing.
+    public Vector1I64 clampL(long min, long max) {
+        return v1(Math.clamp(x(), min, max));
+    }
+
+    /// {@link #length()} without boxing.
+    public long lengthL() {
+        return Math.abs(x());
+    }
+
+    /// {@link #distance(Vector1I64)} without boxing.
+    public long distanceL(Vector1I64 vector) {
+        final var delta = x() - vector.x();
+        return Math.abs(delta);
     }
 }
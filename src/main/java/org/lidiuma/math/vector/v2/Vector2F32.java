@@ -16,6 +16,7 @@
 
 package org.lidiuma.math.vector.v2;
 
+import org.lidiuma.math.interpolation.FloatInterpolator;
 import org.lidiuma.math.point.p2.Point2;
 import org.lidiuma.math.rotation.Radians;
 import org.lidiuma.math.vector.v1.Vector1F32;
@@ -82,7 +83,7 @@ public value record Vector2F32(@NullRestricted Float x,
 
     @Override
     public Float sum() {
-        return x() + y();
+        return sumF();
     }
 
     @Override
@@ -102,7 +103,7 @@ public value record Vector2F32(@NullRestricted Float x,
 
     @Override
     public Vector2F32 mul(Float scalar) {
-        return mul(v2(scalar, scalar));
+        return mulF(scalar);
     }
 
     @Override
@@ -147,36 +148,32 @@ public value record Vector2F32(@NullRestricted Float x,
 
     @Override
     public Float distance2(Vector2F32 vector) {
-        final var delta = sub(vector);
-        final var delta2 = delta.mul(delta);
-        return delta2.sum();
+        return distance2F(vector);
     }
 
     @Override
     public Float length2() {
-        return mul(this).sum();
+        return length2F();
     }
 
     @Override
     public Float dot(Vector2F32 vector) {
-        return mul(vector).sum();
+        return dotF(vector);
     }
 
     @Override
     public Vector2F32 clamp(Float min, Float max) {
-        final float x = Math.clamp(x(), min, max);
-        final float y = Math.clamp(y(), min, max);
-        return v2(x, y);
+        return clampF(min, max);
     }
 
     @Override
     public boolean hasSameDirection(Vector2F32 vector) {
-        return dot(vector) > 0;
+        return dotF(vector) > 0;
     }
 
     @Override
     public boolean hasOppositeDirection(Vector2F32 vector) {
-        return dot(vector) < 0;
+        return dotF(vector) < 0;
     }
 
     @Override
@@ -195,14 +192,14 @@ public value record Vector2F32(@NullRestricted Float x,
 
     @Override
     public Float length() {
-        return (float) Math.sqrt(length2());
+        return lengthF();
     }
 
     @Override
     public Vector2F32 withLength(Float length) {
-        final float len = length();
+        final float len = lengthF();
         if (len == 0) return v2(0f, 0f);
-        return mul(length / len);
+        return mulF(length / len);
     }
 
     @Override
@@ -217,9 +214,9 @@ public value record Vector2F32(@NullRestricted Float x,
 
     @Override
     public Vector2F32 limit2(Float limit2) {
-        final float len2 = length2();
+        final float len2 = length2F();
         if (len2 == 0 || len2 <= limit2) return this;
-        return mul((float) Math.sqrt(limit2 / len2));
+        return mulF((float) Math.sqrt(limit2 / len2));
     }
 
     @Override
@@ -229,14 +226,12 @@ public value record Vector2F32(@NullRestricted Float x,
 
     @Override
     public Float distance(Vector2F32 vector) {
-        return (float) Math.sqrt(distance2(vector));
+        return distanceF(vector);
     }
 
     @Override
     public Vector2F32 lerp(Vector2F32 target, Float alpha) {
-        final float x = x() + (target.x() - x()) * alpha;
-        final float y = y() + (target.y() - y()) * alpha;
-        return v2(x, y);
+        return lerpF(target, alpha);
     }
 
     @Override
@@ -246,17 +241,17 @@ public value record Vector2F32(@NullRestricted Float x,
 
     @Override
     public boolean isUnit(Float margin) {
-        return Math.abs(length2() - 1) < margin * margin;
+        return Math.abs(length2F() - 1) < margin * margin;
     }
 
     @Override
     public boolean isCollinear(Vector2F32 vector, Float epsilon) {
-        return Math.abs(cross(vector)) <= epsilon * length() * vector.length();
+        return Math.abs(cross(vector)) <= epsilon * lengthF() * vector.lengthF();
     }
 
     @Override
     public boolean isPerpendicular(Vector2F32 vector, Float epsilon) {
-        return Math.abs(dot(vector)) <= epsilon * length() * vector.length();
+        return Math.abs(dotF(vector)) <= epsilon * lengthF() * vector.lengthF();
     }
 
     @Override
@@ -269,4 +264,62 @@ public value record Vector2F32(@NullRestricted Float x,
     public boolean isZero(Float epsilon) {
         return epsilonEquals(v2(0f, 0f), epsilon);
     }
+
+    /* ===== Primitive ===== */
+
+    /// {@link #sum()} without boxing.
+    public float sumF() {
+        return x() + y();
+    }
+
+    /// {@link #mul(Float)} without boxing.
+    public Vector2F32 mulF(float scalar) {
+        return v2(x() * scalar, y() * scalar);
+    }
+
+    /// {@link #dot(Vector2F32)} without boxing.
+    public float dotF(Vector2F32 vector) {
+        return x() * vector.x() + y() * vector.y();
+    }
+
+    /// {@link #length2()} without boxing.
+    public float length2F() {
+        return x() * x() + y() * y();
+    }
+
+    /// {@link #distance2(Vector2F32)} without boxing.
+    public float distance2F(Vector2F32 vector) {
+        final float dx = x() - vector.x();
+        final float dy = y() - vector.y();
+        return dx * dx + dy * dy;
+    }
+
+    /// {@link #clamp(Float, Float)} without boxing.
+    public Vector2F32 clampF(float min, float max) {
+        final float x = Math.clamp(x(), min, max);
+        final float y = Math.clamp(y(), min, max);
+        return v2(x, y);
+    }
+
+    /// {@link #length()} without boxing.
+    public float lengthF() {
+        return (float) Math.sqrt(length2F());
+    }
+
+    /// {@link #distance(Vector2F32)} without boxing.
+    public float distanceF(Vector2F32 vector) {
+        return (float) Math.sqrt(distance2F(vector));
+    }
+
+    /// {@link #lerp(Vector2F32, Float)} without boxing.
+    public Vector2F32 lerpF(Vector2F32 target, float alpha) {
+        final float x = x() + (target.x() - x()) * alpha;
+        final float y = y() + (target.y() - y()) * alpha;
+        return v2(x, y);
+    }
+
+    /// {@link #interpolate(Vector2F32, Float, Function)} without boxing.
+    public Vector2F32 interpolate(Vector2F32 target, float alpha, FloatInterpolator interpolator) {
+        return lerpF(target, interpolator.apply(alpha));
+    }
 }
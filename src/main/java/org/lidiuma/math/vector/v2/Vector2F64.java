@@ -16,6 +16,7 @@
 
 package org.lidiuma.math.vector.v2;
 
+import org.lidiuma.math.interpolation.DoubleInterpolator;
 import org.lidiuma.math.point.p2.Point2;
 import org.lidiuma.math.rotation.Radians;
 import org.lidiuma.math.vector.v1.Vector1F64;
@@ -82,7 +83,7 @@ public value record Vector2F64(@NullRestricted Double x,
 
     @Override
     public Double sum() {
-        return x() + y();
+        return sumD();
     }
 
     @Override
@@ -102,7 +103,7 @@ public value record Vector2F64(@NullRestricted Double x,
 
     @Override
     public Vector2F64 mul(Double scalar) {
-        return mul(v2(scalar, scalar));
+        return mulD(scalar);
     }
 
     @Override
@@ -147,36 +148,32 @@ public value record Vector2F64(@NullRestricted Double x,
 
     @Override
     public Double distance2(Vector2F64 vector) {
-        final var delta = sub(vector);
-        final var delta2 = delta.mul(delta);
-        return delta2.sum();
+        return distance2D(vector);
     }
 
     @Override
     public Double length2() {
-        return mul(this).sum();
+        return length2D();
     }
 
     @Override
     public Double dot(Vector2F64 vector) {
-        return mul(vector).sum();
+        return dotD(vector);
     }
 
     @Override
     public Vector2F64 clamp(Double min, Double max) {
-        final double x = Math.clamp(x(), min, max);
-        final double y = Math.clamp(y(), min, max);
-        return v2(x, y);
+        return clampD(min, max);
     }
 
     @Override
     public boolean hasSameDirection(Vector2F64 vector) {
-        return dot(vector) > 0;
+        return dotD(vector) > 0;
     }
 
     @Override
     public boolean hasOppositeDirection(Vector2F64 vector) {
-        return dot(vector) < 0;
+        return dotD(vector) < 0;
     }
 
     @Override
@@ -195,14 +192,14 @@ public value record Vector2F64(@NullRestricted Double x,
 
     @Override
     public Double length() {
-        return Math.sqrt(length2());
+        return lengthD();
     }
 
     @Override
     public Vector2F64 withLength(Double length) {
-        final double len = length();
+        final double len = lengthD();
         if (len == 0) return v2(0d, 0d);
-        return mul(length / len);
+        return mulD(length / len);
     }
 
     @Override
@@ -217,9 +214,9 @@ public value record Vector2F64(@NullRestricted Double x,
 
     @Override
     public Vector2F64 limit2(Double limit2) {
-        final double len2 = length2();
+        final double len2 = length2D();
         if (len2 == 0 || len2 <= limit2) return this;
-        return mul(Math.sqrt(limit2 / len2));
+        return mulD(Math.sqrt(limit2 / len2));
     }
 
     @Override
@@ -229,14 +226,12 @@ public value record Vector2F64(@NullRestricted Double x,
 
     @Override
     public Double distance(Vector2F64 vector) {
-        return Math.sqrt(distance2(vector));
+        return distanceD(vector);
     }
 
     @Override
     public Vector2F64 lerp(Vector2F64 target, Double alpha) {
-        final double x = x() + (target.x() - x()) * alpha;
-        final double y = y() + (target.y() - y()) * alpha;
-        return v2(x, y);
+        return lerpD(target, alpha);
     }
 
     @Override
@@ -246,17 +241,17 @@ public value record Vector2F64(@NullRestricted Double x,
 
     @Override
     public boolean isUnit(Double margin) {
-        return Math.abs(length2() - 1) < margin * margin;
+        return Math.abs(length2D() - 1) < margin * margin;
     }
 
     @Override
     public boolean isCollinear(Vector2F64 vector, Double epsilon) {
-        return Math.abs(cross(vector)) <= epsilon * length() * vector.length();
+        return Math.abs(cross(vector)) <= epsilon * lengthD() * vector.lengthD();
     }
 
     @Override
     public boolean isPerpendicular(Vector2F64 vector, Double epsilon) {
-        return Math.abs(dot(vector)) <= epsilon * length() * vector.length();
+        return Math.abs(dotD(vector)) <= epsilon * lengthD() * vector.lengthD();
     }
 
     @Override
@@ -269,4 +264,62 @@ public value record Vector2F64(@NullRestricted Double x,
     public boolean isZero(Double epsilon) {
         return epsilonEquals(v2(0d, 0d), epsilon);
     }
+
+    /* ===== Primitive ===== */
+
+    /// {@link #sum()} without boxing.
+    public double sumD() {
+        return x() + y();
+    }
+
+    /// {@link #mul(Double)} without boxing.
+    public Vector2F64 mulD(double scalar) {
+        return v2(x() * scalar, y() * scalar);
+    }
+
+    /// {@link #dot(Vector2F64)} without boxing.
+    public double dotD(Vector2F64 vector) {
+        return x() * vector.x() + y() * vector.y();
+    }
+
+    /// {@link #length2()} without boxing.
+    public double length2D() {
+        return x() * x() + y() * y();
+    }
+
+    /// {@link #distance2(Vector2F64)} without boxing.
+    public double distance2D(Vector2F64 vector) {
+        final double dx = x() - vector.x();
+        final double dy = y() - vector.y();
+        return dx * dx + dy * dy;
+    }
+
+    /// {@link #clamp(Double, Double)} without boxing.
+    public Vector2F64 clampD(double min, double max) {
+        final double x = Math.clamp(x(), min, max);
+        final double y = Math.clamp(y(), min, max);
+        return v2(x, y);
+    }
+
+    /// {@link #length()} without boxing.
+    public double lengthD() {
+        return Math.sqrt(length2D());
+    }
+
+    /// {@link #distance(Vector2F64)} without boxing.
+    public double distanceD(Vector2F64 vector) {
+        return Math.sqrt(distance2D(vector));
+    }
+
+    /// {@link #lerp(Vector2F64, Double)} without boxing.
+    public Vector2F64 lerpD(Vector2F64 target, double alpha) {
+        final double x = x() + (target.x() - x()) * alpha;
+        final double y = y() + (target.y() - y()) * alpha;
+        return v2(x, y);
+    }
+
+    /// {@link #interpolate(Vector2F64, Double, Function)} without boxing.
+    public Vector2F64 interpolate(Vector2F64 target, double alpha, DoubleInterpolator interpolator) {
+        return lerpD(target, interpolator.apply(alpha));
+    }
 }
@@ -81,7 +81,7 @@ public value record Vector2I32(@NullRestricted Integer x,
 
     @Override
     public Integer sum() {
-        return x() + y();
+        return sumI();
     }
 
     @Override
@@ -101,7 +101,7 @@ public value record Vector2I32(@NullRestricted Integer x,
 
     @Override
     public Vector2I32 mul(Integer scalar) {
-        return mul(v2(scalar, scalar));
+        return mulI(scalar);
     }
 
     @Override
@@ -146,35 +146,67 @@ public value record Vector2I32(@NullRestricted Integer x,
 
     @Override
     public Integer distance2(Vector2I32 vector) {
-        final var delta = sub(vector);
-        final var delta2 = delta.mul(delta);
-        return delta2.sum();
+        return distance2I(vector);
     }
 
     @Override
     public Integer length2() {
-        return mul(this).sum();
+        return length2I();
     }
 
     @Override
     public Integer dot(Vector2I32 vector) {
-        return mul(vector).sum();
+        return dotI(vector);
     }
 
     @Override
     public Vector2I32 clamp(Integer min, Integer max) {
-        final int x = Math.clamp(x(), min, max);
-        final int y = Math.clamp(y(), min, max);
-        return v2(x, y);
+        return clampI(min, max);
     }
 
     @Override
     public boolean hasSameDirection(Vector2I32 vector) {
-        return dot(vector) > 0;
+        return dotI(vector) > 0;
     }
 
     @Override
     public boolean hasOppositeDirection(Vector2I32 vector) {
-        return dot(vector) < 0;
+        return dotI(vector) < 0;
+    }
+
+    /* ===== Primitive ===== */
+
+    /// {@link #sum()} without boxing.
+    public int sumI() {
+        return x() + y();
+    }
+
+    /// {@link #mul(Integer)} without boxing.
+    public Vector2I32 mulI(int scalar) {
+        return v2(x() * scalar, y() * scalar);
+    }
+
+    /// {@link #dot(Vector2I32)} without boxing.
+    public int dotI(Vector2I32 vector) {
+        return x() * vector.x() + y() * vector.y();
+    }
+
+    /// {@link #length2()} without boxing.
+    public int length2I() {
+        return x() * x() + y() * y();
+    }
+
+    /// {@link #distance2(Vector2I32)} without boxing.
+    public int distance2I(Vector2I32 vector) {
+        final int dx = x() - vector.x();
+        final int dy = y() - vector.y();
+        return dx * dx + dy * dy;
+    }
+
+    /// {@link #clamp(Integer, Integer)} without boxing.
+    public Vector2I32 clampI(int min, int max) {
+        final int x = Math.clamp(x(), min, max);
+        final int y = Math.clamp(y(), min, max);
+        return v2(x, y);
     }
 }
@@ -82,7 +82,7 @@ public value record Vector2I64(@NullRestricted Long x,
 
     @Override
     public Long sum() {
-        return x() + y();
+        return sumL();
     }
 
     @Override
@@ -102,7 +102,7 @@ public value record Vector2I64(@NullRestricted Long x,
 
     @Override
     public Vector2I64 mul(Long scalar) {
-        return mul(v2(scalar, scalar));
+        return mulL(scalar);
     }
 
     @Override
@@ -147,35 +147,67 @@ public value record Vector2I64(@NullRestricted Long x,
 
     @Override
     public Long distance2(Vector2I64 vector) {
-        final var delta = sub(vector);
-        final var delta2 = delta.mul(delta);
-        return delta2.sum();
+        return distance2L(vector);
     }
 
     @Override
     public Long length2() {
-        return mul(this).sum();
+        return length2L();
     }
 
     @Override
     public Long dot(Vector2I64 vector) {
-        return mul(vector).sum();
+        return dotL(vector);
     }
 
     @Override
     public Vector2I64 clamp(Long min, Long max) {
-        final long x = Math.clamp(x(), min, max);
-        final long y = Math.clamp(y(), min, max);
-        return v2(x, y);
+        return clampL(min, max);
     }
 
     @Override
     public boolean hasSameDirection(Vector2I64 vector) {
-        return dot(vector) > 0;
+        return dotL(vector) > 0;
     }
 
     @Override
     public boolean hasOppositeDirection(Vector2I64 vector) {
-        return dot(vector) < 0;
+        return dotL(vector) < 0;
+    }
+
+    /* ===== Primitive ===== */
+
+    /// {@link #sum()} without boxing.
+    public long sumL() {
+        return x() + y();
+    }
+
+    /// {@link #mul(Long)} without boxing.
+    public Vector2I64 mulL(long scalar) {
+        return v2(x() * scalar, y() * scalar);
+    }
+
+    /// {@link #dot(Vector2I64)} without boxing.
+    public long dotL(Vector2I64 vector) {
+        return x() * vector.x() + y() * vector.y();
+    }
+
+    /// {@link #length2()} without boxing.
+    public long length2L() {
+        return x() * x() + y() * y();
+    }
+
+    /// {@link #distance2(Vector2I64)} without boxing.
+    public long distance2L(Vector2I64 vector) {
+        final long dx = x() - vector.x();
+        final long dy = y() - vector.y();
+        return dx * dx + dy * dy;
+    }
+
+    /// {@link #clamp(Long, Long)} without boxing.
+    public Vector2I64 clampL(long min, long max) {
+        final long x = Math.clamp(x(), min, max);
+        final long y = Math.clamp(y(), min, max);
+        return v2(x, y);
     }
 }
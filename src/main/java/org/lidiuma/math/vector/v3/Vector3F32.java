@@ -16,8 +16,9 @@
 
 package org.lidiuma.math.vector.v3;
 
-import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.interpolation.FloatInterpolator;
 import org.lidiuma.math.point.p3.Point3;
+import org.lidiuma.math.rotation.QuaternionF32;
 import org.lidiuma.math.rotation.Radians;
 import org.lidiuma.math.vector.Vector;
 import org.lidiuma.math.vector.v2.Vector2F32;
@@ -60,14 +61,14 @@ public value record Vector3F32(@NullRestricted Float x,
 
     @Override
     public Float length() {
-        return (float) Math.sqrt(length2());
+        return lengthF();
     }
 
     @Override
     public Vector3F32 withLength(Float length) {
-        final float len = length();
+        final float len = lengthF();
         if (len == 0) return v3(0f, 0f, 0f);
-        return mul(length / len);
+        return mulF(length / len);
     }
 
     @Override
@@ -82,9 +83,9 @@ public value record Vector3F32(@NullRestricted Float x,
 
     @Override
     public Vector3F32 limit2(Float limit2) {
-        final float len2 = length2();
+        final float len2 = length2F();
         if (len2 == 0 || len2 <= limit2) return this;
-        return mul((float) Math.sqrt(limit2 / len2));
+        return mulF((float) Math.sqrt(limit2 / len2));
     }
 
     @Override
@@ -94,15 +95,12 @@ public value record Vector3F32(@NullRestricted Float x,
 
     @Override
     public Float distance(Vector3F32 vector) {
-        return (float) Math.sqrt(distance2(vector));
+        return distanceF(vector);
     }
 
     @Override
     public Vector3F32 lerp(Vector3F32 target, Float alpha) {
-        final float x = x() + (target.x() - x()) * alpha;
-        final float y = y() + (target.y() - y()) * alpha;
-        final float z = z() + (target.z() - z()) * alpha;
-        return v3(x, y, z);
+        return lerpF(target, alpha);
     }
 
     @Override
@@ -112,17 +110,17 @@ public value record Vector3F32(@NullRestricted Float x,
 
     @Override
     public boolean isUnit(Float margin) {
-        return Math.abs(length2() - 1) < margin * margin;
+        return Math.abs(length2F() - 1) < margin * margin;
     }
 
     @Override
     public boolean isCollinear(Vector3F32 vector, Float epsilon) {
-        return cross(vector).length() <= epsilon * length() * vector.length();
+        return cross(vector).lengthF() <= epsilon * lengthF() * vector.lengthF();
     }
 
     @Override
     public boolean isPerpendicular(Vector3F32 vector, Float epsilon) {
-        return Math.abs(dot(vector)) <= epsilon * length() * vector.length();
+        return Math.abs(dotF(vector)) <= epsilon * lengthF() * vector.lengthF();
     }
 
     @Override
@@ -156,9 +154,8 @@ public value record Vector3F32(@NullRestricted Float x,
 
     @Override
     public Vector3F32 rotate(Vector3F32 axis, Radians angle) {
-        return Matrix4F32.fromAxisAngle(axis, angle)
-                .asMatrix3()
-                .transform(this);
+        if (angle.value() == 0) return this;
+        return QuaternionF32.fromAxisAngle(axis, angle).rotate(this);
     }
 
     @Override
@@ -173,7 +170,7 @@ public value record Vector3F32(@NullRestricted Float x,
 
     @Override
     public Float sum() {
-        return x() + y() + z();
+        return sumF();
     }
 
     @Override
@@ -202,7 +199,7 @@ public value record Vector3F32(@NullRestricted Float x,
 
     @Override
     public Vector3F32 mul(Float scalar) {
-        return mul(v3(scalar, scalar, scalar));
+        return mulF(scalar);
     }
 
     @Override
@@ -250,36 +247,92 @@ public value record Vector3F32(@NullRestricted Float x,
 
     @Override
     public Float distance2(Vector3F32 vector) {
-        final var delta = sub(vector);
-        final var delta2 = delta.mul(delta);
-        return delta2.sum();
+        return distance2F(vector);
     }
 
     @Override
     public Float length2() {
-        return mul(this).sum();
+        return length2F();
     }
 
     @Override
     public Float dot(Vector3F32 vector) {
-        return mul(vector).sum();
+        return dotF(vector);
     }
 
     @Override
     public Vector3F32 clamp(Float min, Float max) {
-        final float x = Math.clamp(x(), min, max);
-        final float y = Math.clamp(y(), min, max);
-        final float z = Math.clamp(z(), min, max);
-        return v3(x, y, z);
+        return clampF(min, max);
     }
 
     @Override
     public boolean hasSameDirection(Vector3F32 vector) {
-        return dot(vector) > 0;
+        return dotF(vector) > 0;
     }
 
     @Override
     public boolean hasOppositeDirection(Vector3F32 vector) {
-        return dot(vector) < 0;
+        return dotF(vector) < 0;
+    }
+
+    /* ===== Primitive ===== */
+
+    /// {@link #sum()} without boxing.
+    public float sumF() {
+        return x() + y() + z();
+    }
+
+    /// {@link #mul(Float)} without boxing.
+    public Vector3F32 mulF(float scalar) {
+        return v3(x() * scalar, y() * scalar, z() * scalar);
+    }
+
+    /// {@link #dot(Vector3F32)} without boxing.
+    public float dotF(Vector3F32 vector) {
+        return x() * vector.x() + y() * vector.y() + z() * vector.z();
+    }
+
+    /// {@link #length2()} without boxing.
+    public float length2F() {
+        return x() * x() + y() * y() + z() * z();
+    }
+
+    /// {@link #distance2(Vector3F32)} without boxing.
+    public float distance2F(Vector3F32 vector) {
+        final float dx = x() - vector.x();
+        final float dy = y() - vector.y();
+        final float dz = z() - vector.z();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /// {@link #clamp(Float, Float)} without boxing.
+    public Vector3F32 clampF(float min, float max) {
+        final float x = Math.clamp(x(), min, max);
+        final float y = Math.clamp(y(), min, max);
+        final float z = Math.clamp(z(), min, max);
+        return v3(x, y, z);
+    }
+
+    /// {@link #length()} without boxing.
+    public float lengthF() {
+        return (float) Math.sqrt(length2F());
+    }
+
+    /// {@link #distance(Vector3F32)} without boxing.
+    public float distanceF(Vector3F32 vector) {
+        return (float) Math.sqrt(distance2F(vector));
+    }
+
+    /// {@link #lerp(Vector3F32, Float)} without boxing.
+    public Vector3F32 lerpF(Vector3F32 target, float alpha) {
+        final float x = x() + (target.x() - x()) * alpha;
+        final float y = y() + (target.y() - y()) * alpha;
+        final float z = z() + (target.z() - z()) * alpha;
+        return v3(x, y, z);
+    }
+
+    /// {@link #interpolate(Vector3F32, Float, Function)} without boxing.
+    public Vector3F32 interpolate(Vector3F32 target, float alpha, FloatInterpolator interpolator) {
+        return lerpF(target, interpolator.apply(alpha));
     }
 }
@@ -16,6 +16,7 @@
 
 package org.lidiuma.math.vector.v3;
 
+import org.lidiuma.math.interpolation.DoubleInterpolator;
 import org.lidiuma.math.matrix.Matrix4F64;
 import org.lidiuma.math.point.p3.Point3;
 import org.lidiuma.math.rotation.Radians;
@@ -59,14 +60,14 @@ public value record Vector3F64(@NullRestricted Double x,
 
     @Override
     public Double length() {
-        return Math.sqrt(length2());
+        return lengthD();
     }
 
     @Override
     public Vector3F64 withLength(Double length) {
-        final double len = length();
+        final double len = lengthD();
         if (len == 0) return v3(0d, 0d, 0d);
-        return mul(length / len);
+        return mulD(length / len);
     }
 
     @Override
@@ -81,9 +82,9 @@ public value record Vector3F64(@NullRestricted Double x,
 
     @Override
     public Vector3F64 limit2(Double limit2) {
-        final double len2 = length2();
+        final double len2 = length2D();
         if (len2 == 0 || len2 <= limit2) return this;
-        return mul(Math.sqrt(limit2 / len2));
+        return mulD(Math.sqrt(limit2 / len2));
     }
 
     @Override
@@ -93,15 +94,12 @@ public value record Vector3F64(@NullRestricted Double x,
 
     @Override
     public Double distance(Vector3F64 vector) {
-        return Math.sqrt(distance2(vector));
+        return distanceD(vector);
     }
 
     @Override
     public Vector3F64 lerp(Vector3F64 target, Double alpha) {
-        final double x = x() + (target.x() - x()) * alpha;
-        final double y = y() + (target.y() - y()) * alpha;
-        final double z = z() + (target.z() - z()) * alpha;
-        return v3(x, y, z);
+        return lerpD(target, alpha);
     }
 
     @Override
@@ -111,17 +109,17 @@ public value record Vector3F64(@NullRestricted Double x,
 
     @Override
     public boolean isUnit(Double margin) {
-        return Math.abs(length2() - 1) < margin * margin;
+        return Math.abs(length2D() - 1) < margin * margin;
     }
 
     @Override
     public boolean isCollinear(Vector3F64 vector, Double epsilon) {
-        return cross(vector).length() <= epsilon * length() * vector.length();
+        return cross(vector).lengthD() <= epsilon * lengthD() * vector.lengthD();
     }
 
     @Override
     public boolean isPerpendicular(Vector3F64 vector, Double epsilon) {
-        return Math.abs(dot(vector)) <= epsilon * length() * vector.length();
+        return Math.abs(dotD(vector)) <= epsilon * lengthD() * vector.lengthD();
     }
 
     @Override
@@ -172,7 +170,7 @@ public value record Vector3F64(@NullRestricted Double x,
 
     @Override
     public Double sum() {
-        return x() + y() + z();
+        return sumD();
     }
 
     @Override
@@ -201,7 +199,7 @@ public value record Vector3F64(@NullRestricted Double x,
 
     @Override
     public Vector3F64 mul(Double scalar) {
-        return mul(v3(scalar, scalar, scalar));
+        return mulD(scalar);
     }
 
     @Override
@@ -249,36 +247,92 @@ public value record Vector3F64(@NullRestricted Double x,
 
     @Override
     public Double distance2(Vector3F64 vector) {
-        final var delta = sub(vector);
-        final var delta2 = delta.mul(delta);
-        return delta2.sum();
+        return distance2D(vector);
     }
 
     @Override
     public Double length2() {
-        return mul(this).sum();
+        return length2D();
     }
 
     @Override
     public Double dot(Vector3F64 vector) {
-        return mul(vector).sum();
+        return dotD(vector);
     }
 
     @Override
     public Vector3F64 clamp(Double min, Double max) {
-        final double x = Math.clamp(x(), min, max);
-        final double y = Math.clamp(y(), min, max);
-        final double z = Math.clamp(z(), min, max);
-        return v3(x, y, z);
+        return clampD(min, max);
     }
 
     @Override
     public boolean hasSameDirection(Vector3F64 vector) {
-        return dot(vector) > 0;
+        return dotD(vector) > 0;
     }
 
     @Override
     public boolean hasOppositeDirection(Vector3F64 vector) {
-        return dot(vector) < 0;
+        return dotD(vector) < 0;
+    }
+
+    /* ===== Primitive ===== */
+
+    /// {@link #sum()} without boxing.
+    public double sumD() {
+        return x() + y() + z();
+    }
+
+    /// {@link #mul(Double)} without boxing.
+    public Vector3F64 mulD(double scalar) {
+        return v3(x() * scalar, y() * scalar, z() * scalar);
+    }
+
+    /// {@link #dot(Vector3F64)} without boxing.
+    public double dotD(Vector3F64 vector) {
+        return x() * vector.x() + y() * vector.y() + z() * vector.z();
+    }
+
+    /// {@link #length2()} without boxing.
+    public double length2D() {
+        return x() * x() + y() * y() + z() * z();
+    }
+
+    /// {@link #distance2(Vector3F64)} without boxing.
+    public double distance2D(Vector3F64 vector) {
+        final double dx = x() - vector.x();
+        final double dy = y() - vector.y();
+        final double dz = z() - vector.z();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /// {@link #clamp(Double, Double)} without boxing.
+    public Vector3F64 clampD(double min, double max) {
+        final double x = Math.clamp(x(), min, max);
+        final double y = Math.clamp(y(), min, max);
+        final double z = Math.clamp(z(), min, max);
+        return v3(x, y, z);
+    }
+
+    /// {@link #length()} without boxing.
+    public double lengthD() {
+        return Math.sqrt(length2D());
+    }
+
+    /// {@link #distance(Vector3F64)} without boxing.
+    public double distanceD(Vector3F64 vector) {
+        return Math.sqrt(distance2D(vector));
+    }
+
+    /// {@link #lerp(Vector3F64, Double)} without boxing.
+    public Vector3F64 lerpD(Vector3F64 target, double alpha) {
+        final double x = x() + (target.x() - x()) * alpha;
+        final double y = y() + (target.y() - y()) * alpha;
+        final double z = z() + (target.z() - z()) * alpha;
+        return v3(x, y, z);
+    }
+
+    /// {@link #interpolate(Vector3F64, Double, Function)} without boxing.
+    public Vector3F64 interpolate(Vector3F64 target, double alpha, DoubleInterpolator interpolator) {
+        return lerpD(target, interpolator.apply(alpha));
     }
 }
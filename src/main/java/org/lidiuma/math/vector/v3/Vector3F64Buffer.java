@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.vector.v3;
+
+import org.lidiuma.math.vector.VectorBuffer;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Objects;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+
+/// Structure of arrays buffer of {@link Vector3F64}, with the `x`, `y` and `z` components stored in separate off-heap lanes.
+/// @implNote The bulk operations are plain loops over a single lane whenever possible, which the JIT is able to auto-vectorize.
+public value class Vector3F64Buffer implements VectorBuffer<Vector3F64Buffer, Vector3F64, Double> {
+
+    private final MemorySegment x, y, z;
+    private final long capacity;
+
+    /// Wraps already existing lanes, without copying them.
+    /// @throws IllegalArgumentException if the lanes do not have the same size, or if it is not a multiple of a `double`.
+    public Vector3F64Buffer(MemorySegment x, MemorySegment y, MemorySegment z) {
+        final long byteSize = x.byteSize();
+        if (y.byteSize() != byteSize || z.byteSize() != byteSize) throw new IllegalArgumentException("The lanes do not have the same size.");
+        if (byteSize % JAVA_DOUBLE.byteSize() != 0) throw new IllegalArgumentException("The lanes size is not a multiple of " + JAVA_DOUBLE.byteSize() + " bytes.");
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.capacity = byteSize / JAVA_DOUBLE.byteSize();
+    }
+
+    /// Allocates a zeroed buffer that holds `capacity` vectors.
+    public static Vector3F64Buffer allocate(Arena arena, long capacity) {
+        return new Vector3F64Buffer(
+                arena.allocate(JAVA_DOUBLE, capacity),
+                arena.allocate(JAVA_DOUBLE, capacity),
+                arena.allocate(JAVA_DOUBLE, capacity)
+        );
+    }
+
+    @Override
+    public long capacity() {
+        return capacity;
+    }
+
+    @Override
+    public int dimension() {
+        return 3;
+    }
+
+    /// @return The `x` lane, without copying.
+    public MemorySegment x() {
+        return x;
+    }
+
+    /// @return The `y` lane, without copying.
+    public MemorySegment y() {
+        return y;
+    }
+
+    /// @return The `z` lane, without copying.
+    public MemorySegment z() {
+        return z;
+    }
+
+    @Override
+    public MemorySegment lane(int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            case 2 -> z;
+            default -> throw new IndexOutOfBoundsException("There's no component for index " + component + ".");
+        };
+    }
+
+    @Override
+    public Vector3F64 get(long index) {
+        return new Vector3F64(
+                x.getAtIndex(JAVA_DOUBLE, index),
+                y.getAtIndex(JAVA_DOUBLE, index),
+                z.getAtIndex(JAVA_DOUBLE, index)
+        );
+    }
+
+    @Override
+    public void set(long index, Vector3F64 vector) {
+        x.setAtIndex(JAVA_DOUBLE, index, vector.x());
+        y.setAtIndex(JAVA_DOUBLE, index, vector.y());
+        z.setAtIndex(JAVA_DOUBLE, index, vector.z());
+    }
+
+    @Override
+    public void add(Vector3F64Buffer other, long from, long count) {
+        final long end = end(from, count);
+        other.end(from, count);
+        add(x, other.x, from, end);
+        add(y, other.y, from, end);
+        add(z, other.z, from, end);
+    }
+
+    @Override
+    public void add(Vector3F64 vector, long from, long count) {
+        final long end = end(from, count);
+        add(x, vector.x(), from, end);
+        add(y, vector.y(), from, end);
+        add(z, vector.z(), from, end);
+    }
+
+    @Override
+    public void mul(Double scalar, long from, long count) {
+        final long end = end(from, count);
+        final double s = scalar;
+        mul(x, s, from, end);
+        mul(y, s, from, end);
+        mul(z, s, from, end);
+    }
+
+    @Override
+    public void lerp(Vector3F64Buffer target, Double alpha, long from, long count) {
+        final long end = end(from, count);
+        target.end(from, count);
+        final double a = alpha;
+        lerp(x, target.x, a, from, end);
+        lerp(y, target.y, a, from, end);
+        lerp(z, target.z, a, from, end);
+    }
+
+    @Override
+    public void normalize(long from, long count) {
+        final long end = end(from, count);
+        for (long i = from; i < end; i++) {
+            final double xi = x.getAtIndex(JAVA_DOUBLE, i);
+            final double yi = y.getAtIndex(JAVA_DOUBLE, i);
+            final double zi = z.getAtIndex(JAVA_DOUBLE, i);
+            final double len2 = xi * xi + yi * yi + zi * zi;
+            if (len2 == 0) continue;
+            final double scale = 1d / Math.sqrt(len2);
+            x.setAtIndex(JAVA_DOUBLE, i, xi * scale);
+            y.setAtIndex(JAVA_DOUBLE, i, yi * scale);
+            z.setAtIndex(JAVA_DOUBLE, i, zi * scale);
+        }
+    }
+
+    @Override
+    public void dot(Vector3F64Buffer other, MemorySegment out, long from, long count) {
+        final long end = end(from, count);
+        other.end(from, count);
+        for (long i = from; i < end; i++) {
+            final double dot = x.getAtIndex(JAVA_DOUBLE, i) * other.x.getAtIndex(JAVA_DOUBLE, i)
+                    + y.getAtIndex(JAVA_DOUBLE, i) * other.y.getAtIndex(JAVA_DOUBLE, i)
+                    + z.getAtIndex(JAVA_DOUBLE, i) * other.z.getAtIndex(JAVA_DOUBLE, i);
+            out.setAtIndex(JAVA_DOUBLE, i, dot);
+        }
+    }
+
+    /// @return The exclusive end of the range, after checking it is inside the buffer.
+    private long end(long from, long count) {
+        return Objects.checkFromIndexSize(from, count, capacity) + count;
+    }
+
+    private static void add(MemorySegment lane, MemorySegment other, long from, long end) {
+        for (long i = from; i < end; i++) {
+            lane.setAtIndex(JAVA_DOUBLE, i, lane.getAtIndex(JAVA_DOUBLE, i) + other.getAtIndex(JAVA_DOUBLE, i));
+        }
+    }
+
+    private static void add(MemorySegment lane, double value, long from, long end) {
+        for (long i = from; i < end; i++) {
+            lane.setAtIndex(JAVA_DOUBLE, i, lane.getAtIndex(JAVA_DOUBLE, i) + value);
+        }
+    }
+
+    private static void mul(MemorySegment lane, double scalar, long from, long end) {
+        for (long i = from; i < end; i++) {
+            lane.setAtIndex(JAVA_DOUBLE, i, lane.getAtIndex(JAVA_DOUBLE, i) * scalar);
+        }
+    }
+
+    private static void lerp(MemorySegment lane, MemorySegment target, double alpha, long from, long end) {
+        for (long i = from; i < end; i++) {
+            final double value = lane.getAtIndex(JAVA_DOUBLE, i);
+            lane.setAtIndex(JAVA_DOUBLE, i, value + (target.getAtIndex(JAVA_DOUBLE, i) - value) * alpha);
+        }
+    }
+}
@@ -74,7 +74,7 @@ public value record Vector3I32(@NullRestricted Integer x,
 
     @Override
     public Integer sum() {
-        return x() + y() + z();
+        return sumI();
     }
 
     @Override
@@ -103,7 +103,7 @@ public value record Vector3I32(@NullRestricted Integer x,
 
     @Override
     public Vector3I32 mul(Integer scalar) {
-        return mul(v3(scalar, scalar, scalar));
+        return mulI(scalar);
     }
 
     @Override
@@ -151,36 +151,69 @@ public value record Vector3I32(@NullRestricted Integer x,
 
     @Override
     public Integer distance2(Vector3I32 vector) {
-        final var delta = sub(vector);
-        final var delta2 = delta.mul(delta);
-        return delta2.sum();
+        return distance2I(vector);
     }
 
     @Override
     public Integer length2() {
-        return mul(this).sum();
+        return length2I();
     }
 
     @Override
     public Integer dot(Vector3I32 vector) {
-        return mul(vector).sum();
+        return dotI(vector);
     }
 
     @Override
     public Vector3I32 clamp(Integer min, Integer max) {
-        final int x = Math.clamp(x(), min, max);
-        final int y = Math.clamp(y(), min, max);
-        final int z = Math.clamp(z(), min, max);
-        return v3(x, y, z);
+        return clampI(min, max);
     }
 
     @Override
     public boolean hasSameDirection(Vector3I32 vector) {
-        return dot(vector) > 0;
+        return dotI(vector) > 0;
     }
 
     @Override
     public boolean hasOppositeDirection(Vector3I32 vector) {
-        return dot(vector) < 0;
+        return dotI(vector) < 0;
+    }
+
+    /* ===== Primitive ===== */
+
+    /// {@link #sum()} without boxing.
+    public int sumI() {
+        return x() + y() + z();
+    }
+
+    /// {@link #mul(Integer)} without boxing.
+    public Vector3I32 mulI(int scalar) {
+        return v3(x() * scalar, y() * scalar, z() * scalar);
+    }
+
+    /// {@link #dot(Vector3I32)} without boxing.
+    public int dotI(Vector3I32 vector) {
+        return x() * vector.x() + y() * vector.y() + z() * vector.z();
+    }
+
+    /// {@link #length2()} without boxing.
+    public int length2I() {
+        return x() * x() + y() * y() + z() * z();
+    }
+
+    /// {@link #distance2(Vector3I32)} without boxing.
+    public int distance2I(Vector3I32 vector) {
+        final int dx = x() - vector.x();
+        final int dy = y() - vector.y();
+        final int dz = z() - vector.z();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /// {@link #clamp(Integer, Integer)} without boxing.
+    public Vector3I32 clampI(int min, int max) {
+        final int x = Math.clamp(x(), min, max);
+        final int y = Math.clamp(y(), min, max);
+        final int z = Math.clamp(z(), min, max);
+        return v3(x, y, z);
     }
 }
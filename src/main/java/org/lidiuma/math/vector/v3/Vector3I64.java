@@ -74,7 +74,7 @@ public value record Vector3I64(@NullRestricted Long x,
 
     @Override
     public Long sum() {
-        return x() + y() + z();
+        return sumL();
     }
 
     @Override
@@ -103,7 +103,7 @@ public value record Vector3I64(@NullRestricted Long x,
 
     @Override
     public Vector3I64 mul(Long scalar) {
-        return mul(v3(scalar, scalar, scalar));
+        return mulL(scalar);
     }
 
     @Override
@@ -151,36 +151,69 @@ public value record Vector3I64(@NullRestricted Long x,
 
     @Override
     public Long distance2(Vector3I64 vector) {
-        final var delta = sub(vector);
-        final var delta2 = delta.mul(delta);
-        return delta2.sum();
+        return distance2L(vector);
     }
 
     @Override
     public Long length2() {
-        return mul(this).sum();
+        return length2L();
     }
 
     @Override
     public Long dot(Vector3I64 vector) {
-        return mul(vector).sum();
+        return dotL(vector);
     }
 
     @Override
     public Vector3I64 clamp(Long min, Long max) {
-        final long x = Math.clamp(x(), min, max);
-        final long y = Math.clamp(y(), min, max);
-        final long z = Math.clamp(z(), min, max);
-        return v3(x, y, z);
+        return clampL(min, max);
     }
 
     @Override
     public boolean hasSameDirection(Vector3I64 vector) {
-        return dot(vector) > 0;
+        return dotL(vector) > 0;
     }
 
     @Override
     public boolean hasOppositeDirection(Vector3I64 vector) {
-        return dot(vector) < 0;
+        return dotL(vector) < 0;
+    }
+
+    /* ===== Primitive ===== */
+
+    /// {@link #sum()} without boxing.
+    public long sumL() {
+        return x() + y() + z();
+    }
+
+    /// {@link #mul(Long)} without boxing.
+    public Vector3I64 mulL(long scalar) {
+        return v3(x() * scalar, y() * scalar, z() * scalar);
+    }
+
+    /// {@link #dot(Vector3I64)} without boxing.
+    public long dotL(Vector3I64 vector) {
+        return x() * vector.x() + y() * vector.y() + z() * vector.z();
+    }
+
+    /// {@link #length2()} without boxing.
+    public long length2L() {
+        return x() * x() + y() * y() + z() * z();
+    }
+
+    /// {@link #distance2(Vector3I64)} without boxing.
+    public long distance2L(Vector3I64 vector) {
+        final long dx = x() - vector.x();
+        final long dy = y() - vector.y();
+        final long dz = z() - vector.z();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /// {@link #clamp(Long, Long)} without boxing.
+    public Vector3I64 clampL(long min, long max) {
+        final long x = Math.clamp(x(), min, max);
+        final long y = Math.clamp(y(), min, max);
+        final long z = Math.clamp(z(), min, max);
+        return v3(x, y, z);
     }
 }
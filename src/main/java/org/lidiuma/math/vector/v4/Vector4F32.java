@@ -16,6 +16,7 @@
 
 package org.lidiuma.math.vector.v4;
 
+import org.lidiuma.math.interpolation.FloatInterpolator;
 import org.lidiuma.math.point.p4.Point4;
 import org.lidiuma.math.vector.v3.Vector3F32;
 import jdk.internal.vm.annotation.LooselyConsistentValue;
@@ -64,14 +65,14 @@ public value record Vector4F32(@NullRestricted Float x,
 
     @Override
     public Float length() {
-        return (float) Math.sqrt(length2());
+        return lengthF();
     }
 
     @Override
     public Vector4F32 withLength(Float length) {
-        final float len = length();
+        final float len = lengthF();
         if (len == 0) return v4(0f, 0f, 0f, 0f);
-        return mul(length / len);
+        return mulF(length / len);
     }
 
     @Override
@@ -86,9 +87,9 @@ public value record Vector4F32(@NullRestricted Float x,
 
     @Override
     public Vector4F32 limit2(Float limit2) {
-        final float len2 = length2();
+        final float len2 = length2F();
         if (len2 == 0 || len2 <= limit2) return this;
-        return mul((float) Math.sqrt(limit2 / len2));
+        return mulF((float) Math.sqrt(limit2 / len2));
     }
 
     @Override
@@ -98,16 +99,12 @@ public value record Vector4F32(@NullRestricted Float x,
 
     @Override
     public Float distance(Vector4F32 vector) {
-        return (float) Math.sqrt(distance2(vector));
+        return distanceF(vector);
     }
 
     @Override
     public Vector4F32 lerp(Vector4F32 target, Float alpha) {
-        final float x = x() + (target.x() - x()) * alpha;
-        final float y = y() + (target.y() - y()) * alpha;
-        final float z = z() + (target.z() - z()) * alpha;
-        final float w = w() + (target.w() - w()) * alpha;
-        return v4(x, y, z, w);
+        return lerpF(target, alpha);
     }
 
     @Override
@@ -117,22 +114,22 @@ public value record Vector4F32(@NullRestricted Float x,
 
     @Override
     public boolean isUnit(Float margin) {
-        return Math.abs(length2() - 1) < margin * margin;
+        return Math.abs(length2F() - 1) < margin * margin;
     }
 
     @Override
     public boolean isCollinear(Vector4F32 vector, Float epsilon) {
-        final float len = length();
-        final float vLen = vector.length();
+        final float len = lengthF();
+        final float vLen = vector.lengthF();
         if (len == 0 || vLen == 0) return false;
 
-        final float cosTheta = Math.abs(dot(vector) / (len * vLen));
+        final float cosTheta = Math.abs(dotF(vector) / (len * vLen));
         return Math.abs(cosTheta - 1) <= epsilon;
     }
 
     @Override
     public boolean isPerpendicular(Vector4F32 vector, Float epsilon) {
-        return Math.abs(dot(vector)) <= epsilon * length() * vector.length();
+        return Math.abs(dotF(vector)) <= epsilon * lengthF() * vector.lengthF();
     }
 
     @Override
@@ -164,7 +161,7 @@ public value record Vector4F32(@NullRestricted Float x,
 
     @Override
     public Float sum() {
-        return x() + y() + z() + w();
+        return sumF();
     }
 
     @Override
@@ -196,7 +193,7 @@ public value record Vector4F32(@NullRestricted Float x,
 
     @Override
     public Vector4F32 mul(Float scalar) {
-        return mul(v4(scalar, scalar, scalar, scalar));
+        return mulF(scalar);
     }
 
     @Override
@@ -261,23 +258,67 @@ public value record Vector4F32(@NullRestricted Float x,
 
     @Override
     public Float distance2(Vector4F32 vector) {
-        final var delta = sub(vector);
-        final var delta2 = delta.mul(delta);
-        return delta2.sum();
+        return distance2F(vector);
     }
 
     @Override
     public Float length2() {
-        return mul(this).sum();
+        return length2F();
     }
 
     @Override
     public Float dot(Vector4F32 vector) {
-        return mul(vector).sum();
+        return dotF(vector);
     }
 
     @Override
     public Vector4F32 clamp(Float min, Float max) {
+        return clampF(min, max);
+    }
+
+    @Override
+    public boolean hasSameDirection(Vector4F32 vector) {
+        return dotF(vector) > 0;
+    }
+
+    @Override
+    public boolean hasOppositeDirection(Vector4F32 vector) {
+        return dotF(vector) < 0;
+    }
+
+    /* ===== Primitive ===== */
+
+    /// {@link #sum()} without boxing.
+    public float sumF() {
+        return x() + y() + z() + w();
+    }
+
+    /// {@link #mul(Float)} without boxing.
+    public Vector4F32 mulF(float scalar) {
+        return v4(x() * scalar, y() * scalar, z() * scalar, w() * scalar);
+    }
+
+    /// {@link #dot(Vector4F32)} without boxing.
+    public float dotF(Vector4F32 vector) {
+        return x() * vector.x() + y() * vector.y() + z() * vector.z() + w() * vector.w();
+    }
+
+    /// {@link #length2()} without boxing.
+    public float length2F() {
+        return x() * x() + y() * y() + z() * z() + w() * w();
+    }
+
+    /// {@link #distance2(Vector4F32)} without boxing.
+    public float distance2F(Vector4F32 vector) {
+        final float dx = x() - vector.x();
+        final float dy = y() - vector.y();
+        final float dz = z() - vector.z();
+        final float dw = w() - vector.w();
+        return dx * dx + dy * dy + dz * dz + dw * dw;
+    }
+
+    /// {@link #clamp(Float, Float)} without boxing.
+    public Vector4F32 clampF(float min, float max) {
         final float x = Math.clamp(x(), min, max);
         final float y = Math.clamp(y(), min, max);
         final float z = Math.clamp(z(), min, max);
@@ -285,13 +326,27 @@ public value record Vector4F32(@NullRestricted Float x,
         return v4(x, y, z, w);
     }
 
-    @Override
-    public boolean hasSameDirection(Vector4F32 vector) {
-        return dot(vector) > 0;
+    /// {@link #length()} without boxing.
+    public float lengthF() {
+        return (float) Math.sqrt(length2F());
     }
 
-    @Override
-    public boolean hasOppositeDirection(Vector4F32 vector) {
-        return dot(vector) < 0;
+    /// {@link #distance(Vector4F32)} without boxing.
+    public float distanceF(Vector4F32 vector) {
+        return (float) Math.sqrt(distance2F(vector));
+    }
+
+    /// {@link #lerp(Vector4F32, Float)} without boxing.
+    public Vector4F32 lerpF(Vector4F32 target, float alpha) {
+        final float x = x() + (target.x() - x()) * alpha;
+        final float y = y() + (target.y() - y()) * alpha;
+        final float z = z() + (target.z() - z()) * alpha;
+        final float w = w() + (target.w() - w()) * alpha;
+        return v4(x, y, z, w);
+    }
+
+    /// {@link #interpolate(Vector4F32, Float, Function)} without boxing.
+    public Vector4F32 interpolate(Vector4F32 target, float alpha, FloatInterpolator interpolator) {
+        return lerpF(target, interpolator.apply(alpha));
     }
 }
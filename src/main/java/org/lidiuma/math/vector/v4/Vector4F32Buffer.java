@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.vector.v4;
+
+import org.lidiuma.math.vector.VectorBuffer;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Objects;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+
+/// Structure of arrays buffer of {@link Vector4F32}, with the `x`, `y`, `z` and `w` components stored in separate off-heap lanes.
+/// @implNote The bulk operations are plain loops over a single lane whenever possible, which the JIT is able to auto-vectorize.
+public value class Vector4F32Buffer implements VectorBuffer<Vector4F32Buffer, Vector4F32, Float> {
+
+    private final MemorySegment x, y, z, w;
+    private final long capacity;
+
+    /// Wraps already existing lanes, without copying them.
+    /// @throws IllegalArgumentException if the lanes do not have the same size, or if it is not a multiple of a `float`.
+    public Vector4F32Buffer(MemorySegment x, MemorySegment y, MemorySegment z, MemorySegment w) {
+        final long byteSize = x.byteSize();
+        if (y.byteSize() != byteSize || z.byteSize() != byteSize || w.byteSize() != byteSize) throw new IllegalArgumentException("The lanes do not have the same size.");
+        if (byteSize % JAVA_FLOAT.byteSize() != 0) throw new IllegalArgumentException("The lanes size is not a multiple of " + JAVA_FLOAT.byteSize() + " bytes.");
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+        this.capacity = byteSize / JAVA_FLOAT.byteSize();
+    }
+
+    /// Allocates a zeroed buffer that holds `capacity` vectors.
+    public static Vector4F32Buffer allocate(Arena arena, long capacity) {
+        return new Vector4F32Buffer(
+                arena.allocate(JAVA_FLOAT, capacity),
+                arena.allocate(JAVA_FLOAT, capacity),
+                arena.allocate(JAVA_FLOAT, capacity),
+                arena.allocate(JAVA_FLOAT, capacity)
+        );
+    }
+
+    @Override
+    public long capacity() {
+        return capacity;
+    }
+
+    @Override
+    public int dimension() {
+        return 4;
+    }
+
+    /// @return The `x` lane, without copying.
+    public MemorySegment x() {
+        return x;
+    }
+
+    /// @return The `y` lane, without copying.
+    public MemorySegment y() {
+        return y;
+    }
+
+    /// @return The `z` lane, without copying.
+    public MemorySegment z() {
+        return z;
+    }
+
+    /// @return The `w` lane, without copying.
+    public MemorySegment w() {
+        return w;
+    }
+
+    @Override
+    public MemorySegment lane(int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            case 2 -> z;
+            case 3 -> w;
+            default -> throw new IndexOutOfBoundsException("There's no component for index " + component + ".");
+        };
+    }
+
+    @Override
+    public Vector4F32 get(long index) {
+        return new Vector4F32(
+                x.getAtIndex(JAVA_FLOAT, index),
+                y.getAtIndex(JAVA_FLOAT, index),
+                z.getAtIndex(JAVA_FLOAT, index),
+                w.getAtIndex(JAVA_FLOAT, index)
+        );
+    }
+
+    @Override
+    public void set(long index, Vector4F32 vector) {
+        x.setAtIndex(JAVA_FLOAT, index, vector.x());
+        y.setAtIndex(JAVA_FLOAT, index, vector.y());
+        z.setAtIndex(JAVA_FLOAT, index, vector.z());
+        w.setAtIndex(JAVA_FLOAT, index, vector.w());
+    }
+
+    @Override
+    public void add(Vector4F32Buffer other, long from, long count) {
+        final long end = end(from, count);
+        other.end(from, count);
+        add(x, other.x, from, end);
+        add(y, other.y, from, end);
+        add(z, other.z, from, end);
+        add(w, other.w, from, end);
+    }
+
+    @Override
+    public void add(Vector4F32 vector, long from, long count) {
+        final long end = end(from, count);
+        add(x, vector.x(), from, end);
+        add(y, vector.y(), from, end);
+        add(z, vector.z(), from, end);
+        add(w, vector.w(), from, end);
+    }
+
+    @Override
+    public void mul(Float scalar, long from, long count) {
+        final long end = end(from, count);
+        final float s = scalar;
+        mul(x, s, from, end);
+        mul(y, s, from, end);
+        mul(z, s, from, end);
+        mul(w, s, from, end);
+    }
+
+    @Override
+    public void lerp(Vector4F32Buffer target, Float alpha, long from, long count) {
+        final long end = end(from, count);
+        target.end(from, count);
+        final float a = alpha;
+        lerp(x, target.x, a, from, end);
+        lerp(y, target.y, a, from, end);
+        lerp(z, target.z, a, from, end);
+        lerp(w, target.w, a, from, end);
+    }
+
+    @Override
+    public void normalize(long from, long count) {
+        final long end = end(from, count);
+        for (long i = from; i < end; i++) {
+            final float xi = x.getAtIndex(JAVA_FLOAT, i);
+            final float yi = y.getAtIndex(JAVA_FLOAT, i);
+            final float zi = z.getAtIndex(JAVA_FLOAT, i);
+            final float wi = w.getAtIndex(JAVA_FLOAT, i);
+            final float len2 = xi * xi + yi * yi + zi * zi + wi * wi;
+            if (len2 == 0) continue;
+            final float scale = 1f / (float) Math.sqrt(len2);
+            x.setAtIndex(JAVA_FLOAT, i, xi * scale);
+            y.setAtIndex(JAVA_FLOAT, i, yi * scale);
+            z.setAtIndex(JAVA_FLOAT, i, zi * scale);
+            w.setAtIndex(JAVA_FLOAT, i, wi * scale);
+        }
+    }
+
+    @Override
+    public void dot(Vector4F32Buffer other, MemorySegment out, long from, long count) {
+        final long end = end(from, count);
+        other.end(from, count);
+        for (long i = from; i < end; i++) {
+            final float dot = x.getAtIndex(JAVA_FLOAT, i) * other.x.getAtIndex(JAVA_FLOAT, i)
+                    + y.getAtIndex(JAVA_FLOAT, i) * other.y.getAtIndex(JAVA_FLOAT, i)
+                    + z.getAtIndex(JAVA_FLOAT, i) * other.z.getAtIndex(JAVA_FLOAT, i)
+                    + w.getAtIndex(JAVA_FLOAT, i) * other.w.getAtIndex(JAVA_FLOAT, i);
+            out.setAtIndex(JAVA_FLOAT, i, dot);
+        }
+    }
+
+    /// @return The exclusive end of the range, after checking it is inside the buffer.
+    private long end(long from, long count) {
+        return Objects.checkFromIndexSize(from, count, capacity) + count;
+    }
+
+    private static void add(MemorySegment lane, MemorySegment other, long from, long end) {
+        for (long i = from; i < end; i++) {
+            lane.setAtIndex(JAVA_FLOAT, i, lane.getAtIndex(JAVA_FLOAT, i) + other.getAtIndex(JAVA_FLOAT, i));
+        }
+    }
+
+    private static void add(MemorySegment lane, float value, long from, long end) {
+        for (long i = from; i < end; i++) {
+            lane.setAtIndex(JAVA_FLOAT, i, lane.getAtIndex(JAVA_FLOAT, i) + value);
+        }
+    }
+
+    private static void mul(MemorySegment lane, float scalar, long from, long end) {
+        for (long i = from; i < end; i++) {
+            lane.setAtIndex(JAVA_FLOAT, i, lane.getAtIndex(JAVA_FLOAT, i) * scalar);
+        }
+    }
+
+    private static void lerp(MemorySegment lane, MemorySegment target, float alpha, long from, long end) {
+        for (long i = from; i < end; i++) {
+            final float value = lane.getAtIndex(JAVA_FLOAT, i);
+            lane.setAtIndex(JAVA_FLOAT, i, value + (target.getAtIndex(JAVA_FLOAT, i) - value) * alpha);
+        }
+    }
+}
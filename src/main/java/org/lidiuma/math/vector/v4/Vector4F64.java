@@ -16,6 +16,7 @@
 
 package org.lidiuma.math.vector.v4;
 
+import org.lidiuma.math.interpolation.DoubleInterpolator;
 import org.lidiuma.math.point.p4.Point4;
 import org.lidiuma.math.vector.v3.Vector3F64;
 import jdk.internal.vm.annotation.LooselyConsistentValue;
@@ -64,14 +65,14 @@ public value record Vector4F64(@NullRestricted Double x,
 
     @Override
     public Double length() {
-        return Math.sqrt(length2());
+        return lengthD();
     }
 
     @Override
     public Vector4F64 withLength(Double length) {
-        final double len = length();
+        final double len = lengthD();
         if (len == 0) return v4(0d, 0d, 0d, 0d);
-        return mul(length / len);
+        return mulD(length / len);
     }
 
     @Override
@@ -86,9 +87,9 @@ public value record Vector4F64(@NullRestricted Double x,
 
     @Override
     public Vector4F64 limit2(Double limit2) {
-        final double len2 = length2();
+        final double len2 = length2D();
         if (len2 == 0 || len2 <= limit2) return this;
-        return mul(Math.sqrt(limit2 / len2));
+        return mulD(Math.sqrt(limit2 / len2));
     }
 
     @Override
@@ -98,16 +99,12 @@ public value record Vector4F64(@NullRestricted Double x,
 
     @Override
     public Double distance(Vector4F64 vector) {
-        return Math.sqrt(distance2(vector));
+        return distanceD(vector);
     }
 
     @Override
     public Vector4F64 lerp(Vector4F64 target, Double alpha) {
-        final double x = x() + (target.x() - x()) * alpha;
-        final double y = y() + (target.y() - y()) * alpha;
-        final double z = z() + (target.z() - z()) * alpha;
-        final double w = w() + (target.w() - w()) * alpha;
-        return v4(x, y, z, w);
+        return lerpD(target, alpha);
     }
 
     @Override
@@ -117,22 +114,22 @@ public value record Vector4F64(@NullRestricted Double x,
 
     @Override
     public boolean isUnit(Double margin) {
-        return Math.abs(length2() - 1) < margin * margin;
+        return Math.abs(length2D() - 1) < margin * margin;
     }
 
     @Override
     public boolean isCollinear(Vector4F64 vector, Double epsilon) {
-        final double len = length();
-        final double vLen = vector.length();
+        final double len = lengthD();
+        final double vLen = vector.lengthD();
         if (len == 0 || vLen == 0) return false;
 
-        final double cosTheta = Math.abs(dot(vector) / (len * vLen));
+        final double cosTheta = Math.abs(dotD(vector) / (len * vLen));
         return Math.abs(cosTheta - 1) <= epsilon;
     }
 
     @Override
     public boolean isPerpendicular(Vector4F64 vector, Double epsilon) {
-        return Math.abs(dot(vector)) <= epsilon * length() * vector.length();
+        return Math.abs(dotD(vector)) <= epsilon * lengthD() * vector.lengthD();
     }
 
     @Override
@@ -164,7 +161,7 @@ public value record Vector4F64(@NullRestricted Double x,
 
     @Override
     public Double sum() {
-        return x() + y() + z() + w();
+        return sumD();
     }
 
     @Override
@@ -196,7 +193,7 @@ public value record Vector4F64(@NullRestricted Double x,
 
     @Override
     public Vector4F64 mul(Double scalar) {
-        return mul(v4(scalar, scalar, scalar, scalar));
+        return mulD(scalar);
     }
 
     @Override
@@ -261,23 +258,67 @@ public value record Vector4F64(@NullRestricted Double x,
 
     @Override
     public Double distance2(Vector4F64 vector) {
-        final var delta = sub(vector);
-        final var delta2 = delta.mul(delta);
-        return delta2.sum();
+        return distance2D(vector);
     }
 
     @Override
     public Double length2() {
-        return mul(this).sum();
+        return length2D();
     }
 
     @Override
     public Double dot(Vector4F64 vector) {
-        return mul(vector).sum();
+        return dotD(vector);
     }
 
     @Override
     public Vector4F64 clamp(Double min, Double max) {
+        return clampD(min, max);
+    }
+
+    @Override
+    public boolean hasSameDirection(Vector4F64 vector) {
+        return dotD(vector) > 0;
+    }
+
+    @Override
+    public boolean hasOppositeDirection(Vector4F64 vector) {
+        return dotD(vector) < 0;
+    }
+
+    /* ===== Primitive ===== */
+
+    /// {@link #sum()} without boxing.
+    public double sumD() {
+        return x() + y() + z() + w();
+    }
+
+    /// {@link #mul(Double)} without boxing.
+    public Vector4F64 mulD(double scalar) {
+        return v4(x() * scalar, y() * scalar, z() * scalar, w() * scalar);
+    }
+
+    /// {@link #dot(Vector4F64)} without boxing.
+    public double dotD(Vector4F64 vector) {
+        return x() * vector.x() + y() * vector.y() + z() * vector.z() + w() * vector.w();
+    }
+
+    /// {@link #length2()} without boxing.
+    public double length2D() {
+        return x() * x() + y() * y() + z() * z() + w() * w();
+    }
+
+    /// {@link #distance2(Vector4F64)} without boxing.
+    public double distance2D(Vector4F64 vector) {
+        final double dx = x() - vector.x();
+        final double dy = y() - vector.y();
+        final double dz = z() - vector.z();
+        final double dw = w() - vector.w();
+        return dx * dx + dy * dy + dz * dz + dw * dw;
+    }
+
+    /// {@link #clamp(Double, Double)} without boxing.
+    public Vector4F64 clampD(double min, double max) {
         final double x = Math.clamp(x(), min, max);
         final double y = Math.clamp(y(), min, max);
         final double z = Math.clamp(z(), min, max);
@@ -285,13 +326,27 @@ public value record Vector4F64(@NullRestricted Double x,
         return v4(x, y, z, w);
     }
 
-    @Override
-    public boolean hasSameDirection(Vector4F64 vector) {
-        return dot(vector) > 0;
+    /// {@link #length()} without boxing.
+    public double lengthD() {
+        return Math.sqrt(length2D());
     }
 
-    @Override
-    public boolean hasOppositeDirection(Vector4F64 vector) {
-        return dot(vector) < 0;
+    /// {@link #distance(Vector4F64)} without boxing.
+    public double distanceD(Vector4F64 vector) {
+        return Math.sqrt(distance2D(vector));
+    }
+
+    /// {@link #lerp(Vector4F64, Double)} without boxing.
+    public Vector4F64 lerpD(Vector4F64 target, double alpha) {
+        final double x = x() + (target.x() - x()) * alpha;
+        final double y = y() + (target.y() - y()) * alpha;
+        final double z = z() + (target.z() - z()) * alpha;
+        final double w = w() + (target.w() - w()) * alpha;
+        return v4(x, y, z, w);
+    }
+
+    /// {@link #interpolate(Vector4F64, Double, Function)} without boxing.
+    public Vector4F64 interpolate(Vector4F64 target, double alpha, DoubleInterpolator interpolator) {
+        return lerpD(target, interpolator.apply(alpha));
     }
 }
@@ -57,7 +57,7 @@ public value record Vector4I32(@NullRestricted Integer x,
 
     @Override
     public Integer sum() {
-        return x() + y() + z() + w();
+        return sumI();
     }
 
     @Override
@@ -89,7 +89,7 @@ public value record Vector4I32(@NullRestricted Integer x,
 
     @Override
     public Vector4I32 mul(Integer scalar) {
-        return mul(v4(scalar, scalar, scalar, scalar));
+        return mulI(scalar);
     }
 
     @Override
@@ -154,37 +154,71 @@ public value record Vector4I32(@NullRestricted Integer x,
 
     @Override
     public Integer distance2(Vector4I32 vector) {
-        final var delta = sub(vector);
-        final var delta2 = delta.mul(delta);
-        return delta2.sum();
+        return distance2I(vector);
     }
 
     @Override
     public Integer length2() {
-        return mul(this).sum();
+        return length2I();
     }
 
     @Override
     public Integer dot(Vector4I32 vector) {
-        return mul(vector).sum();
+        return dotI(vector);
     }
 
     @Override
     public Vector4I32 clamp(Integer min, Integer max) {
-        final int x = Math.clamp(x(), min, max);
-        final int y = Math.clamp(y(), min, max);
-        final int z = Math.clamp(z(), min, max);
-        final int w = Math.clamp(w(), min, max);
-        return v4(x, y, z, w);
+        return clampI(min, max);
     }
 
     @Override
     public boolean hasSameDirection(Vector4I32 vector) {
-        return dot(vector) > 0;
+        return dotI(vector) > 0;
     }
 
     @Override
     public boolean hasOppositeDirection(Vector4I32 vector) {
-        return dot(vector) < 0;
+        return dotI(vector) < 0;
+    }
+
+    /* ===== Primitive ===== */
+
+    /// {@link #sum()} without boxing.
+    public int sumI() {
+        return x() + y() + z() + w();
+    }
+
+    /// {@link #mul(Integer)} without boxing.
+    public Vector4I32 mulI(int scalar) {
+        return v4(x() * scalar, y() * scalar, z() * scalar, w() * scalar);
+    }
+
+    /// {@link #dot(Vector4I32)} without boxing.
+    public int dotI(Vector4I32 vector) {
+        return x() * vector.x() + y() * vector.y() + z() * vector.z() + w() * vector.w();
+    }
+
+    /// {@link #length2()} without boxing.
+    public int length2I() {
+        return x() * x() + y() * y() + z() * z() + w() * w();
+    }
+
+    /// {@link #distance2(Vector4I32)} without boxing.
+    public int distance2I(Vector4I32 vector) {
+        final int dx = x() - vector.x();
+        final int dy = y() - vector.y();
+        final int dz = z() - vector.z();
+        final int dw = w() - vector.w();
+        return dx * dx + dy * dy + dz * dz + dw * dw;
+    }
+
+    /// {@link #clamp(Integer, Integer)} without boxing.
+    public Vector4I32 clampI(int min, int max) {
+        final int x = Math.clamp(x(), min, max);
+        final int y = Math.clamp(y(), min, max);
+        final int z = Math.clamp(z(), min, max);
+        final int w = Math.clamp(w(), min, max);
+        return v4(x, y, z, w);
     }
 }
@@ -57,7 +57,7 @@ public value record Vector4I64(@NullRestricted Long x,
 
     @Override
     public Long sum() {
-        return x() + y() + z() + w();
+        return sumL();
     }
 
     @Override
@@ -89,7 +89,7 @@ public value record Vector4I64(@NullRestricted Long x,
 
     @Override
     public Vector4I64 mul(Long scalar) {
-        return mul(v4(scalar, scalar, scalar, scalar));
+        return mulL(scalar);
     }
 
     @Override
@@ -154,37 +154,71 @@ public value record Vector4I64(@NullRestricted Long x,
 
     @Override
     public Long distance2(Vector4I64 vector) {
-        final var delta = sub(vector);
-        final var delta2 = delta.mul(delta);
-        return delta2.sum();
+        return distance2L(vector);
     }
 
     @Override
     public Long length2() {
-        return mul(this).sum();
+        return length2L();
     }
 
     @Override
     public Long dot(Vector4I64 vector) {
-        return mul(vector).sum();
+        return dotL(vector);
     }
 
     @Override
     public Vector4I64 clamp(Long min, Long max) {
-        final long x = Math.clamp(x(), min, max);
-        final long y = Math.clamp(y(), min, max);
-        final long z = Math.clamp(z(), min, max);
-        final long w = Math.clamp(w(), min, max);
-        return v4(x, y, z, w);
+        return clampL(min, max);
     }
 
     @Override
     public boolean hasSameDirection(Vector4I64 vector) {
-        return dot(vector) > 0;
+        return dotL(vector) > 0;
     }
 
     @Override
     public boolean hasOppositeDirection(Vector4I64 vector) {
-        return dot(vector) < 0;
+        return dotL(vector) < 0;
+    }
+
+    /* ===== Primitive ===== */
+
+    /// {@link #sum()} without boxing.
+    public long sumL() {
+        return x() + y() + z() + w();
+    }
+
+    /// {@link #mul(Long)} without boxing.
+    public Vector4I64 mulL(long scalar) {
+        return v4(x() * scalar, y() * scalar, z() * scalar, w() * scalar);
+    }
+
+    /// {@link #dot(Vector4I64)} without boxing.
+    public long dotL(Vector4I64 vector) {
+        return x() * vector.x() + y() * vector.y() + z() * vector.z() + w() * vector.w();
+    }
+
+    /// {@link #length2()} without boxing.
+    public long length2L() {
+        return x() * x() + y() * y() + z() * z() + w() * w();
+    }
+
+    /// {@link #distance2(Vector4I64)} without boxing.
+    public long distance2L(Vector4I64 vector) {
+        final long dx = x() - vector.x();
+        final long dy = y() - vector.y();
+        final long dz = z() - vector.z();
+        final long dw = w() - vector.w();
+        return dx * dx + dy * dy + dz * dz + dw * dw;
+    }
+
+    /// {@link #clamp(Long, Long)} without boxing.
+    public Vector4I64 clampL(long min, long max) {
+        final long x = Math.clamp(x(), min, max);
+        final long y = Math.clamp(y(), min, max);
+        final long z = Math.clamp(z(), min, max);
+        final long w = Math.clamp(w(), min, max);
+        return v4(x, y, z, w);
     }
 }
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.animation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.rotation.QuaternionF32;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import java.util.Arrays;
+import java.util.Random;
+import static org.lidiuma.math.rotation.Radians.degrees;
+
+/// Checks the keyframe seeking of {@link Track} from every hint, the {@link TrackCursor} and {@link AnimationClip.Cursor} caching,
+/// and the interpolated values against known ones.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class TrackTest {
+
+    /// Unevenly spaced, so a wrong interval gives a wrong value.
+    private static final float[] TIMES = {0f, 0.5f, 1.25f, 2f, 3.5f, 4f};
+    /// The sampled times, from before the first keyframe to after the last one, hitting every keyframe exactly.
+    private static final float STEP = 0.125f;
+    private static final Vector3F32 Z = new Vector3F32(0f, 0f, 1f);
+
+    /// @return A translation track with random values at {@link #TIMES}.
+    private static Track randomTrack(Random random, Interpolation interpolation) {
+        final float[] values = new float[TIMES.length * 3];
+        for (int i = 0; i < values.length; i++) values[i] = random.nextFloat(-10, 10);
+        return new Track(0, Channel.TRANSLATION, interpolation, TIMES, values);
+    }
+
+    /// @return The interval a seek must find, by a linear scan.
+    private static int expectedKey(Track track, float time) {
+        int key = 0;
+        while (key + 1 < track.keys() - 1 && track.time(key + 1) <= time) key++;
+        return key;
+    }
+
+    /// The quaternions `q` and `-q` are the same rotation.
+    private static void assertSameRotation(QuaternionF32 expected, QuaternionF32 actual, float delta) {
+        Assertions.assertEquals(1f, Math.abs(expected.dot(actual)), delta, () -> expected + " != " + actual);
+    }
+
+    private static QuaternionF32 rotationZ(double degrees) {
+        return QuaternionF32.fromAxisAngle(Z, degrees(degrees));
+    }
+
+    private static float[] pack(QuaternionF32... quaternions) {
+        final float[] values = new float[quaternions.length * 4];
+        for (int i = 0; i < quaternions.length; i++) {
+            values[i * 4] = quaternions[i].x();
+            values[i * 4 + 1] = quaternions[i].y();
+            values[i * 4 + 2] = quaternions[i].z();
+            values[i * 4 + 3] = quaternions[i].w();
+        }
+        return values;
+    }
+
+    @Test
+    void testSeek() {
+        final var track = randomTrack(new Random(23), Interpolation.LINEAR);
+        // Every hint, valid or not, must give the same interval.
+        for (float time = -1f; time <= 5f; time += STEP) {
+            final int expected = expectedKey(track, time);
+            for (int hint = -2; hint <= TIMES.length + 1; hint++) {
+                final float t = time;
+                final int h = hint;
+                Assertions.assertEquals(expected, track.seek(time, hint), () -> "time " + t + ", hint " + h);
+            }
+        }
+        Assertions.assertEquals(0, track.seek(Float.NEGATIVE_INFINITY, 3));
+        Assertions.assertEquals(TIMES.length - 2, track.seek(Float.POSITIVE_INFINITY, 0));
+
+        final var single = new Track(2, Channel.SCALE, Interpolation.CUBIC, new float[]{1f}, new float[]{2f, 3f, 4f});
+        final var cursor = new TrackCursor(single);
+        for (float time = -1f; time <= 3f; time += STEP) {
+            Assertions.assertEquals(0, single.seek(time, 1));
+            Assertions.assertEquals(new Vector3F32(2f, 3f, 4f), cursor.vector(time));
+        }
+    }
+
+    /// Samples the times in order with a cursor, checking each value against a fresh seek.
+    private static void assertCursor(Track track, TrackCursor cursor, float[] times) {
+        for (final float time : times) {
+            final var expected = track.vector(time, expectedKey(track, time));
+            Assertions.assertEquals(expected, cursor.vector(time), () -> "time " + time);
+        }
+    }
+
+    @Test
+    void testCursor() {
+        final var random = new Random(230);
+        for (final var interpolation : Interpolation.values()) {
+            final var track = randomTrack(random, interpolation);
+            final var cursor = new TrackCursor(track);
+            final int count = (int) (6f / STEP);
+            final float[] forward = new float[count], backward = new float[count], jumps = new float[count];
+            for (int i = 0; i < count; i++) {
+                forward[i] = -1f + i * STEP;
+                backward[i] = 5f - i * STEP;
+                jumps[i] = random.nextFloat(-1f, 5f);
+            }
+            assertCursor(track, cursor, forward);
+            assertCursor(track, cursor, backward);
+            assertCursor(track, cursor, jumps);
+            cursor.reset();
+            assertCursor(track, cursor, jumps);
+        }
+    }
+
+    @Test
+    void testKnownValues() {
+        final float[] times = {1f, 2f, 4f};
+        final float[] values = {0f, 0f, 0f, 2f, 4f, 6f, 6f, 8f, 10f};
+        final var step = new TrackCursor(new Track(0, Channel.TRANSLATION, Interpolation.STEP, times, values));
+        final var linear = new TrackCursor(new Track(0, Channel.TRANSLATION, Interpolation.LINEAR, times, values));
+        final var cubic = new TrackCursor(new Track(0, Channel.TRANSLATION, Interpolation.CUBIC, times, values));
+
+        // The ends hold their values.
+        Assertions.assertEquals(new Vector3F32(0f, 0f, 0f), linear.vector(0f));
+        Assertions.assertEquals(new Vector3F32(6f, 8f, 10f), linear.vector(5f));
+        Assertions.assertEquals(new Vector3F32(6f, 8f, 10f), cubic.vector(5f));
+
+        Assertions.assertEquals(new Vector3F32(2f, 4f, 6f), step.vector(3.5f));
+        Assertions.assertEquals(new Vector3F32(1f, 2f, 3f), linear.vector(1.5f));
+        Assertions.assertEquals(new Vector3F32(5f, 7f, 9f), linear.vector(3.5f));
+        // Every interpolation passes through the keyframes.
+        for (int key = 0; key < times.length; key++) {
+            final var expected = new Vector3F32(values[key * 3], values[key * 3 + 1], values[key * 3 + 2]);
+            Assertions.assertEquals(expected, step.vector(times[key]));
+            Assertions.assertEquals(expected, linear.vector(times[key]));
+            Assertions.assertEquals(expected, cubic.vector(times[key]));
+        }
+
+        final var rotation = new TrackCursor(new Track(1, Channel.ROTATION, Interpolation.LINEAR, times, pack(rotationZ(0), rotationZ(40), rotationZ(120))));
+        assertSameRotation(rotationZ(20), rotation.rotation(1.5f), 1e-6f);
+        assertSameRotation(rotationZ(100), rotation.rotation(3.5f), 1e-6f);
+        Assertions.assertThrows(IllegalStateException.class, () -> rotation.vector(1.5f));
+        Assertions.assertThrows(IllegalStateException.class, () -> linear.rotation(1.5f));
+    }
+
+    @Test
+    void testCubicHemisphere() {
+        final float[] times = {0f, 1f, 2f, 3f, 4f};
+        final var keys = new QuaternionF32[]{rotationZ(0), rotationZ(60), rotationZ(120), rotationZ(180), rotationZ(240)};
+        final var cubic = new TrackCursor(new Track(0, Channel.ROTATION, Interpolation.CUBIC, times, pack(keys)));
+        // The same rotations, with every other keyframe in the opposite hemisphere.
+        final var flippedKeys = keys.clone();
+        flippedKeys[1] = flippedKeys[1].mul(-1f);
+        flippedKeys[3] = flippedKeys[3].mul(-1f);
+        final var flipped = new TrackCursor(new Track(0, Channel.ROTATION, Interpolation.CUBIC, times, pack(flippedKeys)));
+
+        for (float time = 0f; time <= 4f; time += STEP) {
+            final var expected = cubic.rotation(time);
+            assertSameRotation(expected, flipped.rotation(time), 1e-6f);
+            // The keyframes are evenly spaced, so the spline turns at a constant rate too, up to the one-sided end tangents.
+            assertSameRotation(rotationZ(60 * time), expected, 1e-3f);
+            Assertions.assertEquals(1f, expected.length(), 1e-6f);
+        }
+    }
+
+    @Test
+    void testClipCursor() {
+        final var random = new Random(231);
+        final var translation = randomTrack(random, Interpolation.CUBIC);
+        final var rotation = new Track(1, Channel.ROTATION, Interpolation.LINEAR, new float[]{0f, 3f}, pack(rotationZ(10), rotationZ(100)));
+        final var clip = new AnimationClip(translation, rotation);
+        Assertions.assertEquals(2, clip.bones());
+        Assertions.assertEquals(4f, clip.duration());
+
+        final var cursor = clip.cursor();
+        final var translationCursor = new TrackCursor(translation);
+        final var rotationCursor = new TrackCursor(rotation);
+        final float[] translations = new float[6], rotations = new float[8], scales = new float[6];
+        final float[] expectedTranslation = new float[3], expectedRotation = new float[4];
+        for (int i = 0; i < 100; i++) {
+            final float time = random.nextFloat(-1f, 5f);
+            clip.sampleAll(time, cursor, translations, rotations, scales);
+            translationCursor.sample(time, expectedTranslation, 0);
+            rotationCursor.sample(time, expectedRotation, 0);
+            Assertions.assertArrayEquals(expectedTranslation, Arrays.copyOfRange(translations, 0, 3));
+            Assertions.assertArrayEquals(expectedRotation, Arrays.copyOfRange(rotations, 4, 8));
+        }
+        // The channels and bones without a track are left alone.
+        Assertions.assertArrayEquals(new float[6], scales);
+
+        // Another clip with as many tracks must not share the cursor.
+        final var other = new AnimationClip(rotation, translation);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> clip.sampleAll(1f, other.cursor(), translations, rotations, scales));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> clip.sampleAll(1f, cursor, translations, new float[4], scales));
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.curve;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.vector.v2.Vector2F32;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import org.lidiuma.math.vector.v3.Vector3F64Buffer;
+import java.lang.foreign.Arena;
+import java.util.Random;
+
+/// Checks that each {@link SplineType} passes through its expected points, and the arc-length table
+/// and nearest point queries against a dense polyline of the curve.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class SplineTest {
+
+    /// The polyline segments of each spline segment, enough for its length to match the table to about `1e-9`.
+    private static final int POLYLINE = 20_000;
+
+    private static Vector3F64 randomPoint(Random random) {
+        return new Vector3F64(random.nextDouble(-10, 10), random.nextDouble(-10, 10), random.nextDouble(-10, 10));
+    }
+
+    private static Vector3F64[] randomPoints(Random random, int count) {
+        final var points = new Vector3F64[count];
+        for (int i = 0; i < count; i++) points[i] = randomPoint(random);
+        return points;
+    }
+
+    private static void assertClose(Vector3F64 expected, Vector3F64 actual, double delta) {
+        Assertions.assertEquals(expected.x(), actual.x(), delta, () -> expected + " != " + actual);
+        Assertions.assertEquals(expected.y(), actual.y(), delta, () -> expected + " != " + actual);
+        Assertions.assertEquals(expected.z(), actual.z(), delta, () -> expected + " != " + actual);
+    }
+
+    /// @return The point at the angle of a helix around z, climbing 3 per radian.
+    private static Vector3F64 helix(double angle) {
+        return new Vector3F64(10 * Math.cos(angle), 10 * Math.sin(angle), 3 * angle);
+    }
+
+    /// @return A spline of the type through or around noisy points of a helix, a fraction of a turn apart,
+    /// so the curve has no cusp or loop the default resolution could miss.
+    private static Spline3F64 smoothSpline(Random random, SplineType type) {
+        final double angle = 0.6;
+        final var points = new Vector3F64[type == SplineType.HERMITE ? 5 : 10];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = helix(i * angle).add(new Vector3F64(random.nextDouble(-1, 1), random.nextDouble(-1, 1), random.nextDouble(-1, 1)));
+        }
+        if (type != SplineType.HERMITE) return Spline3F64.of(type, points);
+        final var tangents = new Vector3F64[points.length];
+        for (int i = 0; i < points.length; i++) {
+            tangents[i] = new Vector3F64(-10 * Math.sin(i * angle), 10 * Math.cos(i * angle), 3.0).mulD(angle);
+        }
+        return Spline3F64.hermite(points, tangents);
+    }
+
+    /// @return The length of the polyline through `POLYLINE` evenly spaced parameters per segment, from `0` to `u`.
+    /// The joints of the segments are vertices, so it does not cut the corners of the Bézier joints.
+    private static double polylineLength(Spline3F64 spline, double u) {
+        final int segments = spline.segments();
+        double length = 0;
+        var previous = spline.at(0);
+        for (int segment = 0; segment < u * segments; segment++) {
+            final double start = (double) segment / segments, end = Math.min((segment + 1d) / segments, u);
+            for (int i = 1; i <= POLYLINE; i++) {
+                final var point = spline.at(start + (end - start) * i / POLYLINE);
+                length += point.distanceD(previous);
+                previous = point;
+            }
+        }
+        return length;
+    }
+
+    @Test
+    void testCatmullRom() {
+        final var random = new Random(24);
+        final var points = randomPoints(random, 6);
+        final var spline = Spline3F64.catmullRom(points);
+        Assertions.assertEquals(3, spline.segments());
+        // The first and last points only shape the tangents.
+        for (int k = 0; k <= 3; k++) {
+            assertClose(points[k + 1], spline.at(k / 3d), 1e-14);
+            // The tangent is half the chord of the neighbours, times the segments from the chain rule of `u`.
+            assertClose(points[k + 2].sub(points[k]).mulD(1.5), spline.tangent(k / 3d), 1e-13);
+        }
+        // Evenly spaced points on a line give a line at constant speed.
+        final var line = Spline3F64.catmullRom(new Vector3F64(-1.0, 0.0, 0.0), new Vector3F64(0.0, 0.0, 0.0), new Vector3F64(1.0, 0.0, 0.0), new Vector3F64(2.0, 0.0, 0.0));
+        assertClose(new Vector3F64(0.25, 0.0, 0.0), line.at(0.25), 1e-15);
+        Assertions.assertEquals(1, line.length(), 1e-15);
+    }
+
+    @Test
+    void testBezier() {
+        final var random = new Random(240);
+        final var points = randomPoints(random, 7);
+        final var spline = Spline3F64.bezier(points);
+        Assertions.assertEquals(2, spline.segments());
+        assertClose(points[0], spline.at(0), 1e-14);
+        assertClose(points[3], spline.at(0.5), 1e-14);
+        assertClose(points[6], spline.at(1), 1e-14);
+        // The end tangents point to the inner control points.
+        assertClose(points[1].sub(points[0]).mulD(6), spline.tangent(0), 1e-13);
+        assertClose(points[6].sub(points[5]).mulD(6), spline.tangent(1), 1e-13);
+        // The midpoint of a segment is the de Casteljau one.
+        final var midpoint = points[0].add(points[1].mulD(3)).add(points[2].mulD(3)).add(points[3]).mulD(1 / 8d);
+        assertClose(midpoint, spline.at(0.25), 1e-14);
+    }
+
+    @Test
+    void testHermite() {
+        final var random = new Random(241);
+        final var points = randomPoints(random, 4);
+        final var tangents = randomPoints(random, 4);
+        final var spline = Spline3F64.hermite(points, tangents);
+        Assertions.assertEquals(3, spline.segments());
+        for (int k = 0; k <= 3; k++) {
+            assertClose(points[k], spline.at(k / 3d), 1e-14);
+            assertClose(tangents[k].mulD(3), spline.tangent(k / 3d), 1e-13);
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Spline3F64.hermite(points, new Vector3F64[3]));
+    }
+
+    @Test
+    void testBSpline() {
+        final var random = new Random(242);
+        final var points = randomPoints(random, 5);
+        final var spline = Spline3F64.bSpline(points);
+        Assertions.assertEquals(2, spline.segments());
+        // The curve does not pass through the points, but through their `1, 4, 1` averages.
+        for (int k = 0; k <= 2; k++) {
+            final var expected = points[k].add(points[k + 1].mulD(4)).add(points[k + 2]).mulD(1 / 6d);
+            assertClose(expected, spline.at(k / 2d), 1e-14);
+        }
+    }
+
+    @Test
+    void testInvalidControls() {
+        final var points = randomPoints(new Random(243), 6);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Spline3F64.catmullRom(points[0], points[1], points[2]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Spline3F64.bezier(points));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Spline3F64.of(SplineType.HERMITE, points[0], points[1], points[2], points[3], points[4]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Spline3F64.of(SplineType.CATMULL_ROM, points, 0));
+        Assertions.assertEquals(3, SplineType.CATMULL_ROM.segments(6));
+        Assertions.assertEquals(2, SplineType.HERMITE.segments(6));
+    }
+
+    @Test
+    void testArcLength() {
+        final var random = new Random(244);
+        for (final var type : SplineType.values()) {
+            final var spline = smoothSpline(random, type);
+            final double length = spline.length();
+            Assertions.assertEquals(polylineLength(spline, 1), length, length * 1e-7, type::toString);
+            // The table is exact at its steps, and its inverse is exact everywhere.
+            final int steps = spline.segments() * SplineType.DEFAULT_RESOLUTION;
+            for (int step = 0; step <= steps; step += 5) {
+                Assertions.assertEquals(polylineLength(spline, (double) step / steps), spline.distanceAt((double) step / steps), length * 1e-7, type::toString);
+            }
+            for (int i = 0; i < 100; i++) {
+                final double u = random.nextDouble();
+                Assertions.assertEquals(u, spline.parameterAt(spline.distanceAt(u)), 1e-14, type::toString);
+                final double distance = random.nextDouble(length);
+                Assertions.assertEquals(distance, spline.distanceAt(spline.parameterAt(distance)), length * 1e-14, type::toString);
+            }
+            Assertions.assertEquals(0, spline.parameterAt(-1));
+            Assertions.assertEquals(1, spline.parameterAt(length + 1));
+        }
+    }
+
+    @Test
+    void testSample() {
+        final var spline = Spline3F64.catmullRom(randomPoints(new Random(245), 8));
+        final int count = 33;
+        try (final var arena = Arena.ofConfined()) {
+            final var buffer = Vector3F64Buffer.allocate(arena, count + 1);
+            spline.sample(buffer, 1, count);
+            assertClose(spline.at(0), buffer.get(1), 1e-12);
+            assertClose(spline.at(1), buffer.get(count), 1e-12);
+            for (int i = 0; i < count; i++) assertClose(spline.atDistance(spline.length() * i / (count - 1)), buffer.get(i + 1), 1e-12);
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> spline.sample(buffer, 2, count));
+        }
+    }
+
+    @Test
+    void testNearest() {
+        final var random = new Random(246);
+        final var spline = Spline3F64.catmullRom(randomPoints(random, 8));
+        final int count = POLYLINE * spline.segments();
+        final var samples = new Vector3F64[count + 1];
+        for (int i = 0; i <= count; i++) samples[i] = spline.at((double) i / count);
+        for (int i = 0; i < 100; i++) {
+            final var point = randomPoint(random);
+            double closest = Double.POSITIVE_INFINITY;
+            for (final var sample : samples) closest = Math.min(closest, sample.distanceD(point));
+            final double bruteForce = closest;
+            // Newton's method refines beyond the samples, so it can only be closer.
+            final double distance = spline.at(spline.nearest(point)).distanceD(point);
+            final int index = i;
+            Assertions.assertTrue(distance <= bruteForce + 1e-12, () -> "point " + index + ": " + distance + " > " + bruteForce);
+            Assertions.assertEquals(bruteForce, distance, 1e-6);
+            // A point on the curve is its own nearest point.
+            final double u = random.nextDouble();
+            Assertions.assertEquals(0, spline.at(spline.nearest(spline.at(u))).distanceD(spline.at(u)), 1e-9);
+        }
+    }
+
+    @Test
+    void testF32() {
+        final var random = new Random(247);
+        for (final var type : SplineType.values()) {
+            final var points = randomPoints(random, 10);
+            final var pointsF32 = new Vector3F32[points.length];
+            final var pointsF2 = new Vector2F32[points.length];
+            final var flat = new Vector3F64[points.length];
+            for (int i = 0; i < points.length; i++) {
+                pointsF32[i] = points[i].asF32();
+                pointsF2[i] = new Vector2F32(pointsF32[i].x(), pointsF32[i].y());
+                final var point = pointsF32[i].asF64();
+                flat[i] = new Vector3F64(point.x(), point.y(), 0.0);
+            }
+            final var spline = Spline3F64.of(type, points);
+            final var splineF32 = Spline3F32.of(type, pointsF32);
+            final var spline2F32 = Spline2F32.of(type, pointsF2);
+            final var flatSpline = Spline3F64.of(type, flat);
+            Assertions.assertEquals(spline.length(), splineF32.length(), spline.length() * 1e-5, type::toString);
+            Assertions.assertEquals(flatSpline.length(), spline2F32.length(), flatSpline.length() * 1e-5, type::toString);
+            for (int i = 0; i < 100; i++) {
+                final float u = random.nextFloat();
+                assertClose(spline.at(u), splineF32.at(u).asF64(), 1e-4);
+                final var point2 = spline2F32.at(u).asF64();
+                assertClose(flatSpline.at(u), new Vector3F64(point2.x(), point2.y(), 0.0), 1e-4);
+                Assertions.assertEquals(u, splineF32.parameterAt(splineF32.distanceAt(u)), 1e-6f, type::toString);
+            }
+        }
+    }
+}
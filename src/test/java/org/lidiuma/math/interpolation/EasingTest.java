@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.interpolation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import java.util.function.Function;
+import static org.lidiuma.math.vector.Vectors.*;
+
+/// Checks every {@link Easing} against known values and its symmetries, the baked lookup tables,
+/// and the primitive `interpolate` overloads of the vectors against the boxed ones.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class EasingTest {
+
+    @Test
+    void testEnds() {
+        for (final var easing : Easing.values()) {
+            Assertions.assertEquals(0, easing.apply(0d), easing.name());
+            Assertions.assertEquals(1, easing.apply(1d), easing.name());
+            Assertions.assertEquals(0f, easing.apply(0f), easing.name());
+            Assertions.assertEquals(1f, easing.apply(1f), easing.name());
+        }
+    }
+
+    @Test
+    void testKnownValues() {
+        Assertions.assertEquals(0.15625, Easing.SMOOTHSTEP.apply(0.25));
+        Assertions.assertEquals(0.5, Easing.SMOOTHERSTEP.apply(0.5));
+        Assertions.assertEquals(0.125, Easing.QUAD_IN_OUT.apply(0.25));
+        Assertions.assertEquals(0.875, Easing.CUBIC_OUT.apply(0.5));
+        Assertions.assertEquals(0.03125, Easing.QUINT_IN.apply(0.5));
+        Assertions.assertEquals(0.5, Easing.SINE_OUT.apply(1 / 3d), 1e-15);
+        Assertions.assertEquals(0.03125, Easing.EXP_IN.apply(0.5));
+        Assertions.assertEquals(0.96875, Easing.EXP_OUT.apply(0.5));
+        // Half a period after the last peak, the spring is at half its amplitude of `1 / 32`.
+        Assertions.assertEquals(-0.015625, Easing.ELASTIC_IN.apply(0.5), 1e-15);
+        Assertions.assertEquals(1.015625, Easing.ELASTIC_OUT.apply(0.5), 1e-15);
+        // The ball touches the ground at the end of each bounce.
+        Assertions.assertEquals(1, Easing.BOUNCE_OUT.apply(1 / 2.75), 1e-15);
+        Assertions.assertEquals(1, Easing.BOUNCE_OUT.apply(2 / 2.75), 1e-15);
+
+        Assertions.assertEquals(0.125f, FloatInterpolator.powIn(3).apply(0.5f));
+        Assertions.assertEquals(0.875f, FloatInterpolator.powOut(3).apply(0.5f));
+        Assertions.assertEquals(0.0625, DoubleInterpolator.powInOut(3).apply(0.25));
+    }
+
+    @Test
+    void testSymmetry() {
+        for (final var easing : Easing.values()) {
+            final String name = easing.name();
+            for (int i = 0; i <= 100; i++) {
+                final double alpha = i / 100d;
+                if (name.endsWith("_IN")) {
+                    // Each curve in is the curve out played backwards and upside down.
+                    final var out = Easing.valueOf(name.substring(0, name.length() - 3) + "_OUT");
+                    Assertions.assertEquals(1 - out.apply(1 - alpha), easing.apply(alpha), 1e-14, name);
+                } else if (!name.endsWith("_OUT")) {
+                    // The others are symmetric around the middle.
+                    Assertions.assertEquals(1, easing.apply(alpha) + easing.apply(1 - alpha), 1e-14, name);
+                }
+            }
+        }
+        Assertions.assertEquals(Easing.CUBIC_IN.apply(0.3), DoubleInterpolator.powIn(3).apply(0.3), 1e-15);
+        Assertions.assertEquals(Easing.CUBIC_OUT.apply(0.3), DoubleInterpolator.powOut(3).apply(0.3), 1e-15);
+        Assertions.assertEquals(Easing.CUBIC_IN_OUT.apply(0.7), DoubleInterpolator.powInOut(3).apply(0.7), 1e-15);
+    }
+
+    @Test
+    void testBake() {
+        final var baked = FloatInterpolator.bake(Easing.SMOOTHSTEP, 1025);
+        final var bakedF64 = DoubleInterpolator.bake(Easing.SMOOTHSTEP, 1025);
+        // The table steps are exact.
+        Assertions.assertEquals(Easing.SMOOTHSTEP.apply(0.25f), baked.apply(0.25f));
+        Assertions.assertEquals(Easing.SMOOTHSTEP.apply(0.25), bakedF64.apply(0.25), 1e-15);
+        // Between them, the linear interpolation misses by at most `step² / 8` times the curvature, `6` for the smoothstep.
+        for (int i = 0; i <= 1000; i++) {
+            final float alpha = i / 1000f;
+            Assertions.assertEquals(Easing.SMOOTHSTEP.apply(alpha), baked.apply(alpha), 1e-6f);
+            Assertions.assertEquals(Easing.SMOOTHSTEP.apply((double) alpha), bakedF64.apply(alpha), 1e-6);
+        }
+        // The table clamps the alpha.
+        Assertions.assertEquals(1f, baked.apply(2f));
+        Assertions.assertEquals(0f, baked.apply(-1f));
+    }
+
+    @Test
+    void testVectorInterpolate() {
+        final float[] alphas = {0f, 0.3f, 0.5f, 0.8f, 1f};
+        for (final var easing : Easing.values()) {
+            final Function<Float, Float> boxed = alpha -> easing.apply(alpha.floatValue());
+            final Function<Double, Double> boxedF64 = alpha -> easing.apply(alpha.doubleValue());
+            for (final float alpha : alphas) {
+                final String message = easing.name() + " " + alpha;
+                Assertions.assertEquals(v1(1f).interpolate(v1(-4f), (Float) alpha, boxed), v1(1f).interpolate(v1(-4f), alpha, easing), message);
+                Assertions.assertEquals(v2(1f, 2f).interpolate(v2(-4f, 8f), (Float) alpha, boxed), v2(1f, 2f).interpolate(v2(-4f, 8f), alpha, easing), message);
+                Assertions.assertEquals(v3(1f, 2f, 3f).interpolate(v3(-4f, 8f, 0.5f), (Float) alpha, boxed), v3(1f, 2f, 3f).interpolate(v3(-4f, 8f, 0.5f), alpha, easing), message);
+                Assertions.assertEquals(v4(1f, 2f, 3f, 4f).interpolate(v4(-4f, 8f, 0.5f, -2f), (Float) alpha, boxed), v4(1f, 2f, 3f, 4f).interpolate(v4(-4f, 8f, 0.5f, -2f), alpha, easing), message);
+
+                final double alphaF64 = alpha;
+                Assertions.assertEquals(v1(1d).interpolate(v1(-4d), (Double) alphaF64, boxedF64), v1(1d).interpolate(v1(-4d), alphaF64, easing), message);
+                Assertions.assertEquals(v2(1d, 2d).interpolate(v2(-4d, 8d), (Double) alphaF64, boxedF64), v2(1d, 2d).interpolate(v2(-4d, 8d), alphaF64, easing), message);
+                Assertions.assertEquals(v3(1d, 2d, 3d).interpolate(v3(-4d, 8d, 0.5), (Double) alphaF64, boxedF64), v3(1d, 2d, 3d).interpolate(v3(-4d, 8d, 0.5), alphaF64, easing), message);
+                Assertions.assertEquals(v4(1d, 2d, 3d, 4d).interpolate(v4(-4d, 8d, 0.5, -2d), (Double) alphaF64, boxedF64), v4(1d, 2d, 3d, 4d).interpolate(v4(-4d, 8d, 0.5, -2d), alphaF64, easing), message);
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.matrix;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.rotation.Quaternion;
+import org.lidiuma.math.rotation.Radians;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import java.util.Random;
+
+/// Checks the 3x4 affine arithmetic against the full {@link Matrix4F32} and {@link Matrix4F64} one.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class Affine4Test {
+
+    private static final int TRANSFORMS = 500;
+    /// Relative tolerance of the `float` products, the translations go up to 100.
+    private static final double F32_TOLERANCE = 1e-5;
+    /// Relative tolerance of the `float` inversions, which expand the determinant differently than the 4x4 code.
+    private static final double F32_INVERT_TOLERANCE = 1e-4;
+    private static final double F64_TOLERANCE = 1e-12;
+
+    private static Vector3F32 randomVector(Random random, float bound) {
+        return new Vector3F32(
+                (random.nextFloat() * 2f - 1f) * bound,
+                (random.nextFloat() * 2f - 1f) * bound,
+                (random.nextFloat() * 2f - 1f) * bound
+        );
+    }
+
+    private static Quaternion randomRotation(Random random) {
+        final var axis = randomVector(random, 1f).asF64();
+        return Quaternion.fromAxisAngle(axis.isZero(1e-3) ? new Vector3F64(0d, 1d, 0d) : axis, Radians.radians(random.nextDouble(-Math.PI, Math.PI)));
+    }
+
+    private static Vector3F32 randomScale(Random random) {
+        return new Vector3F32(0.5f + random.nextFloat() * 2f, 0.5f + random.nextFloat() * 2f, 0.5f + random.nextFloat() * 2f);
+    }
+
+    private static double[] values(Matrix4F32 m) {
+        return values(m.asF64());
+    }
+
+    private static double[] values(Matrix4F64 m) {
+        return new double[] {
+                m.m00(), m.m01(), m.m02(), m.m03(),
+                m.m10(), m.m11(), m.m12(), m.m13(),
+                m.m20(), m.m21(), m.m22(), m.m23(),
+                m.m30(), m.m31(), m.m32(), m.m33()
+        };
+    }
+
+    private static void assertClose(double[] expected, double[] actual, double tolerance) {
+        for (int i = 0; i < expected.length; i++) {
+            Assertions.assertEquals(expected[i], actual[i], tolerance * Math.max(1d, Math.abs(expected[i])), "Element " + i);
+        }
+    }
+
+    @Test
+    void testFromTRS() {
+        final var random = new Random(8);
+        for (int i = 0; i < TRANSFORMS; i++) {
+            final var translation = randomVector(random, 100f);
+            final var rotation = randomRotation(random);
+            final var scale = randomScale(random);
+            assertClose(values(Matrix4F32.fromTRS(translation, rotation, scale)), values(Affine4F32.fromTRS(translation, rotation, scale).asMatrix4()), F32_TOLERANCE);
+            assertClose(
+                    values(Matrix4F64.fromTRS(translation.asF64(), rotation, scale.asF64())),
+                    values(Affine4F64.fromTRS(translation.asF64(), rotation, scale.asF64()).asMatrix4()),
+                    F64_TOLERANCE
+            );
+        }
+    }
+
+    @Test
+    void testMul() {
+        final var random = new Random(18);
+        for (int i = 0; i < TRANSFORMS; i++) {
+            final var a = Matrix4F32.fromTRS(randomVector(random, 100f), randomRotation(random), randomScale(random));
+            final var b = Matrix4F32.fromTRS(randomVector(random, 100f), randomRotation(random), randomScale(random));
+            final var affineA = Affine4F32.fromMatrix4(a);
+            final var affineB = Affine4F32.fromMatrix4(b);
+            assertClose(values(a.mul(b)), values(affineA.mul(affineB).asMatrix4()), F32_TOLERANCE);
+            assertClose(values(b.mul(a)), values(affineA.preMul(affineB).asMatrix4()), F32_TOLERANCE);
+            final var wideA = a.asF64();
+            final var wideB = b.asF64();
+            assertClose(values(wideA.mul(wideB)), values(Affine4F64.fromMatrix4(wideA).mul(Affine4F64.fromMatrix4(wideB)).asMatrix4()), F64_TOLERANCE);
+        }
+    }
+
+    @Test
+    void testInvert() {
+        final var random = new Random(28);
+        for (int i = 0; i < TRANSFORMS; i++) {
+            final var matrix = Matrix4F32.fromTRS(randomVector(random, 100f), randomRotation(random), randomScale(random));
+            assertClose(values(matrix.invert()), values(Affine4F32.fromMatrix4(matrix).invert().asMatrix4()), F32_INVERT_TOLERANCE);
+            final var wide = matrix.asF64();
+            assertClose(values(wide.invert()), values(Affine4F64.fromMatrix4(wide).invert().asMatrix4()), F64_TOLERANCE);
+        }
+    }
+
+    @Test
+    void testInvertRigid() {
+        final var random = new Random(38);
+        for (int i = 0; i < TRANSFORMS; i++) {
+            final var translation = randomVector(random, 100f);
+            final var rotation = randomRotation(random);
+            final var matrix = Matrix4F32.fromTR(translation, rotation);
+            assertClose(values(matrix.invert()), values(Affine4F32.fromTR(translation, rotation).invertRigid().asMatrix4()), F32_INVERT_TOLERANCE);
+            final var wide = Matrix4F64.fromTR(translation.asF64(), rotation);
+            assertClose(values(wide.invert()), values(Affine4F64.fromTR(translation.asF64(), rotation).invertRigid().asMatrix4()), F64_TOLERANCE);
+        }
+    }
+
+    @Test
+    void testTransform() {
+        final var random = new Random(48);
+        for (int i = 0; i < TRANSFORMS; i++) {
+            final var matrix = Matrix4F32.fromTRS(randomVector(random, 100f), randomRotation(random), randomScale(random));
+            final var affine = Affine4F32.fromMatrix4(matrix);
+            final var vector = randomVector(random, 50f);
+            final var expected = matrix.transform(vector);
+            final var actual = affine.transform(vector);
+            assertClose(
+                    new double[] {expected.x(), expected.y(), expected.z()},
+                    new double[] {actual.x(), actual.y(), actual.z()},
+                    F32_TOLERANCE
+            );
+        }
+    }
+
+    @Test
+    void testFromMatrix4() {
+        final var random = new Random(58);
+        final var matrix = Matrix4F32.fromTRS(randomVector(random, 100f), randomRotation(random), randomScale(random));
+        Assertions.assertEquals(matrix, Affine4F32.fromMatrix4(matrix).asMatrix4());
+        Assertions.assertEquals(matrix.asF64(), Affine4F64.fromMatrix4(matrix.asF64()).asMatrix4());
+        // Every element of the last row, one at a time, makes the matrix not affine.
+        for (int i = 0; i < 4; i++) {
+            final float[] row = {0f, 0f, 0f, 1f};
+            row[i] += 0.5f;
+            final var projective = new Matrix4F32(
+                    matrix.m00(), matrix.m01(), matrix.m02(), matrix.m03(),
+                    matrix.m10(), matrix.m11(), matrix.m12(), matrix.m13(),
+                    matrix.m20(), matrix.m21(), matrix.m22(), matrix.m23(),
+                    row[0], row[1], row[2], row[3]
+            );
+            Assertions.assertThrows(IllegalArgumentException.class, () -> Affine4F32.fromMatrix4(projective));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> Affine4F64.fromMatrix4(projective.asF64()));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Affine4F32.fromMatrix4(Matrix4F32.fromProjection(0.1f, 100f, Radians.degrees(60), 1.5f)));
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.matrix;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.rotation.Quaternion;
+import org.lidiuma.math.rotation.Radians;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F32Buffer;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import org.lidiuma.math.vector.v3.Vector3F64Buffer;
+import java.lang.foreign.Arena;
+import java.util.Arrays;
+import java.util.Random;
+
+/// Checks the batch transformations against the per-vector scalar ones, which are the reference implementation.\
+/// Unlike {@link Matrix4SimdTest} it runs without the vector module too, covering the scalar packed, strided and buffer loops.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class Matrix4BatchTest {
+
+    /// Not a multiple of any species length, so that the scalar tail of the SIMD loops runs too.
+    private static final int CAPACITY = 37;
+    /// The buffer range, starting and ending inside the buffer.
+    private static final int FROM = 5, COUNT = 23;
+    /// The packed layout, with padding between the vectors and before the first one.
+    private static final int OFFSET = 2, STRIDE = 5;
+    /// Tolerance, in ULPs, of the buffer batches, which may run the SIMD loop.
+    private static final int ULPS = 2;
+
+    private static Matrix4F32 randomMatrix(Random random) {
+        final var axis = new Vector3F64(random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+        final var rotation = Quaternion.fromAxisAngle(axis, Radians.radians(random.nextDouble(-Math.PI, Math.PI)));
+        final var scale = new Vector3F32(0.5f + random.nextFloat() * 2f, 0.5f + random.nextFloat() * 2f, 0.5f + random.nextFloat() * 2f);
+        final var translation = new Vector3F32(random.nextFloat(-100f, 100f), random.nextFloat(-100f, 100f), random.nextFloat(-100f, 100f));
+        final var projection = Matrix4F32.fromProjection(0.1f + random.nextFloat(), 100f + random.nextFloat() * 1000f, Radians.degrees(30 + random.nextInt(90)), 0.5f + random.nextFloat() * 2f);
+        return projection.mul(Matrix4F32.fromTRS(translation, rotation, scale));
+    }
+
+    private static Vector3F32 randomVector(Random random) {
+        return new Vector3F32(random.nextFloat(-50f, 50f), random.nextFloat(-50f, 50f), random.nextFloat(-50f, 50f));
+    }
+
+    /// @return `CAPACITY` vectors packed with {@link #OFFSET} and {@link #STRIDE}, the padding holds NaN.
+    private static float[] packed(Vector3F32[] vectors) {
+        final float[] packed = new float[OFFSET + CAPACITY * STRIDE];
+        Arrays.fill(packed, Float.NaN);
+        for (int i = 0; i < CAPACITY; i++) {
+            packed[OFFSET + i * STRIDE] = vectors[i].x();
+            packed[OFFSET + i * STRIDE + 1] = vectors[i].y();
+            packed[OFFSET + i * STRIDE + 2] = vectors[i].z();
+        }
+        return packed;
+    }
+
+    private static Vector3F32 unpack(float[] packed, int i) {
+        return new Vector3F32(packed[OFFSET + i * STRIDE], packed[OFFSET + i * STRIDE + 1], packed[OFFSET + i * STRIDE + 2]);
+    }
+
+    private static void assertPadding(float[] packed) {
+        for (int i = 0; i < packed.length; i++) {
+            if (i >= OFFSET && (i - OFFSET) % STRIDE < 3) continue;
+            Assertions.assertTrue(Float.isNaN(packed[i]), "padding " + i);
+        }
+    }
+
+    private static void assertUlps(Vector3F32 expected, Vector3F32 actual) {
+        final float[] e = {expected.x(), expected.y(), expected.z()}, a = {actual.x(), actual.y(), actual.z()};
+        for (int i = 0; i < 3; i++) {
+            final float tolerance = ULPS * Math.ulp(Math.max(Math.abs(e[i]), Math.abs(a[i])));
+            Assertions.assertEquals(e[i], a[i], tolerance, () -> expected + " != " + actual);
+        }
+    }
+
+    @Test
+    void testPacked() {
+        final var random = new Random(50);
+        final var m = randomMatrix(random);
+        final var vectors = new Vector3F32[CAPACITY];
+        for (int i = 0; i < CAPACITY; i++) vectors[i] = randomVector(random);
+        final float[] src = packed(vectors);
+
+        // A tight destination, then the source itself, in place.
+        final float[] dst = new float[CAPACITY * 3];
+        m.transformAll(src, OFFSET, STRIDE, dst, 0, 3, CAPACITY);
+        for (int i = 0; i < CAPACITY; i++) {
+            Assertions.assertEquals(m.scalarTransform(vectors[i]), new Vector3F32(dst[i * 3], dst[i * 3 + 1], dst[i * 3 + 2]));
+        }
+        final float[] transformed = src.clone(), projected = src.clone(), rotated = src.clone();
+        m.transformAll(transformed, OFFSET, STRIDE, transformed, OFFSET, STRIDE, CAPACITY);
+        m.projectAll(projected, OFFSET, STRIDE, projected, OFFSET, STRIDE, CAPACITY);
+        m.rotateAll(rotated, OFFSET, STRIDE, rotated, OFFSET, STRIDE, CAPACITY);
+        for (int i = 0; i < CAPACITY; i++) {
+            Assertions.assertEquals(m.scalarTransform(vectors[i]), unpack(transformed, i));
+            Assertions.assertEquals(m.scalarProject(vectors[i]), unpack(projected, i));
+            Assertions.assertEquals(m.scalarRotate(vectors[i]), unpack(rotated, i));
+        }
+        assertPadding(transformed);
+        assertPadding(projected);
+        assertPadding(rotated);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> m.transformAll(src, 0, 2, dst, 0, 3, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> m.transformAll(src, 0, 3, dst, 0, 3, -1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.transformAll(src, OFFSET, STRIDE, dst, 3, 3, CAPACITY));
+    }
+
+    @Test
+    void testPackedF64() {
+        final var random = new Random(51);
+        final var m = randomMatrix(random).asF64();
+        final var vectors = new Vector3F64[CAPACITY];
+        for (int i = 0; i < CAPACITY; i++) vectors[i] = randomVector(random).asF64();
+        final double[] packed = new double[OFFSET + CAPACITY * STRIDE];
+        Arrays.fill(packed, Double.NaN);
+        for (int i = 0; i < CAPACITY; i++) {
+            packed[OFFSET + i * STRIDE] = vectors[i].x();
+            packed[OFFSET + i * STRIDE + 1] = vectors[i].y();
+            packed[OFFSET + i * STRIDE + 2] = vectors[i].z();
+        }
+        final double[] transformed = packed.clone(), projected = packed.clone(), rotated = packed.clone();
+        m.transformAll(transformed, OFFSET, STRIDE, transformed, OFFSET, STRIDE, CAPACITY);
+        m.projectAll(projected, OFFSET, STRIDE, projected, OFFSET, STRIDE, CAPACITY);
+        m.rotateAll(rotated, OFFSET, STRIDE, rotated, OFFSET, STRIDE, CAPACITY);
+        for (int i = 0; i < CAPACITY; i++) {
+            final int index = OFFSET + i * STRIDE;
+            Assertions.assertEquals(m.scalarTransform(vectors[i]), new Vector3F64(transformed[index], transformed[index + 1], transformed[index + 2]));
+            Assertions.assertEquals(m.scalarProject(vectors[i]), new Vector3F64(projected[index], projected[index + 1], projected[index + 2]));
+            Assertions.assertEquals(m.scalarRotate(vectors[i]), new Vector3F64(rotated[index], rotated[index + 1], rotated[index + 2]));
+            Assertions.assertTrue(Double.isNaN(rotated[index + 3]) && Double.isNaN(rotated[index + 4]), "padding " + i);
+        }
+    }
+
+    @Test
+    void testBuffer() {
+        final var random = new Random(52);
+        final var m = randomMatrix(random);
+        try (final var arena = Arena.ofConfined()) {
+            final var src = Vector3F32Buffer.allocate(arena, CAPACITY);
+            final var dst = Vector3F32Buffer.allocate(arena, CAPACITY);
+            final var vectors = new Vector3F32[CAPACITY];
+            for (int i = 0; i < CAPACITY; i++) src.set(i, vectors[i] = randomVector(random));
+
+            // The scalar loop, whatever the platform.
+            m.scalarBatch(src, dst, FROM, FROM + COUNT, true, true);
+            for (int i = FROM; i < FROM + COUNT; i++) Assertions.assertEquals(m.scalarProject(vectors[i]), dst.get(i));
+            m.scalarBatch(src, dst, FROM, FROM + COUNT, false, false);
+            for (int i = FROM; i < FROM + COUNT; i++) Assertions.assertEquals(m.scalarRotate(vectors[i]), dst.get(i));
+            m.scalarBatch(src, dst, FROM, FROM + COUNT, true, false);
+            for (int i = FROM; i < FROM + COUNT; i++) Assertions.assertEquals(m.scalarTransform(vectors[i]), dst.get(i));
+
+            // The public batches, in place, leaving the vectors around the range untouched.
+            m.projectAll(src, src, FROM, COUNT);
+            for (int i = 0; i < CAPACITY; i++) {
+                if (i < FROM || i >= FROM + COUNT) Assertions.assertEquals(vectors[i], src.get(i));
+                else assertUlps(m.scalarProject(vectors[i]), src.get(i));
+            }
+            for (int i = 0; i < CAPACITY; i++) src.set(i, vectors[i]);
+            m.transformAll(src, src, FROM, COUNT);
+            for (int i = FROM; i < FROM + COUNT; i++) assertUlps(m.scalarTransform(vectors[i]), src.get(i));
+            m.rotateAll(dst, dst, 0, CAPACITY);
+            m.rotateAll(src, dst, FROM, COUNT);
+            for (int i = FROM; i < FROM + COUNT; i++) assertUlps(m.scalarRotate(src.get(i)), dst.get(i));
+
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.transformAll(src, dst, FROM, CAPACITY));
+        }
+    }
+
+    @Test
+    void testBufferF64() {
+        final var random = new Random(53);
+        final var m = randomMatrix(random).asF64();
+        try (final var arena = Arena.ofConfined()) {
+            final var src = Vector3F64Buffer.allocate(arena, CAPACITY);
+            final var dst = Vector3F64Buffer.allocate(arena, CAPACITY);
+            final var vectors = new Vector3F64[CAPACITY];
+            for (int i = 0; i < CAPACITY; i++) src.set(i, vectors[i] = randomVector(random).asF64());
+
+            m.scalarBatch(src, dst, FROM, FROM + COUNT, true, true);
+            for (int i = FROM; i < FROM + COUNT; i++) Assertions.assertEquals(m.scalarProject(vectors[i]), dst.get(i));
+            m.scalarBatch(src, dst, FROM, FROM + COUNT, false, false);
+            for (int i = FROM; i < FROM + COUNT; i++) Assertions.assertEquals(m.scalarRotate(vectors[i]), dst.get(i));
+
+            m.transformAll(src, src, FROM, COUNT);
+            for (int i = 0; i < CAPACITY; i++) {
+                if (i < FROM || i >= FROM + COUNT) Assertions.assertEquals(vectors[i], src.get(i));
+                else Assertions.assertEquals(m.scalarTransform(vectors[i]), src.get(i));
+            }
+        }
+    }
+}
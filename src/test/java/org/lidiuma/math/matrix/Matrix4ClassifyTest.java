@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.matrix;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.rotation.Quaternion;
+import org.lidiuma.math.rotation.Radians;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import java.util.Random;
+
+/// Checks {@link Matrix4F32#classify()} and {@link Matrix4F64#classify()}, and the cheaper inverses they pick, against the full {@link Matrix4F32#invert()}.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class Matrix4ClassifyTest {
+
+    private static final int TRANSFORMS = 500;
+    /// Relative tolerance of the `float` inverses, which expand the determinant differently than the 4x4 code.
+    private static final double F32_TOLERANCE = 1e-4;
+    private static final double F64_TOLERANCE = 1e-12;
+    /// A perspective term small enough to pass for rounding noise, but not for an affine last row.
+    private static final float F32_NEAR_AFFINE = 5e-6f;
+    private static final double F64_NEAR_AFFINE = 5e-10;
+
+    private static Vector3F32 randomVector(Random random, float bound) {
+        return new Vector3F32(
+                (random.nextFloat() * 2f - 1f) * bound,
+                (random.nextFloat() * 2f - 1f) * bound,
+                (random.nextFloat() * 2f - 1f) * bound
+        );
+    }
+
+    private static Quaternion randomRotation(Random random) {
+        final var axis = randomVector(random, 1f).asF64();
+        return Quaternion.fromAxisAngle(axis.isZero(1e-3) ? new Vector3F64(0d, 1d, 0d) : axis, Radians.radians(random.nextDouble(-Math.PI, Math.PI)));
+    }
+
+    private static Vector3F32 randomScale(Random random) {
+        return new Vector3F32(0.5f + random.nextFloat() * 2f, 0.5f + random.nextFloat() * 2f, 0.5f + random.nextFloat() * 2f);
+    }
+
+    /// @return The matrix with its last row replaced by `[near, near, near, 1]`.
+    private static Matrix4F32 nearAffine(Matrix4F32 m, float near) {
+        return new Matrix4F32(
+                m.m00(), m.m01(), m.m02(), m.m03(),
+                m.m10(), m.m11(), m.m12(), m.m13(),
+                m.m20(), m.m21(), m.m22(), m.m23(),
+                near, near, near, 1f
+        );
+    }
+
+    private static Matrix4F64 nearAffine(Matrix4F64 m, double near) {
+        return new Matrix4F64(
+                m.m00(), m.m01(), m.m02(), m.m03(),
+                m.m10(), m.m11(), m.m12(), m.m13(),
+                m.m20(), m.m21(), m.m22(), m.m23(),
+                near, near, near, 1d
+        );
+    }
+
+    private static double[] values(Matrix4F32 m) {
+        return values(m.asF64());
+    }
+
+    private static double[] values(Matrix4F64 m) {
+        return new double[] {
+                m.m00(), m.m01(), m.m02(), m.m03(),
+                m.m10(), m.m11(), m.m12(), m.m13(),
+                m.m20(), m.m21(), m.m22(), m.m23(),
+                m.m30(), m.m31(), m.m32(), m.m33()
+        };
+    }
+
+    private static void assertClose(double[] expected, double[] actual, double tolerance) {
+        for (int i = 0; i < expected.length; i++) {
+            Assertions.assertEquals(expected[i], actual[i], tolerance * Math.max(1d, Math.abs(expected[i])), "Element " + i);
+        }
+    }
+
+    @Test
+    void testClassify() {
+        final var translation = new Vector3F32(1f, -2f, 3f);
+        final var rotation = Quaternion.fromAxisAngle(new Vector3F64(1d, 2d, 3d), Radians.degrees(40));
+        final var scale = new Vector3F32(1f, 2f, 0.5f);
+        final var projection = Matrix4F32.fromProjection(0.1f, 100f, Radians.degrees(60), 1.5f);
+
+        Assertions.assertEquals(TransformKind.RIGID, Matrix4F32.identity().classify());
+        Assertions.assertEquals(TransformKind.RIGID, Matrix4F32.fromTR(translation, rotation).classify());
+        Assertions.assertEquals(TransformKind.AFFINE, Matrix4F32.fromTRS(translation, rotation, scale).classify());
+        Assertions.assertEquals(TransformKind.GENERAL, projection.classify());
+        Assertions.assertEquals(TransformKind.GENERAL, nearAffine(Matrix4F32.fromTR(translation, rotation), F32_NEAR_AFFINE).classify());
+
+        Assertions.assertEquals(TransformKind.RIGID, Matrix4F64.identity().classify());
+        Assertions.assertEquals(TransformKind.RIGID, Matrix4F64.fromTR(translation.asF64(), rotation).classify());
+        Assertions.assertEquals(TransformKind.AFFINE, Matrix4F64.fromTRS(translation.asF64(), rotation, scale.asF64()).classify());
+        Assertions.assertEquals(TransformKind.GENERAL, projection.asF64().classify());
+        Assertions.assertEquals(TransformKind.GENERAL, nearAffine(Matrix4F64.fromTR(translation.asF64(), rotation), F64_NEAR_AFFINE).classify());
+    }
+
+    @Test
+    void testNearAffine() {
+        // A translation along z with a perspective term along z, whose inverse has `1 / (1 - near * 100)` in the corner.
+        final var m = new Matrix4F32(
+                1f, 0f, 0f, 0f,
+                0f, 1f, 0f, 0f,
+                0f, 0f, 1f, 100f,
+                0f, 0f, F32_NEAR_AFFINE, 1f
+        );
+        Assertions.assertEquals(1 / (1 - F32_NEAR_AFFINE * 100d), m.invertClassified().m33(), 1e-6);
+        Assertions.assertThrows(IllegalArgumentException.class, m::invertAffine);
+        Assertions.assertThrows(IllegalArgumentException.class, m::invertRigid);
+
+        final var wide = new Matrix4F64(
+                1d, 0d, 0d, 0d,
+                0d, 1d, 0d, 0d,
+                0d, 0d, 1d, 100d,
+                0d, 0d, F64_NEAR_AFFINE, 1d
+        );
+        Assertions.assertEquals(1 / (1 - F64_NEAR_AFFINE * 100d), wide.invertClassified().m33(), 1e-14);
+        Assertions.assertThrows(IllegalArgumentException.class, wide::invertAffine);
+        Assertions.assertThrows(IllegalArgumentException.class, wide::invertRigid);
+    }
+
+    @Test
+    void testInvert() {
+        final var random = new Random(58);
+        for (int i = 0; i < TRANSFORMS; i++) {
+            final var translation = randomVector(random, 100f);
+            final var rotation = randomRotation(random);
+            final var scale = randomScale(random);
+            final var projection = Matrix4F32.fromProjection(0.1f + random.nextFloat(), 100f + random.nextFloat() * 1000f, Radians.degrees(30 + random.nextInt(90)), 0.5f + random.nextFloat() * 2f);
+
+            final var rigid = Matrix4F32.fromTR(translation, rotation);
+            final var affine = Matrix4F32.fromTRS(translation, rotation, scale);
+            final var general = projection.mul(affine);
+            final var near = nearAffine(rigid, F32_NEAR_AFFINE);
+            assertClose(values(rigid.invert()), values(rigid.invertRigid()), F32_TOLERANCE);
+            assertClose(values(rigid.invert()), values(rigid.invertAffine()), F32_TOLERANCE);
+            assertClose(values(rigid.invert()), values(rigid.invertClassified()), F32_TOLERANCE);
+            assertClose(values(affine.invert()), values(affine.invertAffine()), F32_TOLERANCE);
+            assertClose(values(affine.invert()), values(affine.invertClassified()), F32_TOLERANCE);
+            Assertions.assertEquals(general.invert(), general.invertClassified());
+            Assertions.assertEquals(near.invert(), near.invertClassified());
+            Assertions.assertThrows(IllegalArgumentException.class, affine::invertRigid);
+            Assertions.assertThrows(IllegalArgumentException.class, general::invertAffine);
+
+            final var wideRigid = Matrix4F64.fromTR(translation.asF64(), rotation);
+            final var wideAffine = Matrix4F64.fromTRS(translation.asF64(), rotation, scale.asF64());
+            final var wideGeneral = projection.asF64().mul(wideAffine);
+            final var wideNear = nearAffine(wideRigid, F64_NEAR_AFFINE);
+            assertClose(values(wideRigid.invert()), values(wideRigid.invertRigid()), F64_TOLERANCE);
+            assertClose(values(wideRigid.invert()), values(wideRigid.invertAffine()), F64_TOLERANCE);
+            assertClose(values(wideRigid.invert()), values(wideRigid.invertClassified()), F64_TOLERANCE);
+            assertClose(values(wideAffine.invert()), values(wideAffine.invertAffine()), F64_TOLERANCE);
+            assertClose(values(wideAffine.invert()), values(wideAffine.invertClassified()), F64_TOLERANCE);
+            Assertions.assertEquals(wideGeneral.invert(), wideGeneral.invertClassified());
+            Assertions.assertEquals(wideNear.invert(), wideNear.invertClassified());
+            Assertions.assertThrows(IllegalArgumentException.class, wideAffine::invertRigid);
+            Assertions.assertThrows(IllegalArgumentException.class, wideGeneral::invertAffine);
+        }
+    }
+}
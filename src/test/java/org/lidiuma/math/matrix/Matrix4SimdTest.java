@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.matrix;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.SimdUtil;
+import org.lidiuma.math.rotation.Quaternion;
+import org.lidiuma.math.rotation.Radians;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import java.lang.foreign.Arena;
+import java.lang.foreign.ValueLayout;
+import java.util.Random;
+
+/// Checks the SIMD matrix paths against the scalar code, which is the reference implementation.\
+/// The batches are checked by {@link Matrix4BatchTest}, which also runs without the vector module.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class Matrix4SimdTest {
+
+    private static final int SAMPLES = 1_000;
+    /// Tolerance, in ULPs, of the operations issued in the same order of the scalar code.
+    private static final int ULPS = 2;
+    /// Relative tolerance of the inversion, since it uses a different expansion.
+    private static final double INVERT_TOLERANCE = 1e-4;
+
+    @BeforeAll
+    void requireSimd() {
+        Assumptions.assumeTrue(SimdUtil.AVAILABLE, "The jdk.incubator.vector module is not resolved.");
+    }
+
+    private static Vector3F32 randomVector(Random random, float bound) {
+        return new Vector3F32(
+                (random.nextFloat() * 2f - 1f) * bound,
+                (random.nextFloat() * 2f - 1f) * bound,
+                (random.nextFloat() * 2f - 1f) * bound
+        );
+    }
+
+    private static Matrix4F32 randomTRS(Random random) {
+        final var axis = randomVector(random, 1f).asF64();
+        final var rotation = Quaternion.fromAxisAngle(axis.isZero(1e-3) ? new Vector3F64(0d, 1d, 0d) : axis, Radians.radians(random.nextDouble(-Math.PI, Math.PI)));
+        final var scale = new Vector3F32(0.5f + random.nextFloat() * 2f, 0.5f + random.nextFloat() * 2f, 0.5f + random.nextFloat() * 2f);
+        return Matrix4F32.fromTRS(randomVector(random, 100f), rotation, scale);
+    }
+
+    private static Matrix4F32 randomProjection(Random random) {
+        final float near = 0.1f + random.nextFloat();
+        final float far = near + 10f + random.nextFloat() * 1000f;
+        final var fovY = Radians.degrees(30 + random.nextInt(90));
+        return Matrix4F32.fromProjection(near, far, fovY, 0.5f + random.nextFloat() * 2f);
+    }
+
+    private static float[] values(Matrix4F32 m) {
+        return new float[] {
+                m.m00(), m.m01(), m.m02(), m.m03(),
+                m.m10(), m.m11(), m.m12(), m.m13(),
+                m.m20(), m.m21(), m.m22(), m.m23(),
+                m.m30(), m.m31(), m.m32(), m.m33()
+        };
+    }
+
+    private static void assertUlps(float expected, float actual) {
+        final float tolerance = ULPS * Math.ulp(Math.max(Math.abs(expected), Math.abs(actual)));
+        Assertions.assertEquals(expected, actual, tolerance);
+    }
+
+    private static void assertUlps(Matrix4F32 expected, Matrix4F32 actual) {
+        final float[] e = values(expected), a = values(actual);
+        for (int i = 0; i < e.length; i++) assertUlps(e[i], a[i]);
+    }
+
+    private static void assertUlps(Vector3F32 expected, Vector3F32 actual) {
+        assertUlps(expected.x(), actual.x());
+        assertUlps(expected.y(), actual.y());
+        assertUlps(expected.z(), actual.z());
+    }
+
+    @Test
+    void testMul() {
+        final var random = new Random(1);
+        for (int i = 0; i < SAMPLES; i++) {
+            final var a = randomTRS(random);
+            final var b = i % 2 == 0 ? randomTRS(random) : randomProjection(random);
+            assertUlps(a.scalarMul(b), Matrix4F32Simd.mul(a, b));
+            assertUlps(b.scalarMul(a), Matrix4F32Simd.mul(b, a));
+        }
+    }
+
+    @Test
+    void testInvert() {
+        final var random = new Random(2);
+        for (int i = 0; i < SAMPLES; i++) {
+            final var m = i % 2 == 0 ? randomTRS(random) : randomProjection(random).mul(randomTRS(random));
+            final float[] expected = values(m.scalarInvert());
+            final float[] actual = values(Matrix4F32Simd.invert(m));
+            for (int j = 0; j < expected.length; j++) {
+                final double tolerance = INVERT_TOLERANCE * Math.max(1, Math.abs(expected[j]));
+                Assertions.assertEquals(expected[j], actual[j], tolerance);
+            }
+        }
+        Assertions.assertThrows(ArithmeticException.class, () -> Matrix4F32Simd.invert(Matrix4F32.fromScale(new Vector3F32(1f, 0f, 1f))));
+    }
+
+    @Test
+    void testVectors() {
+        final var random = new Random(3);
+        for (int i = 0; i < SAMPLES; i++) {
+            final var m = randomTRS(random);
+            final var p = randomProjection(random).mul(m);
+            final var v = randomVector(random, 50f);
+            assertUlps(m.scalarTransform(v), Matrix4F32Simd.transform(m, v));
+            assertUlps(m.scalarRotate(v), Matrix4F32Simd.rotate(m, v));
+            assertUlps(p.scalarProject(v), Matrix4F32Simd.project(p, v));
+        }
+    }
+
+    @Test
+    void testF64() {
+        final var random = new Random(4);
+        for (int i = 0; i < SAMPLES; i++) {
+            final var a = randomTRS(random).asF64();
+            final var b = randomProjection(random).asF64();
+            final var v = randomVector(random, 50f).asF64();
+            Assertions.assertEquals(a.scalarMul(b), Matrix4F64Simd.mul(a, b));
+            Assertions.assertEquals(a.scalarTransform(v), Matrix4F64Simd.transform(a, v));
+            Assertions.assertEquals(a.scalarRotate(v), Matrix4F64Simd.rotate(a, v));
+            Assertions.assertEquals(b.mul(a).scalarProject(v), Matrix4F64Simd.project(b.mul(a), v));
+
+            final var expected = a.scalarInvert().asMemorySegment(Arena.ofAuto()).toArray(ValueLayout.JAVA_DOUBLE);
+            final var actual = Matrix4F64Simd.invert(a).asMemorySegment(Arena.ofAuto()).toArray(ValueLayout.JAVA_DOUBLE);
+            Assertions.assertArrayEquals(expected, actual, 1e-9);
+        }
+    }
+}
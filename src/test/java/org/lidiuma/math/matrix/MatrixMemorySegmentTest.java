@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.matrix;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Random;
+
+/// Checks the bulk `toMemorySegment` and `fromMemorySegment` copies against the per-matrix ones called in a loop.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class MatrixMemorySegmentTest {
+
+    /// More than two chunks of 64, the last one partial.
+    private static final int CAPACITY = 150;
+    /// The copied range of the arrays, starting and ending inside them.
+    private static final int FROM = 3, COUNT = 141;
+    /// The logical index in the segments where the copied range begins, with room left after it.
+    private static final long INDEX = 5;
+    /// Written over the segments first, so that a byte written out of place shows up.
+    private static final byte SENTINEL = 0x5A;
+
+    private static MemorySegment allocate(Arena arena, long byteSize) {
+        final var segment = arena.allocate((INDEX + CAPACITY + 1) * byteSize, Double.BYTES);
+        return segment.fill(SENTINEL);
+    }
+
+    private static void assertSameBytes(MemorySegment expected, MemorySegment actual) {
+        Assertions.assertEquals(-1L, expected.mismatch(actual), "The segments differ at the byte");
+    }
+
+    /// The matrices of the array outside the copied range are left alone.
+    private static void assertOutsideUntouched(Object[] matrices) {
+        for (int i = 0; i < CAPACITY; i++) {
+            if (i < FROM || i >= FROM + COUNT) Assertions.assertNull(matrices[i], "Matrix " + i);
+        }
+    }
+
+    @Test
+    void testMatrix3F32() {
+        final var random = new Random(70);
+        final var src = new Matrix3F32[CAPACITY];
+        for (int i = 0; i < CAPACITY; i++) {
+            src[i] = new Matrix3F32(
+                    random.nextFloat(), random.nextFloat(), random.nextFloat(),
+                    random.nextFloat(), random.nextFloat(), random.nextFloat(),
+                    random.nextFloat(), random.nextFloat(), random.nextFloat()
+            );
+        }
+        try (final var arena = Arena.ofConfined()) {
+            final long byteSize = src[0].byteSize();
+            final var bulk = allocate(arena, byteSize);
+            final var loop = allocate(arena, byteSize);
+            Matrix3F32.toMemorySegment(src, FROM, COUNT, bulk, INDEX);
+            for (int i = 0; i < COUNT; i++) src[FROM + i].toMemorySegment(loop, INDEX + i);
+            assertSameBytes(loop, bulk);
+
+            final var dst = new Matrix3F32[CAPACITY];
+            Matrix3F32.fromMemorySegment(bulk, INDEX, dst, FROM, COUNT);
+            for (int i = 0; i < COUNT; i++) {
+                Assertions.assertEquals(Matrix3F32.fromMemorySegment(loop, INDEX + i), dst[FROM + i]);
+                Assertions.assertEquals(src[FROM + i], dst[FROM + i]);
+            }
+            assertOutsideUntouched(dst);
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Matrix3F32.toMemorySegment(src, FROM, CAPACITY, bulk, 0));
+        }
+    }
+
+    @Test
+    void testMatrix3F64() {
+        final var random = new Random(71);
+        final var src = new Matrix3F64[CAPACITY];
+        for (int i = 0; i < CAPACITY; i++) {
+            src[i] = new Matrix3F64(
+                    random.nextDouble(), random.nextDouble(), random.nextDouble(),
+                    random.nextDouble(), random.nextDouble(), random.nextDouble(),
+                    random.nextDouble(), random.nextDouble(), random.nextDouble()
+            );
+        }
+        try (final var arena = Arena.ofConfined()) {
+            final long byteSize = src[0].byteSize();
+            final var bulk = allocate(arena, byteSize);
+            final var loop = allocate(arena, byteSize);
+            Matrix3F64.toMemorySegment(src, FROM, COUNT, bulk, INDEX);
+            for (int i = 0; i < COUNT; i++) src[FROM + i].toMemorySegment(loop, INDEX + i);
+            assertSameBytes(loop, bulk);
+
+            final var dst = new Matrix3F64[CAPACITY];
+            Matrix3F64.fromMemorySegment(bulk, INDEX, dst, FROM, COUNT);
+            for (int i = 0; i < COUNT; i++) {
+                Assertions.assertEquals(Matrix3F64.fromMemorySegment(loop, INDEX + i), dst[FROM + i]);
+                Assertions.assertEquals(src[FROM + i], dst[FROM + i]);
+            }
+            assertOutsideUntouched(dst);
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Matrix3F64.fromMemorySegment(bulk, 0, dst, FROM, CAPACITY));
+        }
+    }
+
+    @Test
+    void testMatrix4F32() {
+        final var random = new Random(72);
+        final var src = new Matrix4F32[CAPACITY];
+        for (int i = 0; i < CAPACITY; i++) {
+            src[i] = new Matrix4F32(
+                    random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat(),
+                    random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat(),
+                    random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat(),
+                    random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat()
+            );
+        }
+        try (final var arena = Arena.ofConfined()) {
+            final long byteSize = src[0].byteSize();
+            final var bulk = allocate(arena, byteSize);
+            final var loop = allocate(arena, byteSize);
+            Matrix4F32.toMemorySegment(src, FROM, COUNT, bulk, INDEX);
+            for (int i = 0; i < COUNT; i++) src[FROM + i].toMemorySegment(loop, INDEX + i);
+            assertSameBytes(loop, bulk);
+
+            final var dst = new Matrix4F32[CAPACITY];
+            Matrix4F32.fromMemorySegment(bulk, INDEX, dst, FROM, COUNT);
+            for (int i = 0; i < COUNT; i++) {
+                Assertions.assertEquals(Matrix4F32.fromMemorySegment(loop, INDEX + i), dst[FROM + i]);
+                Assertions.assertEquals(src[FROM + i], dst[FROM + i]);
+            }
+            assertOutsideUntouched(dst);
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Matrix4F32.toMemorySegment(src, FROM, CAPACITY, bulk, 0));
+        }
+    }
+
+    @Test
+    void testMatrix4F64() {
+        final var random = new Random(73);
+        final var src = new Matrix4F64[CAPACITY];
+        for (int i = 0; i < CAPACITY; i++) {
+            src[i] = new Matrix4F64(
+                    random.nextDouble(), random.nextDouble(), random.nextDouble(), random.nextDouble(),
+                    random.nextDouble(), random.nextDouble(), random.nextDouble(), random.nextDouble(),
+                    random.nextDouble(), random.nextDouble(), random.nextDouble(), random.nextDouble(),
+                    random.nextDouble(), random.nextDouble(), random.nextDouble(), random.nextDouble()
+            );
+        }
+        try (final var arena = Arena.ofConfined()) {
+            final long byteSize = src[0].byteSize();
+            final var bulk = allocate(arena, byteSize);
+            final var loop = allocate(arena, byteSize);
+            Matrix4F64.toMemorySegment(src, FROM, COUNT, bulk, INDEX);
+            for (int i = 0; i < COUNT; i++) src[FROM + i].toMemorySegment(loop, INDEX + i);
+            assertSameBytes(loop, bulk);
+
+            final var dst = new Matrix4F64[CAPACITY];
+            Matrix4F64.fromMemorySegment(bulk, INDEX, dst, FROM, COUNT);
+            for (int i = 0; i < COUNT; i++) {
+                Assertions.assertEquals(Matrix4F64.fromMemorySegment(loop, INDEX + i), dst[FROM + i]);
+                Assertions.assertEquals(src[FROM + i], dst[FROM + i]);
+            }
+            assertOutsideUntouched(dst);
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Matrix4F64.fromMemorySegment(bulk, 0, dst, FROM, CAPACITY));
+        }
+    }
+}
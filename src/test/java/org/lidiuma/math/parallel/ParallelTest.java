@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.parallel;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.rotation.Quaternion;
+import org.lidiuma.math.rotation.Radians;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import java.lang.foreign.MemorySegment;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/// Checks the parallel packed operations against the sequential vector and matrix code, element by element.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class ParallelTest {
+
+    /// Odd and not a multiple of {@link Parallel#ALIGNMENT}, so the last task gets a partial block.
+    private static final int[] COUNTS = {1, 7, 1001};
+    /// Splits down to the smallest aligned range.
+    private static final long SPLIT_THRESHOLD = 1;
+    /// Relative tolerance of the transform, which can take the SIMD path on either side.
+    private static final double TRANSFORM_TOLERANCE = 1e-6;
+    /// Relative tolerance of the normalization, computed as `1 / sqrt` instead of through the vector length.
+    private static final double NORMALIZE_TOLERANCE = 1e-6;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterAll
+    void close() {
+        pool.shutdown();
+    }
+
+    private static Vector3F32 randomVector(Random random, float bound) {
+        return new Vector3F32(
+                (random.nextFloat() * 2f - 1f) * bound,
+                (random.nextFloat() * 2f - 1f) * bound,
+                (random.nextFloat() * 2f - 1f) * bound
+        );
+    }
+
+    private static Matrix4F32 randomTRS(Random random) {
+        final var axis = randomVector(random, 1f).asF64();
+        final var rotation = Quaternion.fromAxisAngle(axis.isZero(1e-3) ? new Vector3F64(0d, 1d, 0d) : axis, Radians.radians(random.nextDouble(-Math.PI, Math.PI)));
+        final var scale = new Vector3F32(0.5f + random.nextFloat() * 2f, 0.5f + random.nextFloat() * 2f, 0.5f + random.nextFloat() * 2f);
+        return Matrix4F32.fromTRS(randomVector(random, 100f), rotation, scale);
+    }
+
+    private static float[] randomPacked(Random random, int count) {
+        final float[] packed = new float[count * 3];
+        for (int i = 0; i < packed.length; i++) packed[i] = (random.nextFloat() * 2f - 1f) * 50f;
+        return packed;
+    }
+
+    private static double[] widen(float[] packed) {
+        final double[] wide = new double[packed.length];
+        for (int i = 0; i < packed.length; i++) wide[i] = packed[i];
+        return wide;
+    }
+
+    private static Vector3F32 get(float[] packed, int i) {
+        return new Vector3F32(packed[i * 3], packed[i * 3 + 1], packed[i * 3 + 2]);
+    }
+
+    private static Vector3F64 get(double[] packed, int i) {
+        return new Vector3F64(packed[i * 3], packed[i * 3 + 1], packed[i * 3 + 2]);
+    }
+
+    private static void assertRelative(double expected, double actual, double tolerance) {
+        Assertions.assertEquals(expected, actual, tolerance * Math.max(1d, Math.abs(expected)));
+    }
+
+    private static void assertRelative(Vector3F32 expected, Vector3F32 actual, double tolerance) {
+        assertRelative(expected.x(), actual.x(), tolerance);
+        assertRelative(expected.y(), actual.y(), tolerance);
+        assertRelative(expected.z(), actual.z(), tolerance);
+    }
+
+    private static void assertRelative(Vector3F64 expected, Vector3F64 actual, double tolerance) {
+        assertRelative(expected.x(), actual.x(), tolerance);
+        assertRelative(expected.y(), actual.y(), tolerance);
+        assertRelative(expected.z(), actual.z(), tolerance);
+    }
+
+    @Test
+    void testTransform() {
+        final var random = new Random(6);
+        for (final int count : COUNTS) {
+            final var matrix = randomTRS(random);
+            final var wideMatrix = matrix.asF64();
+            final float[] src = randomPacked(random, count);
+            final double[] wideSrc = widen(src);
+            final float[] sequential = new float[src.length], pooled = new float[src.length];
+            final double[] wideSequential = new double[src.length], widePooled = new double[src.length];
+            Parallel.transformAll(matrix, src, sequential);
+            Parallel.transformAll(matrix, MemorySegment.ofArray(src), MemorySegment.ofArray(pooled), count, pool, SPLIT_THRESHOLD);
+            Parallel.transformAll(wideMatrix, wideSrc, wideSequential);
+            Parallel.transformAllF64(wideMatrix, MemorySegment.ofArray(wideSrc), MemorySegment.ofArray(widePooled), count, pool, SPLIT_THRESHOLD);
+            for (int i = 0; i < count; i++) {
+                final var expected = matrix.transform(get(src, i));
+                assertRelative(expected, get(sequential, i), TRANSFORM_TOLERANCE);
+                assertRelative(expected, get(pooled, i), TRANSFORM_TOLERANCE);
+                final var wideExpected = wideMatrix.transform(get(wideSrc, i));
+                assertRelative(wideExpected, get(wideSequential, i), TRANSFORM_TOLERANCE);
+                assertRelative(wideExpected, get(widePooled, i), TRANSFORM_TOLERANCE);
+            }
+        }
+    }
+
+    @Test
+    void testNormalize() {
+        final var random = new Random(16);
+        for (final int count : COUNTS) {
+            final float[] src = randomPacked(random, count);
+            // The zero vector must be left as is, like Vector3F32#normalize does.
+            src[0] = src[1] = src[2] = 0f;
+            final double[] wideSrc = widen(src);
+            final float[] sequential = src.clone(), pooled = src.clone();
+            final double[] wideSequential = wideSrc.clone(), widePooled = wideSrc.clone();
+            Parallel.normalizeAll(sequential);
+            Parallel.normalizeAll(MemorySegment.ofArray(pooled), count, pool, SPLIT_THRESHOLD);
+            Parallel.normalizeAll(wideSequential);
+            Parallel.normalizeAllF64(MemorySegment.ofArray(widePooled), count, pool, SPLIT_THRESHOLD);
+            for (int i = 0; i < count; i++) {
+                final var expected = get(src, i).normalize();
+                assertRelative(expected, get(sequential, i), NORMALIZE_TOLERANCE);
+                assertRelative(expected, get(pooled, i), NORMALIZE_TOLERANCE);
+                final var wideExpected = get(wideSrc, i).normalize();
+                assertRelative(wideExpected, get(wideSequential, i), NORMALIZE_TOLERANCE);
+                assertRelative(wideExpected, get(widePooled, i), NORMALIZE_TOLERANCE);
+            }
+        }
+    }
+
+    @Test
+    void testLerp() {
+        final var random = new Random(26);
+        for (final int count : COUNTS) {
+            final float alpha = random.nextFloat();
+            final float[] src = randomPacked(random, count), target = randomPacked(random, count);
+            final double[] wideSrc = widen(src), wideTarget = widen(target);
+            final float[] sequential = src.clone(), pooled = src.clone();
+            final double[] wideSequential = wideSrc.clone(), widePooled = wideSrc.clone();
+            Parallel.lerpAll(sequential, target, alpha);
+            Parallel.lerpAll(MemorySegment.ofArray(pooled), MemorySegment.ofArray(target), alpha, count, pool, SPLIT_THRESHOLD);
+            Parallel.lerpAll(wideSequential, wideTarget, alpha);
+            Parallel.lerpAllF64(MemorySegment.ofArray(widePooled), MemorySegment.ofArray(wideTarget), alpha, count, pool, SPLIT_THRESHOLD);
+            // Same operations in the same order, so the results must be identical.
+            for (int i = 0; i < count; i++) {
+                final var expected = get(src, i).lerpF(get(target, i), alpha);
+                Assertions.assertEquals(expected, get(sequential, i));
+                Assertions.assertEquals(expected, get(pooled, i));
+                final var wideExpected = get(wideSrc, i).lerpD(get(wideTarget, i), alpha);
+                Assertions.assertEquals(wideExpected, get(wideSequential, i));
+                Assertions.assertEquals(wideExpected, get(widePooled, i));
+            }
+        }
+    }
+
+    @Test
+    void testForEachCoversRange() {
+        for (final int count : COUNTS) {
+            final int[] hits = new int[count];
+            Parallel.forEach(count, (from, size) -> {
+                Assertions.assertEquals(0, from % Parallel.ALIGNMENT);
+                for (long i = from; i < from + size; i++) hits[(int) i]++;
+            }, pool, SPLIT_THRESHOLD);
+            for (final int hit : hits) Assertions.assertEquals(1, hit);
+        }
+    }
+}
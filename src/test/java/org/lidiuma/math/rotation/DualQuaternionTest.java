@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.rotation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.matrix.Matrix4F64;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import java.lang.foreign.Arena;
+import java.util.Random;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static org.lidiuma.math.rotation.Radians.degrees;
+
+/// Checks the {@link DualQuaternion} and {@link DualQuaternionF32} transformations against known ones, and against the matrices of the same rotation and translation.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class DualQuaternionTest {
+
+    /// A quarter turn around z, then a translation of `(1, 2, 3)`.
+    private static final DualQuaternion QUARTER_TURN = DualQuaternion.fromTR(new Vector3F64(1.0, 2.0, 3.0), Quaternion.fromAxisAngle(new Vector3F64(0.0, 0.0, 1.0), degrees(90)));
+
+    private static DualQuaternion randomTransform(Random random) {
+        final var axis = new Vector3F64(random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+        final var rotation = Quaternion.fromAxisAngle(axis, Radians.radians(random.nextDouble(-Math.PI, Math.PI)));
+        final var translation = new Vector3F64(random.nextDouble(-10, 10), random.nextDouble(-10, 10), random.nextDouble(-10, 10));
+        return DualQuaternion.fromTR(translation, rotation);
+    }
+
+    private static Vector3F64 randomPoint(Random random) {
+        return new Vector3F64(random.nextDouble(-5, 5), random.nextDouble(-5, 5), random.nextDouble(-5, 5));
+    }
+
+    private static void assertClose(Vector3F64 expected, Vector3F64 actual, double delta) {
+        Assertions.assertEquals(expected.x(), actual.x(), delta, () -> expected + " != " + actual);
+        Assertions.assertEquals(expected.y(), actual.y(), delta, () -> expected + " != " + actual);
+        Assertions.assertEquals(expected.z(), actual.z(), delta, () -> expected + " != " + actual);
+    }
+
+    @Test
+    void testKnownTransform() {
+        final var x = new Vector3F64(1.0, 0.0, 0.0);
+        assertClose(new Vector3F64(1.0, 3.0, 3.0), QUARTER_TURN.transform(x), 1e-15);
+        assertClose(new Vector3F64(0.0, 1.0, 0.0), QUARTER_TURN.rotate(x), 1e-15);
+        assertClose(new Vector3F64(1.0, 2.0, 3.0), QUARTER_TURN.translation(), 1e-15);
+        assertClose(x, QUARTER_TURN.inverse().transform(new Vector3F64(1.0, 3.0, 3.0)), 1e-15);
+        assertClose(x, DualQuaternion.identity().transform(x), 0);
+        assertClose(new Vector3F64(2.0, 2.0, 3.0), DualQuaternion.fromTranslation(new Vector3F64(1.0, 2.0, 3.0)).transform(x), 1e-15);
+        // The rotation applies first, so translating first and rotating after moves the point elsewhere.
+        final var rotation = DualQuaternion.fromRotation(QUARTER_TURN.rotation());
+        assertClose(new Vector3F64(-2.0, 2.0, 3.0), rotation.mul(DualQuaternion.fromTranslation(new Vector3F64(1.0, 2.0, 3.0))).transform(x), 1e-15);
+
+        final var quarterTurn = QUARTER_TURN.asF32();
+        final var xF32 = new Vector3F32(1f, 0f, 0f);
+        assertClose(new Vector3F64(1.0, 3.0, 3.0), quarterTurn.transform(xF32).asF64(), 1e-6);
+        assertClose(new Vector3F64(1.0, 2.0, 3.0), quarterTurn.translation().asF64(), 1e-6);
+        assertClose(x, quarterTurn.inverse().transform(new Vector3F32(1f, 3f, 3f)).asF64(), 1e-6);
+        assertClose(x, DualQuaternionF32.identity().transform(xF32).asF64(), 0);
+    }
+
+    @Test
+    void testMatrix() {
+        final var random = new Random(22);
+        for (int i = 0; i < 100; i++) {
+            final var a = randomTransform(random);
+            final var b = randomTransform(random);
+            final var point = randomPoint(random);
+            assertClose(a.asMatrix4().transform(point), a.transform(point), 1e-12);
+            assertClose(a.asMatrix4().mul(b.asMatrix4()).transform(point), a.mul(b).transform(point), 1e-12);
+            assertClose(point, a.inverse().transform(a.transform(point)), 1e-12);
+            assertClose(a.translation(), DualQuaternion.fromMatrix4(a.asMatrix4()).translation(), 1e-12);
+            // The scale of the matrix is discarded.
+            final var scaled = Matrix4F64.fromTRS(a.translation(), a.rotation(), new Vector3F64(2.0, 0.5, 3.0));
+            assertClose(a.transform(point), DualQuaternion.fromMatrix4(scaled).transform(point), 1e-12);
+
+            final var aF32 = a.asF32();
+            final var bF32 = b.asF32();
+            final var pointF32 = point.asF32();
+            assertClose(aF32.asMatrix4().transform(pointF32).asF64(), aF32.transform(pointF32).asF64(), 1e-4);
+            assertClose(aF32.asMatrix4().mul(bF32.asMatrix4()).transform(pointF32).asF64(), aF32.mul(bF32).transform(pointF32).asF64(), 1e-4);
+            assertClose(point, aF32.inverse().transform(aF32.transform(pointF32)).asF64(), 1e-4);
+            assertClose(a.transform(point), DualQuaternionF32.fromMatrix4(scaled.asF32()).transform(pointF32).asF64(), 1e-4);
+        }
+    }
+
+    @Test
+    void testBlend() {
+        final var random = new Random(220);
+        for (int i = 0; i < 100; i++) {
+            final var a = randomTransform(random);
+            final var b = randomTransform(random);
+            final var point = randomPoint(random);
+            assertClose(a.transform(point), a.blend(b, 0).transform(point), 1e-12);
+            assertClose(b.transform(point), a.blend(b, 1).transform(point), 1e-12);
+            // The sign of a dual quaternion does not change its transformation, nor the blend.
+            final var negated = new DualQuaternion(b.real().mul(-1), b.dual().mul(-1));
+            assertClose(a.blend(b, 0.3).transform(point), a.blend(negated, 0.3).transform(point), 1e-12);
+            final var blend = DualQuaternion.blend(new DualQuaternion[]{a, negated}, new double[]{0.7, 0.3});
+            assertClose(a.blend(b, 0.3).transform(point), blend.transform(point), 1e-12);
+            Assertions.assertEquals(1, blend.real().length(), 1e-15);
+
+            final var aF32 = a.asF32();
+            final var negatedF32 = negated.asF32();
+            final var pointF32 = point.asF32();
+            final var blendF32 = DualQuaternionF32.blend(new DualQuaternionF32[]{aF32, negatedF32}, new float[]{0.7f, 0.3f});
+            assertClose(blend.transform(point), blendF32.transform(pointF32).asF64(), 1e-4);
+            assertClose(blend.transform(point), aF32.blend(negatedF32, 0.3f).transform(pointF32).asF64(), 1e-4);
+            Assertions.assertEquals(1f, blendF32.real().length(), 1e-6f);
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DualQuaternion.blend(new DualQuaternion[0], new double[0]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DualQuaternionF32.blend(new DualQuaternionF32[]{QUARTER_TURN.asF32()}, new float[2]));
+    }
+
+    @Test
+    void testToMemorySegment() {
+        final var dq = QUARTER_TURN.asF32();
+        try (final var arena = Arena.ofConfined()) {
+            final var segment = arena.allocate(JAVA_FLOAT, 2L * DualQuaternionF32.SIZE);
+            dq.toMemorySegment(segment, 1);
+            final float[] expected = {
+                    0f, 0f, 0f, 0f, 0f, 0f, 0f, 0f,
+                    dq.real().x(), dq.real().y(), dq.real().z(), dq.real().w(),
+                    dq.dual().x(), dq.dual().y(), dq.dual().z(), dq.dual().w()
+            };
+            Assertions.assertArrayEquals(expected, segment.toArray(JAVA_FLOAT));
+        }
+        Assertions.assertEquals(dq, dq.asF64().asF32());
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.rotation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import java.util.Random;
+import static org.lidiuma.math.rotation.Radians.degrees;
+
+/// Checks {@link Quaternion#average(Quaternion[], double[])} against known rotations and the order-dependent {@link Quaternion#weightedSlerp(Quaternion[], double[])}.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class QuaternionAverageTest {
+
+    private static final Vector3F64 Z = new Vector3F64(0.0, 0.0, 1.0);
+
+    private static Quaternion randomRotation(Random random, double maxAngle) {
+        final var axis = new Vector3F64(random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+        return Quaternion.fromAxisAngle(axis, Radians.radians(random.nextDouble(-maxAngle, maxAngle)));
+    }
+
+    /// @return Weights summing to 1, as {@link Quaternion#weightedSlerp(Quaternion[], double[])} expects.
+    private static double[] randomWeights(Random random, int count) {
+        final double[] weights = new double[count];
+        double sum = 0;
+        for (int i = 0; i < count; i++) sum += weights[i] = 0.1 + random.nextDouble();
+        for (int i = 0; i < count; i++) weights[i] /= sum;
+        return weights;
+    }
+
+    /// @return `Σ weight * (q · average)²`, which the eigenvector average maximizes.
+    private static double fitness(Quaternion[] quat, double[] weights, Quaternion average) {
+        double fitness = 0;
+        for (int i = 0; i < quat.length; i++) {
+            final double dot = quat[i].dot(average);
+            fitness += weights[i] * dot * dot;
+        }
+        return fitness;
+    }
+
+    /// The quaternions `q` and `-q` are the same rotation.
+    private static void assertSameRotation(Quaternion expected, Quaternion actual, double delta) {
+        Assertions.assertEquals(1, Math.abs(expected.dot(actual)), delta, () -> expected + " != " + actual);
+    }
+
+    @Test
+    void testKnownRotations() {
+        final var average = Quaternion.average(new Quaternion[]{Quaternion.fromAxisAngle(Z, degrees(20)), Quaternion.fromAxisAngle(Z, degrees(80))});
+        assertSameRotation(Quaternion.fromAxisAngle(Z, degrees(50)), average, 1e-15);
+        // A zero weight ignores the quaternion.
+        final var ignored = Quaternion.average(
+                new Quaternion[]{Quaternion.fromAxisAngle(Z, degrees(20)), Quaternion.fromAxisAngle(Z, degrees(-70)), Quaternion.fromAxisAngle(Z, degrees(80))},
+                new double[]{2, 0, 2});
+        assertSameRotation(Quaternion.fromAxisAngle(Z, degrees(50)), ignored, 1e-15);
+
+        // Two random rotations, not too far apart, average to their midpoint.
+        final var random = new Random(20);
+        for (int i = 0; i < 100; i++) {
+            final var a = randomRotation(random, Math.PI * 0.9);
+            final var b = randomRotation(random, Math.PI * 0.9);
+            assertSameRotation(a.slerp(b, 0.5), Quaternion.average(new Quaternion[]{a, b}), 1e-12);
+        }
+    }
+
+    @Test
+    void testOrderAndSign() {
+        final var random = new Random(200);
+        for (int i = 0; i < 100; i++) {
+            final var quat = new Quaternion[]{randomRotation(random, 1), randomRotation(random, 1), randomRotation(random, 1), randomRotation(random, 1)};
+            final double[] weights = randomWeights(random, quat.length);
+            final var reordered = new Quaternion[]{quat[3], quat[1].mul(-1d), quat[0], quat[2].mul(-1d)};
+            final double[] reorderedWeights = {weights[3], weights[1], weights[0], weights[2]};
+            assertSameRotation(Quaternion.average(quat, weights), Quaternion.average(reordered, reorderedWeights), 1e-14);
+        }
+    }
+
+    @Test
+    void testCloseEigenvalues() {
+        // Half a turn apart with almost the same weight, so the two largest eigenvalues differ by a millionth,
+        // too little for a few iterations to move away from a starting guess: the heavier rotation must win in both orders.
+        final var identity = Quaternion.fromAxisAngle(Z, degrees(0));
+        final var halfTurn = Quaternion.fromAxisAngle(Z, degrees(180));
+        final double lighter = 1, heavier = 1 + 1e-6;
+        assertSameRotation(halfTurn, Quaternion.average(new Quaternion[]{identity, halfTurn}, new double[]{lighter, heavier}), 1e-12);
+        assertSameRotation(halfTurn, Quaternion.average(new Quaternion[]{halfTurn, identity}, new double[]{heavier, lighter}), 1e-12);
+        assertSameRotation(identity, Quaternion.average(new Quaternion[]{halfTurn, identity}, new double[]{lighter, heavier}), 1e-12);
+        final var halfTurnF32 = halfTurn.asF32().asF64();
+        final var averageF32 = QuaternionF32.average(new QuaternionF32[]{identity.asF32(), halfTurn.asF32()}, new float[]{1, 1.001f});
+        assertSameRotation(halfTurnF32, averageF32.asF64(), 1e-6);
+    }
+
+    @Test
+    void testInvalidWeights() {
+        final var quat = new Quaternion[]{Quaternion.fromAxisAngle(Z, degrees(10)), Quaternion.fromAxisAngle(Z, degrees(30))};
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Quaternion.average(quat, new double[]{0, 0}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Quaternion.average(quat, new double[]{1, -1}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Quaternion.average(quat, new double[]{1}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Quaternion.average(new Quaternion[0]));
+
+        final var quatF32 = new QuaternionF32[]{quat[0].asF32(), quat[1].asF32()};
+        Assertions.assertThrows(IllegalArgumentException.class, () -> QuaternionF32.average(quatF32, new float[]{0, 0}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> QuaternionF32.average(quatF32, new float[]{1, -1}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> QuaternionF32.average(quatF32, new float[]{1}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> QuaternionF32.average(new QuaternionF32[0]));
+    }
+
+    @Test
+    void testFitsBetterThanSlerp() {
+        final var random = new Random(201);
+        for (int i = 0; i < 100; i++) {
+            final var quat = new Quaternion[8];
+            for (int j = 0; j < quat.length; j++) quat[j] = randomRotation(random, 0.5);
+            final double[] weights = randomWeights(random, quat.length);
+            final var average = Quaternion.average(quat, weights);
+            final var slerp = Quaternion.weightedSlerp(quat, weights);
+            // The rotations are clustered, so both methods agree closely, but the eigenvector fits the inputs at least as well.
+            assertSameRotation(slerp, average, 1e-3);
+            Assertions.assertTrue(fitness(quat, weights, average) >= fitness(quat, weights, slerp) - 1e-12);
+        }
+    }
+
+    @Test
+    void testF32() {
+        final var random = new Random(202);
+        for (int i = 0; i < 100; i++) {
+            final var quat = new Quaternion[]{randomRotation(random, 1), randomRotation(random, 1), randomRotation(random, 1)};
+            final var quatF32 = new QuaternionF32[]{quat[0].asF32(), quat[1].asF32(), quat[2].asF32()};
+            assertSameRotation(Quaternion.average(quat), QuaternionF32.average(quatF32).asF64(), 1e-6);
+        }
+    }
+}
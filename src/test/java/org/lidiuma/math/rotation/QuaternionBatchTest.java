@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.rotation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Random;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+
+/// Checks the fast slerp against the exact one, and the SIMD `float[]` paths against the scalar {@link MemorySegment} ones.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class QuaternionBatchTest {
+
+    /// Not a multiple of any lane count, so the scalar tail of the SIMD paths runs too.
+    private static final int COUNT = 1003;
+
+    /// @return Packed random unit quaternions, uniform over the rotations.
+    private static float[] randomQuaternions(Random random) {
+        final var quaternions = new float[COUNT * 4];
+        for (int i = 0; i < COUNT; i++) {
+            final double x = random.nextGaussian(), y = random.nextGaussian(), z = random.nextGaussian(), w = random.nextGaussian();
+            final double invLength = 1 / Math.sqrt(x * x + y * y + z * z + w * w);
+            quaternions[i * 4] = (float) (x * invLength);
+            quaternions[i * 4 + 1] = (float) (y * invLength);
+            quaternions[i * 4 + 2] = (float) (z * invLength);
+            quaternions[i * 4 + 3] = (float) (w * invLength);
+        }
+        return quaternions;
+    }
+
+    private static float[] randomAlphas(Random random) {
+        final var alphas = new float[COUNT];
+        for (int i = 0; i < COUNT; i++) alphas[i] = random.nextFloat();
+        return alphas;
+    }
+
+    private static double[] asDouble(float[] values) {
+        final var result = new double[values.length];
+        for (int i = 0; i < values.length; i++) result[i] = values[i];
+        return result;
+    }
+
+    /// @return The angle of the rotation between the quaternions `i` of `a` and `b`.
+    /// @implNote The half angle between the unit vectors is `2 atan2(|a - b|, |a + b|)`, which unlike `acos(a · b)`
+    /// keeps its precision when they are almost equal, `b` is flipped when needed since `-b` is the same rotation.
+    private static double angle(float[] a, double[] b, int i) {
+        double aLength2 = 0, bLength2 = 0, dot = 0;
+        for (int c = 0; c < 4; c++) {
+            aLength2 += (double) a[i * 4 + c] * a[i * 4 + c];
+            bLength2 += b[i * 4 + c] * b[i * 4 + c];
+            dot += a[i * 4 + c] * b[i * 4 + c];
+        }
+        final double aScale = 1 / Math.sqrt(aLength2), bScale = (dot < 0 ? -1 : 1) / Math.sqrt(bLength2);
+        double difference2 = 0, sum2 = 0;
+        for (int c = 0; c < 4; c++) {
+            final double ac = a[i * 4 + c] * aScale, bc = b[i * 4 + c] * bScale;
+            difference2 += (ac - bc) * (ac - bc);
+            sum2 += (ac + bc) * (ac + bc);
+        }
+        return 4 * Math.atan2(Math.sqrt(difference2), Math.sqrt(sum2));
+    }
+
+    private static void assertFastSlerpError(float[] actual, double[] expected) {
+        for (int i = 0; i < COUNT; i++) {
+            final double error = angle(actual, expected, i);
+            final int index = i;
+            Assertions.assertTrue(error < QuaternionBatch.FAST_SLERP_ERROR, () -> "index " + index + ", error " + error);
+        }
+    }
+
+    @Test
+    void testFastSlerpError() {
+        final var random = new Random(18);
+        final var from = randomQuaternions(random);
+        final var to = randomQuaternions(random);
+        final var alphas = randomAlphas(random);
+        final float alpha = 0.3f;
+        // The exact slerp in double precision is the reference.
+        final var expected = new double[COUNT * 4];
+        final var actual = new float[COUNT * 4];
+
+        QuaternionBatch.slerp(asDouble(from), asDouble(to), alpha, expected, COUNT);
+        QuaternionBatch.fastSlerp(from, to, alpha, actual, COUNT);
+        assertFastSlerpError(actual, expected);
+
+        QuaternionBatch.slerp(asDouble(from), asDouble(to), asDouble(alphas), expected, COUNT);
+        QuaternionBatch.fastSlerp(from, to, alphas, actual, COUNT);
+        assertFastSlerpError(actual, expected);
+
+        // The float slerp is exact too, within its own precision.
+        QuaternionBatch.slerp(from, to, alphas, actual, COUNT);
+        for (int i = 0; i < COUNT; i++) Assertions.assertEquals(0, angle(actual, expected, i), 1e-5, "index " + i);
+    }
+
+    private static float[] toArray(MemorySegment segment) {
+        return segment.toArray(JAVA_FLOAT);
+    }
+
+    @Test
+    void testSimdMatchesScalar() {
+        final var random = new Random(180);
+        final var from = randomQuaternions(random);
+        final var to = randomQuaternions(random);
+        final var alphas = randomAlphas(random);
+        final float alpha = 0.7f;
+        final var actual = new float[COUNT * 4];
+        try (final var arena = Arena.ofConfined()) {
+            final var fromSegment = arena.allocate(JAVA_FLOAT, COUNT * 4L).copyFrom(MemorySegment.ofArray(from));
+            final var toSegment = arena.allocate(JAVA_FLOAT, COUNT * 4L).copyFrom(MemorySegment.ofArray(to));
+            final var alphaSegment = arena.allocate(JAVA_FLOAT, COUNT).copyFrom(MemorySegment.ofArray(alphas));
+            final var expected = arena.allocate(JAVA_FLOAT, COUNT * 4L);
+
+            // The segment versions always run the scalar kernel.
+            QuaternionBatch.fastSlerp(from, to, alpha, actual, COUNT);
+            QuaternionBatch.fastSlerp(fromSegment, toSegment, alpha, expected, COUNT);
+            Assertions.assertArrayEquals(toArray(expected), actual, "fast slerp");
+
+            QuaternionBatch.fastSlerp(from, to, alphas, actual, COUNT);
+            QuaternionBatch.fastSlerp(fromSegment, toSegment, alphaSegment, expected, COUNT);
+            Assertions.assertArrayEquals(toArray(expected), actual, "fast slerp alphas");
+
+            QuaternionBatch.nlerp(from, to, alpha, actual, COUNT);
+            QuaternionBatch.nlerp(fromSegment, toSegment, alpha, expected, COUNT);
+            Assertions.assertArrayEquals(toArray(expected), actual, "nlerp");
+
+            QuaternionBatch.nlerp(from, to, alphas, actual, COUNT);
+            QuaternionBatch.nlerp(fromSegment, toSegment, alphaSegment, expected, COUNT);
+            Assertions.assertArrayEquals(toArray(expected), actual, "nlerp alphas");
+
+            // The output can be one of the inputs.
+            final var copy = from.clone();
+            QuaternionBatch.fastSlerp(copy, to, alphas, copy, COUNT);
+            QuaternionBatch.fastSlerp(fromSegment, toSegment, alphaSegment, fromSegment, COUNT);
+            Assertions.assertArrayEquals(toArray(fromSegment), copy, "in place");
+        }
+    }
+}
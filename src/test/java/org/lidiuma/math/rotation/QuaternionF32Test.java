@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.rotation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.matrix.Matrix3F32;
+import org.lidiuma.math.matrix.Matrix3F64;
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.matrix.Matrix4F64;
+import org.lidiuma.math.vector.v2.Vector2F32;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import java.util.Random;
+import static org.lidiuma.math.rotation.Radians.degrees;
+import static org.lidiuma.math.rotation.Radians.radians;
+
+/// Checks every {@link QuaternionF32} operation, and the matrices built from it, against the same operation of {@link Quaternion} on the same inputs.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class QuaternionF32Test {
+
+    private static final int ROTATIONS = 500;
+    /// Tolerance of the components, a few `float` roundings of values up to 1.
+    private static final double TOLERANCE = 1e-5;
+    /// Tolerance of the operations going through `acos`, whose slope grows near the identity.
+    private static final double ACOS_TOLERANCE = 1e-4;
+
+    private static Vector3F32 randomAxis(Random random) {
+        final var axis = new Vector3F32((float) random.nextGaussian(), (float) random.nextGaussian(), (float) random.nextGaussian());
+        return axis.isZero(1e-3f) ? new Vector3F32(0f, 1f, 0f) : axis;
+    }
+
+    private static Radians randomAngle(Random random) {
+        return radians(random.nextDouble(-Math.PI, Math.PI));
+    }
+
+    private static QuaternionF32 randomRotation(Random random) {
+        return QuaternionF32.fromAxisAngle(randomAxis(random), randomAngle(random)).normalize();
+    }
+
+    private static void assertClose(Quaternion expected, QuaternionF32 actual, double tolerance) {
+        Assertions.assertEquals(expected.x(), actual.x(), tolerance, () -> expected + " != " + actual);
+        Assertions.assertEquals(expected.y(), actual.y(), tolerance, () -> expected + " != " + actual);
+        Assertions.assertEquals(expected.z(), actual.z(), tolerance, () -> expected + " != " + actual);
+        Assertions.assertEquals(expected.w(), actual.w(), tolerance, () -> expected + " != " + actual);
+    }
+
+    /// The quaternions `q` and `-q` are the same rotation, the branches of `fromAxes` may pick either.
+    private static void assertSameRotation(Quaternion expected, QuaternionF32 actual, double tolerance) {
+        Assertions.assertEquals(1d, Math.abs(expected.normalize().dot(actual.asF64().normalize())), tolerance, () -> expected + " != " + actual);
+    }
+
+    private static void assertClose(Vector3F64 expected, Vector3F32 actual, double tolerance) {
+        Assertions.assertEquals(expected.x(), actual.x(), tolerance * Math.max(1d, Math.abs(expected.x())), () -> expected + " != " + actual);
+        Assertions.assertEquals(expected.y(), actual.y(), tolerance * Math.max(1d, Math.abs(expected.y())), () -> expected + " != " + actual);
+        Assertions.assertEquals(expected.z(), actual.z(), tolerance * Math.max(1d, Math.abs(expected.z())), () -> expected + " != " + actual);
+    }
+
+    private static void assertClose(Radians expected, Radians actual, double tolerance) {
+        Assertions.assertEquals(expected.value(), actual.value(), tolerance, () -> expected + " != " + actual);
+    }
+
+    private static double[] values(Matrix4F32 m) {
+        return values(m.asF64());
+    }
+
+    private static double[] values(Matrix4F64 m) {
+        return new double[] {
+                m.m00(), m.m01(), m.m02(), m.m03(),
+                m.m10(), m.m11(), m.m12(), m.m13(),
+                m.m20(), m.m21(), m.m22(), m.m23(),
+                m.m30(), m.m31(), m.m32(), m.m33()
+        };
+    }
+
+    private static double[] values(Matrix3F32 m) {
+        return values(m.asF64());
+    }
+
+    private static double[] values(Matrix3F64 m) {
+        return new double[] {
+                m.m00(), m.m01(), m.m02(),
+                m.m10(), m.m11(), m.m12(),
+                m.m20(), m.m21(), m.m22()
+        };
+    }
+
+    private static void assertClose(double[] expected, double[] actual, double tolerance) {
+        for (int i = 0; i < expected.length; i++) {
+            Assertions.assertEquals(expected[i], actual[i], tolerance * Math.max(1d, Math.abs(expected[i])), "Element " + i);
+        }
+    }
+
+    @Test
+    void testFactories() {
+        final var random = new Random(190);
+        for (int i = 0; i < ROTATIONS; i++) {
+            final var axis = randomAxis(random);
+            final var angle = randomAngle(random);
+            assertClose(Quaternion.fromAxisAngle(axis.asF64(), angle), QuaternionF32.fromAxisAngle(axis, angle), TOLERANCE);
+
+            final var yaw = randomAngle(random);
+            final var pitch = radians(random.nextDouble(-Math.PI * .5, Math.PI * .5));
+            final var roll = randomAngle(random);
+            assertClose(Quaternion.fromEulerAngles(yaw, pitch, roll), QuaternionF32.fromEulerAngles(yaw, pitch, roll), TOLERANCE);
+
+            final var from = randomAxis(random).normalize();
+            final var to = randomAxis(random).normalize();
+            assertClose(Quaternion.fromRotationBetween(from.asF64(), to.asF64()), QuaternionF32.fromRotationBetween(from, to), ACOS_TOLERANCE);
+
+            // The rows of a rotation matrix, scaled differently since the axes are normalized internally.
+            final var rotation = randomRotation(random).asF64();
+            final var matrix = Matrix3F64.fromRotation(rotation);
+            final var xAxis = new Vector3F32((float) matrix.m00(), (float) matrix.m01(), (float) matrix.m02()).mul(2f);
+            final var yAxis = new Vector3F32((float) matrix.m10(), (float) matrix.m11(), (float) matrix.m12()).mul(0.5f);
+            final var zAxis = new Vector3F32((float) matrix.m20(), (float) matrix.m21(), (float) matrix.m22()).mul(3f);
+            assertSameRotation(Quaternion.fromAxes(xAxis.asF64(), yAxis.asF64(), zAxis.asF64()), QuaternionF32.fromAxes(xAxis, yAxis, zAxis), TOLERANCE);
+            final var matrix3 = Matrix3F32.fromRotation(rotation);
+            assertSameRotation(Quaternion.fromMatrix3(matrix3.asF64()), QuaternionF32.fromMatrix3(matrix3), TOLERANCE);
+            final var matrix4 = Matrix4F32.fromRotation(rotation);
+            assertSameRotation(Quaternion.fromMatrix4(matrix4.asF64()), QuaternionF32.fromMatrix4(matrix4), TOLERANCE);
+            assertSameRotation(rotation, QuaternionF32.fromMatrix4(matrix4), TOLERANCE);
+        }
+
+        // The parallel and antiparallel vectors.
+        final var x = new Vector3F32(1f, 0f, 0f);
+        final var y = new Vector3F32(0f, 1f, 0f);
+        Assertions.assertEquals(QuaternionF32.identity(), QuaternionF32.fromRotationBetween(x, x));
+        assertClose(Quaternion.fromRotationBetween(x.asF64(), x.mul(-1f).asF64()), QuaternionF32.fromRotationBetween(x, x.mul(-1f)), TOLERANCE);
+        assertClose(Quaternion.fromRotationBetween(y.asF64(), y.mul(-1f).asF64()), QuaternionF32.fromRotationBetween(y, y.mul(-1f)), TOLERANCE);
+    }
+
+    @Test
+    void testEulerAngles() {
+        final var random = new Random(191);
+        for (int i = 0; i < ROTATIONS; i++) {
+            final var q = QuaternionF32.fromEulerAngles(randomAngle(random), radians(random.nextDouble(-1.5, 1.5)), randomAngle(random));
+            final var q64 = q.asF64();
+            Assertions.assertEquals(q64.gimbalPole(), q.gimbalPole());
+            assertClose(q64.yaw(), q.yaw(), ACOS_TOLERANCE);
+            assertClose(q64.pitch(), q.pitch(), ACOS_TOLERANCE);
+            assertClose(q64.roll(), q.roll(), ACOS_TOLERANCE);
+        }
+        // A quarter turn of roll puts the rotation at a pole of `gimbalPole()`, whatever the yaw.
+        for (final double roll : new double[]{90, -90}) {
+            final var q = QuaternionF32.fromEulerAngles(degrees(30), degrees(0), degrees(roll));
+            final var q64 = q.asF64();
+            Assertions.assertEquals(roll > 0 ? GimbalPole.NORTH : GimbalPole.SOUTH, q.gimbalPole());
+            Assertions.assertEquals(q64.gimbalPole(), q.gimbalPole());
+            assertClose(q64.yaw(), q.yaw(), TOLERANCE);
+            assertClose(q64.pitch(), q.pitch(), TOLERANCE);
+            assertClose(q64.roll(), q.roll(), TOLERANCE);
+        }
+    }
+
+    @Test
+    void testInterpolation() {
+        final var random = new Random(192);
+        for (int i = 0; i < ROTATIONS; i++) {
+            final var a = randomRotation(random);
+            final var b = randomRotation(random);
+            final float alpha = random.nextFloat();
+            assertClose(a.asF64().slerp(b.asF64(), alpha), a.slerp(b, alpha), TOLERANCE);
+            assertClose(a.asF64().pow(alpha), a.pow(alpha), ACOS_TOLERANCE);
+
+            final var quaternions = new QuaternionF32[]{a, b, randomRotation(random)};
+            final var quaternions64 = new Quaternion[]{a.asF64(), b.asF64(), quaternions[2].asF64()};
+            final float[] weights = {random.nextFloat(), random.nextFloat(), random.nextFloat()};
+            final double[] weights64 = {weights[0], weights[1], weights[2]};
+            assertClose(Quaternion.weightedSlerp(quaternions64, weights64), QuaternionF32.weightedSlerp(quaternions, weights), ACOS_TOLERANCE);
+            assertClose(Quaternion.weightedSlerp(quaternions64), QuaternionF32.weightedSlerp(quaternions), ACOS_TOLERANCE);
+        }
+        // The nearly equal quaternions take the linear path.
+        final var a = QuaternionF32.fromAxisAngle(new Vector3F32(0f, 0f, 1f), degrees(10));
+        final var b = QuaternionF32.fromAxisAngle(new Vector3F32(0f, 0f, 1f), degrees(10.001));
+        assertClose(a.asF64().slerp(b.asF64(), 0.3), a.slerp(b, 0.3f), TOLERANCE);
+    }
+
+    @Test
+    void testDecomposition() {
+        final var random = new Random(193);
+        for (int i = 0; i < ROTATIONS; i++) {
+            final var q = randomRotation(random);
+            final var q64 = q.asF64();
+            final var axis = randomAxis(random);
+
+            final var swingTwist = q.swingTwist(axis);
+            final var swingTwist64 = q64.swingTwist(axis.asF64());
+            assertClose(swingTwist64.swing(), swingTwist.swing(), TOLERANCE);
+            assertClose(swingTwist64.twist(), swingTwist.twist(), TOLERANCE);
+            assertClose(q64.angleAround(axis.normalize().asF64()), q.angleAround(axis.normalize()), ACOS_TOLERANCE);
+
+            final var axisAngle = q.axisAngle();
+            final var axisAngle64 = q64.axisAngle();
+            // The axis is divided by `sqrt(1 - w²)`, which loses the precision of `w` near the identity.
+            final double sin2 = 1 - q64.w() * q64.w();
+            assertClose(axisAngle64.axis(), axisAngle.axis(), TOLERANCE / sin2);
+            assertClose(axisAngle64.angle(), axisAngle.angle(), ACOS_TOLERANCE);
+            assertClose(q64.angle(), q.angle(), ACOS_TOLERANCE);
+
+            final var vector = new Vector3F32(random.nextFloat(-10f, 10f), random.nextFloat(-10f, 10f), random.nextFloat(-10f, 10f));
+            assertClose(q64.rotate(vector.asF64()), q.rotate(vector), TOLERANCE);
+            final var angle = randomAngle(random);
+            assertClose(vector.asF64().rotate(axis.asF64(), angle), vector.rotate(axis, angle), TOLERANCE);
+        }
+    }
+
+    @Test
+    void testMatrices() {
+        final var random = new Random(194);
+        for (int i = 0; i < ROTATIONS; i++) {
+            final var axis = randomAxis(random);
+            final var angle = randomAngle(random);
+            assertClose(values(Matrix4F64.fromAxisAngle(axis.asF64(), angle)), values(Matrix4F32.fromAxisAngle(axis, angle)), TOLERANCE);
+            final var from = randomAxis(random).normalize();
+            final var to = randomAxis(random).normalize();
+            assertClose(values(Matrix4F64.fromRotationBetween(from.asF64(), to.asF64())), values(Matrix4F32.fromRotationBetween(from, to)), ACOS_TOLERANCE);
+            final var yaw = randomAngle(random);
+            final var pitch = randomAngle(random);
+            final var roll = randomAngle(random);
+            assertClose(values(Matrix4F64.fromEulerAngles(yaw, pitch, roll)), values(Matrix4F32.fromEulerAngles(yaw, pitch, roll)), TOLERANCE);
+
+            // The single precision overloads against the ones taking a double precision quaternion.
+            final var q = randomRotation(random);
+            final var q64 = q.asF64();
+            final var translation = new Vector3F32(random.nextFloat(-100f, 100f), random.nextFloat(-100f, 100f), random.nextFloat(-100f, 100f));
+            final var scale = new Vector3F32(0.5f + random.nextFloat() * 2f, 0.5f + random.nextFloat() * 2f, 0.5f + random.nextFloat() * 2f);
+            assertClose(values(Matrix4F32.fromRotation(q64)), values(Matrix4F32.fromRotation(q)), TOLERANCE);
+            assertClose(values(Matrix4F32.fromTR(translation, q64)), values(Matrix4F32.fromTR(translation, q)), TOLERANCE);
+            assertClose(values(Matrix4F32.fromTRS(translation, q64, scale)), values(Matrix4F32.fromTRS(translation, q, scale)), TOLERANCE);
+            final var m = Matrix4F32.fromTRS(translation, randomRotation(random), scale);
+            assertClose(values(m.rotate(q64)), values(m.rotate(q)), TOLERANCE);
+            assertSameRotation(m.rotation(), m.rotationF32(), TOLERANCE);
+
+            final var translation2 = new Vector2F32(translation.x(), translation.y());
+            final var scale2 = new Vector2F32(scale.x(), scale.y());
+            assertClose(values(Matrix3F32.fromRotation(q64)), values(Matrix3F32.fromRotation(q)), TOLERANCE);
+            assertClose(values(Matrix3F32.fromTRS(translation2, q64, scale2)), values(Matrix3F32.fromTRS(translation2, q, scale2)), TOLERANCE);
+            final var m3 = Matrix3F32.fromRotation(randomRotation(random));
+            assertClose(values(m3.rotate(q64)), values(m3.rotate(q)), TOLERANCE);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.scene;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.matrix.Affine4F32;
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.rotation.Quaternion;
+import org.lidiuma.math.rotation.Radians;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import java.lang.foreign.Arena;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/// Checks the world transforms of the hierarchy against `parentWorld * local`, computed node by node.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class TransformHierarchyTest {
+
+    private static final int NODES = 300;
+    private static final int EDITS = 40;
+    private static final int ROUNDS = 10;
+    /// Small enough for the levels of the random hierarchies to be split across the pool.
+    private static final long THRESHOLD = 8;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterAll
+    void close() {
+        pool.shutdown();
+    }
+
+    private static Vector3F32 randomVector(Random random, float bound) {
+        return new Vector3F32(
+                (random.nextFloat() * 2f - 1f) * bound,
+                (random.nextFloat() * 2f - 1f) * bound,
+                (random.nextFloat() * 2f - 1f) * bound
+        );
+    }
+
+    private static Quaternion randomRotation(Random random) {
+        final var axis = randomVector(random, 1f).asF64();
+        return Quaternion.fromAxisAngle(axis.isZero(1e-3) ? new Vector3F64(0d, 1d, 0d) : axis, Radians.radians(random.nextDouble(-Math.PI, Math.PI)));
+    }
+
+    private static Vector3F32 randomScale(Random random) {
+        return new Vector3F32(0.8f + random.nextFloat() * 0.4f, 0.8f + random.nextFloat() * 0.4f, 0.8f + random.nextFloat() * 0.4f);
+    }
+
+    /// Adds a node under a random existing one, or a new root.
+    private static void addRandom(TransformHierarchy hierarchy, Random random) {
+        final int parent = random.nextInt(hierarchy.size() + 1) - 1;
+        hierarchy.add(parent, randomVector(random, 10f), randomRotation(random), randomScale(random));
+    }
+
+    private static TransformHierarchy randomHierarchy(Random random) {
+        final var hierarchy = new TransformHierarchy(4);
+        for (int i = 0; i < NODES; i++) addRandom(hierarchy, random);
+        return hierarchy;
+    }
+
+    /// Changes one random component of the local transform of a random node.
+    private static void editRandom(TransformHierarchy hierarchy, Random random) {
+        final int node = random.nextInt(hierarchy.size());
+        switch (random.nextInt(3)) {
+            case 0 -> hierarchy.setTranslation(node, randomVector(random, 10f));
+            case 1 -> hierarchy.setRotation(node, randomRotation(random));
+            default -> hierarchy.setScale(node, randomScale(random));
+        }
+    }
+
+    private static void assertWorld(TransformHierarchy hierarchy) {
+        for (int node = 0; node < hierarchy.size(); node++) {
+            final int parent = hierarchy.parent(node);
+            final var expected = parent == TransformHierarchy.ROOT ? hierarchy.local(node) : hierarchy.world(parent).mul(hierarchy.local(node));
+            Assertions.assertEquals(expected, hierarchy.world(node), "Node " + node);
+            Assertions.assertFalse(hierarchy.isDirty(node));
+        }
+    }
+
+    private static boolean isDescendant(TransformHierarchy hierarchy, int node, int ancestor) {
+        for (int current = node; current != TransformHierarchy.ROOT; current = hierarchy.parent(current)) {
+            if (current == ancestor) return true;
+        }
+        return false;
+    }
+
+    @Test
+    void testUpdate() {
+        final var random = new Random(10);
+        final var sequential = randomHierarchy(random);
+        final var pooled = randomHierarchy(new Random(10));
+        for (int round = 0; round < ROUNDS; round++) {
+            final long seed = random.nextLong();
+            final var sequentialEdits = new Random(seed);
+            final var pooledEdits = new Random(seed);
+            for (int i = 0; i < EDITS; i++) {
+                editRandom(sequential, sequentialEdits);
+                editRandom(pooled, pooledEdits);
+            }
+            sequential.update();
+            pooled.update(pool, THRESHOLD);
+            assertWorld(sequential);
+            assertWorld(pooled);
+            for (int node = 0; node < NODES; node++) Assertions.assertEquals(sequential.world(node), pooled.world(node));
+        }
+    }
+
+    @Test
+    void testOnlyDirtySubtreeChanges() {
+        final var random = new Random(20);
+        final var hierarchy = randomHierarchy(random);
+        hierarchy.update();
+        for (int round = 0; round < ROUNDS; round++) {
+            final var before = new Affine4F32[NODES];
+            for (int node = 0; node < NODES; node++) before[node] = hierarchy.world(node);
+            final int edited = random.nextInt(NODES);
+            hierarchy.setTranslation(edited, hierarchy.translation(edited).add(new Vector3F32(1f, 2f, 3f)));
+            Assertions.assertTrue(hierarchy.isDirty(edited));
+            if (round % 2 == 0) hierarchy.update();
+            else hierarchy.update(pool);
+            assertWorld(hierarchy);
+            for (int node = 0; node < NODES; node++) {
+                if (isDescendant(hierarchy, node, edited)) {
+                    Assertions.assertNotEquals(before[node], hierarchy.world(node), "Node " + node + " under " + edited);
+                } else {
+                    Assertions.assertEquals(before[node], hierarchy.world(node), "Node " + node + " outside " + edited);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testLevelsAfterAdd() {
+        final var random = new Random(30);
+        final var hierarchy = randomHierarchy(random);
+        hierarchy.update(pool);
+        assertWorld(hierarchy);
+        // The new nodes go at every depth, the pooled update must see them in the rebuilt level order.
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < EDITS; i++) addRandom(hierarchy, random);
+            editRandom(hierarchy, random);
+            hierarchy.update(pool);
+            assertWorld(hierarchy);
+        }
+    }
+
+    @Test
+    void testWorldToMemorySegment() {
+        final var hierarchy = randomHierarchy(new Random(40));
+        hierarchy.update();
+        // More than two chunks of the bulk copy, starting at neither end of the hierarchy nor of the segment.
+        final int from = 7, count = 200;
+        final long index = 3;
+        try (final var arena = Arena.ofConfined()) {
+            final long byteSize = Matrix4F32.identity().byteSize();
+            final var bulk = arena.allocate((index + count + 1) * byteSize, Float.BYTES).fill((byte) 0x5A);
+            final var loop = arena.allocate(bulk.byteSize(), Float.BYTES).fill((byte) 0x5A);
+            hierarchy.worldToMemorySegment(from, count, bulk, index);
+            for (int i = 0; i < count; i++) hierarchy.worldMatrix(from + i).toMemorySegment(loop, index + i);
+            Assertions.assertEquals(-1L, loop.mismatch(bulk));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> hierarchy.worldToMemorySegment(from, NODES, bulk, 0));
+        }
+    }
+
+    @Test
+    void testBounds() {
+        final var hierarchy = new TransformHierarchy();
+        final int root = hierarchy.add(TransformHierarchy.ROOT);
+        Assertions.assertEquals(0, hierarchy.depth(root));
+        Assertions.assertEquals(1, hierarchy.depth(hierarchy.add(root)));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> hierarchy.add(2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> hierarchy.world(2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TransformHierarchy(-1));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.shape;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.rotation.Radians;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import java.lang.foreign.Arena;
+import java.util.Random;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+
+/// Checks the frustum of a camera with known bounds, and the bulk culling against the single shape tests.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class FrustumTest {
+
+    /// Camera at `z = 10` looking at the origin, with a 90 degrees vertical field of view and a square aspect,
+    /// so at distance `d` the visible region is `|x| <= d` and `|y| <= d`, between the near plane at `1` and the far one at `100`.
+    private static final Matrix4F32 VIEW_PROJECTION = Matrix4F32.fromProjection(1f, 100f, Radians.degrees(90), 1f)
+            .mul(Matrix4F32.fromLookAt(new Vector3F32(0f, 0f, 10f), new Vector3F32(0f, 0f, 0f), new Vector3F32(0f, 1f, 0f)));
+    private static final FrustumF32 FRUSTUM = FrustumF32.fromMatrix(VIEW_PROJECTION);
+    private static final FrustumF64 FRUSTUM_F64 = FrustumF64.fromMatrix(VIEW_PROJECTION.asF64());
+
+    /// Not a multiple of 64, so the last word of the bitset is partial.
+    private static final int SHAPES = 150;
+    /// Starts inside the first word and ends inside the last one.
+    private static final int FROM = 37;
+    private static final int COUNT = 91;
+
+    private static void assertPoint(boolean expected, float x, float y, float z) {
+        Assertions.assertEquals(expected, FRUSTUM.contains(new Vector3F32(x, y, z)), () -> x + ", " + y + ", " + z);
+        Assertions.assertEquals(expected, FRUSTUM_F64.contains(new Vector3F32(x, y, z).asF64()), () -> x + ", " + y + ", " + z);
+    }
+
+    private static void assertSphere(boolean intersects, boolean contains, float x, float y, float z, float radius) {
+        final var sphere = new Sphere<Float, Vector3F32>(new Vector3F32(x, y, z), radius);
+        final var sphereF64 = new Sphere<Double, Vector3F64>(new Vector3F32(x, y, z).asF64(), (double) radius);
+        Assertions.assertEquals(intersects, FRUSTUM.intersects(sphere), sphere::toString);
+        Assertions.assertEquals(contains, FRUSTUM.contains(sphere), sphere::toString);
+        Assertions.assertEquals(intersects, FRUSTUM_F64.intersects(sphereF64), sphere::toString);
+        Assertions.assertEquals(contains, FRUSTUM_F64.contains(sphereF64), sphere::toString);
+    }
+
+    private static void assertCuboid(boolean intersects, boolean contains, float x, float y, float z, float size) {
+        final var cuboid = new Cuboid<Float, Vector3F32>(new Vector3F32(x, y, z), size, size, size);
+        final var cuboidF64 = new Cuboid<Double, Vector3F64>(new Vector3F32(x, y, z).asF64(), (double) size, (double) size, (double) size);
+        Assertions.assertEquals(intersects, FRUSTUM.intersects(cuboid), cuboid::toString);
+        Assertions.assertEquals(contains, FRUSTUM.contains(cuboid), cuboid::toString);
+        Assertions.assertEquals(intersects, FRUSTUM_F64.intersects(cuboidF64), cuboid::toString);
+        Assertions.assertEquals(contains, FRUSTUM_F64.contains(cuboidF64), cuboid::toString);
+    }
+
+    @Test
+    void testFromMatrix() {
+        assertPoint(true, 0f, 0f, 0f);
+        assertPoint(true, 9f, 0f, 0f);
+        assertPoint(true, 0f, -9.5f, 0f);
+        assertPoint(false, 11f, 0f, 0f);
+        assertPoint(false, 0f, 10.5f, 0f);
+        assertPoint(true, 0f, 0f, 8.5f);
+        assertPoint(false, 0f, 0f, 9.5f);
+        assertPoint(false, 0f, 0f, 11f);
+        assertPoint(true, 0f, 0f, -89f);
+        assertPoint(false, 0f, 0f, -91f);
+
+        // The side planes are at 45 degrees, so a center 2 past the x = 10 edge is sqrt(2) away from the plane.
+        assertSphere(true, true, 0f, 0f, 0f, 1f);
+        assertSphere(true, false, 0f, 0f, 0f, 8f);
+        assertSphere(true, false, 12f, 0f, 0f, 2f);
+        assertSphere(false, false, 12f, 0f, 0f, 1f);
+        assertSphere(true, false, 0f, 0f, -92f, 3f);
+        assertSphere(false, false, 0f, 0f, 20f, 5f);
+
+        assertCuboid(true, true, -0.5f, -0.5f, -0.5f, 1f);
+        assertCuboid(false, false, 20f, 20f, 0f, 1f);
+        assertCuboid(true, false, -0.5f, -0.5f, 8.5f, 1f);
+        assertCuboid(true, false, 9.5f, -0.5f, -0.5f, 1f);
+        assertCuboid(false, false, -0.5f, -0.5f, 9.5f, 1f);
+    }
+
+    /// Shapes snapped to a grid of quarters, so the centers and extents are exact in both the bulk and the single tests.
+    private static float snapped(Random random, int bound) {
+        return random.nextInt(-bound * 4, bound * 4) * 0.25f;
+    }
+
+    @Test
+    void testCull() {
+        final var random = new Random(16);
+        try (final var arena = Arena.ofConfined()) {
+            final var cuboids = arena.allocate(JAVA_FLOAT, (long) SHAPES * FrustumF32.CUBOID_STRIDE);
+            final var spheres = arena.allocate(JAVA_FLOAT, (long) SHAPES * FrustumF32.SPHERE_STRIDE);
+            final var cuboidsF64 = arena.allocate(JAVA_DOUBLE, (long) SHAPES * FrustumF64.CUBOID_STRIDE);
+            final var spheresF64 = arena.allocate(JAVA_DOUBLE, (long) SHAPES * FrustumF64.SPHERE_STRIDE);
+            final var cuboidShapes = new Cuboid[SHAPES];
+            final var sphereShapes = new Sphere[SHAPES];
+            for (int i = 0; i < SHAPES; i++) {
+                final var pos = new Vector3F32(snapped(random, 40), snapped(random, 40), snapped(random, 120));
+                final float width = snapped(random, 5) + 5f, height = snapped(random, 5) + 5f, length = snapped(random, 5) + 5f;
+                cuboidShapes[i] = new Cuboid<>(pos, width, height, length);
+                final float[] bounds = {pos.x(), pos.y(), pos.z(), pos.x() + width, pos.y() + height, pos.z() + length};
+                for (int c = 0; c < bounds.length; c++) {
+                    cuboids.setAtIndex(JAVA_FLOAT, (long) i * FrustumF32.CUBOID_STRIDE + c, bounds[c]);
+                    cuboidsF64.setAtIndex(JAVA_DOUBLE, (long) i * FrustumF64.CUBOID_STRIDE + c, bounds[c]);
+                }
+                final var center = new Vector3F32(snapped(random, 40), snapped(random, 40), snapped(random, 120));
+                final float radius = snapped(random, 5) + 5f;
+                sphereShapes[i] = new Sphere<>(center, radius);
+                final float[] sphere = {center.x(), center.y(), center.z(), radius};
+                for (int c = 0; c < sphere.length; c++) {
+                    spheres.setAtIndex(JAVA_FLOAT, (long) i * FrustumF32.SPHERE_STRIDE + c, sphere[c]);
+                    spheresF64.setAtIndex(JAVA_DOUBLE, (long) i * FrustumF64.SPHERE_STRIDE + c, sphere[c]);
+                }
+            }
+            final int words = (SHAPES + Long.SIZE - 1) / Long.SIZE;
+            // The bits outside the range start as a pattern that must survive the culling.
+            final long pattern = 0x5A5A_5A5A_5A5A_5A5AL;
+            final long[][] visibility = new long[4][words];
+            for (final long[] bits : visibility) java.util.Arrays.fill(bits, pattern);
+            final long visibleCuboids = FRUSTUM.cullCuboids(cuboids, FROM, COUNT, visibility[0]);
+            final long visibleSpheres = FRUSTUM.cullSpheres(spheres, FROM, COUNT, visibility[1]);
+            final long visibleCuboidsF64 = FRUSTUM_F64.cullCuboids(cuboidsF64, FROM, COUNT, visibility[2]);
+            final long visibleSpheresF64 = FRUSTUM_F64.cullSpheres(spheresF64, FROM, COUNT, visibility[3]);
+            long expectedCuboids = 0, expectedSpheres = 0;
+            for (int i = 0; i < SHAPES; i++) {
+                final long bit = 1L << i;
+                final int word = i >>> 6;
+                if (i < FROM || i >= FROM + COUNT) {
+                    for (final long[] bits : visibility) Assertions.assertEquals(pattern & bit, bits[word] & bit, "Shape " + i + " outside the range");
+                    continue;
+                }
+                @SuppressWarnings("unchecked")
+                final boolean cuboid = FRUSTUM.intersects((Cuboid<Float, Vector3F32>) cuboidShapes[i]);
+                @SuppressWarnings("unchecked")
+                final boolean sphere = FRUSTUM.intersects((Sphere<Float, Vector3F32>) sphereShapes[i]);
+                if (cuboid) expectedCuboids++;
+                if (sphere) expectedSpheres++;
+                Assertions.assertEquals(cuboid, (visibility[0][word] & bit) != 0, "Cuboid " + i);
+                Assertions.assertEquals(sphere, (visibility[1][word] & bit) != 0, "Sphere " + i);
+                Assertions.assertEquals(cuboid, (visibility[2][word] & bit) != 0, "Cuboid " + i);
+                Assertions.assertEquals(sphere, (visibility[3][word] & bit) != 0, "Sphere " + i);
+            }
+            Assertions.assertEquals(expectedCuboids, visibleCuboids);
+            Assertions.assertEquals(expectedSpheres, visibleSpheres);
+            Assertions.assertEquals(expectedCuboids, visibleCuboidsF64);
+            Assertions.assertEquals(expectedSpheres, visibleSpheresF64);
+            // The test is only meaningful if both outcomes happen.
+            Assertions.assertTrue(expectedCuboids > 0 && expectedCuboids < COUNT);
+            Assertions.assertTrue(expectedSpheres > 0 && expectedSpheres < COUNT);
+
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> FRUSTUM.cullSpheres(spheres, FROM, SHAPES, new long[words]));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> FRUSTUM.cullSpheres(spheres, 0, SHAPES, new long[words - 1]));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> FRUSTUM_F64.cullCuboids(cuboidsF64, FROM, SHAPES, new long[words]));
+        }
+    }
+
+    @Test
+    void testPlane() {
+        for (int i = 0; i < FrustumF32.PLANES; i++) {
+            final var plane = FRUSTUM.plane(i);
+            Assertions.assertEquals(1f, plane.x() * plane.x() + plane.y() * plane.y() + plane.z() * plane.z(), 1e-6f, "Plane " + i);
+        }
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> FRUSTUM.plane(FrustumF32.PLANES));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> FRUSTUM_F64.plane(-1));
+    }
+}
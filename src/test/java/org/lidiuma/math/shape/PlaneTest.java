@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.shape;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F32Buffer;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import org.lidiuma.math.vector.v3.Vector3F64Buffer;
+import java.lang.foreign.Arena;
+import java.util.Random;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+
+/// Checks the planes against the known plane `z = 2`, and the bulk distances against the single ones.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class PlaneTest {
+
+    /// The plane `z = 2` facing `+z`, its points are counter-clockwise when seen from above.
+    private static final Plane3F32 PLANE = Plane3F32.fromPoints(
+            new Vector3F32(0f, 0f, 2f), new Vector3F32(1f, 0f, 2f), new Vector3F32(0f, 1f, 2f));
+    private static final Plane3F64 PLANE_F64 = Plane3F64.fromPoints(
+            new Vector3F64(0.0, 0.0, 2.0), new Vector3F64(1.0, 0.0, 2.0), new Vector3F64(0.0, 1.0, 2.0));
+
+    private static final int POINTS = 100;
+    /// Starts and ends inside the buffer, so the bulk call must leave the rest of the output untouched.
+    private static final int FROM = 13;
+    private static final int COUNT = 71;
+
+    /// Compares with a zero delta, since the cross product of the points can give negative zeros.
+    private static void assertPlane(float nx, float ny, float nz, float distance, Plane3F32 plane, Plane3F64 planeF64) {
+        final var coefficients = plane.asCoefficients();
+        Assertions.assertEquals(nx, coefficients.x(), 0f);
+        Assertions.assertEquals(ny, coefficients.y(), 0f);
+        Assertions.assertEquals(nz, coefficients.z(), 0f);
+        Assertions.assertEquals(distance, coefficients.w(), 0f);
+        final var coefficientsF64 = planeF64.asCoefficients();
+        Assertions.assertEquals(nx, coefficientsF64.x(), 0.0);
+        Assertions.assertEquals(ny, coefficientsF64.y(), 0.0);
+        Assertions.assertEquals(nz, coefficientsF64.z(), 0.0);
+        Assertions.assertEquals(distance, coefficientsF64.w(), 0.0);
+    }
+
+    @Test
+    void testFromPoints() {
+        assertPlane(0f, 0f, 1f, -2f, PLANE, PLANE_F64);
+        // The clockwise order faces the other side.
+        assertPlane(0f, 0f, -1f, 2f,
+                Plane3F32.fromPoints(new Vector3F32(0f, 0f, 2f), new Vector3F32(0f, 1f, 2f), new Vector3F32(1f, 0f, 2f)),
+                Plane3F64.fromPoints(new Vector3F64(0.0, 0.0, 2.0), new Vector3F64(0.0, 1.0, 2.0), new Vector3F64(1.0, 0.0, 2.0)));
+        // A tilted plane through three axis points, facing away from the origin.
+        final float inverseSqrt3 = (float) (1.0 / Math.sqrt(3.0));
+        final var tilted = Plane3F32.fromPoints(new Vector3F32(1f, 0f, 0f), new Vector3F32(0f, 1f, 0f), new Vector3F32(0f, 0f, 1f));
+        Assertions.assertEquals(inverseSqrt3, tilted.signedDistance(new Vector3F32(2f / 3f, 2f / 3f, 2f / 3f)), 1e-6f);
+        Assertions.assertEquals(-inverseSqrt3, tilted.signedDistance(new Vector3F32(0f, 0f, 0f)), 1e-6f);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Plane3F32.fromPoints(
+                new Vector3F32(0f, 0f, 0f), new Vector3F32(1f, 1f, 1f), new Vector3F32(2f, 2f, 2f)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Plane3F64.fromPoints(
+                new Vector3F64(0.0, 0.0, 0.0), new Vector3F64(1.0, 1.0, 1.0), new Vector3F64(2.0, 2.0, 2.0)));
+    }
+
+    private static void assertPoint(PlaneSide expected, float z) {
+        Assertions.assertEquals(expected, PLANE.side(new Vector3F32(3f, -4f, z)), () -> "z = " + z);
+        Assertions.assertEquals(expected, PLANE_F64.side(new Vector3F64(3.0, -4.0, (double) z)), () -> "z = " + z);
+    }
+
+    private static void assertSphere(PlaneSide expected, float z, float radius) {
+        final var sphere = new Sphere<Float, Vector3F32>(new Vector3F32(3f, -4f, z), radius);
+        final var sphereF64 = new Sphere<Double, Vector3F64>(new Vector3F64(3.0, -4.0, (double) z), (double) radius);
+        Assertions.assertEquals(expected, PLANE.side(sphere), sphere::toString);
+        Assertions.assertEquals(expected, PLANE_F64.side(sphereF64), sphere::toString);
+    }
+
+    private static void assertCuboid(PlaneSide expected, Plane3F32 plane, float x, float y, float z, float size) {
+        final var cuboid = new Cuboid<Float, Vector3F32>(new Vector3F32(x, y, z), size, size, size);
+        final var cuboidF64 = new Cuboid<Double, Vector3F64>(new Vector3F32(x, y, z).asF64(), (double) size, (double) size, (double) size);
+        final var planeF64 = new Plane3F64(plane.normal().asF64(), (double) plane.distance());
+        Assertions.assertEquals(expected, plane.side(cuboid), cuboid::toString);
+        Assertions.assertEquals(expected, planeF64.side(cuboidF64), cuboid::toString);
+    }
+
+    @Test
+    void testSide() {
+        assertPoint(PlaneSide.FRONT, 3f);
+        assertPoint(PlaneSide.BACK, 1f);
+        assertPoint(PlaneSide.ON, 2f);
+        assertPoint(PlaneSide.FRONT, 2.001f);
+        assertPoint(PlaneSide.BACK, 1.999f);
+
+        assertSphere(PlaneSide.FRONT, 3f, 0.5f);
+        assertSphere(PlaneSide.BACK, 1f, 0.5f);
+        assertSphere(PlaneSide.ON, 3f, 1.5f);
+        assertSphere(PlaneSide.ON, 1.5f, 1f);
+
+        // The position is the minimum corner, so the cuboid spans [z, z + size].
+        assertCuboid(PlaneSide.FRONT, PLANE, 0f, 0f, 2.5f, 1f);
+        assertCuboid(PlaneSide.BACK, PLANE, 0f, 0f, 0.5f, 1f);
+        assertCuboid(PlaneSide.ON, PLANE, 0f, 0f, 1.5f, 1f);
+        // Along the normal of the diagonal plane x + y = 0 the unit cube reaches 1 / sqrt(2) from its center.
+        final float inverseSqrt2 = (float) (1.0 / Math.sqrt(2.0));
+        final var diagonal = new Plane3F32(new Vector3F32(inverseSqrt2, inverseSqrt2, 0f), 0f);
+        assertCuboid(PlaneSide.FRONT, diagonal, 0.1f, 0.1f, 0f, 1f);
+        assertCuboid(PlaneSide.ON, diagonal, -0.6f, 0.1f, 0f, 1f);
+        assertCuboid(PlaneSide.BACK, diagonal, -1.1f, -1.1f, 0f, 1f);
+    }
+
+    private static void assertRay(float expected, float z, float dz, float maxDistance) {
+        final var direction = new Vector3F32(0.5f, 0f, dz);
+        Assertions.assertEquals(expected, PLANE.intersect(new Ray3F32(new Vector3F32(1f, 1f, z), direction), maxDistance));
+        Assertions.assertEquals(expected, PLANE_F64.intersect(new Vector3F64(1.0, 1.0, (double) z), direction.asF64(), (double) maxDistance));
+    }
+
+    @Test
+    void testIntersectRay() {
+        // From either side.
+        assertRay(3f, 5f, -1f, 10f);
+        assertRay(3f, -1f, 1f, 10f);
+        // The distance is in units of the direction length.
+        assertRay(1.5f, 5f, -2f, 10f);
+        assertRay(0f, 2f, -1f, 10f);
+        // Pointing away, parallel, and too short.
+        assertRay(Float.POSITIVE_INFINITY, 5f, 1f, 10f);
+        assertRay(Float.POSITIVE_INFINITY, 5f, 0f, 10f);
+        assertRay(Float.POSITIVE_INFINITY, 5f, -1f, 2f);
+        assertRay(3f, 5f, -1f, 3f);
+    }
+
+    private static void assertLine(float expected, float startZ, float endZ) {
+        final var line = new Line<>(new Vector3F32(0f, 1f, startZ), new Vector3F32(2f, -1f, endZ));
+        final var lineF64 = new Line<>(new Vector3F64(0.0, 1.0, (double) startZ), new Vector3F64(2.0, -1.0, (double) endZ));
+        Assertions.assertEquals(expected, PLANE.intersect(line), line::toString);
+        Assertions.assertEquals(expected, PLANE_F64.intersect(lineF64), line::toString);
+    }
+
+    @Test
+    void testIntersectLine() {
+        assertLine(0.25f, 1f, 5f);
+        assertLine(0.75f, 5f, 1f);
+        assertLine(0f, 2f, -2f);
+        assertLine(1f, 6f, 2f);
+        // Both ends on the same side, and the line lying on the plane.
+        assertLine(Float.POSITIVE_INFINITY, 3f, 5f);
+        assertLine(Float.POSITIVE_INFINITY, -3f, 1f);
+        assertLine(Float.POSITIVE_INFINITY, 2f, 2f);
+    }
+
+    @Test
+    void testSignedDistances() {
+        final var random = new Random(17);
+        final var normal = new Vector3F32(random.nextFloat() - 0.5f, random.nextFloat() - 0.5f, random.nextFloat() - 0.5f);
+        final var plane = Plane3F32.fromPointNormal(new Vector3F32(1f, 2f, 3f), normal);
+        final var planeF64 = new Plane3F64(plane.normal().asF64(), (double) plane.distance());
+        try (final var arena = Arena.ofConfined()) {
+            final var points = Vector3F32Buffer.allocate(arena, POINTS);
+            final var pointsF64 = Vector3F64Buffer.allocate(arena, POINTS);
+            final var out = arena.allocate(JAVA_FLOAT, POINTS);
+            final var outF64 = arena.allocate(JAVA_DOUBLE, POINTS);
+            for (int i = 0; i < POINTS; i++) {
+                final var point = new Vector3F32(random.nextFloat() * 20f - 10f, random.nextFloat() * 20f - 10f, random.nextFloat() * 20f - 10f);
+                points.set(i, point);
+                pointsF64.set(i, point.asF64());
+                out.setAtIndex(JAVA_FLOAT, i, Float.NaN);
+                outF64.setAtIndex(JAVA_DOUBLE, i, Double.NaN);
+            }
+            plane.signedDistances(points, out, FROM, COUNT);
+            planeF64.signedDistances(pointsF64, outF64, FROM, COUNT);
+            for (int i = 0; i < POINTS; i++) {
+                final boolean inside = i >= FROM && i < FROM + COUNT;
+                final float expected = inside ? plane.signedDistance(points.get(i)) : Float.NaN;
+                final double expectedF64 = inside ? planeF64.signedDistance(pointsF64.get(i)) : Double.NaN;
+                Assertions.assertEquals(expected, out.getAtIndex(JAVA_FLOAT, i), "index " + i);
+                Assertions.assertEquals(expectedF64, outF64.getAtIndex(JAVA_DOUBLE, i), "index " + i);
+            }
+
+            // The output is shorter than the points, it must be rejected before anything is written.
+            final var shortOut = arena.allocate(JAVA_FLOAT, POINTS - 1).fill((byte) 0);
+            final var shortOutF64 = arena.allocate(JAVA_DOUBLE, POINTS - 1).fill((byte) 0);
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> plane.signedDistances(points, shortOut));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> planeF64.signedDistances(pointsF64, shortOutF64));
+            for (int i = 0; i < POINTS - 1; i++) {
+                Assertions.assertEquals(0f, shortOut.getAtIndex(JAVA_FLOAT, i), "index " + i);
+                Assertions.assertEquals(0.0, shortOutF64.getAtIndex(JAVA_DOUBLE, i), "index " + i);
+            }
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> plane.signedDistances(points, out, FROM, POINTS));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> planeF64.signedDistances(pointsF64, outF64, -1, COUNT));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.shape;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.vector.v3.Vector3F32;
+
+/// Known answers of the ray intersections, on shapes simple enough to compute them by hand.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class Ray3F32Test {
+
+    private static final float MISS = Float.POSITIVE_INFINITY;
+    private static final float FAR = 100f;
+
+    private static Ray3F32 ray(float ox, float oy, float oz, float dx, float dy, float dz) {
+        return new Ray3F32(new Vector3F32(ox, oy, oz), new Vector3F32(dx, dy, dz));
+    }
+
+    private static float triangle(Ray3F32 ray, float scale, float maxDistance) {
+        return ray.intersect(new Vector3F32(0f, 0f, 0f), new Vector3F32(scale, 0f, 0f), new Vector3F32(0f, scale, 0f), maxDistance);
+    }
+
+    @Test
+    void testSphere() {
+        final var sphere = new Sphere<Float, Vector3F32>(new Vector3F32(0f, 0f, 5f), 1f);
+        Assertions.assertEquals(4f, ray(0f, 0f, 0f, 0f, 0f, 1f).intersect(sphere, FAR));
+        // The distance is in units of the direction length.
+        Assertions.assertEquals(2f, ray(0f, 0f, 0f, 0f, 0f, 2f).intersect(sphere, FAR));
+        Assertions.assertEquals(5f, ray(1f, 0f, 0f, 0f, 0f, 1f).intersect(sphere, FAR), "Tangent");
+        Assertions.assertEquals(0f, ray(0f, 0.5f, 5f, 1f, 0f, 0f).intersect(sphere, FAR), "Origin inside");
+        Assertions.assertEquals(MISS, ray(0f, 0f, 0f, 0f, 0f, -1f).intersect(sphere, FAR), "Behind");
+        Assertions.assertEquals(MISS, ray(1.5f, 0f, 0f, 0f, 0f, 1f).intersect(sphere, FAR), "Beside");
+        Assertions.assertEquals(MISS, ray(0f, 0f, 0f, 0f, 0f, 1f).intersect(sphere, 3.5f), "Too far");
+        Assertions.assertEquals(4f, ray(0f, 0f, 0f, 0f, 0f, 1f).intersect(sphere, 4f), "At the max distance");
+    }
+
+    @Test
+    void testTriangle() {
+        Assertions.assertEquals(1f, triangle(ray(0.25f, 0.25f, 1f, 0f, 0f, -1f), 1f, FAR));
+        Assertions.assertEquals(2f, triangle(ray(0.25f, 0.25f, -2f, 0f, 0f, 1f), 1f, FAR), "Back face");
+        Assertions.assertEquals(0.5f, triangle(ray(0.25f, 0.25f, 1f, 0f, 0f, -2f), 1f, FAR), "Long direction");
+        Assertions.assertEquals(1f, triangle(ray(0.5f, 0.5f, 1f, 0f, 0f, -1f), 1f, FAR), "On the hypotenuse");
+        Assertions.assertEquals(1f, triangle(ray(0f, 0f, 1f, 0f, 0f, -1f), 1f, FAR), "On a vertex");
+        Assertions.assertEquals(MISS, triangle(ray(0.6f, 0.6f, 1f, 0f, 0f, -1f), 1f, FAR), "Outside");
+        Assertions.assertEquals(MISS, triangle(ray(0.25f, 0.25f, 1f, 0f, 0f, 1f), 1f, FAR), "Behind");
+        Assertions.assertEquals(MISS, triangle(ray(-1f, 0.25f, 0f, 1f, 0f, 0f), 1f, FAR), "Parallel");
+        Assertions.assertEquals(MISS, triangle(ray(0.25f, 0.25f, 1f, 0f, 0f, -1f), 1f, 0.5f), "Too far");
+        final var oblique = ray(0f, 0f, 1f, 0.25f, 0.25f, -1f);
+        Assertions.assertEquals(1f, triangle(oblique, 1f, FAR), "Oblique");
+    }
+
+    @Test
+    void testTriangleScale() {
+        // The parallel cutoff is relative, so the same hit is found on tiny and huge triangles, with short and long directions.
+        for (final float scale : new float[] {1e-4f, 1e-2f, 1f, 1e3f, 1e5f}) {
+            final float expected = 2f * scale;
+            Assertions.assertEquals(expected, triangle(ray(0.25f * scale, 0.25f * scale, 2f * scale, 0f, 0f, -1f), scale, Float.MAX_VALUE), 1e-6f * expected, "Scale " + scale);
+            Assertions.assertEquals(1f, triangle(ray(0.25f * scale, 0.25f * scale, 2f * scale, 0f, 0f, -2f * scale), scale, Float.MAX_VALUE), 1e-6f, "Scale " + scale);
+            Assertions.assertEquals(MISS, triangle(ray(-scale, 0.25f * scale, 0f, 1f, 0f, 0f), scale, Float.MAX_VALUE), "Parallel at scale " + scale);
+        }
+        // A triangle collapsed on a line has no plane, so it's never hit.
+        final var line = ray(0.5f, 0f, 1f, 0f, 0f, -1f);
+        Assertions.assertEquals(MISS, line.intersect(new Vector3F32(0f, 0f, 0f), new Vector3F32(1f, 0f, 0f), new Vector3F32(2f, 0f, 0f), FAR));
+    }
+
+    @Test
+    void testCuboid() {
+        final var cuboid = new Cuboid<Float, Vector3F32>(new Vector3F32(0f, 0f, 0f), 1f, 2f, 3f);
+        Assertions.assertEquals(1f, ray(-1f, 0.5f, 0.5f, 1f, 0f, 0f).intersect(cuboid, FAR));
+        Assertions.assertEquals(0f, ray(0.5f, 0.5f, 0.5f, 0f, 1f, 0f).intersect(cuboid, FAR), "Origin inside");
+        Assertions.assertEquals(MISS, ray(-1f, 0.5f, 0.5f, -1f, 0f, 0f).intersect(cuboid, FAR), "Behind");
+        Assertions.assertEquals(MISS, ray(-1f, 0.5f, 0.5f, 1f, 0f, 0f).intersect(cuboid, 0.5f), "Too far");
+        // Rays along a face or an edge compute 0 * inf on that slab, and still hit the cuboid.
+        Assertions.assertEquals(1f, ray(0f, 0.5f, -1f, 0f, 0f, 1f).intersect(cuboid, FAR), "Along the min x face");
+        Assertions.assertEquals(1f, ray(1f, 0.5f, -1f, 0f, 0f, 1f).intersect(cuboid, FAR), "Along the max x face");
+        Assertions.assertEquals(1f, ray(-0f, 0.5f, 4f, -0f, 0f, -1f).intersect(cuboid, FAR), "Along a face, negative zero");
+        Assertions.assertEquals(1f, ray(0f, 2f, -1f, 0f, 0f, 1f).intersect(cuboid, FAR), "Along an edge");
+        Assertions.assertEquals(MISS, ray(0f, 2.5f, -1f, 0f, 0f, 1f).intersect(cuboid, FAR), "Beside a face");
+    }
+}
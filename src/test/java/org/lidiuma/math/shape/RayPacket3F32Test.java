@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.shape;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import java.util.Random;
+
+/// Checks the packet results, mask and distances, against the intersections of each single {@link Ray3F32}.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class RayPacket3F32Test {
+
+    /// A single lane, the packets picking each species, alone and with a scalar tail, and the full packet.
+    private static final int[] SIZES = {1, 4, 5, 8, 9, 12, 16, RayPacket3F32.MAX_SIZE};
+    private static final int SHAPES = 300;
+    private static final float MAX_DISTANCE = 40f;
+
+    private static Vector3F32 randomVector(Random random, float bound) {
+        return new Vector3F32(
+                (random.nextFloat() * 2f - 1f) * bound,
+                (random.nextFloat() * 2f - 1f) * bound,
+                (random.nextFloat() * 2f - 1f) * bound
+        );
+    }
+
+    /// Mostly random rays, with some axis-parallel ones starting on the planes of the unit cuboid at the origin.
+    private static RayPacket3F32 randomPacket(Random random, int size) {
+        final var packet = new RayPacket3F32(size);
+        for (int lane = 0; lane < size; lane++) {
+            if (random.nextInt(4) == 0) {
+                final var origin = new Vector3F32((float) random.nextInt(2), random.nextFloat(), -2f);
+                packet.set(lane, new Ray3F32(origin, new Vector3F32(0f, 0f, 1f)));
+            } else {
+                packet.set(lane, new Ray3F32(randomVector(random, 10f), randomVector(random, 1f)));
+            }
+        }
+        return packet;
+    }
+
+    private static void assertLanes(RayPacket3F32 packet, long mask, float[] distances, java.util.function.ToDoubleFunction<Ray3F32> single) {
+        for (int lane = 0; lane < packet.size(); lane++) {
+            final float expected = (float) single.applyAsDouble(packet.get(lane));
+            Assertions.assertEquals(expected, distances[lane], "Lane " + lane);
+            Assertions.assertEquals(expected != Float.POSITIVE_INFINITY, (mask & (1L << lane)) != 0, "Lane " + lane);
+        }
+        if (packet.size() < Long.SIZE) Assertions.assertEquals(0, mask >>> packet.size(), "Bits past the packet");
+    }
+
+    @Test
+    void testCuboid() {
+        final var random = new Random(15);
+        for (final int size : SIZES) {
+            final var packet = randomPacket(random, size);
+            final float[] distances = new float[size];
+            final float[] scalar = new float[size];
+            for (int i = 0; i < SHAPES; i++) {
+                final var cuboid = i % 3 == 0
+                        ? new Cuboid<Float, Vector3F32>(new Vector3F32(0f, 0f, 0f), 1f, 1f, 1f)
+                        : new Cuboid<Float, Vector3F32>(randomVector(random, 10f), random.nextFloat() * 5f, random.nextFloat() * 5f, random.nextFloat() * 5f);
+                final long mask = packet.intersect(cuboid, MAX_DISTANCE, distances);
+                assertLanes(packet, mask, distances, ray -> ray.intersect(cuboid, MAX_DISTANCE));
+                // The SIMD path, when available, must match the scalar one bit for bit.
+                final var pos = cuboid.pos();
+                final long scalarMask = packet.scalarCuboid(0, pos.x(), pos.y(), pos.z(),
+                        pos.x() + cuboid.width(), pos.y() + cuboid.height(), pos.z() + cuboid.length(), MAX_DISTANCE, scalar);
+                Assertions.assertEquals(scalarMask, mask);
+                Assertions.assertArrayEquals(scalar, distances);
+            }
+        }
+    }
+
+    @Test
+    void testSphere() {
+        final var random = new Random(25);
+        for (final int size : SIZES) {
+            final var packet = randomPacket(random, size);
+            final float[] distances = new float[size];
+            for (int i = 0; i < SHAPES; i++) {
+                final var sphere = new Sphere<Float, Vector3F32>(randomVector(random, 10f), random.nextFloat() * 5f);
+                final long mask = packet.intersect(sphere, MAX_DISTANCE, distances);
+                assertLanes(packet, mask, distances, ray -> ray.intersect(sphere, MAX_DISTANCE));
+            }
+        }
+    }
+
+    @Test
+    void testTriangle() {
+        final var random = new Random(35);
+        for (final int size : SIZES) {
+            final var packet = randomPacket(random, size);
+            final float[] distances = new float[size];
+            for (int i = 0; i < SHAPES; i++) {
+                final var a = randomVector(random, 10f);
+                final var b = randomVector(random, 10f);
+                final var c = randomVector(random, 10f);
+                final long mask = packet.intersect(a, b, c, MAX_DISTANCE, distances);
+                assertLanes(packet, mask, distances, ray -> ray.intersect(a, b, c, MAX_DISTANCE));
+            }
+        }
+    }
+
+    @Test
+    void testArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RayPacket3F32(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RayPacket3F32(RayPacket3F32.MAX_SIZE + 1));
+        final var packet = new RayPacket3F32(4);
+        final var sphere = new Sphere<Float, Vector3F32>(new Vector3F32(0f, 0f, 0f), 1f);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> packet.intersect(sphere, 1f, new float[3]));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> packet.get(4));
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.skinning;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.rotation.DualQuaternionF32;
+import org.lidiuma.math.rotation.QuaternionF32;
+import org.lidiuma.math.rotation.Radians;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+
+/// Checks the palettes against the bone transforms, and the skinning kernels against each other,
+/// against {@link Matrix4F32#transform} and against {@link DualQuaternionF32#blend(DualQuaternionF32[], float[])}.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class SkinningTest {
+
+    /// Two roots, a bone with two children, and a chain.
+    private static final int[] PARENTS = {Skeleton.ROOT, 0, 1, 1, Skeleton.ROOT, 4};
+    private static final int BONES = PARENTS.length;
+    /// Not a multiple of the threshold, so the last parallel range is partial.
+    private static final int VERTICES = 1_001;
+    private static final long THRESHOLD = 64;
+    /// The palette starts after a few matrices of another skeleton.
+    private static final long PALETTE_INDEX = 3;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterAll
+    void close() {
+        pool.shutdown();
+    }
+
+    private static Vector3F32 randomVector(Random random, float min, float max) {
+        return new Vector3F32(random.nextFloat(min, max), random.nextFloat(min, max), random.nextFloat(min, max));
+    }
+
+    private static QuaternionF32 randomRotation(Random random) {
+        return QuaternionF32.fromAxisAngle(randomVector(random, -1f, 1f), Radians.radians(random.nextDouble(-Math.PI, Math.PI)));
+    }
+
+    /// Local transforms of the bones, packed like {@link Skeleton#palette(float[], float[], float[], Matrix4F32[], MemorySegment, long)} expects.
+    private record Pose(float[] translations, float[] rotations, float[] scales) {
+
+        /// @param rigid if the bones have no scale, as the dual quaternions need.
+        static Pose random(Random random, boolean rigid) {
+            final var pose = new Pose(new float[BONES * 3], new float[BONES * 4], new float[BONES * 3]);
+            for (int bone = 0; bone < BONES; bone++) {
+                final var translation = randomVector(random, -2f, 2f);
+                final var rotation = randomRotation(random);
+                final var scale = rigid ? new Vector3F32(1f, 1f, 1f) : randomVector(random, 0.5f, 1.5f);
+                pose.translations[bone * 3] = translation.x();
+                pose.translations[bone * 3 + 1] = translation.y();
+                pose.translations[bone * 3 + 2] = translation.z();
+                pose.rotations[bone * 4] = rotation.x();
+                pose.rotations[bone * 4 + 1] = rotation.y();
+                pose.rotations[bone * 4 + 2] = rotation.z();
+                pose.rotations[bone * 4 + 3] = rotation.w();
+                pose.scales[bone * 3] = scale.x();
+                pose.scales[bone * 3 + 1] = scale.y();
+                pose.scales[bone * 3 + 2] = scale.z();
+            }
+            return pose;
+        }
+
+        Matrix4F32 local(int bone) {
+            final int t = bone * 3, r = bone * 4;
+            return Matrix4F32.fromTRS(
+                    new Vector3F32(translations[t], translations[t + 1], translations[t + 2]),
+                    new QuaternionF32(rotations[r], rotations[r + 1], rotations[r + 2], rotations[r + 3]),
+                    new Vector3F32(scales[t], scales[t + 1], scales[t + 2])
+            );
+        }
+    }
+
+    private static Skeleton randomSkeleton(Random random, boolean rigid) {
+        final var inverseBind = new Matrix4F32[BONES];
+        for (int bone = 0; bone < BONES; bone++) {
+            final var scale = rigid ? new Vector3F32(1f, 1f, 1f) : randomVector(random, 0.5f, 1.5f);
+            inverseBind[bone] = Matrix4F32.fromTRS(randomVector(random, -2f, 2f), randomRotation(random), scale).invert();
+        }
+        return new Skeleton(PARENTS, inverseBind);
+    }
+
+    /// Fills the joints, the weights summing to 1, and the positions and unit normals of the vertices.
+    private static void randomVertices(Random random, MemorySegment joints, MemorySegment weights, MemorySegment positions, MemorySegment normals) {
+        for (int vertex = 0; vertex < VERTICES; vertex++) {
+            float sum = 0;
+            final var vertexWeights = new float[Skinning.INFLUENCES];
+            for (int i = 0; i < Skinning.INFLUENCES; i++) {
+                joints.setAtIndex(JAVA_INT, (long) vertex * Skinning.INFLUENCES + i, random.nextInt(BONES) + (int) PALETTE_INDEX);
+                // Some influences are unused, like in a real mesh.
+                sum += vertexWeights[i] = random.nextInt(4) == 0 ? 0f : random.nextFloat(0.1f, 1f);
+            }
+            if (sum == 0) sum += vertexWeights[0] = 1f;
+            for (int i = 0; i < Skinning.INFLUENCES; i++) weights.setAtIndex(JAVA_FLOAT, (long) vertex * Skinning.INFLUENCES + i, vertexWeights[i] / sum);
+            final var position = randomVector(random, -3f, 3f);
+            final var normal = randomVector(random, -1f, 1f).normalize();
+            for (int c = 0; c < 3; c++) {
+                positions.setAtIndex(JAVA_FLOAT, (long) vertex * 3 + c, c == 0 ? position.x() : c == 1 ? position.y() : position.z());
+                normals.setAtIndex(JAVA_FLOAT, (long) vertex * 3 + c, c == 0 ? normal.x() : c == 1 ? normal.y() : normal.z());
+            }
+        }
+    }
+
+    @Test
+    void testPalette() {
+        final var random = new Random(21);
+        final var skeleton = randomSkeleton(random, false);
+        final var pose = Pose.random(random, false);
+        final var world = new Matrix4F32[BONES];
+        try (final var arena = Arena.ofConfined()) {
+            final var palette = arena.allocate(JAVA_FLOAT, (PALETTE_INDEX + BONES) * Matrix4F32.SIZE);
+            skeleton.palette(pose.translations(), pose.rotations(), pose.scales(), world, palette, PALETTE_INDEX);
+            for (int bone = 0; bone < BONES; bone++) {
+                final var local = pose.local(bone);
+                final var expectedWorld = PARENTS[bone] == Skeleton.ROOT ? local : world[PARENTS[bone]].mul(local);
+                Assertions.assertEquals(expectedWorld, world[bone], "bone " + bone);
+                Assertions.assertEquals(world[bone].mul(skeleton.inverseBind(bone)), Matrix4F32.fromMemorySegment(palette, PALETTE_INDEX + bone), "bone " + bone);
+            }
+            // The matrices before the palette are left untouched.
+            for (long i = 0; i < PALETTE_INDEX * Matrix4F32.SIZE; i++) Assertions.assertEquals(0f, palette.getAtIndex(JAVA_FLOAT, i));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> skeleton.palette(world, palette, PALETTE_INDEX + 1));
+        }
+    }
+
+    @Test
+    void testBindPose() {
+        // A root turned a quarter around z, with a child two units along its x axis, ends up at (1, 2, 0).
+        final var rotation = QuaternionF32.fromAxisAngle(new Vector3F32(0f, 0f, 1f), Radians.degrees(90));
+        final var pose = new Pose(
+                new float[]{1f, 0f, 0f, 2f, 0f, 0f},
+                new float[]{rotation.x(), rotation.y(), rotation.z(), rotation.w(), 0f, 0f, 0f, 1f},
+                new float[]{1f, 1f, 1f, 1f, 1f, 1f}
+        );
+        final var bind = new Skeleton(new int[]{Skeleton.ROOT, 0}, new Matrix4F32[]{Matrix4F32.identity(), Matrix4F32.identity()});
+        final var world = new Matrix4F32[2];
+        try (final var arena = Arena.ofConfined()) {
+            final var palette = arena.allocate(JAVA_FLOAT, 2L * Matrix4F32.SIZE);
+            bind.palette(pose.translations(), pose.rotations(), pose.scales(), world, palette, 0);
+            final var origin = world[1].transform(new Vector3F32(0f, 0f, 0f));
+            Assertions.assertEquals(1f, origin.x(), 1e-6f);
+            Assertions.assertEquals(2f, origin.y(), 1e-6f);
+            Assertions.assertEquals(0f, origin.z(), 1e-6f);
+
+            // With the inverse of the world transforms as the inverse bind, the pose is the bind pose and the palette is the identity.
+            final var skeleton = new Skeleton(new int[]{Skeleton.ROOT, 0}, new Matrix4F32[]{world[0].invert(), world[1].invert()});
+            skeleton.palette(pose.translations(), pose.rotations(), pose.scales(), world, palette, 0);
+            for (int bone = 0; bone < 2; bone++) {
+                final var skinning = Matrix4F32.fromMemorySegment(palette, bone);
+                final var point = new Vector3F32(0.5f, -1.5f, 2.5f);
+                final var skinned = skinning.transform(point);
+                Assertions.assertEquals(point.x(), skinned.x(), 1e-5f);
+                Assertions.assertEquals(point.y(), skinned.y(), 1e-5f);
+                Assertions.assertEquals(point.z(), skinned.z(), 1e-5f);
+            }
+        }
+    }
+
+    @Test
+    void testSimdMatchesScalar() {
+        final var random = new Random(210);
+        final var skeleton = randomSkeleton(random, false);
+        final var pose = Pose.random(random, false);
+        try (final var arena = Arena.ofShared()) {
+            final var palette = arena.allocate(JAVA_FLOAT, (PALETTE_INDEX + BONES) * Matrix4F32.SIZE);
+            skeleton.palette(pose.translations(), pose.rotations(), pose.scales(), new Matrix4F32[BONES], palette, PALETTE_INDEX);
+            final var joints = arena.allocate(JAVA_INT, (long) VERTICES * Skinning.INFLUENCES);
+            final var weights = arena.allocate(JAVA_FLOAT, (long) VERTICES * Skinning.INFLUENCES);
+            final var positions = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            final var normals = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            randomVertices(random, joints, weights, positions, normals);
+
+            final var expectedPositions = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            final var expectedNormals = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            Skinning.scalarSkin(palette, joints, weights, positions, normals, expectedPositions, expectedNormals, 0, VERTICES);
+
+            // The public entry points take the SIMD path when it's available.
+            final var outPositions = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            final var outNormals = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            Skinning.skin(palette, joints, weights, positions, normals, outPositions, outNormals, 0, VERTICES);
+            Assertions.assertArrayEquals(expectedPositions.toArray(JAVA_FLOAT), outPositions.toArray(JAVA_FLOAT));
+            Assertions.assertArrayEquals(expectedNormals.toArray(JAVA_FLOAT), outNormals.toArray(JAVA_FLOAT));
+
+            final var allPositions = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            final var allNormals = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            Skinning.skinAll(palette, joints, weights, positions, normals, allPositions, allNormals, VERTICES, pool, THRESHOLD);
+            Assertions.assertArrayEquals(expectedPositions.toArray(JAVA_FLOAT), allPositions.toArray(JAVA_FLOAT));
+            Assertions.assertArrayEquals(expectedNormals.toArray(JAVA_FLOAT), allNormals.toArray(JAVA_FLOAT));
+
+            final var onlyPositions = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            Skinning.skinAll(palette, joints, weights, positions, onlyPositions, VERTICES, pool, THRESHOLD);
+            Assertions.assertArrayEquals(expectedPositions.toArray(JAVA_FLOAT), onlyPositions.toArray(JAVA_FLOAT));
+
+            // A range ending past the streams is rejected.
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Skinning.skin(palette, joints, weights, positions, outPositions, 1, VERTICES));
+        }
+    }
+
+    @Test
+    void testSingleInfluence() {
+        final var random = new Random(211);
+        final var skeleton = randomSkeleton(random, false);
+        final var pose = Pose.random(random, false);
+        try (final var arena = Arena.ofConfined()) {
+            final var palette = arena.allocate(JAVA_FLOAT, (PALETTE_INDEX + BONES) * Matrix4F32.SIZE);
+            skeleton.palette(pose.translations(), pose.rotations(), pose.scales(), new Matrix4F32[BONES], palette, PALETTE_INDEX);
+            final var joints = arena.allocate(JAVA_INT, (long) VERTICES * Skinning.INFLUENCES);
+            final var weights = arena.allocate(JAVA_FLOAT, (long) VERTICES * Skinning.INFLUENCES);
+            final var positions = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            final var normals = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            randomVertices(random, joints, weights, positions, normals);
+            // The whole weight goes to the first influence, the others keep their joint but don't count.
+            for (long vertex = 0; vertex < VERTICES; vertex++) {
+                for (int i = 0; i < Skinning.INFLUENCES; i++) weights.setAtIndex(JAVA_FLOAT, vertex * Skinning.INFLUENCES + i, i == 0 ? 1f : 0f);
+            }
+
+            final var outPositions = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            final var outNormals = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            Skinning.skin(palette, joints, weights, positions, normals, outPositions, outNormals, 0, VERTICES);
+            for (int vertex = 0; vertex < VERTICES; vertex++) {
+                final var skinning = Matrix4F32.fromMemorySegment(palette, joints.getAtIndex(JAVA_INT, (long) vertex * Skinning.INFLUENCES));
+                final long v = vertex * 3L;
+                final var position = new Vector3F32(positions.getAtIndex(JAVA_FLOAT, v), positions.getAtIndex(JAVA_FLOAT, v + 1), positions.getAtIndex(JAVA_FLOAT, v + 2));
+                final var normal = new Vector3F32(normals.getAtIndex(JAVA_FLOAT, v), normals.getAtIndex(JAVA_FLOAT, v + 1), normals.getAtIndex(JAVA_FLOAT, v + 2));
+                final var expectedPosition = skinning.transform(position);
+                final var expectedNormal = skinning.rotate(normal).normalize();
+                Assertions.assertEquals(expectedPosition.x(), outPositions.getAtIndex(JAVA_FLOAT, v), 1e-5f, "vertex " + vertex);
+                Assertions.assertEquals(expectedPosition.y(), outPositions.getAtIndex(JAVA_FLOAT, v + 1), 1e-5f, "vertex " + vertex);
+                Assertions.assertEquals(expectedPosition.z(), outPositions.getAtIndex(JAVA_FLOAT, v + 2), 1e-5f, "vertex " + vertex);
+                Assertions.assertEquals(expectedNormal.x(), outNormals.getAtIndex(JAVA_FLOAT, v), 1e-6f, "vertex " + vertex);
+                Assertions.assertEquals(expectedNormal.y(), outNormals.getAtIndex(JAVA_FLOAT, v + 1), 1e-6f, "vertex " + vertex);
+                Assertions.assertEquals(expectedNormal.z(), outNormals.getAtIndex(JAVA_FLOAT, v + 2), 1e-6f, "vertex " + vertex);
+            }
+        }
+    }
+
+    @Test
+    void testDualPalette() {
+        final var random = new Random(22);
+        final var skeleton = randomSkeleton(random, true);
+        final var pose = Pose.random(random, true);
+        final var world = new Matrix4F32[BONES];
+        try (final var arena = Arena.ofConfined()) {
+            final var palette = arena.allocate(JAVA_FLOAT, (PALETTE_INDEX + BONES) * Matrix4F32.SIZE);
+            final var dualPalette = arena.allocate(JAVA_FLOAT, (PALETTE_INDEX + BONES) * DualQuaternionF32.SIZE);
+            skeleton.palette(pose.translations(), pose.rotations(), pose.scales(), world, palette, PALETTE_INDEX);
+            skeleton.dualPalette(pose.translations(), pose.rotations(), pose.scales(), world, dualPalette, PALETTE_INDEX);
+            for (int bone = 0; bone < BONES; bone++) {
+                final var skinning = Matrix4F32.fromMemorySegment(palette, PALETTE_INDEX + bone);
+                final var dq = dualQuaternion(dualPalette, PALETTE_INDEX + bone);
+                Assertions.assertEquals(DualQuaternionF32.fromMatrix4(world[bone].mul(skeleton.inverseBind(bone))), dq, "bone " + bone);
+                // The bones are rigid, so the dual quaternion is the same transformation of the matrix.
+                final var point = randomVector(random, -3f, 3f);
+                final var expected = skinning.transform(point);
+                final var actual = dq.transform(point);
+                Assertions.assertEquals(expected.x(), actual.x(), 1e-4f, "bone " + bone);
+                Assertions.assertEquals(expected.y(), actual.y(), 1e-4f, "bone " + bone);
+                Assertions.assertEquals(expected.z(), actual.z(), 1e-4f, "bone " + bone);
+            }
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> skeleton.dualPalette(world, dualPalette, PALETTE_INDEX + 1));
+        }
+    }
+
+    private static DualQuaternionF32 dualQuaternion(MemorySegment palette, long index) {
+        final long offset = index * DualQuaternionF32.SIZE;
+        final var values = new float[DualQuaternionF32.SIZE];
+        for (int e = 0; e < DualQuaternionF32.SIZE; e++) values[e] = palette.getAtIndex(JAVA_FLOAT, offset + e);
+        return new DualQuaternionF32(
+                new QuaternionF32(values[0], values[1], values[2], values[3]),
+                new QuaternionF32(values[4], values[5], values[6], values[7])
+        );
+    }
+
+    @Test
+    void testDualQuaternionSkinning() {
+        final var random = new Random(220);
+        final var skeleton = randomSkeleton(random, true);
+        final var pose = Pose.random(random, true);
+        try (final var arena = Arena.ofShared()) {
+            final var palette = arena.allocate(JAVA_FLOAT, (PALETTE_INDEX + BONES) * DualQuaternionF32.SIZE);
+            skeleton.dualPalette(pose.translations(), pose.rotations(), pose.scales(), new Matrix4F32[BONES], palette, PALETTE_INDEX);
+            final var joints = arena.allocate(JAVA_INT, (long) VERTICES * Skinning.INFLUENCES);
+            final var weights = arena.allocate(JAVA_FLOAT, (long) VERTICES * Skinning.INFLUENCES);
+            final var positions = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            final var normals = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            randomVertices(random, joints, weights, positions, normals);
+
+            final var outPositions = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            final var outNormals = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            DualQuaternionSkinning.skin(palette, joints, weights, positions, normals, outPositions, outNormals, 0, VERTICES);
+            for (int vertex = 0; vertex < VERTICES; vertex++) {
+                final var dq = new DualQuaternionF32[Skinning.INFLUENCES];
+                final var vertexWeights = new float[Skinning.INFLUENCES];
+                for (int i = 0; i < Skinning.INFLUENCES; i++) {
+                    final long influence = (long) vertex * Skinning.INFLUENCES + i;
+                    dq[i] = dualQuaternion(palette, joints.getAtIndex(JAVA_INT, influence));
+                    vertexWeights[i] = weights.getAtIndex(JAVA_FLOAT, influence);
+                }
+                final var blend = DualQuaternionF32.blend(dq, vertexWeights);
+                final long v = vertex * 3L;
+                final var position = new Vector3F32(positions.getAtIndex(JAVA_FLOAT, v), positions.getAtIndex(JAVA_FLOAT, v + 1), positions.getAtIndex(JAVA_FLOAT, v + 2));
+                final var normal = new Vector3F32(normals.getAtIndex(JAVA_FLOAT, v), normals.getAtIndex(JAVA_FLOAT, v + 1), normals.getAtIndex(JAVA_FLOAT, v + 2));
+                final var expectedPosition = blend.transform(position);
+                final var expectedNormal = blend.rotate(normal).normalize();
+                Assertions.assertEquals(expectedPosition.x(), outPositions.getAtIndex(JAVA_FLOAT, v), 1e-4f, "vertex " + vertex);
+                Assertions.assertEquals(expectedPosition.y(), outPositions.getAtIndex(JAVA_FLOAT, v + 1), 1e-4f, "vertex " + vertex);
+                Assertions.assertEquals(expectedPosition.z(), outPositions.getAtIndex(JAVA_FLOAT, v + 2), 1e-4f, "vertex " + vertex);
+                Assertions.assertEquals(expectedNormal.x(), outNormals.getAtIndex(JAVA_FLOAT, v), 1e-5f, "vertex " + vertex);
+                Assertions.assertEquals(expectedNormal.y(), outNormals.getAtIndex(JAVA_FLOAT, v + 1), 1e-5f, "vertex " + vertex);
+                Assertions.assertEquals(expectedNormal.z(), outNormals.getAtIndex(JAVA_FLOAT, v + 2), 1e-5f, "vertex " + vertex);
+            }
+
+            // The pooled ranges run the same kernel.
+            final var allPositions = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            final var allNormals = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            DualQuaternionSkinning.skinAll(palette, joints, weights, positions, normals, allPositions, allNormals, VERTICES, pool, THRESHOLD);
+            Assertions.assertArrayEquals(outPositions.toArray(JAVA_FLOAT), allPositions.toArray(JAVA_FLOAT));
+            Assertions.assertArrayEquals(outNormals.toArray(JAVA_FLOAT), allNormals.toArray(JAVA_FLOAT));
+            final var onlyPositions = arena.allocate(JAVA_FLOAT, VERTICES * 3L);
+            DualQuaternionSkinning.skinAll(palette, joints, weights, positions, onlyPositions, VERTICES, pool, THRESHOLD);
+            Assertions.assertArrayEquals(outPositions.toArray(JAVA_FLOAT), onlyPositions.toArray(JAVA_FLOAT));
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.spatial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.shape.Cuboid;
+import org.lidiuma.math.shape.Ray3F32;
+import org.lidiuma.math.shape.Sphere;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+/// Checks every query of the hierarchy against a linear scan of the items.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class Bvh3F32Test {
+
+    private static final int ITEMS = 500;
+    private static final int QUERIES = 200;
+    private static final float WORLD = 100f;
+
+    private static Vector3F32 randomVector(Random random, float bound) {
+        return new Vector3F32(
+                (random.nextFloat() * 2f - 1f) * bound,
+                (random.nextFloat() * 2f - 1f) * bound,
+                (random.nextFloat() * 2f - 1f) * bound
+        );
+    }
+
+    private static Cuboid<Float, Vector3F32> randomBox(Random random, float size) {
+        return new Cuboid<>(randomVector(random, WORLD), random.nextFloat() * size, random.nextFloat() * size, random.nextFloat() * size);
+    }
+
+    private static List<Cuboid<Float, Vector3F32>> randomBoxes(Random random, int count) {
+        final var boxes = new ArrayList<Cuboid<Float, Vector3F32>>(count);
+        for (int i = 0; i < count; i++) boxes.add(randomBox(random, 10f));
+        return boxes;
+    }
+
+    private static boolean overlaps(Cuboid<Float, Vector3F32> a, Cuboid<Float, Vector3F32> b) {
+        return a.pos().x() <= b.pos().x() + b.width() && b.pos().x() <= a.pos().x() + a.width()
+                && a.pos().y() <= b.pos().y() + b.height() && b.pos().y() <= a.pos().y() + a.height()
+                && a.pos().z() <= b.pos().z() + b.length() && b.pos().z() <= a.pos().z() + a.length();
+    }
+
+    private static float distance2(Cuboid<Float, Vector3F32> box, Vector3F32 point) {
+        final float dx = Math.max(Math.max(box.pos().x() - point.x(), 0), point.x() - (box.pos().x() + box.width()));
+        final float dy = Math.max(Math.max(box.pos().y() - point.y(), 0), point.y() - (box.pos().y() + box.height()));
+        final float dz = Math.max(Math.max(box.pos().z() - point.z(), 0), point.z() - (box.pos().z() + box.length()));
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /// Collects the visited items, failing if one is visited twice.
+    private static BitSet collect(java.util.function.Consumer<SpatialVisitor> query) {
+        final var found = new BitSet();
+        query.accept(item -> {
+            Assertions.assertFalse(found.get(item), "Item " + item + " visited twice");
+            found.set(item);
+            return true;
+        });
+        return found;
+    }
+
+    private static void assertQueries(Bvh3F32 bvh, List<Cuboid<Float, Vector3F32>> boxes, Random random) {
+        for (int q = 0; q < QUERIES; q++) {
+            final var box = randomBox(random, 40f);
+            final var expectedBox = new BitSet();
+            for (int i = 0; i < boxes.size(); i++) if (overlaps(box, boxes.get(i))) expectedBox.set(i);
+            Assertions.assertEquals(expectedBox, collect(visitor -> bvh.overlaps(box, visitor)));
+
+            final var center = randomVector(random, WORLD);
+            final float radius = random.nextFloat() * 30f;
+            final var expectedSphere = new BitSet();
+            for (int i = 0; i < boxes.size(); i++) if (distance2(boxes.get(i), center) <= radius * radius) expectedSphere.set(i);
+            Assertions.assertEquals(expectedSphere, collect(visitor -> bvh.overlaps(new Sphere<>(center, radius), visitor)));
+
+            final var ray = new Ray3F32(randomVector(random, WORLD), randomVector(random, 1f));
+            final float maxDistance = random.nextFloat() * 400f;
+            final var expectedRay = new BitSet();
+            float firstHit = Float.POSITIVE_INFINITY;
+            for (int i = 0; i < boxes.size(); i++) {
+                final float t = ray.intersect(boxes.get(i), maxDistance);
+                if (t == Float.POSITIVE_INFINITY) continue;
+                expectedRay.set(i);
+                firstHit = Math.min(firstHit, t);
+            }
+            Assertions.assertEquals(expectedRay, collect(visitor -> bvh.raycast(ray, maxDistance, visitor)));
+            final int hit = bvh.raycast(ray, maxDistance);
+            if (expectedRay.isEmpty()) Assertions.assertEquals(-1, hit);
+            else Assertions.assertEquals(firstHit, ray.intersect(boxes.get(hit), maxDistance));
+
+            final var point = randomVector(random, WORLD);
+            final float maxNearest = random.nextFloat() * 20f;
+            float nearest2 = Float.POSITIVE_INFINITY;
+            for (final var item : boxes) nearest2 = Math.min(nearest2, distance2(item, point));
+            final int found = bvh.nearest(point, maxNearest);
+            if (nearest2 > maxNearest * maxNearest) Assertions.assertEquals(-1, found);
+            else Assertions.assertEquals(nearest2, distance2(boxes.get(found), point));
+        }
+    }
+
+    @Test
+    void testQueries() {
+        final var random = new Random(11);
+        final var boxes = randomBoxes(random, ITEMS);
+        final var bvh = Bvh3F32.build(boxes);
+        Assertions.assertEquals(ITEMS, bvh.size());
+        assertQueries(bvh, boxes, random);
+    }
+
+    @Test
+    void testRefit() {
+        final var random = new Random(21);
+        final var boxes = randomBoxes(random, ITEMS);
+        final var bvh = Bvh3F32.build(boxes);
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < ITEMS / 4; i++) {
+                final int item = random.nextInt(ITEMS);
+                final var moved = randomBox(random, 10f);
+                boxes.set(item, moved);
+                bvh.set(item, moved);
+                // The bounds are stored as corners, so the extents come back rounded.
+                final var stored = bvh.get(item);
+                Assertions.assertEquals(moved.pos(), stored.pos());
+                Assertions.assertEquals(moved.width(), stored.width(), 1e-4f);
+                Assertions.assertEquals(moved.height(), stored.height(), 1e-4f);
+                Assertions.assertEquals(moved.length(), stored.length(), 1e-4f);
+            }
+            bvh.refit();
+            assertQueries(bvh, boxes, random);
+        }
+    }
+
+    @Test
+    void testDegenerate() {
+        final var random = new Random(31);
+        final var single = List.of(randomBox(random, 10f));
+        final var singleBvh = Bvh3F32.build(single);
+        Assertions.assertEquals(1, singleBvh.depth());
+        assertQueries(singleBvh, single, random);
+
+        // The centroids can't be split, so every item ends in the same leaf.
+        final var box = randomBox(random, 10f);
+        final var coincident = new ArrayList<Cuboid<Float, Vector3F32>>();
+        for (int i = 0; i < 100; i++) coincident.add(box);
+        final var coincidentBvh = Bvh3F32.build(coincident);
+        Assertions.assertEquals(1, coincidentBvh.depth());
+        assertQueries(coincidentBvh, coincident, random);
+
+        final var empty = Bvh3F32.build(List.of());
+        Assertions.assertEquals(0, empty.depth());
+        Assertions.assertEquals(-1, empty.nearest(new Vector3F32(0f, 0f, 0f), Float.POSITIVE_INFINITY));
+        Assertions.assertTrue(collect(visitor -> empty.overlaps(box, visitor)).isEmpty());
+    }
+
+    @Test
+    void testRayOnSlabPlane() {
+        final var unit = new Cuboid<>(new Vector3F32(0f, 0f, 0f), 1f, 1f, 1f);
+        final var bvh = Bvh3F32.build(List.of(unit));
+        // Each ray runs along a face or an edge, parallel to the other axes, so some slabs compute 0 * inf.
+        final Ray3F32[] touching = {
+                new Ray3F32(new Vector3F32(0f, 0.5f, -1f), new Vector3F32(0f, 0f, 1f)),
+                new Ray3F32(new Vector3F32(1f, 0.5f, -1f), new Vector3F32(0f, 0f, 1f)),
+                new Ray3F32(new Vector3F32(-0f, 0.5f, 2f), new Vector3F32(-0f, 0f, -1f)),
+                new Ray3F32(new Vector3F32(0f, 1f, -1f), new Vector3F32(0f, 0f, 1f)),
+                new Ray3F32(new Vector3F32(0.5f, 0f, 0.5f), new Vector3F32(1f, 0f, 0f))
+        };
+        for (final var ray : touching) {
+            Assertions.assertEquals(0, bvh.raycast(ray, 10f), ray::toString);
+            Assertions.assertEquals(1, collect(visitor -> bvh.raycast(ray, 10f, visitor)).cardinality(), ray::toString);
+        }
+        Assertions.assertEquals(-1, bvh.raycast(new Ray3F32(new Vector3F32(0f, 2f, -1f), new Vector3F32(0f, 0f, 1f)), 10f));
+        Assertions.assertEquals(-1, bvh.raycast(new Ray3F32(new Vector3F32(0f, 0.5f, 2f), new Vector3F32(0f, 0f, 1f)), 10f));
+        Assertions.assertEquals(-1, bvh.raycast(new Ray3F32(new Vector3F32(0f, 0.5f, -1f), new Vector3F32(0f, 0f, 1f)), 0.5f));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.spatial;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/// Checks the nearest and radius queries of the tree against a linear scan of the points.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class KdTree3F64Test {
+
+    /// Above the threshold of the parallel build, so both halves of the root are built as separate tasks.
+    private static final int POINTS = 40_000;
+    private static final int QUERIES = 150;
+    private static final int[] NEIGHBOURS = {1, 8, 33};
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterAll
+    void close() {
+        pool.shutdown();
+    }
+
+    private static double[] randomPositions(Random random, int count) {
+        final double[] positions = new double[count * 3];
+        for (int i = 0; i < positions.length; i++) positions[i] = random.nextDouble(-100, 100);
+        return positions;
+    }
+
+    private static double[] distances2(double[] positions, double x, double y, double z) {
+        final double[] distances2 = new double[positions.length / 3];
+        for (int i = 0; i < distances2.length; i++) {
+            final double dx = positions[i * 3] - x, dy = positions[i * 3 + 1] - y, dz = positions[i * 3 + 2] - z;
+            distances2[i] = dx * dx + dy * dy + dz * dz;
+        }
+        return distances2;
+    }
+
+    private static void assertQueries(KdTree3F64 tree, double[] positions, Random random) {
+        for (int q = 0; q < QUERIES; q++) {
+            final double x = random.nextDouble(-120, 120), y = random.nextDouble(-120, 120), z = random.nextDouble(-120, 120);
+            final double[] distances2 = distances2(positions, x, y, z);
+            final double[] sorted = distances2.clone();
+            Arrays.sort(sorted);
+
+            final int nearest = tree.nearest(new Vector3F64(x, y, z));
+            Assertions.assertEquals(sorted[0], distances2[nearest]);
+
+            for (final int k : NEIGHBOURS) {
+                final int[] indices = new int[k];
+                final double[] found2 = new double[k];
+                Assertions.assertEquals(Math.min(k, distances2.length), tree.nearest(x, y, z, indices, found2));
+                // Ties can swap the indices, so I compare the distances, and that each index has its distance.
+                Assertions.assertArrayEquals(Arrays.copyOf(sorted, k), found2);
+                for (int i = 0; i < k; i++) Assertions.assertEquals(distances2[indices[i]], found2[i]);
+                Assertions.assertEquals(k, Arrays.stream(indices).distinct().count());
+            }
+
+            final double radius = random.nextDouble(0, 25);
+            final var expected = new BitSet();
+            for (int i = 0; i < distances2.length; i++) if (distances2[i] <= radius * radius) expected.set(i);
+            final int[] indices = new int[distances2.length];
+            final double[] found2 = new double[distances2.length];
+            final int count = tree.radius(x, y, z, radius, indices, found2);
+            Assertions.assertEquals(expected.cardinality(), count);
+            final var actual = new BitSet();
+            for (int i = 0; i < count; i++) {
+                actual.set(indices[i]);
+                Assertions.assertEquals(distances2[indices[i]], found2[i]);
+            }
+            Assertions.assertEquals(expected, actual);
+            // With short arrays the count is still the full one, and only the first points are written.
+            if (count > 1) {
+                final int[] shortIndices = new int[count / 2];
+                Assertions.assertEquals(count, tree.radius(x, y, z, radius, shortIndices, new double[count / 2]));
+                for (final int index : shortIndices) Assertions.assertTrue(expected.get(index));
+            }
+        }
+    }
+
+    @Test
+    void testSequential() {
+        final var random = new Random(14);
+        final double[] positions = randomPositions(random, POINTS);
+        final var tree = KdTree3F64.build(positions);
+        Assertions.assertEquals(POINTS, tree.size());
+        assertQueries(tree, positions, random);
+    }
+
+    @Test
+    void testParallel() {
+        final var random = new Random(24);
+        final double[] positions = randomPositions(random, POINTS);
+        final var tree = KdTree3F64.build(positions, pool);
+        Assertions.assertEquals(POINTS, tree.size());
+        assertQueries(tree, positions, random);
+    }
+
+    @Test
+    void testDegenerate() {
+        final var random = new Random(34);
+        // Coincident points make every split a tie, and a small tree has fewer points than the neighbours asked.
+        final double[] coincident = new double[300];
+        for (int i = 0; i < coincident.length; i += 3) {
+            coincident[i] = 1;
+            coincident[i + 1] = -2;
+            coincident[i + 2] = 3;
+        }
+        assertQueries(KdTree3F64.build(coincident), coincident, random);
+        final double[] few = randomPositions(random, 5);
+        final var tree = KdTree3F64.build(few);
+        final int[] indices = new int[8];
+        Assertions.assertEquals(5, tree.nearest(0, 0, 0, indices, new double[8]));
+
+        final var empty = KdTree3F64.build(new double[0]);
+        Assertions.assertEquals(-1, empty.nearest(0, 0, 0));
+        Assertions.assertEquals(0, empty.nearest(0, 0, 0, new int[3], new double[3]));
+        Assertions.assertEquals(0, empty.radius(0, 0, 0, 10, new int[3], new double[3]));
+    }
+
+    @Test
+    void testArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> KdTree3F64.build(new double[4]));
+        final var tree = KdTree3F64.build(new double[6]);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tree.nearest(0, 0, 0, new int[2], new double[1]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tree.radius(0, 0, 0, 1, new int[2], new double[1]));
+    }
+}
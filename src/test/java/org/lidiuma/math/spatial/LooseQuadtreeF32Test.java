@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.spatial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.shape.Sphere;
+import org.lidiuma.math.vector.v2.Vector2F32;
+import java.util.BitSet;
+import java.util.Random;
+
+/// Checks the quadtree queries against a linear scan, with part of the items outside the root cell.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class LooseQuadtreeF32Test {
+
+    private static final float HALF_SIZE = 50f;
+    private static final int MAX_DEPTH = 5;
+    /// Well above {@link LooseQuadtreeF32#SPLIT_THRESHOLD}, so the root and its children get split.
+    private static final int ITEMS = 400;
+    private static final int QUERIES = 200;
+
+    /// Positions up to twice the root half size, so about 3 items out of 4 fall outside of it.
+    private static Vector2F32 randomPosition(Random random, float bound) {
+        return new Vector2F32(
+                (random.nextFloat() * 2f - 1f) * bound,
+                (random.nextFloat() * 2f - 1f) * bound
+        );
+    }
+
+    /// Half of the items are points, the other half spheres of random size.
+    private static float randomRadius(Random random) {
+        return random.nextBoolean() ? 0f : random.nextFloat() * 10f;
+    }
+
+    private static void assertQueries(LooseQuadtreeF32 tree, Vector2F32[] positions, float[] radii, Random random) {
+        for (int q = 0; q < QUERIES; q++) {
+            final var center = randomPosition(random, HALF_SIZE * 2f);
+            final float radius = random.nextFloat() * 40f;
+            final var expectedSphere = new BitSet();
+            for (int i = 0; i < positions.length; i++) {
+                if (positions[i] == null) continue;
+                final float reach = radius + radii[i];
+                if (positions[i].sub(center).length2F() <= reach * reach) expectedSphere.set(i);
+            }
+            Assertions.assertEquals(expectedSphere, collect(visitor -> tree.query(new Sphere<>(center, radius), visitor)));
+
+            final var min = randomPosition(random, HALF_SIZE * 2f);
+            final var max = min.add(new Vector2F32(random.nextFloat() * 60f, random.nextFloat() * 60f));
+            final var expectedBox = new BitSet();
+            for (int i = 0; i < positions.length; i++) {
+                if (positions[i] == null) continue;
+                final var p = positions[i];
+                final float dx = Math.max(Math.max(min.x() - p.x(), 0), p.x() - max.x());
+                final float dy = Math.max(Math.max(min.y() - p.y(), 0), p.y() - max.y());
+                if (dx * dx + dy * dy <= radii[i] * radii[i]) expectedBox.set(i);
+            }
+            Assertions.assertEquals(expectedBox, collect(visitor -> tree.query(min, max, visitor)));
+        }
+    }
+
+    private static BitSet collect(java.util.function.Consumer<SpatialVisitor> query) {
+        final var found = new BitSet();
+        query.accept(item -> {
+            Assertions.assertFalse(found.get(item), "Item " + item + " visited twice");
+            found.set(item);
+            return true;
+        });
+        return found;
+    }
+
+    private static void insert(LooseQuadtreeF32 tree, int item, Vector2F32 position, float radius) {
+        if (radius == 0) tree.insert(item, position);
+        else tree.insert(item, new Sphere<>(position, radius));
+    }
+
+    @Test
+    void testQueries() {
+        final var random = new Random(12);
+        final var tree = new LooseQuadtreeF32(new Vector2F32(0f, 0f), HALF_SIZE, MAX_DEPTH);
+        final var positions = new Vector2F32[ITEMS];
+        final float[] radii = new float[ITEMS];
+        for (int i = 0; i < ITEMS; i++) {
+            positions[i] = randomPosition(random, HALF_SIZE * 2f);
+            radii[i] = randomRadius(random);
+            insert(tree, i, positions[i], radii[i]);
+        }
+        Assertions.assertEquals(ITEMS, tree.size());
+        assertQueries(tree, positions, radii, random);
+
+        // Moving items in and out of the root cell, and removing some, must keep the queries exact.
+        for (int i = 0; i < ITEMS; i++) {
+            if (random.nextInt(4) == 0) {
+                tree.remove(i);
+                positions[i] = null;
+                Assertions.assertFalse(tree.contains(i));
+                continue;
+            }
+            positions[i] = randomPosition(random, HALF_SIZE * 2f);
+            radii[i] = randomRadius(random);
+            if (radii[i] == 0) tree.move(i, positions[i]);
+            else tree.move(i, new Sphere<>(positions[i], radii[i]));
+        }
+        assertQueries(tree, positions, radii, random);
+    }
+
+    @Test
+    void testOutsideRootSplit() {
+        // Every item but the trigger of the split is outside the root, they must all stay reachable.
+        final var tree = new LooseQuadtreeF32(new Vector2F32(0f, 0f), 1f, MAX_DEPTH);
+        final var positions = new Vector2F32[LooseQuadtreeF32.SPLIT_THRESHOLD + 2];
+        final float[] radii = new float[positions.length];
+        for (int i = 0; i < positions.length - 1; i++) positions[i] = new Vector2F32(10f + i, -20f);
+        positions[positions.length - 1] = new Vector2F32(0.5f, 0.5f);
+        for (int i = 0; i < positions.length; i++) tree.insert(i, positions[i]);
+        final var all = new BitSet();
+        all.set(0, positions.length);
+        Assertions.assertEquals(all, collect(visitor -> tree.query(new Sphere<>(new Vector2F32(0f, 0f), 100f), visitor)));
+        final var first = new BitSet();
+        first.set(0);
+        Assertions.assertEquals(first, collect(visitor -> tree.query(new Vector2F32(9f, -21f), new Vector2F32(10.5f, -19f), visitor)));
+        assertQueries(tree, positions, radii, new Random(13));
+    }
+
+    @Test
+    void testArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LooseQuadtreeF32(new Vector2F32(0f, 0f), 0f, MAX_DEPTH));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LooseQuadtreeF32(new Vector2F32(0f, 0f), 1f, -1));
+        final var tree = new LooseQuadtreeF32(new Vector2F32(0f, 0f), 1f, MAX_DEPTH);
+        tree.insert(3, new Vector2F32(0f, 0f));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tree.insert(3, new Vector2F32(0f, 0f)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tree.insert(-1, new Vector2F32(0f, 0f)));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.spatial;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.parallel.Parallel;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F32Buffer;
+import java.lang.foreign.Arena;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/// Checks the neighbour queries of the grid against a linear scan of the particles.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class SpatialHashGrid3F32Test {
+
+    private static final float CELL_SIZE = 4f;
+    /// Smaller, equal and bigger than the cells, so a query spans from one to many cells.
+    private static final float[] RADII = {1.5f, CELL_SIZE, 11f};
+    private static final int PARTICLES = 1_500;
+    /// Above {@link Parallel#DEFAULT_THRESHOLD}, so the parallel rebuild really splits.
+    private static final int PARALLEL_PARTICLES = (int) Parallel.DEFAULT_THRESHOLD * 2 + 7;
+    /// Particles checked against a linear scan after the parallel rebuild, the full quadratic scan would be too slow.
+    private static final int PARALLEL_SAMPLES = 200;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterAll
+    void close() {
+        pool.shutdown();
+    }
+
+    private static Vector3F32Buffer randomPositions(Arena arena, Random random, int count, float bound) {
+        final var positions = Vector3F32Buffer.allocate(arena, count);
+        for (int i = 0; i < count; i++) {
+            positions.set(i, new Vector3F32(
+                    (random.nextFloat() * 2f - 1f) * bound,
+                    (random.nextFloat() * 2f - 1f) * bound,
+                    (random.nextFloat() * 2f - 1f) * bound
+            ));
+        }
+        return positions;
+    }
+
+    private static BitSet scan(Vector3F32Buffer positions, Vector3F32 point, float radius, int exclude) {
+        final var expected = new BitSet();
+        for (int i = 0; i < positions.capacity(); i++) {
+            if (i == exclude) continue;
+            if (positions.get(i).sub(point).length2F() <= radius * radius) expected.set(i);
+        }
+        return expected;
+    }
+
+    private static BitSet neighbours(SpatialHashGrid3F32 grid, int particle, float radius) {
+        final var found = new BitSet();
+        grid.forEachNeighbour(particle, radius, other -> {
+            Assertions.assertFalse(found.get(other), "Particle " + other + " visited twice");
+            found.set(other);
+            return true;
+        });
+        return found;
+    }
+
+    private static BitSet neighbours(SpatialHashGrid3F32 grid, Vector3F32 point, float radius) {
+        final var found = new BitSet();
+        grid.forEachNeighbour(point, radius, other -> {
+            Assertions.assertFalse(found.get(other), "Particle " + other + " visited twice");
+            found.set(other);
+            return true;
+        });
+        return found;
+    }
+
+    @Test
+    void testSequential() {
+        final var random = new Random(13);
+        final var grid = new SpatialHashGrid3F32(CELL_SIZE);
+        try (final var arena = Arena.ofConfined()) {
+            // Rebuilding twice also checks that the arrays of the previous rebuild are reset.
+            for (final float bound : new float[] {30f, 200f}) {
+                final var positions = randomPositions(arena, random, PARTICLES, bound);
+                grid.rebuild(positions);
+                Assertions.assertEquals(PARTICLES, grid.size());
+                for (final float radius : RADII) {
+                    for (int particle = 0; particle < PARTICLES; particle++) {
+                        Assertions.assertEquals(scan(positions, positions.get(particle), radius, particle), neighbours(grid, particle, radius));
+                    }
+                    final var point = new Vector3F32(random.nextFloat() * bound, -random.nextFloat() * bound, 0.5f);
+                    Assertions.assertEquals(scan(positions, point, radius, -1), neighbours(grid, point, radius));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testParallel() {
+        final var random = new Random(23);
+        final var sequential = new SpatialHashGrid3F32(CELL_SIZE);
+        final var parallel = new SpatialHashGrid3F32(CELL_SIZE);
+        // The pool threads read the positions, so they can't be in a confined arena.
+        try (final var arena = Arena.ofShared()) {
+            final var positions = randomPositions(arena, random, PARALLEL_PARTICLES, 150f);
+            sequential.rebuild(positions);
+            parallel.rebuild(positions, pool);
+            Assertions.assertEquals(PARALLEL_PARTICLES, parallel.size());
+            for (int i = 0; i < PARALLEL_SAMPLES; i++) {
+                final int particle = random.nextInt(PARALLEL_PARTICLES);
+                for (final float radius : RADII) {
+                    final var expected = scan(positions, positions.get(particle), radius, particle);
+                    Assertions.assertEquals(expected, neighbours(parallel, particle, radius));
+                    Assertions.assertEquals(expected, neighbours(sequential, particle, radius));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid3F32(0f));
+        final var grid = new SpatialHashGrid3F32(CELL_SIZE);
+        try (final var arena = Arena.ofConfined()) {
+            grid.rebuild(randomPositions(arena, new Random(33), 10, 5f));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> grid.forEachNeighbour(10, 1f, particle -> true));
+        }
+    }
+}
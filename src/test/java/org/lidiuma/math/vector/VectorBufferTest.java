@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.vector;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.vector.v2.Vector2F32;
+import org.lidiuma.math.vector.v2.Vector2F32Buffer;
+import org.lidiuma.math.vector.v2.Vector2F64;
+import org.lidiuma.math.vector.v2.Vector2F64Buffer;
+import org.lidiuma.math.vector.v3.Vector3F32;
+import org.lidiuma.math.vector.v3.Vector3F32Buffer;
+import org.lidiuma.math.vector.v3.Vector3F64;
+import org.lidiuma.math.vector.v3.Vector3F64Buffer;
+import org.lidiuma.math.vector.v4.Vector4F32;
+import org.lidiuma.math.vector.v4.Vector4F32Buffer;
+import org.lidiuma.math.vector.v4.Vector4F64;
+import org.lidiuma.math.vector.v4.Vector4F64Buffer;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Random;
+import java.util.function.Function;
+
+/// Checks every buffer operation against the same operation applied to each vector, which is the reference implementation.\
+/// The ranges start and end inside the buffer, so that the vectors around them must be left untouched.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class VectorBufferTest {
+
+    private static final int CAPACITY = 37;
+    private static final long FROM = 5, COUNT = 23;
+
+    private static float nextF32(Random random) {
+        return random.nextFloat() * 20f - 10f;
+    }
+
+    private static double nextF64(Random random) {
+        return random.nextDouble(-10, 10);
+    }
+
+    /// Fills the buffer with random vectors and returns a copy of them.
+    private static <B extends VectorBuffer<B, T, N>, T extends Vector.Real<T, N>, N> Object[] fill(B buffer, Random random, Function<Random, T> generator) {
+        final var vectors = new Object[(int) buffer.capacity()];
+        for (int i = 0; i < vectors.length; i++) {
+            final T vector = generator.apply(random);
+            buffer.set(i, vector);
+            vectors[i] = vector;
+        }
+        return vectors;
+    }
+
+    private static boolean inRange(long i) {
+        return i >= FROM && i < FROM + COUNT;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <B extends VectorBuffer<B, T, N>, T extends Vector.Real<T, N>, N> void check(B a, B b, Function<Random, T> generator, N scalar, N alpha) {
+
+        final var random = new Random(a.dimension() * 31L + scalar.hashCode());
+        Object[] expected = fill(a, random, generator);
+        final Object[] others = fill(b, random, generator);
+        for (int i = 0; i < CAPACITY; i++) Assertions.assertEquals(expected[i], a.get(i), "get after set");
+
+        a.add(b, FROM, COUNT);
+        for (int i = 0; i < CAPACITY; i++) {
+            final var vector = (T) expected[i];
+            Assertions.assertEquals(inRange(i) ? vector.add((T) others[i]) : vector, a.get(i), "add buffer");
+        }
+
+        expected = fill(a, random, generator);
+        final T offset = generator.apply(random);
+        a.add(offset, FROM, COUNT);
+        for (int i = 0; i < CAPACITY; i++) {
+            final var vector = (T) expected[i];
+            Assertions.assertEquals(inRange(i) ? vector.add(offset) : vector, a.get(i), "add vector");
+        }
+
+        expected = fill(a, random, generator);
+        a.mul(scalar, FROM, COUNT);
+        for (int i = 0; i < CAPACITY; i++) {
+            final var vector = (T) expected[i];
+            Assertions.assertEquals(inRange(i) ? vector.mul(scalar) : vector, a.get(i), "mul");
+        }
+
+        expected = fill(a, random, generator);
+        a.lerp(b, alpha, FROM, COUNT);
+        for (int i = 0; i < CAPACITY; i++) {
+            final var vector = (T) expected[i];
+            Assertions.assertEquals(inRange(i) ? vector.lerp((T) others[i], alpha) : vector, a.get(i), "lerp");
+        }
+
+        expected = fill(a, random, generator);
+        a.normalize(FROM, COUNT);
+        for (int i = 0; i < CAPACITY; i++) {
+            final var vector = (T) expected[i];
+            // Both multiply by the reciprocal of the same length, so the results are exactly the same.
+            Assertions.assertEquals(inRange(i) ? vector.normalize() : vector, a.get(i), "normalize");
+        }
+    }
+
+    @Test
+    void testOperations() {
+        try (final var arena = Arena.ofConfined()) {
+            check(Vector2F32Buffer.allocate(arena, CAPACITY), Vector2F32Buffer.allocate(arena, CAPACITY),
+                    r -> new Vector2F32(nextF32(r), nextF32(r)), 1.5f, 0.25f);
+            check(Vector3F32Buffer.allocate(arena, CAPACITY), Vector3F32Buffer.allocate(arena, CAPACITY),
+                    r -> new Vector3F32(nextF32(r), nextF32(r), nextF32(r)), 1.5f, 0.25f);
+            check(Vector4F32Buffer.allocate(arena, CAPACITY), Vector4F32Buffer.allocate(arena, CAPACITY),
+                    r -> new Vector4F32(nextF32(r), nextF32(r), nextF32(r), nextF32(r)), 1.5f, 0.25f);
+            check(Vector2F64Buffer.allocate(arena, CAPACITY), Vector2F64Buffer.allocate(arena, CAPACITY),
+                    r -> new Vector2F64(nextF64(r), nextF64(r)), 1.5, 0.25);
+            check(Vector3F64Buffer.allocate(arena, CAPACITY), Vector3F64Buffer.allocate(arena, CAPACITY),
+                    r -> new Vector3F64(nextF64(r), nextF64(r), nextF64(r)), 1.5, 0.25);
+            check(Vector4F64Buffer.allocate(arena, CAPACITY), Vector4F64Buffer.allocate(arena, CAPACITY),
+                    r -> new Vector4F64(nextF64(r), nextF64(r), nextF64(r), nextF64(r)), 1.5, 0.25);
+        }
+    }
+
+    @Test
+    void testDot() {
+        final var random = new Random(3);
+        try (final var arena = Arena.ofConfined()) {
+            final var a = Vector3F32Buffer.allocate(arena, CAPACITY);
+            final var b = Vector3F32Buffer.allocate(arena, CAPACITY);
+            final MemorySegment out = arena.allocate(ValueLayout.JAVA_FLOAT, CAPACITY);
+            for (int i = 0; i < CAPACITY; i++) {
+                a.set(i, new Vector3F32(nextF32(random), nextF32(random), nextF32(random)));
+                b.set(i, new Vector3F32(nextF32(random), nextF32(random), nextF32(random)));
+                out.setAtIndex(ValueLayout.JAVA_FLOAT, i, -1f);
+            }
+            a.dot(b, out, FROM, COUNT);
+            for (int i = 0; i < CAPACITY; i++) {
+                final float expected = inRange(i) ? a.get(i).dotF(b.get(i)) : -1f;
+                Assertions.assertEquals(expected, out.getAtIndex(ValueLayout.JAVA_FLOAT, i));
+            }
+        }
+    }
+
+    @Test
+    void testZeroNormalize() {
+        try (final var arena = Arena.ofConfined()) {
+            final var buffer = Vector3F32Buffer.allocate(arena, 2);
+            buffer.set(1, new Vector3F32(0f, 3f, 4f));
+            buffer.normalize();
+            Assertions.assertEquals(new Vector3F32(0f, 0f, 0f), buffer.get(0));
+            Assertions.assertEquals(new Vector3F32(0f, 0.6f, 0.8f), buffer.get(1));
+        }
+    }
+
+    @Test
+    void testBounds() {
+        try (final var arena = Arena.ofConfined()) {
+            final var a = Vector3F32Buffer.allocate(arena, CAPACITY);
+            final var small = Vector3F32Buffer.allocate(arena, CAPACITY - 1);
+            final var out = arena.allocate(ValueLayout.JAVA_FLOAT, CAPACITY);
+            final var one = new Vector3F32(1f, 1f, 1f);
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> a.get(CAPACITY));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> a.set(-1, one));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> a.lane(3));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> a.add(one, CAPACITY - 2, 3));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> a.mul(2f, -1, 3));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> a.normalize(0, CAPACITY + 1));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> a.add(small, 0, CAPACITY));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> a.lerp(small, 0.5f, 1, CAPACITY - 1));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> a.dot(small, out));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> small.dot(a, out.asSlice(0, 4), 0, 2));
+            // A failed range check must not have written anything.
+            for (int i = 0; i < CAPACITY; i++) Assertions.assertEquals(new Vector3F32(0f, 0f, 0f), a.get(i));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> new Vector3F32Buffer(arena.allocate(8), arena.allocate(8), arena.allocate(12)));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> new Vector3F32Buffer(arena.allocate(6), arena.allocate(6), arena.allocate(6)));
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.vector;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import java.util.Random;
+import java.util.function.Function;
+import static org.lidiuma.math.vector.Vectors.*;
+
+/// Checks the primitive `*F`, `*D`, `*I` and `*L` methods of every vector against their boxed counterparts,
+/// and the boxed ones against the same operation built from the component-wise methods.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class VectorPrimitiveTest {
+
+    private static final int VECTORS = 200;
+    /// Small enough for the integer squares to never overflow, the overflows are checked on their own.
+    private static final int INT_BOUND = 1000;
+
+    private static float nextF32(Random random) {
+        return random.nextFloat() * 20f - 10f;
+    }
+
+    private static double nextF64(Random random) {
+        return random.nextDouble(-10, 10);
+    }
+
+    private static int nextI32(Random random) {
+        return random.nextInt(-INT_BOUND, INT_BOUND);
+    }
+
+    private static long nextI64(Random random) {
+        return random.nextLong(-INT_BOUND, INT_BOUND);
+    }
+
+    /// @param broadcast creates the vector with every component set to the given value.
+    private static <T extends Vector<T, N>, N> void assertBoxed(T a, T b, N scalar, N min, N max, Function<N, T> broadcast,
+                                                                N sum, T mul, N dot, N length2, N distance2, T clamp) {
+        final String message = a + ", " + b;
+        Assertions.assertEquals(a.sum(), sum, message);
+        Assertions.assertEquals(a.mul(scalar), mul, message);
+        Assertions.assertEquals(a.mul(broadcast.apply(scalar)), mul, message);
+        Assertions.assertEquals(a.dot(b), dot, message);
+        Assertions.assertEquals(a.mul(b).sum(), dot, message);
+        Assertions.assertEquals(a.length2(), length2, message);
+        Assertions.assertEquals(a.mul(a).sum(), length2, message);
+        final var delta = a.sub(b);
+        Assertions.assertEquals(a.distance2(b), distance2, message);
+        Assertions.assertEquals(delta.mul(delta).sum(), distance2, message);
+        Assertions.assertEquals(a.clamp(min, max), clamp, message);
+        Assertions.assertEquals(a.max(broadcast.apply(min)).min(broadcast.apply(max)), clamp, message);
+    }
+
+    private static <T extends Vector.Real<T, N>, N> void assertBoxedReal(T a, T b, N alpha, N length, N distance, T lerp) {
+        final String message = a + ", " + b;
+        Assertions.assertEquals(a.length(), length, message);
+        Assertions.assertEquals(a.distance(b), distance, message);
+        Assertions.assertEquals(a.lerp(b, alpha), lerp, message);
+    }
+
+    @Test
+    void testF32() {
+        final var random = new Random(20);
+        for (int i = 0; i < VECTORS; i++) {
+            final float s = nextF32(random), alpha = random.nextFloat();
+            final float min = -random.nextFloat() * 5f, max = random.nextFloat() * 5f;
+
+            final var a1 = v1(nextF32(random));
+            final var b1 = v1(nextF32(random));
+            assertBoxed(a1, b1, s, min, max, n -> v1(n), a1.sumF(), a1.mulF(s), a1.dotF(b1), a1.length2F(), a1.distance2F(b1), a1.clampF(min, max));
+            assertBoxedReal(a1, b1, alpha, a1.lengthF(), a1.distanceF(b1), a1.lerpF(b1, alpha));
+
+            final var a2 = v2(nextF32(random), nextF32(random));
+            final var b2 = v2(nextF32(random), nextF32(random));
+            assertBoxed(a2, b2, s, min, max, n -> v2(n, n), a2.sumF(), a2.mulF(s), a2.dotF(b2), a2.length2F(), a2.distance2F(b2), a2.clampF(min, max));
+            assertBoxedReal(a2, b2, alpha, a2.lengthF(), a2.distanceF(b2), a2.lerpF(b2, alpha));
+            Assertions.assertEquals((float) Math.sqrt(a2.length2F()), a2.lengthF());
+
+            final var a3 = v3(nextF32(random), nextF32(random), nextF32(random));
+            final var b3 = v3(nextF32(random), nextF32(random), nextF32(random));
+            assertBoxed(a3, b3, s, min, max, n -> v3(n, n, n), a3.sumF(), a3.mulF(s), a3.dotF(b3), a3.length2F(), a3.distance2F(b3), a3.clampF(min, max));
+            assertBoxedReal(a3, b3, alpha, a3.lengthF(), a3.distanceF(b3), a3.lerpF(b3, alpha));
+            Assertions.assertEquals((float) Math.sqrt(a3.length2F()), a3.lengthF());
+
+            final var a4 = v4(nextF32(random), nextF32(random), nextF32(random), nextF32(random));
+            final var b4 = v4(nextF32(random), nextF32(random), nextF32(random), nextF32(random));
+            assertBoxed(a4, b4, s, min, max, n -> v4(n, n, n, n), a4.sumF(), a4.mulF(s), a4.dotF(b4), a4.length2F(), a4.distance2F(b4), a4.clampF(min, max));
+            assertBoxedReal(a4, b4, alpha, a4.lengthF(), a4.distanceF(b4), a4.lerpF(b4, alpha));
+            Assertions.assertEquals((float) Math.sqrt(a4.length2F()), a4.lengthF());
+        }
+    }
+
+    @Test
+    void testF64() {
+        final var random = new Random(21);
+        for (int i = 0; i < VECTORS; i++) {
+            final double s = nextF64(random), alpha = random.nextDouble();
+            final double min = -random.nextDouble() * 5, max = random.nextDouble() * 5;
+
+            final var a1 = v1(nextF64(random));
+            final var b1 = v1(nextF64(random));
+            assertBoxed(a1, b1, s, min, max, n -> v1(n), a1.sumD(), a1.mulD(s), a1.dotD(b1), a1.length2D(), a1.distance2D(b1), a1.clampD(min, max));
+            assertBoxedReal(a1, b1, alpha, a1.lengthD(), a1.distanceD(b1), a1.lerpD(b1, alpha));
+
+            final var a2 = v2(nextF64(random), nextF64(random));
+            final var b2 = v2(nextF64(random), nextF64(random));
+            assertBoxed(a2, b2, s, min, max, n -> v2(n, n), a2.sumD(), a2.mulD(s), a2.dotD(b2), a2.length2D(), a2.distance2D(b2), a2.clampD(min, max));
+            assertBoxedReal(a2, b2, alpha, a2.lengthD(), a2.distanceD(b2), a2.lerpD(b2, alpha));
+            Assertions.assertEquals(Math.sqrt(a2.length2D()), a2.lengthD());
+
+            final var a3 = v3(nextF64(random), nextF64(random), nextF64(random));
+            final var b3 = v3(nextF64(random), nextF64(random), nextF64(random));
+            assertBoxed(a3, b3, s, min, max, n -> v3(n, n, n), a3.sumD(), a3.mulD(s), a3.dotD(b3), a3.length2D(), a3.distance2D(b3), a3.clampD(min, max));
+            assertBoxedReal(a3, b3, alpha, a3.lengthD(), a3.distanceD(b3), a3.lerpD(b3, alpha));
+            Assertions.assertEquals(Math.sqrt(a3.length2D()), a3.lengthD());
+
+            final var a4 = v4(nextF64(random), nextF64(random), nextF64(random), nextF64(random));
+            final var b4 = v4(nextF64(random), nextF64(random), nextF64(random), nextF64(random));
+            assertBoxed(a4, b4, s, min, max, n -> v4(n, n, n, n), a4.sumD(), a4.mulD(s), a4.dotD(b4), a4.length2D(), a4.distance2D(b4), a4.clampD(min, max));
+            assertBoxedReal(a4, b4, alpha, a4.lengthD(), a4.distanceD(b4), a4.lerpD(b4, alpha));
+            Assertions.assertEquals(Math.sqrt(a4.length2D()), a4.lengthD());
+        }
+    }
+
+    @Test
+    void testI32() {
+        final var random = new Random(22);
+        for (int i = 0; i < VECTORS; i++) {
+            final int s = random.nextInt(-10, 10);
+            final int min = -random.nextInt(INT_BOUND), max = random.nextInt(INT_BOUND);
+
+            final var a1 = v1(nextI32(random));
+            final var b1 = v1(nextI32(random));
+            assertBoxed(a1, b1, s, min, max, n -> v1(n), a1.sumI(), a1.mulI(s), a1.dotI(b1), a1.length2I(), a1.distance2I(b1), a1.clampI(min, max));
+            Assertions.assertEquals((int) a1.length(), a1.lengthI());
+            Assertions.assertEquals((int) a1.distance(b1), a1.distanceI(b1));
+
+            final var a2 = v2(nextI32(random), nextI32(random));
+            final var b2 = v2(nextI32(random), nextI32(random));
+            assertBoxed(a2, b2, s, min, max, n -> v2(n, n), a2.sumI(), a2.mulI(s), a2.dotI(b2), a2.length2I(), a2.distance2I(b2), a2.clampI(min, max));
+
+            final var a3 = v3(nextI32(random), nextI32(random), nextI32(random));
+            final var b3 = v3(nextI32(random), nextI32(random), nextI32(random));
+            assertBoxed(a3, b3, s, min, max, n -> v3(n, n, n), a3.sumI(), a3.mulI(s), a3.dotI(b3), a3.length2I(), a3.distance2I(b3), a3.clampI(min, max));
+
+            final var a4 = v4(nextI32(random), nextI32(random), nextI32(random), nextI32(random));
+            final var b4 = v4(nextI32(random), nextI32(random), nextI32(random), nextI32(random));
+            assertBoxed(a4, b4, s, min, max, n -> v4(n, n, n, n), a4.sumI(), a4.mulI(s), a4.dotI(b4), a4.length2I(), a4.distance2I(b4), a4.clampI(min, max));
+        }
+    }
+
+    @Test
+    void testI64() {
+        final var random = new Random(23);
+        for (int i = 0; i < VECTORS; i++) {
+            final long s = random.nextLong(-10, 10);
+            final long min = -random.nextLong(INT_BOUND), max = random.nextLong(INT_BOUND);
+
+            final var a1 = v1(nextI64(random));
+            final var b1 = v1(nextI64(random));
+            assertBoxed(a1, b1, s, min, max, n -> v1(n), a1.sumL(), a1.mulL(s), a1.dotL(b1), a1.length2L(), a1.distance2L(b1), a1.clampL(min, max));
+            Assertions.assertEquals((long) a1.length(), a1.lengthL());
+            Assertions.assertEquals((long) a1.distance(b1), a1.distanceL(b1));
+
+            final var a2 = v2(nextI64(random), nextI64(random));
+            final var b2 = v2(nextI64(random), nextI64(random));
+            assertBoxed(a2, b2, s, min, max, n -> v2(n, n), a2.sumL(), a2.mulL(s), a2.dotL(b2), a2.length2L(), a2.distance2L(b2), a2.clampL(min, max));
+
+            final var a3 = v3(nextI64(random), nextI64(random), nextI64(random));
+            final var b3 = v3(nextI64(random), nextI64(random), nextI64(random));
+            assertBoxed(a3, b3, s, min, max, n -> v3(n, n, n), a3.sumL(), a3.mulL(s), a3.dotL(b3), a3.length2L(), a3.distance2L(b3), a3.clampL(min, max));
+
+            final var a4 = v4(nextI64(random), nextI64(random), nextI64(random), nextI64(random));
+            final var b4 = v4(nextI64(random), nextI64(random), nextI64(random), nextI64(random));
+            assertBoxed(a4, b4, s, min, max, n -> v4(n, n, n, n), a4.sumL(), a4.mulL(s), a4.dotL(b4), a4.length2L(), a4.distance2L(b4), a4.clampL(min, max));
+        }
+    }
+
+    @Test
+    void testIntegerLength() {
+        // The lengths and distances are exact, the absolute value of the component or of the difference.
+        Assertions.assertEquals(7, v1(-7).lengthI());
+        Assertions.assertEquals(8, v1(5).distanceI(v1(-3)));
+        Assertions.assertEquals(8, v1(-3).distanceI(v1(5)));
+        Assertions.assertEquals(7L, v1(-7L).lengthL());
+        Assertions.assertEquals(8L, v1(-3L).distanceL(v1(5L)));
+        // They wrap like Math.abs and the integer subtraction, the same as the boxed methods.
+        Assertions.assertEquals(Integer.MIN_VALUE, v1(Integer.MIN_VALUE).lengthI());
+        Assertions.assertEquals((int) v1(Integer.MIN_VALUE).length(), v1(Integer.MIN_VALUE).lengthI());
+        Assertions.assertEquals(Integer.MIN_VALUE, v1(Integer.MAX_VALUE).distanceI(v1(-1)));
+        Assertions.assertEquals((int) v1(Integer.MAX_VALUE).distance(v1(-1)), v1(Integer.MAX_VALUE).distanceI(v1(-1)));
+        Assertions.assertEquals(Long.MIN_VALUE, v1(Long.MIN_VALUE).lengthL());
+        Assertions.assertEquals((long) v1(Long.MIN_VALUE).length(), v1(Long.MIN_VALUE).lengthL());
+        // The squares wrap too.
+        Assertions.assertEquals(50_000 * 50_000 * 2, v2(50_000, -50_000).length2I());
+        Assertions.assertEquals((int) v2(50_000, -50_000).length2(), v2(50_000, -50_000).length2I());
+        Assertions.assertEquals((int) v3(Integer.MAX_VALUE, 0, 0).distance2(v3(-1, 0, 0)), v3(Integer.MAX_VALUE, 0, 0).distance2I(v3(-1, 0, 0)));
+        Assertions.assertEquals((long) v4(1L << 32, 0L, 0L, 0L).length2(), v4(1L << 32, 0L, 0L, 0L).length2L());
+    }
+
+    @Test
+    void testClampEdges() {
+        // The components on the bounds stay, and equal bounds collapse the vector.
+        Assertions.assertEquals(v3(-2, 0, 2), v3(-2, 0, 2).clampI(-2, 2));
+        Assertions.assertEquals(v3(1, 1, 1), v3(-5, 0, 5).clampI(1, 1));
+        Assertions.assertEquals(v4(-2L, -2L, 2L, 2L), v4(Long.MIN_VALUE, -3L, 3L, Long.MAX_VALUE).clampL(-2L, 2L));
+        Assertions.assertEquals(v2(-1f, 1f), v2(Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY).clampF(-1f, 1f));
+        // Like Math.clamp, the negative zero is below the positive one, and NaN stays NaN.
+        Assertions.assertEquals(v2(0f, 0.5f), v2(-0f, 0.5f).clampF(0f, 1f));
+        Assertions.assertEquals(v2(-0d, 0d), v2(-1d, 0.5d).clampD(-0d, 0d));
+        Assertions.assertTrue(Float.isNaN(v1(Float.NaN).clampF(0f, 1f).x()));
+        Assertions.assertEquals(v1(Float.NaN).clamp(0f, 1f), v1(Float.NaN).clampF(0f, 1f));
+        Assertions.assertTrue(Double.isNaN(v3(Double.NaN, 0d, 0d).clampD(0d, 1d).x()));
+
+        // Crossed bounds are rejected, by the boxed methods too.
+        Assertions.assertThrows(IllegalArgumentException.class, () -> v2(0, 0).clampI(1, -1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> v2(0, 0).clamp(1, -1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> v3(0L, 0L, 0L).clampL(1L, -1L));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> v4(0f, 0f, 0f, 0f).clampF(1f, -1f));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> v1(0d).clampD(Double.NaN, 1d));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> v1(0d).clamp(Double.NaN, 1d));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> v2(0f, 0f).clampF(0f, -0f));
+    }
+}